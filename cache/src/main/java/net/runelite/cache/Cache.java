@@ -24,8 +24,17 @@
  */
 package net.runelite.cache;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.diff.CacheDiff;
+import net.runelite.cache.diff.JsonDiffWriter;
 import net.runelite.cache.fs.Store;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -40,6 +49,9 @@ public class Cache
 		Options options = new Options();
 
 		options.addOption("c", "cache", true, "cache base");
+		options.addOption("j", "jobs", true, "number of exporters and file writes to run at once");
+
+		options.addOption(null, "diff", true, "older cache to diff the cache against, written to stdout as json lines");
 
 		options.addOption(null, "items", true, "directory to dump items to");
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
@@ -48,11 +60,17 @@ public class Cache
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
+		int jobs;
 		try
 		{
 			cmd = parser.parse(options, args);
+			jobs = cmd.hasOption("jobs") ? Integer.parseInt(cmd.getOptionValue("jobs")) : Runtime.getRuntime().availableProcessors();
+			if (jobs < 1)
+			{
+				throw new ParseException("jobs must be at least 1");
+			}
 		}
-		catch (ParseException ex)
+		catch (ParseException | NumberFormatException ex)
 		{
 			System.err.println("Error parsing command line options: " + ex.getMessage());
 			System.exit(-1);
@@ -63,62 +81,84 @@ public class Cache
 
 		Store store = loadStore(cache);
 
-		if (cmd.hasOption("items"))
+		if (cmd.hasOption("diff"))
 		{
-			String itemdir = cmd.getOptionValue("items");
+			diff(loadStore(cmd.getOptionValue("diff")), store, jobs);
+			return;
+		}
 
-			if (itemdir == null)
-			{
-				System.err.println("Item directory must be specified");
-				return;
-			}
+		ExportPipeline pipeline = new ExportPipeline(store, jobs);
+		boolean any = false;
 
+		if (cmd.hasOption("items"))
+		{
+			String itemdir = cmd.getOptionValue("items");
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			pipeline.items(new File(itemdir));
+			any = true;
 		}
-		else if (cmd.hasOption("npcs"))
+		if (cmd.hasOption("npcs"))
 		{
 			String npcdir = cmd.getOptionValue("npcs");
-
-			if (npcdir == null)
-			{
-				System.err.println("NPC directory must be specified");
-				return;
-			}
-
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			pipeline.npcs(new File(npcdir));
+			any = true;
 		}
-		else if (cmd.hasOption("objects"))
+		if (cmd.hasOption("objects"))
 		{
 			String objectdir = cmd.getOptionValue("objects");
-
-			if (objectdir == null)
-			{
-				System.err.println("Object directory must be specified");
-				return;
-			}
-
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			pipeline.objects(new File(objectdir));
+			any = true;
 		}
-		else if (cmd.hasOption("sprites"))
+		if (cmd.hasOption("sprites"))
 		{
 			String spritedir = cmd.getOptionValue("sprites");
+			System.out.println("Dumping sprites to " + spritedir);
+			pipeline.sprites(new File(spritedir));
+			any = true;
+		}
+
+		if (!any)
+		{
+			System.err.println("Nothing to do");
+			return;
+		}
 
-			if (spritedir == null)
+		long start = System.nanoTime();
+		List<ExportPipeline.Result> results = pipeline.run();
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		for (ExportPipeline.Result result : results)
+		{
+			if (result.getChanged() == 0)
 			{
-				System.err.println("Sprite directory must be specified");
-				return;
+				System.out.printf("%-8s up to date (%d archives) in %dms%n", result.getName(), result.getArchives(), result.getMillis());
 			}
+			else
+			{
+				System.out.printf("%-8s %d/%d archives changed, %d files in %dms%n", result.getName(),
+					result.getChanged(), result.getArchives(), result.getFiles(), result.getMillis());
+			}
+		}
+		System.out.printf("Exported in %dms with %d jobs%n", millis, jobs);
+	}
 
-			System.out.println("Dumping sprites to " + spritedir);
-			dumpSprites(store, new File(spritedir));
+	private static void diff(Store from, Store to, int jobs) throws IOException
+	{
+		long start = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool(jobs);
+		try
+		{
+			Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+			new CacheDiff(from, to, pool).diff(new JsonDiffWriter(out));
+			out.flush();
 		}
-		else
+		finally
 		{
-			System.err.println("Nothing to do");
+			pool.shutdown();
 		}
+		System.err.printf("Diffed in %dms with %d jobs%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), jobs);
 	}
 
 	private static Store loadStore(String cache) throws IOException
@@ -127,35 +167,4 @@ public class Cache
 		store.load();
 		return store;
 	}
-
-	private static void dumpItems(Store store, File itemdir) throws IOException
-	{
-		ItemManager dumper = new ItemManager(store);
-		dumper.load();
-		dumper.export(itemdir);
-		dumper.java(itemdir);
-	}
-
-	private static void dumpNpcs(Store store, File npcdir) throws IOException
-	{
-		NpcManager dumper = new NpcManager(store);
-		dumper.load();
-		dumper.dump(npcdir);
-		dumper.java(npcdir);
-	}
-
-	private static void dumpObjects(Store store, File objectdir) throws IOException
-	{
-		ObjectManager dumper = new ObjectManager(store);
-		dumper.load();
-		dumper.dump(objectdir);
-		dumper.java(objectdir);
-	}
-
-	private static void dumpSprites(Store store, File spritedir) throws IOException
-	{
-		SpriteManager dumper = new SpriteManager(store);
-		dumper.load();
-		dumper.export(spritedir);
-	}
 }
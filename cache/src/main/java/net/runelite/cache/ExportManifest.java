@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+
+/**
+ * The crc and revision of each archive an export directory was last written from
+ */
+@Slf4j
+class ExportManifest
+{
+	static final String FILE_NAME = ".export-manifest.json";
+
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	@Value
+	private static class Entry
+	{
+		int crc;
+		int revision;
+	}
+
+	private Map<String, Entry> archives = new TreeMap<>();
+
+	static ExportManifest load(File dir)
+	{
+		File file = new File(dir, FILE_NAME);
+		if (!file.exists())
+		{
+			return new ExportManifest();
+		}
+
+		try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			ExportManifest manifest = GSON.fromJson(in, ExportManifest.class);
+			if (manifest != null && manifest.archives != null)
+			{
+				manifest.archives = new TreeMap<>(manifest.archives);
+				return manifest;
+			}
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.warn("unable to read export manifest {}, exporting everything", file, ex);
+		}
+		return new ExportManifest();
+	}
+
+	void save(File dir) throws IOException
+	{
+		File file = new File(dir, FILE_NAME);
+		File tmp = new File(dir, FILE_NAME + ".tmp");
+		try (Writer out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+		{
+			GSON.toJson(this, out);
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	boolean isEmpty()
+	{
+		return archives.isEmpty();
+	}
+
+	boolean isCurrent(Archive archive)
+	{
+		return new Entry(archive.getCrc(), archive.getRevision()).equals(archives.get(key(archive)));
+	}
+
+	void update(Archive archive)
+	{
+		archives.put(key(archive), new Entry(archive.getCrc(), archive.getRevision()));
+	}
+
+	/**
+	 * Forget the archives which are no longer in the cache
+	 *
+	 * @return the ids of the archives forgotten
+	 */
+	List<Integer> retain(Collection<Archive> current)
+	{
+		Set<String> keep = new HashSet<>();
+		for (Archive archive : current)
+		{
+			keep.add(key(archive));
+		}
+
+		List<Integer> removed = new ArrayList<>();
+		for (Iterator<String> it = archives.keySet().iterator(); it.hasNext(); )
+		{
+			String key = it.next();
+			if (!keep.contains(key))
+			{
+				removed.add(Integer.parseInt(key.substring(key.indexOf('/') + 1)));
+				it.remove();
+			}
+		}
+		return removed;
+	}
+
+	static String key(Archive archive)
+	{
+		return archive.getIndex().getId() + "/" + archive.getArchiveId();
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Runs the definition exporters concurrently on a bounded pool, which is also used to write
+ * the exported files.
+ * <p>
+ * Each output directory has a manifest of the crc and revision of the archives it was exported
+ * from, and only the archives which have changed since are exported again. Definitions which
+ * are no longer in the cache have their exported files deleted. Every exporter needs its own
+ * directory.
+ */
+@Slf4j
+public class ExportPipeline
+{
+	@Value
+	public static class Result
+	{
+		String name;
+		int archives;
+		int changed;
+		int files;
+		long millis;
+	}
+
+	private interface Exporter
+	{
+		/**
+		 * @param changed the archives which have changed since the last export
+		 * @param removed the ids of the archives which no longer exist
+		 * @return the number of files written
+		 */
+		int export(List<Archive> changed, List<Integer> removed, File dir, ExecutorService executor) throws IOException;
+	}
+
+	@RequiredArgsConstructor
+	private static class Job
+	{
+		private final String name;
+		private final File dir;
+		private final List<Archive> archives;
+		private final Exporter exporter;
+	}
+
+	private final Store store;
+	private final int jobs;
+	private final List<Job> pending = new ArrayList<>();
+
+	public ExportPipeline(Store store, int jobs)
+	{
+		this.store = store;
+		this.jobs = jobs;
+	}
+
+	public ExportPipeline items(File dir)
+	{
+		return add("items", dir, configArchive(ConfigType.ITEM), (changed, removed, out, executor) ->
+		{
+			ItemManager manager = new ItemManager(store);
+			manager.load();
+			int files = manager.export(out, executor);
+			manager.java(out);
+			deleteRemovedDefinitions(out, manager.getItems().stream().map(ItemDefinition::getId).collect(Collectors.toSet()));
+			return files;
+		});
+	}
+
+	public ExportPipeline npcs(File dir)
+	{
+		return add("npcs", dir, configArchive(ConfigType.NPC), (changed, removed, out, executor) ->
+		{
+			NpcManager manager = new NpcManager(store);
+			manager.load();
+			int files = manager.dump(out, executor);
+			manager.java(out);
+			deleteRemovedDefinitions(out, manager.getNpcs().stream().map(NpcDefinition::getId).collect(Collectors.toSet()));
+			return files;
+		});
+	}
+
+	public ExportPipeline objects(File dir)
+	{
+		return add("objects", dir, configArchive(ConfigType.OBJECT), (changed, removed, out, executor) ->
+		{
+			ObjectManager manager = new ObjectManager(store);
+			manager.load();
+			int files = manager.dump(out, executor);
+			manager.java(out);
+			deleteRemovedDefinitions(out, manager.getObjects().stream().map(ObjectDefinition::getId).collect(Collectors.toSet()));
+			return files;
+		});
+	}
+
+	public ExportPipeline sprites(File dir)
+	{
+		Index index = store.getIndex(IndexType.SPRITES);
+		return add("sprites", dir, index.getArchives(), (changed, removed, out, executor) ->
+		{
+			Set<Integer> load = new HashSet<>();
+			for (Archive archive : changed)
+			{
+				load.add(archive.getArchiveId());
+			}
+
+			// sprites are exported per frame, so drop every frame of the archives being replaced
+			Set<Integer> delete = new HashSet<>(load);
+			delete.addAll(removed);
+			deleteSprites(out, delete);
+
+			SpriteManager manager = new SpriteManager(store);
+			manager.load(a -> load.contains(a.getArchiveId()));
+			return manager.export(out, executor);
+		});
+	}
+
+	private ExportPipeline add(String name, File dir, List<Archive> archives, Exporter exporter)
+	{
+		for (Job job : pending)
+		{
+			// the exporters name their files by id, and each directory has a single manifest
+			if (job.dir.getAbsoluteFile().toPath().normalize().equals(dir.getAbsoluteFile().toPath().normalize()))
+			{
+				throw new IllegalArgumentException(name + " and " + job.name + " cannot be exported to the same directory " + dir);
+			}
+		}
+
+		pending.add(new Job(name, dir, archives, exporter));
+		return this;
+	}
+
+	private List<Archive> configArchive(ConfigType type)
+	{
+		Archive archive = store.getIndex(IndexType.CONFIGS).getArchive(type.getId());
+		return archive == null ? Collections.emptyList() : Collections.singletonList(archive);
+	}
+
+	public List<Result> run() throws IOException
+	{
+		ForkJoinPool pool = new ForkJoinPool(jobs);
+		try
+		{
+			List<Callable<Result>> tasks = new ArrayList<>(pending.size());
+			for (Job job : pending)
+			{
+				tasks.add(() -> run(job, pool));
+			}
+
+			List<Result> results = new ArrayList<>(tasks.size());
+			for (Future<Result> future : pool.invokeAll(tasks))
+			{
+				results.add(get(future));
+			}
+			return results;
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	private Result run(Job job, ExecutorService executor) throws IOException
+	{
+		long start = System.nanoTime();
+
+		job.dir.mkdirs();
+		ExportManifest manifest = ExportManifest.load(job.dir);
+		List<Integer> removed = manifest.retain(job.archives);
+
+		List<Archive> changed = new ArrayList<>();
+		for (Archive archive : job.archives)
+		{
+			if (!manifest.isCurrent(archive))
+			{
+				changed.add(archive);
+			}
+		}
+
+		int files = 0;
+		if (!changed.isEmpty() || !removed.isEmpty())
+		{
+			files = job.exporter.export(changed, removed, job.dir, executor);
+
+			// only record the archives once everything from them has been written
+			for (Archive archive : changed)
+			{
+				manifest.update(archive);
+			}
+			manifest.save(job.dir);
+		}
+
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		log.debug("exported {} files for {} of {} {} archives in {}ms", files, changed.size(), job.archives.size(), job.name, millis);
+		return new Result(job.name, job.archives.size(), changed.size(), files, millis);
+	}
+
+	/**
+	 * Delete the exported definitions whose ids are no longer in the cache
+	 */
+	private static void deleteRemovedDefinitions(File dir, Set<Integer> ids) throws IOException
+	{
+		File[] files = dir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (!name.endsWith(".json"))
+			{
+				continue;
+			}
+
+			try
+			{
+				if (!ids.contains(Integer.parseInt(name.substring(0, name.length() - 5))) && !file.delete())
+				{
+					throw new IOException("unable to delete " + file);
+				}
+			}
+			catch (NumberFormatException ex)
+			{
+				// not an exported definition
+			}
+		}
+	}
+
+	private static void deleteSprites(File dir, Set<Integer> ids) throws IOException
+	{
+		File[] files = dir.listFiles();
+		if (files == null || ids.isEmpty())
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			int sep = name.indexOf('-');
+			if (sep == -1 || !name.endsWith(".png"))
+			{
+				continue;
+			}
+
+			try
+			{
+				if (ids.contains(Integer.parseInt(name.substring(0, sep))) && !file.delete())
+				{
+					throw new IOException("unable to delete " + file);
+				}
+			}
+			catch (NumberFormatException ex)
+			{
+				// not an exported sprite
+			}
+		}
+	}
+
+	/**
+	 * Run the tasks on {@code executor} and wait for all of them to finish
+	 */
+	static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks) throws IOException
+	{
+		List<Future<Void>> futures;
+		try
+		{
+			futures = executor.invokeAll(tasks);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+
+		for (Future<Void> future : futures)
+		{
+			get(future);
+		}
+	}
+
+	private static <T> T get(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
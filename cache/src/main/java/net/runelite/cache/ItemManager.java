@@ -24,12 +24,17 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
@@ -105,16 +110,33 @@ public class ItemManager implements ItemProvider
 	}
 
 	public void export(File out) throws IOException
+	{
+		export(out, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every item to {@code out}, writing the files on {@code executor}
+	 *
+	 * @return the number of files written
+	 */
+	public int export(File out, ExecutorService executor) throws IOException
 	{
 		out.mkdirs();
 
+		List<Callable<Void>> writes = new ArrayList<>(items.size());
 		for (ItemDefinition def : items.values())
 		{
-			ItemExporter exporter = new ItemExporter(def);
+			writes.add(() ->
+			{
+				ItemExporter exporter = new ItemExporter(def);
 
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
+				File targ = new File(out, def.id + ".json");
+				exporter.exportTo(targ);
+				return null;
+			});
 		}
+		ExportPipeline.invokeAll(executor, writes);
+		return writes.size();
 	}
 
 	public void java(File java) throws IOException
@@ -24,12 +24,17 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
@@ -82,16 +87,33 @@ public class NpcManager
 	}
 
 	public void dump(File out) throws IOException
+	{
+		dump(out, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every npc to {@code out}, writing the files on {@code executor}
+	 *
+	 * @return the number of files written
+	 */
+	public int dump(File out, ExecutorService executor) throws IOException
 	{
 		out.mkdirs();
 
+		List<Callable<Void>> writes = new ArrayList<>(npcs.size());
 		for (NpcDefinition def : npcs.values())
 		{
-			NpcExporter exporter = new NpcExporter(def);
+			writes.add(() ->
+			{
+				NpcExporter exporter = new NpcExporter(def);
 
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
+				File targ = new File(out, def.id + ".json");
+				exporter.exportTo(targ);
+				return null;
+			});
 		}
+		ExportPipeline.invokeAll(executor, writes);
+		return writes.size();
 	}
 
 	public void java(File java) throws IOException
@@ -26,13 +26,19 @@ package net.runelite.cache;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
@@ -55,12 +61,25 @@ public class SpriteManager implements SpriteProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(a -> true);
+	}
+
+	/**
+	 * Load the sprites of the archives matching {@code filter}
+	 */
+	public void load(Predicate<Archive> filter) throws IOException
 	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
 		for (Archive a : index.getArchives())
 		{
+			if (!filter.test(a))
+			{
+				continue;
+			}
+
 			byte[] contents = a.decompress(storage.loadArchive(a));
 
 			SpriteLoader loader = new SpriteLoader();
@@ -112,6 +131,17 @@ public class SpriteManager implements SpriteProvider
 
 	public void export(File outDir) throws IOException
 	{
+		export(outDir, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every loaded sprite to {@code outDir}, writing the files on {@code executor}
+	 *
+	 * @return the number of files written
+	 */
+	public int export(File outDir, ExecutorService executor) throws IOException
+	{
+		List<Callable<Void>> writes = new ArrayList<>(sprites.size());
 		for (SpriteDefinition sprite : sprites.values())
 		{
 			// Some sprites like ones for non-printable font characters do not have sizes
@@ -120,11 +150,17 @@ public class SpriteManager implements SpriteProvider
 				continue;
 			}
 
-			SpriteExporter exporter = new SpriteExporter(sprite);
-			File png = new File(outDir, sprite.getId() + "-" + sprite.getFrame() + ".png");
+			writes.add(() ->
+			{
+				SpriteExporter exporter = new SpriteExporter(sprite);
+				File png = new File(outDir, sprite.getId() + "-" + sprite.getFrame() + ".png");
 
-			exporter.exportTo(png);
+				exporter.exportTo(png);
+				return null;
+			});
 		}
+		ExportPipeline.invokeAll(executor, writes);
+		return writes.size();
 	}
 
 	@Override
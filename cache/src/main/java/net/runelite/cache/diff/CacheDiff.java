@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.loaders.DBRowLoader;
+import net.runelite.cache.definitions.loaders.EnumLoader;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.definitions.loaders.StructLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * Finds the differences between two caches.
+ * <p>
+ * The index data is compared first, and an index whose container is unchanged is skipped
+ * entirely. Only the config archives whose crc differs are decompressed, and only the files
+ * within them whose bytes differ are decoded and compared field by field. The changes are
+ * passed to the listener as they are found, one config archive at a time.
+ */
+public class CacheDiff
+{
+	// definitions decoded and compared per task
+	private static final int BATCH_SIZE = 256;
+
+	private interface Decoder
+	{
+		Object load(int revision, int id, byte[] data);
+	}
+
+	private static final Map<ConfigType, Decoder> DECODERS = new EnumMap<>(ConfigType.class);
+
+	static
+	{
+		DECODERS.put(ConfigType.ITEM, (rev, id, b) -> new ItemLoader().load(id, b));
+		DECODERS.put(ConfigType.NPC, (rev, id, b) -> new NpcLoader().configureForRevision(rev).load(id, b));
+		DECODERS.put(ConfigType.OBJECT, (rev, id, b) -> new ObjectLoader().configureForRevision(rev).load(id, b));
+		DECODERS.put(ConfigType.ENUM, (rev, id, b) -> new EnumLoader().load(id, b));
+		DECODERS.put(ConfigType.STRUCT, (rev, id, b) -> new StructLoader().load(id, b));
+		DECODERS.put(ConfigType.DBROW, (rev, id, b) -> new DBRowLoader().load(id, b));
+	}
+
+	private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>()
+	{
+		@Override
+		protected Field[] computeValue(Class<?> type)
+		{
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != Object.class; c = c.getSuperclass())
+			{
+				for (Field field : c.getDeclaredFields())
+				{
+					if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0)
+					{
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			return fields.toArray(new Field[0]);
+		}
+	};
+
+	private final Store from;
+	private final Store to;
+	private final ExecutorService executor;
+
+	/**
+	 * @param executor runs the archive decompression and definition decoding
+	 */
+	public CacheDiff(Store from, Store to, ExecutorService executor)
+	{
+		this.from = from;
+		this.to = to;
+		this.executor = executor;
+	}
+
+	public void diff(DiffListener listener) throws IOException
+	{
+		TreeSet<Integer> indexIds = new TreeSet<>();
+		from.getIndexes().forEach(i -> indexIds.add(i.getId()));
+		to.getIndexes().forEach(i -> indexIds.add(i.getId()));
+
+		List<Archive[]> configs = new ArrayList<>();
+		for (int id : indexIds)
+		{
+			Index fromIndex = from.findIndex(id);
+			Index toIndex = to.findIndex(id);
+
+			// the crc of the index container covers every archive entry
+			if (fromIndex != null && toIndex != null && fromIndex.getCrc() != 0
+				&& fromIndex.getCrc() == toIndex.getCrc() && fromIndex.getRevision() == toIndex.getRevision())
+			{
+				continue;
+			}
+
+			diffIndex(id, fromIndex, toIndex, listener, configs);
+		}
+
+		for (Archive[] archives : configs)
+		{
+			diffConfig(archives[0], archives[1], listener);
+		}
+	}
+
+	private void diffIndex(int indexId, Index fromIndex, Index toIndex, DiffListener listener, List<Archive[]> configs) throws IOException
+	{
+		TreeSet<Integer> archiveIds = new TreeSet<>();
+		if (fromIndex != null)
+		{
+			fromIndex.getArchives().forEach(a -> archiveIds.add(a.getArchiveId()));
+		}
+		if (toIndex != null)
+		{
+			toIndex.getArchives().forEach(a -> archiveIds.add(a.getArchiveId()));
+		}
+
+		for (int id : archiveIds)
+		{
+			Archive fromArchive = fromIndex == null ? null : fromIndex.getArchive(id);
+			Archive toArchive = toIndex == null ? null : toIndex.getArchive(id);
+
+			ChangeType change;
+			if (fromArchive == null)
+			{
+				change = ChangeType.ADDED;
+			}
+			else if (toArchive == null)
+			{
+				change = ChangeType.REMOVED;
+			}
+			else if (!sameEntry(fromArchive, toArchive))
+			{
+				change = ChangeType.CHANGED;
+			}
+			else
+			{
+				continue;
+			}
+
+			listener.archiveChanged(new ArchiveChange(indexId, id, change,
+				fromArchive == null ? 0 : fromArchive.getCrc(), toArchive == null ? 0 : toArchive.getCrc(),
+				fromArchive == null ? 0 : fromArchive.getRevision(), toArchive == null ? 0 : toArchive.getRevision()));
+
+			// an archive with the same crc has the same contents
+			boolean contentsChanged = change != ChangeType.CHANGED || fromArchive.getCrc() != toArchive.getCrc();
+			if (indexId == IndexType.CONFIGS.getNumber() && contentsChanged && configType(id) != null)
+			{
+				configs.add(new Archive[]{fromArchive, toArchive});
+			}
+		}
+	}
+
+	private static boolean sameEntry(Archive a, Archive b)
+	{
+		if (a.getCrc() != b.getCrc() || a.getRevision() != b.getRevision() || a.getNameHash() != b.getNameHash())
+		{
+			return false;
+		}
+
+		FileData[] af = a.getFileData(), bf = b.getFileData();
+		if (af.length != bf.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < af.length; ++i)
+		{
+			if (af[i].getId() != bf[i].getId() || af[i].getNameHash() != bf[i].getNameHash())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static ConfigType configType(int archiveId)
+	{
+		for (ConfigType type : DECODERS.keySet())
+		{
+			if (type.getId() == archiveId)
+			{
+				return type;
+			}
+		}
+		return null;
+	}
+
+	private void diffConfig(Archive fromArchive, Archive toArchive, DiffListener listener) throws IOException
+	{
+		ConfigType type = configType(fromArchive != null ? fromArchive.getArchiveId() : toArchive.getArchiveId());
+		Decoder decoder = DECODERS.get(type);
+
+		Future<Map<Integer, byte[]>> fromFuture = executor.submit(() -> files(from, fromArchive));
+		Future<Map<Integer, byte[]>> toFuture = executor.submit(() -> files(to, toArchive));
+		Map<Integer, byte[]> fromFiles = get(fromFuture);
+		Map<Integer, byte[]> toFiles = get(toFuture);
+
+		// unchanged files are never decoded
+		TreeSet<Integer> changed = new TreeSet<>();
+		for (Map.Entry<Integer, byte[]> entry : fromFiles.entrySet())
+		{
+			if (!Arrays.equals(entry.getValue(), toFiles.get(entry.getKey())))
+			{
+				changed.add(entry.getKey());
+			}
+		}
+		for (Integer id : toFiles.keySet())
+		{
+			if (!fromFiles.containsKey(id))
+			{
+				changed.add(id);
+			}
+		}
+
+		int fromRevision = fromArchive == null ? 0 : fromArchive.getRevision();
+		int toRevision = toArchive == null ? 0 : toArchive.getRevision();
+
+		List<Future<List<DefinitionChange>>> batches = new ArrayList<>();
+		List<Integer> ids = new ArrayList<>(changed);
+		for (int i = 0; i < ids.size(); i += BATCH_SIZE)
+		{
+			List<Integer> batch = ids.subList(i, Math.min(ids.size(), i + BATCH_SIZE));
+			batches.add(executor.submit(() ->
+			{
+				List<DefinitionChange> changes = new ArrayList<>(batch.size());
+				for (int id : batch)
+				{
+					byte[] a = fromFiles.get(id), b = toFiles.get(id);
+					Object fromDef = a == null ? null : decoder.load(fromRevision, id, a);
+					Object toDef = b == null ? null : decoder.load(toRevision, id, b);
+
+					if (fromDef == null)
+					{
+						changes.add(new DefinitionChange(type, id, ChangeType.ADDED, Collections.emptyList()));
+					}
+					else if (toDef == null)
+					{
+						changes.add(new DefinitionChange(type, id, ChangeType.REMOVED, Collections.emptyList()));
+					}
+					else
+					{
+						// the encoding can change without the definition changing
+						List<DefinitionChange.FieldChange> fields = diffFields(fromDef, toDef);
+						if (!fields.isEmpty())
+						{
+							changes.add(new DefinitionChange(type, id, ChangeType.CHANGED, fields));
+						}
+					}
+				}
+				return changes;
+			}));
+		}
+
+		// report in id order, while later batches are still being decoded
+		for (Future<List<DefinitionChange>> future : batches)
+		{
+			for (DefinitionChange change : get(future))
+			{
+				listener.definitionChanged(change);
+			}
+		}
+	}
+
+	private static Map<Integer, byte[]> files(Store store, Archive archive) throws IOException
+	{
+		if (archive == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		byte[] data = store.getStorage().loadArchive(archive);
+		if (data == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		Map<Integer, byte[]> files = new HashMap<>();
+		for (FSFile file : archive.getFiles(data).getFiles())
+		{
+			files.put(file.getFileId(), file.getContents());
+		}
+		return files;
+	}
+
+	static List<DefinitionChange.FieldChange> diffFields(Object from, Object to)
+	{
+		List<DefinitionChange.FieldChange> changes = new ArrayList<>();
+		for (Field field : FIELDS.get(from.getClass()))
+		{
+			Object a, b;
+			try
+			{
+				a = field.get(from);
+				b = field.get(to);
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+
+			if (a instanceof Map || b instanceof Map)
+			{
+				diffMap(field.getName(), (Map<?, ?>) a, (Map<?, ?>) b, changes);
+			}
+			else if (!Objects.deepEquals(a, b))
+			{
+				changes.add(new DefinitionChange.FieldChange(field.getName(), a, b));
+			}
+		}
+		return changes;
+	}
+
+	// maps, such as params, are compared per key
+	@SuppressWarnings("unchecked")
+	private static void diffMap(String name, Map<?, ?> a, Map<?, ?> b, List<DefinitionChange.FieldChange> changes)
+	{
+		Map<?, ?> from = a == null ? Collections.emptyMap() : a;
+		Map<?, ?> to = b == null ? Collections.emptyMap() : b;
+
+		Set<Object> keySet = new HashSet<>(from.keySet());
+		keySet.addAll(to.keySet());
+		List<Object> keys = new ArrayList<>(keySet);
+		keys.sort((x, y) -> x instanceof Comparable && x.getClass() == y.getClass()
+			? ((Comparable<Object>) x).compareTo(y)
+			: x.toString().compareTo(y.toString()));
+
+		for (Object key : keys)
+		{
+			Object x = from.get(key), y = to.get(key);
+			if (!Objects.deepEquals(x, y))
+			{
+				changes.add(new DefinitionChange.FieldChange(name + "[" + key + "]", x, y));
+			}
+		}
+	}
+
+	private static <T> T get(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
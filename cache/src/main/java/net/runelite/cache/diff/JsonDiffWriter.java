@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes each change as a line of JSON as soon as it is found
+ */
+public class JsonDiffWriter implements DiffListener
+{
+	private final Gson gson = new GsonBuilder()
+		.serializeNulls()
+		.create();
+	private final Writer out;
+
+	public JsonDiffWriter(Writer out)
+	{
+		this.out = out;
+	}
+
+	@Override
+	public void archiveChanged(ArchiveChange change) throws IOException
+	{
+		write("archive", change);
+	}
+
+	@Override
+	public void definitionChanged(DefinitionChange change) throws IOException
+	{
+		write("definition", change);
+	}
+
+	private void write(String kind, Object change) throws IOException
+	{
+		JsonObject obj = new JsonObject();
+		obj.addProperty("kind", kind);
+		gson.toJsonTree(change).getAsJsonObject().entrySet().forEach(e -> obj.add(e.getKey(), e.getValue()));
+
+		out.write(gson.toJson(obj));
+		out.write('\n');
+	}
+}
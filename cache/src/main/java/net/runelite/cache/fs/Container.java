@@ -27,8 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -37,6 +37,10 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	private static final int MAX_DECOMPRESSED_LENGTH = 1 << 30;
+	private static final int MAX_SCRATCH_LENGTH = 4 << 20;
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[4096]);
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,77 +96,84 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
-
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = b[0] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
 		if (compressedLength < 0)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
+		// compressed data is preceded by its decompressed length, which is also encrypted
+		int encryptedLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				data = decryptedData;
-
+				encryptedLength = compressedLength;
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+			case CompressionType.GZ:
+				encryptedLength = compressedLength + 4;
+				break;
+			default:
+				throw new RuntimeException("Unknown compression type");
+		}
 
-				InputStream decryptedStream = new InputStream(decryptedData);
+		int end = 5 + encryptedLength;
+		if (end > b.length)
+		{
+			throw new IOException("Container is truncated");
+		}
 
-				int decompressedLength = decryptedStream.readInt();
-				data = BZip2.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, end); // compression + length + data
 
-				break;
+		byte[] data;
+		if (compression == CompressionType.NONE)
+		{
+			data = Arrays.copyOfRange(b, 5, end);
+			if (keys != null)
+			{
+				new Xtea(keys).decryptInPlace(data, 0, data.length);
 			}
-			case CompressionType.GZ:
+		}
+		else
+		{
+			// decrypt into a reused buffer, and decompress from there directly into the output
+			byte[] payload = b;
+			int off = 5;
+			if (keys != null)
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				InputStream decryptedStream = new InputStream(decryptedData);
+				payload = scratch(encryptedLength);
+				System.arraycopy(b, 5, payload, 0, encryptedLength);
+				new Xtea(keys).decryptInPlace(payload, 0, encryptedLength);
+				off = 0;
+			}
 
-				int decompressedLength = decryptedStream.readInt();
-				data = GZip.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+			int decompressedLength = Ints.fromBytes(payload[off], payload[off + 1], payload[off + 2], payload[off + 3]);
+			if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
+			{
+				throw new IOException("Invalid decompressed length " + decompressedLength);
+			}
 
-				break;
+			data = new byte[decompressedLength];
+			if (compression == CompressionType.BZ2)
+			{
+				BZip2.decompress(payload, off + 4, compressedLength, data);
+			}
+			else
+			{
+				GZip.decompress(payload, off + 4, compressedLength, data);
 			}
-			default:
-				throw new RuntimeException("Unknown compression type");
 		}
 
 		int revision = -1;
-		if (stream.remaining() >= 4)
+		if (b.length - end >= 4)
 		{
-			revision = stream.readInt();
+			revision = Ints.fromBytes(b[end], b[end + 1], b[end + 2], b[end + 3]);
 		}
-		else if (stream.remaining() >= 2)
+		else if (b.length - end >= 2)
 		{
-			revision = stream.readUnsignedShort();
+			revision = (b[end] & 0xFF) << 8 | b[end + 1] & 0xFF;
 		}
 
 		Container container = new Container(compression, revision);
@@ -171,15 +182,20 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static byte[] scratch(int length)
 	{
-		if (keys == null)
+		if (length > MAX_SCRATCH_LENGTH)
 		{
-			return data;
+			return new byte[length];
 		}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		byte[] buf = SCRATCH.get();
+		if (buf.length < length)
+		{
+			buf = new byte[Math.max(length, buf.length * 2)];
+			SCRATCH.set(buf);
+		}
+		return buf;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Storage which keeps many cache revisions in one directory, storing each distinct
+ * compressed archive only once.
+ * <p>
+ * Archives are appended to memory mapped pack files and recorded in a blob index keyed by
+ * their SHA-256. A revision is a sorted table of (index, archive) to pack location, including
+ * the index containers under index 255, so opening one maps a single file and loading an
+ * archive is a binary search followed by a copy out of the pack.
+ * <p>
+ * The blob index is locked by the first store into a revision until it is closed, so only one
+ * storage may write to a directory at a time.
+ */
+public class PackStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackStorage.class);
+
+	private static final String REVISION_EXTENSION = ".rev";
+	private static final String PACK_EXTENSION = ".pack";
+	private static final String BLOB_INDEX = "blobs.idx";
+
+	private static final int REVISION_MAGIC = 0x524c5056; // RLPV
+	private static final int REVISION_VERSION = 1;
+	private static final int REVISION_HEADER = 12;
+	// key (8), pack (4), offset (8), length (4)
+	private static final int REVISION_ENTRY = 24;
+
+	private static final int HASH_LENGTH = 32;
+	// hash, pack (4), offset (8), length (4)
+	private static final int BLOB_ENTRY = HASH_LENGTH + 16;
+
+	// keep packs well below the 2GB limit of a single mapping
+	private static final long PACK_LIMIT = 1L << 30;
+
+	private final File directory;
+	private final File revisionFile;
+
+	// the entries of the revision on disk
+	private volatile ByteBuffer entries = ByteBuffer.allocate(0);
+	// entries stored since it was opened, which replace the ones on disk
+	private final Map<Long, Location> pending = new HashMap<>();
+
+	private final List<MappedByteBuffer> packs = new ArrayList<>();
+
+	// loaded on the first store
+	private Map<ByteBuffer, Location> blobs;
+	private MessageDigest digest;
+	private FileChannel packOut;
+	private int packOutId;
+	private DataOutputStream blobIndexOut;
+
+	private static final class Location
+	{
+		private final int pack;
+		private final long offset;
+		private final int length;
+
+		private Location(int pack, long offset, int length)
+		{
+			this.pack = pack;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * @param directory the directory shared by every revision
+	 * @param revision the name of the revision to open, or create if it does not exist
+	 */
+	public PackStorage(File directory, String revision) throws IOException
+	{
+		this.directory = directory;
+		this.revisionFile = new File(directory, revision + REVISION_EXTENSION);
+
+		directory.mkdirs();
+		if (revisionFile.exists())
+		{
+			mapRevision();
+		}
+	}
+
+	/**
+	 * @return the names of the revisions in {@code directory}
+	 */
+	public static List<String> listRevisions(File directory)
+	{
+		List<String> revisions = new ArrayList<>();
+		String[] names = directory.list((dir, name) -> name.endsWith(REVISION_EXTENSION));
+		if (names != null)
+		{
+			Arrays.sort(names);
+			for (String name : names)
+			{
+				revisions.add(name.substring(0, name.length() - REVISION_EXTENSION.length()));
+			}
+		}
+		return revisions;
+	}
+
+	private void mapRevision() throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(revisionFile.toPath(), StandardOpenOption.READ))
+		{
+			MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buf.remaining() < REVISION_HEADER || buf.getInt(0) != REVISION_MAGIC)
+			{
+				throw new IOException("not a pack revision: " + revisionFile);
+			}
+			if (buf.getInt(4) != REVISION_VERSION)
+			{
+				throw new IOException("unsupported pack revision version " + buf.getInt(4) + ": " + revisionFile);
+			}
+
+			int count = buf.getInt(8);
+			if ((long) count * REVISION_ENTRY + REVISION_HEADER > buf.capacity())
+			{
+				throw new IOException("truncated pack revision: " + revisionFile);
+			}
+
+			buf.position(REVISION_HEADER);
+			buf.limit(REVISION_HEADER + count * REVISION_ENTRY);
+			entries = buf.slice();
+		}
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		// the index containers are stored as archives of index 255
+		ByteBuffer entries = this.entries;
+		for (int i = find(entries, key(255, 0)); i < count(entries) && entryKey(entries, i) >>> 32 == 255; ++i)
+		{
+			store.addIndex((int) entryKey(entries, i));
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		if (packOut != null)
+		{
+			packOut.close();
+			packOut = null;
+		}
+		if (blobIndexOut != null)
+		{
+			blobIndexOut.close();
+			blobIndexOut = null;
+		}
+		packs.clear();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			loadIndex(index);
+		}
+	}
+
+	private void loadIndex(Index index) throws IOException
+	{
+		byte[] indexData = load(255, index.getId());
+		if (indexData == null)
+		{
+			return;
+		}
+
+		Container res = Container.decompress(indexData, null);
+
+		IndexData id = new IndexData();
+		id.load(res.data);
+
+		index.setProtocol(id.getProtocol());
+		index.setRevision(id.getRevision());
+		index.setNamed(id.isNamed());
+		index.setSized(id.isSized());
+
+		for (ArchiveData ad : id.getArchives())
+		{
+			Archive archive = index.addArchive(ad.getId());
+			archive.setNameHash(ad.getNameHash());
+			archive.setCrc(ad.getCrc());
+			archive.setCompressedSize(ad.getCompressedSize());
+			archive.setDecompressedSize(ad.getDecompressedSize());
+			archive.setRevision(ad.getRevision());
+			archive.setFileData(ad.getFiles());
+		}
+
+		index.setCrc(res.crc);
+		index.setCompression(res.compression);
+	}
+
+	/**
+	 * Write the index containers of {@code store} and then the revision table
+	 */
+	@Override
+	public synchronized void save(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			IndexData indexData = index.toIndexData();
+			byte[] data = indexData.writeIndexData();
+
+			Container container = new Container(index.getCompression(), -1); // index data revision is always -1
+			container.compress(data, null);
+			store(255, index.getId(), container.data);
+
+			index.setCrc(container.crc);
+		}
+
+		// blobs must be on disk before a revision refers to them
+		if (packOut != null)
+		{
+			packOut.force(false);
+			blobIndexOut.flush();
+		}
+
+		// only what is in the store, so removed indexes and archives are not carried over
+		TreeMap<Long, Location> table = new TreeMap<>();
+		for (Index index : store.getIndexes())
+		{
+			put(table, key(255, index.getId()));
+			for (Archive archive : index.getArchives())
+			{
+				put(table, key(index.getId(), archive.getArchiveId()));
+			}
+		}
+
+		File tmp = new File(directory, revisionFile.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(REVISION_MAGIC);
+			out.writeInt(REVISION_VERSION);
+			out.writeInt(table.size());
+			for (Map.Entry<Long, Location> entry : table.entrySet())
+			{
+				Location location = entry.getValue();
+				out.writeLong(entry.getKey());
+				out.writeInt(location.pack);
+				out.writeLong(location.offset);
+				out.writeInt(location.length);
+			}
+		}
+		Files.move(tmp.toPath(), revisionFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		pending.clear();
+		mapRevision();
+	}
+
+	private void put(Map<Long, Location> table, long key)
+	{
+		Location location = find(key);
+		if (location == null)
+		{
+			logger.debug("archive {} of index {} was never stored", (int) key, key >>> 32);
+			return;
+		}
+		table.put(key, location);
+	}
+
+	/**
+	 * @return the location of {@code key}, from this revision's stores or else the revision on disk
+	 */
+	private Location find(long key)
+	{
+		Location location;
+		synchronized (this)
+		{
+			location = pending.get(key);
+		}
+		if (location != null)
+		{
+			return location;
+		}
+
+		ByteBuffer entries = this.entries;
+		int i = find(entries, key);
+		if (i == count(entries) || entryKey(entries, i) != key)
+		{
+			return null;
+		}
+		return entryLocation(entries, i);
+	}
+
+	/**
+	 * Store every archive of {@code source} in this revision and save it
+	 */
+	public void copy(Store source) throws IOException
+	{
+		Storage from = source.getStorage();
+		for (Index index : source.getIndexes())
+		{
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = from.loadArchive(archive);
+				if (data != null)
+				{
+					saveArchive(archive, data);
+				}
+			}
+		}
+		save(source);
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		Location location = find(key(index, archive));
+		if (location == null)
+		{
+			logger.debug("can't read archive {} from index {}", archive, index);
+			return null;
+		}
+
+		ByteBuffer pack = pack(location.pack, location.offset + location.length);
+		byte[] data = new byte[location.length];
+		pack.position((int) location.offset);
+		pack.get(data);
+		return data;
+	}
+
+	@Override
+	public synchronized void store(int index, int archive, byte[] data) throws IOException
+	{
+		if (blobs == null)
+		{
+			openForWriting();
+		}
+
+		ByteBuffer hash = ByteBuffer.wrap(digest.digest(data));
+		Location location = blobs.get(hash);
+		if (location == null)
+		{
+			location = append(data);
+			blobs.put(hash, location);
+
+			blobIndexOut.write(hash.array());
+			blobIndexOut.writeInt(location.pack);
+			blobIndexOut.writeLong(location.offset);
+			blobIndexOut.writeInt(location.length);
+		}
+
+		pending.put(key(index, archive), location);
+	}
+
+	private void openForWriting() throws IOException
+	{
+		try
+		{
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex)
+		{
+			throw new IOException(ex);
+		}
+
+		File blobIndex = new File(directory, BLOB_INDEX);
+		FileChannel channel = FileChannel.open(blobIndex.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try
+		{
+			// held until the storage is closed, so that only one writer appends to the packs
+			channel.lock();
+			blobs = readBlobIndex(channel);
+		}
+		catch (OverlappingFileLockException ex)
+		{
+			channel.close();
+			throw new IOException("pack directory is already open for writing: " + directory, ex);
+		}
+		catch (IOException ex)
+		{
+			channel.close();
+			throw ex;
+		}
+		blobIndexOut = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+		packOutId = 0;
+		while (new File(directory, (packOutId + 1) + PACK_EXTENSION).exists())
+		{
+			++packOutId;
+		}
+		packOut = openPack(packOutId);
+	}
+
+	/**
+	 * Read the blob index and truncate it at the first entry which is partial or points past the
+	 * end of its pack. The index may be flushed before the packs are forced, so after a crash its
+	 * tail can refer to blobs which never reached the disk; no saved revision refers to them, as
+	 * every save forces the packs first.
+	 */
+	private Map<ByteBuffer, Location> readBlobIndex(FileChannel channel) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.allocate((int) channel.size());
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf) == -1)
+			{
+				break;
+			}
+		}
+		buf.flip();
+
+		Map<ByteBuffer, Location> blobs = new HashMap<>();
+		Map<Integer, Long> packSizes = new HashMap<>();
+		int end = 0;
+		while (buf.remaining() >= BLOB_ENTRY)
+		{
+			byte[] hash = new byte[HASH_LENGTH];
+			buf.get(hash);
+			Location location = new Location(buf.getInt(), buf.getLong(), buf.getInt());
+
+			long packSize = packSizes.computeIfAbsent(location.pack, id -> new File(directory, id + PACK_EXTENSION).length());
+			if (location.offset + location.length > packSize)
+			{
+				logger.warn("blob index refers past the end of pack {}, dropping {} entries",
+					location.pack, (buf.limit() - end) / BLOB_ENTRY);
+				break;
+			}
+
+			blobs.put(ByteBuffer.wrap(hash), location);
+			end = buf.position();
+		}
+
+		channel.truncate(end);
+		channel.position(end);
+		return blobs;
+	}
+
+	private FileChannel openPack(int id) throws IOException
+	{
+		FileChannel channel = FileChannel.open(new File(directory, id + PACK_EXTENSION).toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		channel.position(channel.size());
+		return channel;
+	}
+
+	private Location append(byte[] data) throws IOException
+	{
+		if (packOut.position() + data.length > PACK_LIMIT && packOut.position() > 0)
+		{
+			// the blob index entries for this pack may be written before the next save
+			packOut.force(false);
+			packOut.close();
+			packOut = openPack(++packOutId);
+		}
+
+		Location location = new Location(packOutId, packOut.position(), data.length);
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		while (buf.hasRemaining())
+		{
+			packOut.write(buf);
+		}
+		return location;
+	}
+
+	/**
+	 * @return a private view of pack {@code id}, mapped up to at least {@code end}
+	 */
+	private synchronized ByteBuffer pack(int id, long end) throws IOException
+	{
+		while (packs.size() <= id)
+		{
+			packs.add(null);
+		}
+
+		MappedByteBuffer pack = packs.get(id);
+		if (pack == null || pack.capacity() < end)
+		{
+			// blobs appended since the pack was mapped need a new mapping
+			try (FileChannel channel = FileChannel.open(new File(directory, id + PACK_EXTENSION).toPath(), StandardOpenOption.READ))
+			{
+				if (channel.size() < end)
+				{
+					throw new IOException("pack " + id + " is truncated");
+				}
+				pack = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			packs.set(id, pack);
+		}
+		return pack.duplicate();
+	}
+
+	/**
+	 * @return the first entry with a key of at least {@code key}
+	 */
+	private static int find(ByteBuffer entries, long key)
+	{
+		int lo = 0, hi = count(entries);
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (entryKey(entries, mid) < key)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private static int count(ByteBuffer entries)
+	{
+		return entries.capacity() / REVISION_ENTRY;
+	}
+
+	private static long entryKey(ByteBuffer entries, int i)
+	{
+		return entries.getLong(i * REVISION_ENTRY);
+	}
+
+	private static Location entryLocation(ByteBuffer entries, int i)
+	{
+		int off = i * REVISION_ENTRY;
+		return new Location(entries.getInt(off + 8), entries.getLong(off + 12), entries.getInt(off + 20));
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | (archive & 0xFFFFFFFFL);
+	}
+}
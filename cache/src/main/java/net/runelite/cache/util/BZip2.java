@@ -30,7 +30,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_STREAM_END;
@@ -48,18 +50,31 @@ public class BZip2
 		'1'       // block size
 	};
 
+	private static final ThreadLocal<BZip2Decoder> DECODER = ThreadLocal.withInitial(BZip2Decoder::new);
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
-		return USE_NATIVE_BZIP2 ? compressLibBZip2(bytes) : compressApache(bytes);
+		if (USE_NATIVE_BZIP2)
+		{
+			return compressLibBZip2(bytes);
+		}
+
+		// the output is identical either way, splitting the blocks only pays off with more than one worker
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		return pool.getParallelism() > 1 ? ParallelBZip2.compress(bytes, pool) : compressApache(bytes);
 	}
 
 	public static byte[] compressApache(byte[] bytes) throws IOException
 	{
-		InputStream is = new ByteArrayInputStream(bytes);
-		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		return compressApache(bytes, 0, bytes.length);
+	}
+
+	static byte[] compressApache(byte[] bytes, int off, int len) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream(len / 4 + 64);
 		try (OutputStream os = new BZip2CompressorOutputStream(bout, 1))
 		{
-			is.transferTo(os);
+			os.write(bytes, off, len);
 		}
 
 		byte[] out = bout.toByteArray();
@@ -127,19 +142,28 @@ public class BZip2
 
 	public static byte[] decompress(byte[] bytes, int len) throws IOException
 	{
-		byte[] data = new byte[len + BZIP_HEADER.length];
-
-		// add header
-		System.arraycopy(BZIP_HEADER, 0, data, 0, BZIP_HEADER.length);
-		System.arraycopy(bytes, 0, data, BZIP_HEADER.length, len);
-
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 
-		try (InputStream is = new BZip2CompressorInputStream(new ByteArrayInputStream(data)))
+		try (InputStream is = new BZip2CompressorInputStream(headerStream(bytes, 0, len)))
 		{
 			is.transferTo(os);
 		}
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress {@code bytes[off, off + len)} directly into {@code out}, which must be exactly the
+	 * size of the decompressed data.
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] out) throws IOException
+	{
+		DECODER.get().decode(bytes, off, len, out);
+	}
+
+	// prepend the header without copying the data
+	private static InputStream headerStream(byte[] bytes, int off, int len)
+	{
+		return new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, off, len));
+	}
 }
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A bzip2 decoder which decodes a headerless stream straight into a caller supplied array.
+ * <p>
+ * The tables are sized for 100k blocks, which is all the cache uses, and are reused between
+ * calls, so one decoder should be kept per thread.
+ */
+final class BZip2Decoder
+{
+	private static final int BLOCK_SIZE = 100_000;
+	private static final long BLOCK_MAGIC = 0x314159265359L;
+	private static final long EOS_MAGIC = 0x177245385090L;
+
+	private static final int MAX_GROUPS = 6;
+	private static final int MAX_ALPHA_SIZE = 258;
+	private static final int MAX_CODE_LEN = 20;
+	private static final int MAX_SELECTORS = 18002;
+	private static final int GROUP_SIZE = 50;
+
+	// codes of up to this length are decoded with a single table lookup
+	private static final int LOOKUP_BITS = 10;
+
+	private static final int[] CRC_TABLE = new int[256];
+
+	static
+	{
+		for (int i = 0; i < 256; ++i)
+		{
+			int c = i << 24;
+			for (int j = 0; j < 8; ++j)
+			{
+				c = (c & 0x80000000) != 0 ? c << 1 ^ 0x04c11db7 : c << 1;
+			}
+			CRC_TABLE[i] = c;
+		}
+	}
+
+	private final int[] tt = new int[BLOCK_SIZE];
+	private final int[] cftab = new int[257];
+	private final byte[] seqToUnseq = new byte[256];
+	private final byte[] mtf = new byte[256];
+	private final byte[] selectors = new byte[MAX_SELECTORS];
+	private final byte[] length = new byte[MAX_ALPHA_SIZE];
+	private final int[][] limit = new int[MAX_GROUPS][MAX_CODE_LEN + 2];
+	private final int[][] base = new int[MAX_GROUPS][MAX_CODE_LEN + 2];
+	private final int[][] perm = new int[MAX_GROUPS][MAX_ALPHA_SIZE];
+	private final int[] minLens = new int[MAX_GROUPS];
+	private final int[] maxLens = new int[MAX_GROUPS];
+	// (symbol << 5) | code length, or 0 for codes longer than LOOKUP_BITS
+	private final int[][] lookup = new int[MAX_GROUPS][1 << LOOKUP_BITS];
+
+	private byte[] in;
+	private int pos;
+	private int end;
+	private long bitBuf;
+	private int bitCount;
+
+	/**
+	 * Decode the stream in {@code bytes[off, off + len)}, which must decompress to exactly
+	 * {@code out.length} bytes.
+	 */
+	void decode(byte[] bytes, int off, int len, byte[] out) throws IOException
+	{
+		in = bytes;
+		pos = off;
+		end = off + len;
+		bitBuf = 0;
+		bitCount = 0;
+
+		try
+		{
+			int outPos = 0;
+			int combinedCrc = 0;
+			for (;;)
+			{
+				final long magic = (long) bits(24) << 24 | bits(24);
+				if (magic == EOS_MAGIC)
+				{
+					break;
+				}
+				if (magic != BLOCK_MAGIC)
+				{
+					throw new IOException("Bad block header");
+				}
+
+				final int blockCrc = bits(16) << 16 | bits(16);
+				outPos = decodeBlock(out, outPos, blockCrc);
+				combinedCrc = (combinedCrc << 1 | combinedCrc >>> 31) ^ blockCrc;
+			}
+
+			final int streamCrc = bits(16) << 16 | bits(16);
+			if (streamCrc != combinedCrc)
+			{
+				throw new IOException("Stream CRC mismatch");
+			}
+			if ((long) pos * 8 - bitCount > (long) end * 8)
+			{
+				throw new IOException("Unexpected end of stream");
+			}
+			if (outPos != out.length)
+			{
+				throw new IOException("Decompressed length does not match, expected " + out.length + " got " + outPos);
+			}
+		}
+		finally
+		{
+			in = null;
+		}
+	}
+
+	private int decodeBlock(byte[] out, int outPos, int blockCrc) throws IOException
+	{
+		if (bits(1) != 0)
+		{
+			throw new IOException("Randomised blocks are not supported");
+		}
+
+		final int origPtr = bits(24);
+
+		// symbol map
+		int numInUse = 0;
+		final int inUse16 = bits(16);
+		for (int i = 0; i < 16; ++i)
+		{
+			if ((inUse16 & (0x8000 >>> i)) != 0)
+			{
+				final int used = bits(16);
+				for (int j = 0; j < 16; ++j)
+				{
+					if ((used & (0x8000 >>> j)) != 0)
+					{
+						seqToUnseq[numInUse++] = (byte) (i * 16 + j);
+					}
+				}
+			}
+		}
+		if (numInUse == 0)
+		{
+			throw new IOException("Block uses no symbols");
+		}
+		final int alphaSize = numInUse + 2;
+
+		// selectors
+		final int nGroups = bits(3);
+		if (nGroups < 2 || nGroups > MAX_GROUPS)
+		{
+			throw new IOException("Bad number of huffman tables: " + nGroups);
+		}
+		final int nSelectorsRead = bits(15);
+		if (nSelectorsRead < 1)
+		{
+			throw new IOException("Bad number of selectors");
+		}
+		final int nSelectors = Math.min(nSelectorsRead, MAX_SELECTORS);
+
+		final byte[] groupMtf = {0, 1, 2, 3, 4, 5};
+		for (int i = 0; i < nSelectorsRead; ++i)
+		{
+			int j = 0;
+			while (bits(1) != 0)
+			{
+				if (++j >= nGroups)
+				{
+					throw new IOException("Bad selector");
+				}
+			}
+
+			final byte g = groupMtf[j];
+			for (; j > 0; --j)
+			{
+				groupMtf[j] = groupMtf[j - 1];
+			}
+			groupMtf[0] = g;
+
+			if (i < MAX_SELECTORS)
+			{
+				selectors[i] = g;
+			}
+		}
+
+		// huffman tables
+		for (int t = 0; t < nGroups; ++t)
+		{
+			int len = bits(5);
+			for (int i = 0; i < alphaSize; ++i)
+			{
+				for (;;)
+				{
+					if (len < 1 || len > MAX_CODE_LEN)
+					{
+						throw new IOException("Bad code length");
+					}
+					if (bits(1) == 0)
+					{
+						break;
+					}
+					len += bits(1) == 0 ? 1 : -1;
+				}
+				length[i] = (byte) len;
+			}
+			createDecodeTables(t, alphaSize);
+		}
+
+		// move to front and run length decode the symbols into tt
+		final int eob = numInUse + 1;
+		final int[] unzftab = new int[256];
+		for (int i = 0; i < 256; ++i)
+		{
+			mtf[i] = (byte) i;
+		}
+
+		int nblock = 0;
+		int groupIndex = -1;
+		int groupPos = 0;
+		int run = 0;
+		int runWeight = 1;
+		int[] gLookup = null, gLimit = null, gBase = null, gPerm = null;
+		int gMinLen = 0, gMaxLen = 0;
+		for (;;)
+		{
+			if (groupPos-- == 0)
+			{
+				if (++groupIndex >= nSelectors)
+				{
+					throw new IOException("Ran out of selectors");
+				}
+				final int g = selectors[groupIndex];
+				gLookup = lookup[g];
+				gLimit = limit[g];
+				gBase = base[g];
+				gPerm = perm[g];
+				gMinLen = minLens[g];
+				gMaxLen = maxLens[g];
+				groupPos = GROUP_SIZE - 1;
+			}
+
+			// decode one symbol
+			if (bitCount < MAX_CODE_LEN)
+			{
+				fill();
+			}
+			final int peek = (int) (bitBuf >>> (bitCount - MAX_CODE_LEN)) & ((1 << MAX_CODE_LEN) - 1);
+			final int entry = gLookup[peek >>> (MAX_CODE_LEN - LOOKUP_BITS)];
+			final int sym;
+			if (entry != 0)
+			{
+				bitCount -= entry & 0x1F;
+				sym = entry >>> 5;
+			}
+			else
+			{
+				int zn = Math.max(gMinLen, LOOKUP_BITS + 1);
+				int zvec;
+				for (;; ++zn)
+				{
+					if (zn > gMaxLen)
+					{
+						throw new IOException("Bad huffman code");
+					}
+					zvec = peek >>> (MAX_CODE_LEN - zn);
+					if (zvec <= gLimit[zn])
+					{
+						break;
+					}
+				}
+				final int idx = zvec - gBase[zn];
+				if (idx < 0 || idx >= alphaSize)
+				{
+					throw new IOException("Bad huffman code");
+				}
+				bitCount -= zn;
+				sym = gPerm[idx];
+			}
+
+			if (sym <= 1)
+			{
+				// RUNA and RUNB encode the run length in bijective base 2
+				if (runWeight > BLOCK_SIZE)
+				{
+					throw new IOException("Run too long");
+				}
+				run += runWeight << sym;
+				runWeight <<= 1;
+				continue;
+			}
+
+			if (run > 0)
+			{
+				if (nblock + run > BLOCK_SIZE)
+				{
+					throw new IOException("Block too large");
+				}
+				final int b = seqToUnseq[mtf[0] & 0xFF] & 0xFF;
+				unzftab[b] += run;
+				for (int i = 0; i < run; ++i)
+				{
+					tt[nblock++] = b;
+				}
+				run = 0;
+				runWeight = 1;
+			}
+
+			if (sym == eob)
+			{
+				break;
+			}
+
+			if (nblock >= BLOCK_SIZE)
+			{
+				throw new IOException("Block too large");
+			}
+			final int n = sym - 1;
+			if (n >= numInUse)
+			{
+				throw new IOException("Bad symbol");
+			}
+			final byte uc = mtf[n];
+			System.arraycopy(mtf, 0, mtf, 1, n);
+			mtf[0] = uc;
+			final int b = seqToUnseq[uc & 0xFF] & 0xFF;
+			unzftab[b]++;
+			tt[nblock++] = b;
+		}
+
+		if (origPtr >= nblock)
+		{
+			throw new IOException("Bad origPtr");
+		}
+
+		// inverse bwt, tt[i] holds the byte at i in the low 8 bits and the next index above
+		cftab[0] = 0;
+		for (int i = 0; i < 256; ++i)
+		{
+			cftab[i + 1] = cftab[i] + unzftab[i];
+		}
+		for (int i = 0; i < nblock; ++i)
+		{
+			final int uc = tt[i] & 0xFF;
+			tt[cftab[uc]++] |= i << 8;
+		}
+
+		// undo the initial run length encoding while walking the bwt
+		int crc = 0xFFFFFFFF;
+		int tPos = tt[origPtr] >>> 8;
+		int last = -1;
+		int count = 0;
+		for (int i = 0; i < nblock; ++i)
+		{
+			final int t = tt[tPos];
+			final int b = t & 0xFF;
+			tPos = t >>> 8;
+
+			if (count == 4)
+			{
+				if (outPos + b > out.length)
+				{
+					throw new IOException("Decompressed data larger than expected " + out.length);
+				}
+				for (int j = 0; j < b; ++j)
+				{
+					out[outPos++] = (byte) last;
+					crc = crc << 8 ^ CRC_TABLE[(crc >>> 24) ^ last];
+				}
+				count = 0;
+				last = -1;
+				continue;
+			}
+
+			if (outPos >= out.length)
+			{
+				throw new IOException("Decompressed data larger than expected " + out.length);
+			}
+			out[outPos++] = (byte) b;
+			crc = crc << 8 ^ CRC_TABLE[(crc >>> 24) ^ b];
+
+			if (b == last)
+			{
+				++count;
+			}
+			else
+			{
+				last = b;
+				count = 1;
+			}
+		}
+
+		if (~crc != blockCrc)
+		{
+			throw new IOException("Block CRC mismatch");
+		}
+		return outPos;
+	}
+
+	private void createDecodeTables(int t, int alphaSize)
+	{
+		int minLen = MAX_CODE_LEN, maxLen = 0;
+		for (int i = 0; i < alphaSize; ++i)
+		{
+			minLen = Math.min(minLen, length[i]);
+			maxLen = Math.max(maxLen, length[i]);
+		}
+		minLens[t] = minLen;
+		maxLens[t] = maxLen;
+
+		final int[] limit = this.limit[t];
+		final int[] base = this.base[t];
+		final int[] perm = this.perm[t];
+		final int[] lookup = this.lookup[t];
+
+		int pp = 0;
+		for (int len = minLen; len <= maxLen; ++len)
+		{
+			for (int sym = 0; sym < alphaSize; ++sym)
+			{
+				if (length[sym] == len)
+				{
+					perm[pp++] = sym;
+				}
+			}
+		}
+
+		Arrays.fill(base, 0);
+		for (int i = 0; i < alphaSize; ++i)
+		{
+			base[length[i] + 1]++;
+		}
+		for (int i = 1; i < base.length; ++i)
+		{
+			base[i] += base[i - 1];
+		}
+
+		Arrays.fill(limit, 0);
+		int vec = 0;
+		for (int len = minLen; len <= maxLen; ++len)
+		{
+			vec += base[len + 1] - base[len];
+			limit[len] = vec - 1;
+			vec <<= 1;
+		}
+		for (int len = minLen + 1; len <= maxLen; ++len)
+		{
+			base[len] = ((limit[len - 1] + 1) << 1) - base[len];
+		}
+
+		// canonical codes are assigned in perm order
+		Arrays.fill(lookup, 0);
+		int code = 0;
+		pp = 0;
+		for (int len = minLen; len <= maxLen; ++len)
+		{
+			for (; pp < alphaSize && length[perm[pp]] == len; ++pp, ++code)
+			{
+				if (len <= LOOKUP_BITS)
+				{
+					final int shift = LOOKUP_BITS - len;
+					final int start = code << shift;
+					final int stop = (code + 1) << shift;
+					if (stop > lookup.length)
+					{
+						// oversubscribed code, leave it to the slow path to reject
+						continue;
+					}
+					Arrays.fill(lookup, start, stop, perm[pp] << 5 | len);
+				}
+			}
+			code <<= 1;
+		}
+	}
+
+	private int bits(int n)
+	{
+		if (bitCount < n)
+		{
+			fill();
+		}
+		bitCount -= n;
+		return (int) (bitBuf >>> bitCount) & ((1 << n) - 1);
+	}
+
+	// reads past the end of the input see zeros, the stream is checked for overrun once it ends
+	private void fill()
+	{
+		while (bitCount <= 56)
+		{
+			final int b = pos < end ? in[pos] & 0xFF : 0;
+			++pos;
+			bitBuf = bitBuf << 8 | b;
+			bitCount += 8;
+		}
+	}
+}
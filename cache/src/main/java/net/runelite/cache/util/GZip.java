@@ -30,11 +30,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
 public class GZip
 {
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -61,4 +70,78 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress {@code bytes[off, off + len)} directly into {@code out}, which must be exactly the
+	 * size of the decompressed data.
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] out) throws IOException
+	{
+		final int end = off + len;
+		if (len < 10 || bytes[off] != 0x1f || bytes[off + 1] != (byte) 0x8b || bytes[off + 2] != 8)
+		{
+			throw new IOException("Not in GZIP format");
+		}
+
+		final int flags = bytes[off + 3];
+		int pos = off + 10;
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((bytes[pos] & 0xff) | (bytes[pos + 1] & 0xff) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+		if (pos > end)
+		{
+			throw new IOException("Truncated GZIP header");
+		}
+
+		final Inflater inflater = INFLATER.get();
+		try
+		{
+			inflater.setInput(bytes, pos, end - pos);
+			int n = 0;
+			while (n < out.length && !inflater.finished())
+			{
+				final int read = inflater.inflate(out, n, out.length - n);
+				if (read == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+				{
+					break;
+				}
+				n += read;
+			}
+
+			if (n != out.length)
+			{
+				throw new IOException("Decompressed " + n + " bytes, expected " + out.length);
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+		finally
+		{
+			inflater.reset();
+		}
+	}
+
+	private static int skipString(byte[] bytes, int pos, int end)
+	{
+		while (pos < end && bytes[pos] != 0)
+		{
+			++pos;
+		}
+		return pos + 1;
+	}
 }
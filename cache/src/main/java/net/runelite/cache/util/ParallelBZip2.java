@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Compresses data with commons-compress one block at a time in parallel, and stitches the
+ * blocks together into a single stream which is identical to compressing it in one go.
+ * <p>
+ * Every bzip2 block is encoded independently of the others; only the stream's combined CRC
+ * depends on every block, and blocks are not byte aligned. The input is split at exactly the
+ * points where {@code BZip2CompressorOutputStream} would end a block, each piece is compressed
+ * as its own single block stream, and the block bits are copied out of each.
+ */
+final class ParallelBZip2
+{
+	// BZip2CompressorOutputStream ends the block once it holds this many run length encoded bytes
+	private static final int ALLOWABLE_BLOCK_SIZE = 100_000 - 20;
+	private static final long EOS_MAGIC = 0x177245385090L;
+
+	private ParallelBZip2()
+	{
+	}
+
+	/**
+	 * @return the compressed data, without the stream header
+	 */
+	static byte[] compress(byte[] data, ForkJoinPool pool) throws IOException
+	{
+		final List<int[]> blocks = split(data);
+		if (blocks.size() <= 1)
+		{
+			return BZip2.compressApache(data, 0, data.length);
+		}
+
+		final List<Callable<byte[]>> tasks = new ArrayList<>(blocks.size());
+		for (int[] block : blocks)
+		{
+			tasks.add(() -> BZip2.compressApache(data, block[0], block[1] - block[0]));
+		}
+
+		final BitWriter writer = new BitWriter(data.length / 4);
+		int combinedCrc = 0;
+		for (Future<byte[]> future : pool.invokeAll(tasks))
+		{
+			final byte[] stream;
+			try
+			{
+				stream = future.get();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+			catch (ExecutionException ex)
+			{
+				throw new IOException(ex.getCause());
+			}
+
+			// the block header is byte aligned at the start of the stream
+			final int blockCrc = (int) readBits(stream, 48, 32);
+			writer.writeBits(stream, blockBits(stream, blockCrc));
+			combinedCrc = (combinedCrc << 1 | combinedCrc >>> 31) ^ blockCrc;
+		}
+
+		writer.write(EOS_MAGIC, 48);
+		writer.write(combinedCrc & 0xFFFFFFFFL, 32);
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Split the input into the ranges which BZip2CompressorOutputStream compresses into each block
+	 */
+	static List<int[]> split(byte[] data)
+	{
+		final List<int[]> blocks = new ArrayList<>();
+		int blockStart = 0;
+		int last = -1;
+		int i = 0;
+		while (i < data.length)
+		{
+			// runs of up to 255 identical bytes are encoded together
+			final byte b = data[i];
+			int j = i + 1;
+			while (j < data.length && data[j] == b && j - i < 255)
+			{
+				++j;
+			}
+
+			if (last >= ALLOWABLE_BLOCK_SIZE)
+			{
+				blocks.add(new int[]{blockStart, i});
+				blockStart = i;
+				last = -1;
+			}
+
+			final int run = j - i;
+			last += run <= 3 ? run : 5;
+			i = j;
+		}
+		blocks.add(new int[]{blockStart, data.length});
+		return blocks;
+	}
+
+	/**
+	 * Find the length of the block in a single block stream, which is followed by the end of stream
+	 * marker, the combined CRC and up to 7 bits of padding
+	 */
+	private static int blockBits(byte[] stream, int blockCrc) throws IOException
+	{
+		final int total = stream.length * 8;
+		for (int pad = 0; pad < 8; ++pad)
+		{
+			final int end = total - pad - 80;
+			if (end > 80 && readBits(stream, end, 48) == EOS_MAGIC && (int) readBits(stream, end + 48, 32) == blockCrc)
+			{
+				return end;
+			}
+		}
+		throw new IOException("Unable to find end of bzip2 block");
+	}
+
+	private static long readBits(byte[] data, int pos, int n)
+	{
+		long v = 0;
+		for (int i = 0; i < n; ++i, ++pos)
+		{
+			v = v << 1 | (data[pos >>> 3] >>> (7 - (pos & 7))) & 1;
+		}
+		return v;
+	}
+
+	private static final class BitWriter
+	{
+		private byte[] buf;
+		private int pos;
+		private long acc;
+		private int count;
+
+		BitWriter(int capacity)
+		{
+			buf = new byte[Math.max(capacity, 64)];
+		}
+
+		void write(long bits, int n)
+		{
+			for (int i = n - 8; i >= 0; i -= 8)
+			{
+				writeByte((int) (bits >>> i) & 0xFF, 8);
+			}
+			if (n % 8 != 0)
+			{
+				writeByte((int) bits & ((1 << n % 8) - 1), n % 8);
+			}
+		}
+
+		/**
+		 * Write the first n bits of data
+		 */
+		void writeBits(byte[] data, int n)
+		{
+			final int bytes = n >>> 3;
+			for (int i = 0; i < bytes; ++i)
+			{
+				writeByte(data[i] & 0xFF, 8);
+			}
+			final int rem = n & 7;
+			if (rem != 0)
+			{
+				writeByte((data[bytes] & 0xFF) >>> (8 - rem), rem);
+			}
+		}
+
+		private void writeByte(int bits, int n)
+		{
+			acc = acc << n | bits;
+			count += n;
+			if (count >= 8)
+			{
+				count -= 8;
+				if (pos == buf.length)
+				{
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+				buf[pos++] = (byte) (acc >>> count);
+			}
+		}
+
+		byte[] toByteArray()
+		{
+			if (count > 0)
+			{
+				writeByte(0, 8 - count);
+			}
+			return Arrays.copyOf(buf, pos);
+		}
+	}
+}
@@ -24,8 +24,9 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 
 public class Xtea
 {
@@ -33,6 +34,8 @@ public class Xtea
 
 	private static final int ROUNDS = 32;
 
+	private static final VarHandle BLOCK = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
 	private final int[] key;
 
 	public Xtea(int[] key)
@@ -42,13 +45,28 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		byte[] out = data.clone();
+		encryptInPlace(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = data.clone();
+		decryptInPlace(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt every whole 8 byte block of {@code data[off, off + len)} in place. Trailing bytes are left as is.
+	 */
+	public void encryptInPlace(byte[] data, int off, int len)
+	{
+		for (int pos = off, end = off + (len & ~7); pos < end; pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			long block = (long) BLOCK.get(data, pos);
+			int v0 = (int) (block >>> 32);
+			int v1 = (int) block;
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +74,20 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			BLOCK.set(data, pos, ((long) v0 << 32) | (v1 & 0xFFFFFFFFL));
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt every whole 8 byte block of {@code data[off, off + len)} in place. Trailing bytes are left as is.
+	 */
+	public void decryptInPlace(byte[] data, int off, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
-		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int pos = off, end = off + (len & ~7); pos < end; pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			long block = (long) BLOCK.get(data, pos);
+			int v0 = (int) (block >>> 32);
+			int v1 = (int) block;
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +95,7 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			BLOCK.set(data, pos, ((long) v0 << 32) | (v1 & 0xFFFFFFFFL));
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 }
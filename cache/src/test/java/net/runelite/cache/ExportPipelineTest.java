@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExportPipelineTest
+{
+	private static final int ITEMS = 50;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testIncremental() throws IOException
+	{
+		File itemDir = folder.newFolder();
+
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+			Archive archive = index.addArchive(ConfigType.ITEM.getId());
+			saveItems(store, archive);
+
+			ExportPipeline.Result first = export(store, itemDir);
+			assertEquals(1, first.getChanged());
+			assertEquals(ITEMS, first.getFiles());
+			assertTrue(new File(itemDir, "0.json").exists());
+			assertTrue(new File(itemDir, "ItemID.java").exists());
+			assertTrue(new File(itemDir, ExportManifest.FILE_NAME).exists());
+
+			// nothing has changed, so nothing is written
+			assertTrue(new File(itemDir, "0.json").delete());
+			ExportPipeline.Result second = export(store, itemDir);
+			assertEquals(0, second.getChanged());
+			assertEquals(0, second.getFiles());
+			assertFalse(new File(itemDir, "0.json").exists());
+
+			archive.setRevision(archive.getRevision() + 1);
+			ExportPipeline.Result third = export(store, itemDir);
+			assertEquals(1, third.getChanged());
+			assertEquals(ITEMS, third.getFiles());
+			assertTrue(new File(itemDir, "0.json").exists());
+		}
+	}
+
+	@Test
+	public void testRemovedItems() throws IOException
+	{
+		File itemDir = folder.newFolder();
+
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+			Archive archive = index.addArchive(ConfigType.ITEM.getId());
+			saveItems(store, archive);
+
+			// exported from a cache which had more items
+			File removed = new File(itemDir, ITEMS + ".json");
+			assertTrue(removed.createNewFile());
+
+			export(store, itemDir);
+			assertFalse(removed.exists());
+			assertTrue(new File(itemDir, (ITEMS - 1) + ".json").exists());
+			assertTrue(new File(itemDir, ExportManifest.FILE_NAME).exists());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSharedDirectory() throws IOException
+	{
+		File dir = folder.newFolder();
+
+		try (Store store = new Store(folder.newFolder()))
+		{
+			store.addIndex(IndexType.CONFIGS.getNumber());
+			new ExportPipeline(store, 2)
+				.items(dir)
+				.npcs(new File(dir, "."));
+		}
+	}
+
+	private static ExportPipeline.Result export(Store store, File dir) throws IOException
+	{
+		List<ExportPipeline.Result> results = new ExportPipeline(store, 2)
+			.items(dir)
+			.run();
+		assertEquals(1, results.size());
+		return results.get(0);
+	}
+
+	private static void saveItems(Store store, Archive archive) throws IOException
+	{
+		Map<Integer, byte[]> items = new HashMap<>();
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			items.put(i, new byte[]{0}); // no opcodes
+		}
+		TestArchives.saveArchive(store, archive, items);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * Writes archives into a store for tests which build their own caches
+ */
+public class TestArchives
+{
+	/**
+	 * Save {@code data} as the only file of {@code archive}
+	 */
+	public static void saveArchive(Store store, Archive archive, byte[] data) throws IOException
+	{
+		saveArchive(store, archive, Map.of(0, data));
+	}
+
+	/**
+	 * Pack {@code contents}, by file id, into {@code archive}, and save it to the store's storage with the archive's compression
+	 */
+	public static void saveArchive(Store store, Archive archive, Map<Integer, byte[]> contents) throws IOException
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[contents.size()];
+		int i = 0;
+		for (Map.Entry<Integer, byte[]> entry : new TreeMap<>(contents).entrySet())
+		{
+			FSFile file = new FSFile(entry.getKey());
+			file.setContents(entry.getValue());
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(entry.getKey());
+			++i;
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+}
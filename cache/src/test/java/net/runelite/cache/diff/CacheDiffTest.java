@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TestArchives;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		Map<Integer, byte[]> oldItems = new TreeMap<>();
+		oldItems.put(1, item("Bronze dagger", 10, 0));
+		oldItems.put(2, item("Iron dagger", 35, 0));
+		oldItems.put(3, item("Steel dagger", 125, 7));
+
+		Map<Integer, byte[]> newItems = new TreeMap<>(oldItems);
+		newItems.remove(1);
+		newItems.put(3, item("Steel dagger", 130, 8));
+		newItems.put(4, item("Black dagger", 240, 0));
+
+		try (Store from = new Store(new FlatStorage(folder.newFolder()));
+			Store to = new Store(new FlatStorage(folder.newFolder())))
+		{
+			saveArchive(from, IndexType.CONFIGS, ConfigType.ITEM.getId(), oldItems);
+			saveArchive(to, IndexType.CONFIGS, ConfigType.ITEM.getId(), newItems);
+
+			// an unchanged config archive, which is never decompressed
+			saveArchive(from, IndexType.CONFIGS, ConfigType.NPC.getId(), oldItems);
+			saveArchive(to, IndexType.CONFIGS, ConfigType.NPC.getId(), oldItems);
+			to.getStorage().store(IndexType.CONFIGS.getNumber(), ConfigType.NPC.getId(), new byte[0]);
+
+			saveArchive(from, IndexType.MODELS, 5, oldItems);
+			saveArchive(to, IndexType.MODELS, 5, newItems);
+
+			List<ArchiveChange> archives = new ArrayList<>();
+			List<DefinitionChange> definitions = new ArrayList<>();
+			new CacheDiff(from, to, executor).diff(new DiffListener()
+			{
+				@Override
+				public void archiveChanged(ArchiveChange change)
+				{
+					archives.add(change);
+				}
+
+				@Override
+				public void definitionChanged(DefinitionChange change)
+				{
+					definitions.add(change);
+				}
+			});
+
+			assertEquals(2, archives.size());
+			assertEquals(IndexType.CONFIGS.getNumber(), archives.get(0).getIndex());
+			assertEquals(ConfigType.ITEM.getId(), archives.get(0).getArchive());
+			assertEquals(IndexType.MODELS.getNumber(), archives.get(1).getIndex());
+			assertEquals(ChangeType.CHANGED, archives.get(1).getChange());
+
+			// item 2 is unchanged
+			assertEquals(3, definitions.size());
+			assertEquals(new DefinitionChange(ConfigType.ITEM, 1, ChangeType.REMOVED, List.of()), definitions.get(0));
+			assertEquals(new DefinitionChange(ConfigType.ITEM, 3, ChangeType.CHANGED, Arrays.asList(
+				new DefinitionChange.FieldChange("cost", 125, 130),
+				new DefinitionChange.FieldChange("params[7]", 1, null),
+				new DefinitionChange.FieldChange("params[8]", null, 1)
+			)), definitions.get(1));
+			assertEquals(new DefinitionChange(ConfigType.ITEM, 4, ChangeType.ADDED, List.of()), definitions.get(2));
+
+			// an index whose container is unchanged is skipped without looking at its archives
+			from.getIndex(IndexType.MODELS).setCrc(42);
+			to.getIndex(IndexType.MODELS).setCrc(42);
+			StringWriter out = new StringWriter();
+			new CacheDiff(from, to, executor).diff(new JsonDiffWriter(out));
+
+			String[] lines = out.toString().split("\n");
+			assertEquals(4, lines.length);
+			assertTrue(lines[0].startsWith("{\"kind\":\"archive\",\"index\":2,\"archive\":10,\"change\":\"CHANGED\""));
+			assertEquals("{\"kind\":\"definition\",\"type\":\"ITEM\",\"id\":4,\"change\":\"ADDED\",\"fields\":[]}", lines[3]);
+		}
+	}
+
+	private static byte[] item(String name, int cost, int param)
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(2);
+		out.writeBytes(name.getBytes(StandardCharsets.ISO_8859_1));
+		out.write(0);
+
+		out.write(12);
+		writeInt(out, cost);
+
+		if (param != 0)
+		{
+			out.write(249);
+			out.write(1); // count
+			out.write(0); // int
+			out.write(param >> 16);
+			out.write(param >> 8);
+			out.write(param);
+			writeInt(out, 1);
+		}
+
+		out.write(0);
+		return out.toByteArray();
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int i)
+	{
+		out.write(i >> 24);
+		out.write(i >> 16);
+		out.write(i >> 8);
+		out.write(i);
+	}
+
+	private static void saveArchive(Store store, IndexType indexType, int archiveId, Map<Integer, byte[]> contents) throws IOException
+	{
+		Index index = store.getIndex(indexType);
+		if (index == null)
+		{
+			index = store.addIndex(indexType.getNumber());
+		}
+		TestArchives.saveArchive(store, index.addArchive(archiveId), contents);
+	}
+}
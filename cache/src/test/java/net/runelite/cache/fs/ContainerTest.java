@@ -25,13 +25,24 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import net.runelite.cache.StoreLocation;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ContainerTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(ContainerTest.class);
 
 	@Test
 	public void testCompress() throws IOException
@@ -52,4 +63,94 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		final int[] keys = {4, 8, 15, 16};
+		final Random random = new Random(42L);
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int length : new int[]{0, 7, 1023, 20000})
+			{
+				final byte[] data = new byte[length];
+				for (int i = 0; i < length; ++i)
+				{
+					data[i] = (byte) random.nextInt(16);
+				}
+
+				for (int[] key : new int[][]{null, keys})
+				{
+					for (int revision : new int[]{-1, 1234})
+					{
+						final Container container = new Container(compression, revision);
+						container.compress(data, key);
+						final byte[] compressed = container.data.clone();
+
+						final Container decompressed = Container.decompress(compressed, key);
+						assertArrayEquals(data, decompressed.data);
+						assertEquals(compression, decompressed.compression);
+						assertEquals(revision, decompressed.revision);
+						assertEquals(container.crc, decompressed.crc);
+						// the source buffer is left untouched
+						assertArrayEquals(container.data, compressed);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final List<byte[]> archives = new ArrayList<>();
+		long compressedBytes = 0;
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+			final Storage storage = store.getStorage();
+			for (Index index : store.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					final byte[] data = storage.loadArchive(archive);
+					if (data == null)
+					{
+						continue;
+					}
+
+					// skip archives which need xtea keys
+					try
+					{
+						Container.decompress(data, null);
+					}
+					catch (IOException | RuntimeException ex)
+					{
+						continue;
+					}
+					archives.add(data);
+					compressedBytes += data.length;
+				}
+			}
+		}
+
+		for (int round = 0; round < 5; ++round)
+		{
+			final long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+			final long start = System.nanoTime();
+			long decompressedBytes = 0;
+			for (byte[] data : archives)
+			{
+				decompressedBytes += Container.decompress(data, null).data.length;
+			}
+			final long elapsed = System.nanoTime() - start;
+			final long allocations = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated;
+
+			logger.info("{} archives, {} bytes -> {} bytes in {}ms ({} MB/s), allocated {} bytes ({}x output)",
+				archives.size(), compressedBytes, decompressedBytes, elapsed / 1_000_000,
+				decompressedBytes * 1000 / Math.max(1, elapsed), allocations,
+				String.format("%.2f", (double) allocations / decompressedBytes));
+		}
+	}
 }
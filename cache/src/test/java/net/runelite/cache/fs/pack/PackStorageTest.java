@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TestArchives;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PackStorageTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackStorageTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testRevisions() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store source = new Store(new FlatStorage(folder.newFolder())))
+		{
+			Random random = new Random(42);
+			for (int i = 0; i < 3; ++i)
+			{
+				Index index = source.addIndex(i);
+				for (int j = 0; j < 20; ++j)
+				{
+					byte[] data = new byte[1000 + random.nextInt(1000)];
+					random.nextBytes(data);
+					TestArchives.saveArchive(source, index.addArchive(j), data);
+				}
+			}
+
+			try (PackStorage a = new PackStorage(root, "a"))
+			{
+				a.copy(source);
+			}
+			long size = packSize(root);
+
+			// change a single archive for the next revision
+			Archive changed = source.findIndex(1).getArchive(7);
+			byte[] data = new byte[1500];
+			random.nextBytes(data);
+			TestArchives.saveArchive(source, changed, data);
+
+			try (PackStorage b = new PackStorage(root, "b"))
+			{
+				b.copy(source);
+			}
+
+			// the new archive and the index container listing it, plus their blob index entries
+			long changedSize = source.getStorage().loadArchive(changed).length;
+			assertTrue(packSize(root) - size < changedSize + 1000);
+			assertEquals(Arrays.asList("a", "b"), PackStorage.listRevisions(root));
+
+			try (Store b = new Store(new PackStorage(root, "b")))
+			{
+				b.load();
+				assertEquals(source, b);
+				for (Index index : source.getIndexes())
+				{
+					for (Archive archive : index.getArchives())
+					{
+						assertArrayEquals(source.getStorage().loadArchive(archive), b.getStorage().loadArchive(archive));
+					}
+				}
+			}
+
+			try (Store a = new Store(new PackStorage(root, "a")))
+			{
+				a.load();
+				Archive old = a.findIndex(1).getArchive(7);
+				assertTrue(old.getCrc() != changed.getCrc());
+				byte[] oldData = a.getStorage().loadArchive(old);
+				assertEquals(old.getCrc(), Container.decompress(oldData, null).crc);
+			}
+		}
+	}
+
+	@Test
+	public void testMissing() throws IOException
+	{
+		try (PackStorage storage = new PackStorage(folder.newFolder(), "empty"))
+		{
+			assertNull(storage.load(0, 0));
+			storage.store(0, 0, new byte[]{1, 2, 3});
+			assertArrayEquals(new byte[]{1, 2, 3}, storage.load(0, 0));
+		}
+	}
+
+	@Test
+	public void testRemoved() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(new PackStorage(root, "a")))
+		{
+			Index first = store.addIndex(0);
+			TestArchives.saveArchive(store, first.addArchive(0), new byte[]{1});
+			TestArchives.saveArchive(store, first.addArchive(1), new byte[]{2});
+			Index second = store.addIndex(1);
+			TestArchives.saveArchive(store, second.addArchive(0), new byte[]{3});
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(root, "a")))
+		{
+			store.load();
+			Index first = store.findIndex(0);
+			first.removeArchive(first.getArchive(1));
+			store.removeIndex(store.findIndex(1));
+			store.save();
+		}
+
+		try (PackStorage storage = new PackStorage(root, "a"))
+		{
+			assertNotNull(storage.load(0, 0));
+			assertNull(storage.load(0, 1));
+			assertNull(storage.load(1, 0));
+			assertNull(storage.load(255, 1));
+		}
+	}
+
+	@Test
+	public void testTornPack() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (PackStorage storage = new PackStorage(root, "a"))
+		{
+			storage.store(0, 0, new byte[]{1, 2, 3});
+			storage.store(0, 1, new byte[]{4, 5, 6});
+		}
+
+		// the blob index reached the disk but the end of the pack did not
+		try (FileChannel pack = FileChannel.open(new File(root, "0.pack").toPath(), StandardOpenOption.WRITE))
+		{
+			pack.truncate(4);
+		}
+
+		try (PackStorage storage = new PackStorage(root, "a"))
+		{
+			storage.store(0, 1, new byte[]{4, 5, 6});
+			assertArrayEquals(new byte[]{4, 5, 6}, storage.load(0, 1));
+		}
+		// only the entry for the first blob survived
+		assertEquals(2 * (32 + 16), new File(root, "blobs.idx").length());
+	}
+
+	@Test
+	public void testSingleWriter() throws IOException
+	{
+		File root = folder.newFolder();
+		try (PackStorage a = new PackStorage(root, "a");
+			PackStorage b = new PackStorage(root, "b"))
+		{
+			a.store(0, 0, new byte[]{1});
+			try
+			{
+				b.store(0, 0, new byte[]{2});
+				fail("expected the blob index to be locked");
+			}
+			catch (IOException ex)
+			{
+				// a holds the lock
+			}
+		}
+
+		// the lock is released on close
+		try (PackStorage b = new PackStorage(root, "b"))
+		{
+			b.store(0, 0, new byte[]{2});
+			assertArrayEquals(new byte[]{2}, b.load(0, 0));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		File root = folder.newFolder();
+
+		long start = System.nanoTime();
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+			try (PackStorage pack = new PackStorage(root, "1"))
+			{
+				pack.copy(store);
+			}
+			long first = packSize(root);
+
+			// the same archives again, which should only add the revision table
+			try (PackStorage pack = new PackStorage(root, "2"))
+			{
+				pack.copy(store);
+			}
+			logger.info("imported twice in {}ms, {} bytes then {} bytes", (System.nanoTime() - start) / 1_000_000, first, packSize(root));
+		}
+
+		for (int i = 0; i < 5; ++i)
+		{
+			start = System.nanoTime();
+			long disk;
+			try (Store store = new Store(StoreLocation.LOCATION))
+			{
+				store.load();
+				disk = System.nanoTime() - start;
+				loadAll(store);
+			}
+			long diskAll = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long pack;
+			try (Store store = new Store(new PackStorage(root, "2")))
+			{
+				store.load();
+				pack = System.nanoTime() - start;
+				loadAll(store);
+			}
+			long packAll = System.nanoTime() - start;
+
+			logger.info("open: disk {}ms pack {}ms, open and load every archive: disk {}ms pack {}ms",
+				disk / 1_000_000, pack / 1_000_000, diskAll / 1_000_000, packAll / 1_000_000);
+		}
+	}
+
+	private static void loadAll(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			for (Archive archive : index.getArchives())
+			{
+				store.getStorage().loadArchive(archive);
+			}
+		}
+	}
+
+	private static long packSize(File root)
+	{
+		long size = 0;
+		for (File file : root.listFiles())
+		{
+			if (!file.getName().endsWith(".rev"))
+			{
+				size += file.length();
+			}
+		}
+		return size;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Random;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BZip2DecoderTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(BZip2DecoderTest.class);
+
+	private final BZip2Decoder decoder = new BZip2Decoder();
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		Random r = new Random(42);
+		byte[] random = new byte[350_000];
+		r.nextBytes(random);
+
+		for (byte[] data : new byte[][]{new byte[0], {1}, "runelite".getBytes(), random, ParallelBZip2Test.runs(r, 1_000_000)})
+		{
+			byte[] compressed = BZip2.compressApache(data);
+
+			// decode from the middle of a larger buffer
+			byte[] buf = new byte[compressed.length + 10];
+			System.arraycopy(compressed, 0, buf, 3, compressed.length);
+
+			byte[] out = new byte[data.length];
+			decoder.decode(buf, 3, compressed.length, out);
+			assertArrayEquals(data, out);
+		}
+	}
+
+	@Test
+	public void testCorrupt() throws IOException
+	{
+		byte[] data = ParallelBZip2Test.runs(new Random(42), 50_000);
+		byte[] compressed = BZip2.compressApache(data);
+
+		expectFailure(compressed, new byte[data.length - 1]);
+		expectFailure(compressed, new byte[data.length + 1]);
+
+		compressed[compressed.length / 2] ^= 0x10;
+		expectFailure(compressed, new byte[data.length]);
+	}
+
+	private void expectFailure(byte[] compressed, byte[] out)
+	{
+		try
+		{
+			decoder.decode(compressed, 0, compressed.length, out);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final byte[] data = ParallelBZip2Test.runs(new Random(42), 4_000_000);
+		final byte[] compressed = BZip2.compressApache(data);
+		final byte[] out = new byte[data.length];
+
+		for (int i = 0; i < 5; ++i)
+		{
+			long start = System.nanoTime();
+			try (InputStream is = new BZip2CompressorInputStream(new SequenceInputStream(
+				new ByteArrayInputStream("BZh1".getBytes()), new ByteArrayInputStream(compressed))))
+			{
+				is.readAllBytes();
+			}
+			long apache = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			decoder.decode(compressed, 0, compressed.length, out);
+			long decoded = System.nanoTime() - start;
+
+			logger.info("decompress {} bytes: apache {}ms decoder {}ms", data.length, apache / 1_000_000, decoded / 1_000_000);
+		}
+	}
+}
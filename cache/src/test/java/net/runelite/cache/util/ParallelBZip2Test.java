@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ParallelBZip2Test
+{
+	private static final Logger logger = LoggerFactory.getLogger(ParallelBZip2Test.class);
+
+	@Test
+	public void testSmall() throws IOException
+	{
+		for (byte[] data : new byte[][]{new byte[0], {1}, "runelite".getBytes()})
+		{
+			assertArrayEquals(BZip2.compressApache(data), ParallelBZip2.compress(data, ForkJoinPool.commonPool()));
+		}
+	}
+
+	@Test
+	public void testRandom() throws IOException
+	{
+		byte[] data = new byte[350_000];
+		new Random(42).nextBytes(data);
+
+		assertTrue(ParallelBZip2.split(data).size() > 1);
+		assertArrayEquals(BZip2.compressApache(data), ParallelBZip2.compress(data, ForkJoinPool.commonPool()));
+	}
+
+	@Test
+	public void testRuns() throws IOException
+	{
+		// runs of every length, including ones longer than the 255 byte runs the encoder splits on
+		for (int seed = 0; seed < 4; ++seed)
+		{
+			byte[] data = runs(new Random(seed), 1_000_000);
+			assertTrue(ParallelBZip2.split(data).size() > 1);
+			assertArrayEquals(BZip2.compressApache(data), ParallelBZip2.compress(data, ForkJoinPool.commonPool()));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final byte[] data = runs(new Random(42), 4_000_000);
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+		for (int i = 0; i < 3; ++i)
+		{
+			long start = System.nanoTime();
+			BZip2.compressApache(data);
+			long apache = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			ParallelBZip2.compress(data, pool);
+			long parallel = System.nanoTime() - start;
+
+			long lib = -1;
+			try
+			{
+				start = System.nanoTime();
+				BZip2.compressLibBZip2(data);
+				lib = System.nanoTime() - start;
+			}
+			catch (UnsatisfiedLinkError ex)
+			{
+				// libbz2 is not installed
+			}
+
+			logger.info("compress {} bytes with {} threads: apache {}ms parallel {}ms libbz2 {}ms",
+				data.length, pool.getParallelism(), apache / 1_000_000, parallel / 1_000_000, lib < 0 ? "-" : lib / 1_000_000);
+		}
+	}
+
+	static byte[] runs(Random r, int size)
+	{
+		byte[] data = new byte[size];
+		int i = 0;
+		while (i < size)
+		{
+			int len = r.nextInt(16) == 0 ? 1 + r.nextInt(600) : 1 + r.nextInt(6);
+			byte b = (byte) r.nextInt(32);
+			for (int j = 0; j < len && i < size; ++j)
+			{
+				data[i++] = b;
+			}
+		}
+		return data;
+	}
+}
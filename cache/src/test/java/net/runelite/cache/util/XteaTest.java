@@ -25,6 +25,7 @@
 package net.runelite.cache.util;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -52,5 +53,13 @@ public class XteaTest
 		byte[] decData = xtea.decrypt(encData, encData.length);
 
 		assertArrayEquals(data, decData);
+
+		// in place, at an offset
+		byte[] buf = new byte[3 + encrypted.length];
+		System.arraycopy(encrypted, 0, buf, 3, encrypted.length);
+		xtea.decryptInPlace(buf, 3, encrypted.length);
+		assertArrayEquals(data, Arrays.copyOfRange(buf, 3, buf.length));
+		xtea.encryptInPlace(buf, 3, data.length);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(buf, 3, buf.length));
 	}
 }
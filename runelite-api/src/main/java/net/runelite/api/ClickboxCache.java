@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A two-way set associative cache of model clickboxes. Computing a clickbox projects every
+ * vertex of the model and unions the bounds of every face, so when neither the
+ * camera nor the model have changed since the last frame the previous result is reused.
+ * <p>
+ * Animated models share their vertex buffers between frames, so in addition to the model
+ * identity the entry is keyed on a hash of every vertex position, which is still far cheaper
+ * than projecting them. Models are held weakly so the cache does not keep models of unloaded
+ * scenes alive.
+ */
+final class ClickboxCache
+{
+	private static final int SIZE = 1024;
+
+	/**
+	 * The camera and viewport a clickbox was computed for
+	 */
+	private static final class Camera
+	{
+		private final boolean gpu;
+		private final int cameraX, cameraY, cameraZ, cameraPitch, cameraYaw;
+		private final double cameraFpX, cameraFpY, cameraFpZ, cameraFpPitch, cameraFpYaw;
+		private final int scale;
+		private final int viewportWidth, viewportHeight, viewportXOffset, viewportYOffset;
+
+		private Camera(Client client)
+		{
+			gpu = client.isGpu();
+			cameraX = client.getCameraX();
+			cameraY = client.getCameraY();
+			cameraZ = client.getCameraZ();
+			cameraPitch = client.getCameraPitch();
+			cameraYaw = client.getCameraYaw();
+			cameraFpX = client.getCameraFpX();
+			cameraFpY = client.getCameraFpY();
+			cameraFpZ = client.getCameraFpZ();
+			cameraFpPitch = client.getCameraFpPitch();
+			cameraFpYaw = client.getCameraFpYaw();
+			scale = client.getScale();
+			viewportWidth = client.getViewportWidth();
+			viewportHeight = client.getViewportHeight();
+			viewportXOffset = client.getViewportXOffset();
+			viewportYOffset = client.getViewportYOffset();
+		}
+
+		/**
+		 * Compare against the client's current camera without capturing it
+		 */
+		private boolean isCurrent(Client client)
+		{
+			if (gpu != client.isGpu()
+				|| scale != client.getScale()
+				|| viewportWidth != client.getViewportWidth() || viewportHeight != client.getViewportHeight()
+				|| viewportXOffset != client.getViewportXOffset() || viewportYOffset != client.getViewportYOffset())
+			{
+				return false;
+			}
+
+			if (gpu)
+			{
+				return cameraFpX == client.getCameraFpX() && cameraFpY == client.getCameraFpY() && cameraFpZ == client.getCameraFpZ()
+					&& cameraFpPitch == client.getCameraFpPitch() && cameraFpYaw == client.getCameraFpYaw();
+			}
+
+			return cameraX == client.getCameraX() && cameraY == client.getCameraY() && cameraZ == client.getCameraZ()
+				&& cameraPitch == client.getCameraPitch() && cameraYaw == client.getCameraYaw();
+		}
+	}
+
+	private static final class Entry
+	{
+		private final WeakReference<Model> model;
+		private final int vertexHash;
+		private final int orientation, x, y, z;
+		private final Camera camera;
+		private final Shape shape;
+
+		private Entry(Model model, int vertexHash, int orientation, int x, int y, int z, Camera camera, Shape shape)
+		{
+			this.model = new WeakReference<>(model);
+			this.vertexHash = vertexHash;
+			this.orientation = orientation;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.camera = camera;
+			this.shape = shape;
+		}
+	}
+
+	/**
+	 * A read only view of a cached clickbox, so callers sharing it can't modify it
+	 */
+	private static final class CachedShape implements Shape
+	{
+		private final Shape shape;
+
+		private CachedShape(Shape shape)
+		{
+			this.shape = shape;
+		}
+
+		@Override
+		public Rectangle getBounds()
+		{
+			return shape.getBounds();
+		}
+
+		@Override
+		public Rectangle2D getBounds2D()
+		{
+			return shape.getBounds2D();
+		}
+
+		@Override
+		public boolean contains(double x, double y)
+		{
+			return shape.contains(x, y);
+		}
+
+		@Override
+		public boolean contains(Point2D p)
+		{
+			return shape.contains(p);
+		}
+
+		@Override
+		public boolean intersects(double x, double y, double w, double h)
+		{
+			return shape.intersects(x, y, w, h);
+		}
+
+		@Override
+		public boolean intersects(Rectangle2D r)
+		{
+			return shape.intersects(r);
+		}
+
+		@Override
+		public boolean contains(double x, double y, double w, double h)
+		{
+			return shape.contains(x, y, w, h);
+		}
+
+		@Override
+		public boolean contains(Rectangle2D r)
+		{
+			return shape.contains(r);
+		}
+
+		@Override
+		public PathIterator getPathIterator(AffineTransform at)
+		{
+			return shape.getPathIterator(at);
+		}
+
+		@Override
+		public PathIterator getPathIterator(AffineTransform at, double flatness)
+		{
+			return shape.getPathIterator(at, flatness);
+		}
+	}
+
+	// entries are immutable, so racing writers at worst evict each other's entry
+	private static final Entry[] entries = new Entry[SIZE];
+
+	static final AtomicLong hits = new AtomicLong();
+	static final AtomicLong misses = new AtomicLong();
+
+	private ClickboxCache()
+	{
+	}
+
+	static Shape get(Client client, WorldView wv, Model model, int orientation, int x, int y, int z)
+	{
+		final int vertexHash = vertexHash(model);
+		final int slot = slot(model, orientation, x, y, z);
+
+		final Entry e0 = entries[slot];
+		if (matches(e0, model, vertexHash, orientation, x, y, z, client))
+		{
+			hits.incrementAndGet();
+			return e0.shape;
+		}
+
+		final Entry e1 = entries[slot + 1];
+		if (matches(e1, model, vertexHash, orientation, x, y, z, client))
+		{
+			hits.incrementAndGet();
+			return e1.shape;
+		}
+
+		misses.incrementAndGet();
+		final Shape clickbox = Perspective.calculateClickbox(client, wv, model, orientation, x, y, z);
+		final Shape shape = clickbox != null ? new CachedShape(clickbox) : null;
+		final Entry entry = new Entry(model, vertexHash, orientation, x, y, z, new Camera(client), shape);
+
+		// prefer replacing an empty entry, one whose model was collected, or one computed for a different camera
+		if (e0 == null || e0.model.get() == null || !e0.camera.isCurrent(client))
+		{
+			entries[slot] = entry;
+		}
+		else
+		{
+			entries[slot + 1] = entry;
+		}
+		return shape;
+	}
+
+	private static boolean matches(Entry e, Model model, int vertexHash, int orientation, int x, int y, int z, Client client)
+	{
+		return e != null
+			&& e.vertexHash == vertexHash
+			&& e.orientation == orientation
+			&& e.x == x && e.y == y && e.z == z
+			&& e.model.get() == model
+			&& e.camera.isCurrent(client);
+	}
+
+	static void clear()
+	{
+		for (int i = 0; i < SIZE; ++i)
+		{
+			entries[i] = null;
+		}
+	}
+
+	private static int slot(Model model, int orientation, int x, int y, int z)
+	{
+		int h = System.identityHashCode(model);
+		h = h * 31 + orientation;
+		h = h * 31 + x;
+		h = h * 31 + y;
+		h = h * 31 + z;
+		h ^= h >>> 16;
+		return h & (SIZE - 2);
+	}
+
+	/**
+	 * Hash every vertex of the model, so that any change to the vertex positions, such as a new
+	 * animation frame, is detected
+	 */
+	private static int vertexHash(Model model)
+	{
+		final int count = model.getVerticesCount();
+		final float[] vx = model.getVerticesX();
+		final float[] vy = model.getVerticesY();
+		final float[] vz = model.getVerticesZ();
+
+		int h = count * 31 + model.getFaceCount();
+		for (int i = 0; i < count; ++i)
+		{
+			h = h * 31 + Float.floatToRawIntBits(vx[i]);
+			h = h * 31 + Float.floatToRawIntBits(vy[i]);
+			h = h * 31 + Float.floatToRawIntBits(vz[i]);
+		}
+		return h;
+	}
+}
@@ -126,22 +126,13 @@ public class Perspective
 			height += wv.getTileHeight(entityLocation.getX(), entityLocation.getY(), wv.getPlane()); // height of we
 			height -= heightOffset;
 
-			WorldView subWv = we.getWorldView();
-			Projection projection = subWv.getCanvasProjection();
-			if (projection == null)
+			ProjectionContext ctx = ProjectionContext.capture(client, we.getWorldView());
+			if (ctx == null)
 			{
 				return null;
 			}
 
-			float[] p = projection.project(point.getX(), height, point.getY());
-			float x0 = p[0], y0 = p[1], z0 = p[2];
-			final int scale = client.getScale();
-			final float pointX = client.getViewportWidth() / 2f + x0 * scale / z0;
-			final float pointY = client.getViewportHeight() / 2f + y0 * scale / z0;
-			return new Point(
-				(int) pointX + client.getViewportXOffset(),
-				(int) pointY + client.getViewportYOffset()
-			);
+			return ctx.toCanvas(point.getX(), point.getY(), height);
 		}
 
 		int tileHeight = getTileHeight(client, point, plane);
@@ -161,7 +152,7 @@ public class Perspective
 	 */
 	public static Point localToCanvas(@Nonnull Client client, int x, int y, int z)
 	{
-		return client.isGpu() ? localToCanvasGpu(client, x, y, z) : localToCanvasCpu(client, x, y, z);
+		return ProjectionContext.capture(client).toCanvas(x, y, z);
 	}
 
 	public static Point localToCanvas(@Nonnull Client client, int worldId, int x, int y, int z)
@@ -175,101 +166,15 @@ public class Perspective
 				return null;
 			}
 
-			WorldView subWv = we.getWorldView();
-			Projection projection = subWv.getCanvasProjection();
-			if (projection == null)
+			ProjectionContext ctx = ProjectionContext.capture(client, we.getWorldView());
+			if (ctx == null)
 			{
 				return null;
 			}
 
-			float[] p = projection.project(x, z, y);
-			float x0 = p[0], y0 = p[1], z0 = p[2];
-			final int scale = client.getScale();
-			final float pointX = client.getViewportWidth() / 2f + x0 * scale / z0;
-			final float pointY = client.getViewportHeight() / 2f + y0 * scale / z0;
-			return new Point(
-				(int) pointX + client.getViewportXOffset(),
-				(int) pointY + client.getViewportYOffset()
-			);
+			return ctx.toCanvas(x, y, z);
 		}
-		return client.isGpu() ? localToCanvasGpu(client, x, y, z) : localToCanvasCpu(client, x, y, z);
-	}
-
-	private static Point localToCanvasCpu(Client client, int x, int y, int z)
-	{
-		if (x >= -ESCENE_OFFSET << LOCAL_COORD_BITS && y >= -ESCENE_OFFSET << LOCAL_COORD_BITS &&
-			x <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS && y <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS)
-		{
-			x -= client.getCameraX();
-			y -= client.getCameraY();
-			z -= client.getCameraZ();
-
-			final int cameraPitch = client.getCameraPitch();
-			final int cameraYaw = client.getCameraYaw();
-
-			final int pitchSin = SINE[cameraPitch];
-			final int pitchCos = COSINE[cameraPitch];
-			final int yawSin = SINE[cameraYaw];
-			final int yawCos = COSINE[cameraYaw];
-
-			final int
-				x1 = x * yawCos + y * yawSin >> 16,
-				y1 = y * yawCos - x * yawSin >> 16,
-				y2 = z * pitchCos - y1 * pitchSin >> 16,
-				z1 = y1 * pitchCos + z * pitchSin >> 16;
-
-			if (z1 >= 50)
-			{
-				final int scale = client.getScale();
-				final int pointX = client.getViewportWidth() / 2 + x1 * scale / z1;
-				final int pointY = client.getViewportHeight() / 2 + y2 * scale / z1;
-				return new Point(
-					pointX + client.getViewportXOffset(),
-					pointY + client.getViewportYOffset()
-				);
-			}
-		}
-
-		return null;
-	}
-
-	private static Point localToCanvasGpu(Client client, int x, int y, int z)
-	{
-		if (x >= -ESCENE_OFFSET << LOCAL_COORD_BITS && y >= -ESCENE_OFFSET << LOCAL_COORD_BITS &&
-			x <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS && y <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS)
-		{
-			final double
-				cameraPitch = client.getCameraFpPitch(),
-				cameraYaw = client.getCameraFpYaw();
-
-			final float
-				fx = x - (float) client.getCameraFpX(),
-				fy = y - (float) client.getCameraFpY(),
-				fz = z - (float) client.getCameraFpZ(),
-				pitchSin = (float) Math.sin(cameraPitch),
-				pitchCos = (float) Math.cos(cameraPitch),
-				yawSin = (float) Math.sin(cameraYaw),
-				yawCos = (float) Math.cos(cameraYaw);
-
-			final float
-				x1 = fx * yawCos + fy * yawSin,
-				y1 = fy * yawCos - fx * yawSin,
-				y2 = fz * pitchCos - y1 * pitchSin,
-				z1 = y1 * pitchCos + fz * pitchSin;
-
-			if (z1 >= 50f)
-			{
-				final int scale = client.getScale();
-				final int pointX = Math.round(client.getViewportWidth() / 2f + x1 * scale / z1);
-				final int pointY = Math.round(client.getViewportHeight() / 2f + y2 * scale / z1);
-				return new Point(
-					pointX + client.getViewportXOffset(),
-					pointY + client.getViewportYOffset()
-				);
-			}
-		}
-
-		return null;
+		return ProjectionContext.capture(client).toCanvas(x, y, z);
 	}
 
 	@Deprecated
@@ -763,28 +668,29 @@ public class Perspective
 		final int nwX = neX;
 		final int nwY = swY;
 
-		final int swHeight = wv.getTileHeight(swX, swY, mapLevel) - heightOffset;
-		final int nwHeight = wv.getTileHeight(nwX, nwY, mapLevel) - heightOffset;
-		final int neHeight = wv.getTileHeight(neX, neY, mapLevel) - heightOffset;
-		final int seHeight = wv.getTileHeight(seX, seY, mapLevel) - heightOffset;
+		final ProjectionContext ctx = ProjectionContext.capture(client, wv);
+		if (ctx == null)
+		{
+			return null;
+		}
 
-		Point p1 = localToCanvas(client, wv.getId(), swX, swY, swHeight);
-		Point p2 = localToCanvas(client, wv.getId(), nwX, nwY, nwHeight);
-		Point p3 = localToCanvas(client, wv.getId(), neX, neY, neHeight);
-		Point p4 = localToCanvas(client, wv.getId(), seX, seY, seHeight);
+		final int[] x = {swX, nwX, neX, seX};
+		final int[] y = {swY, nwY, neY, seY};
+		final int[] z = {
+			wv.getTileHeight(swX, swY, mapLevel) - heightOffset,
+			wv.getTileHeight(nwX, nwY, mapLevel) - heightOffset,
+			wv.getTileHeight(neX, neY, mapLevel) - heightOffset,
+			wv.getTileHeight(seX, seY, mapLevel) - heightOffset
+		};
+		final int[] x2d = new int[4];
+		final int[] y2d = new int[4];
 
-		if (p1 == null || p2 == null || p3 == null || p4 == null)
+		if (ctx.projectPoints(4, x, y, z, x2d, y2d) != 4)
 		{
 			return null;
 		}
 
-		Polygon poly = new Polygon();
-		poly.addPoint(p1.getX(), p1.getY());
-		poly.addPoint(p2.getX(), p2.getY());
-		poly.addPoint(p3.getX(), p3.getY());
-		poly.addPoint(p4.getX(), p4.getY());
-
-		return poly;
+		return new Polygon(x2d, y2d, 4);
 	}
 
 	/**
@@ -955,6 +861,17 @@ public class Perspective
 			return null;
 		}
 
+		if (wv.isTopLevel())
+		{
+			// the returned shape is read only, and may be shared with other callers until the camera or model changes
+			return ClickboxCache.get(client, wv, model, orientation, x, y, z);
+		}
+
+		return calculateClickbox(client, wv, model, orientation, x, y, z);
+	}
+
+	static Shape calculateClickbox(Client client, WorldView wv, Model model, int orientation, int x, int y, int z)
+	{
 		SimplePolygon bounds = calculateAABB(client, wv, model, orientation, x, y, z);
 		if (bounds == null)
 		{
@@ -1000,21 +917,20 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
+		final ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		final float[] xa = scratch.aabbX;
+		final float[] ya = scratch.aabbY;
+		final float[] za = scratch.aabbZ;
 
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		xa[0] = xa[2] = xa[4] = xa[6] = x1;
+		xa[1] = xa[3] = xa[5] = xa[7] = x2;
+		ya[0] = ya[1] = ya[4] = ya[5] = y1;
+		ya[2] = ya[3] = ya[6] = ya[7] = y2;
+		za[0] = za[1] = za[2] = za[3] = z1;
+		za[4] = za[5] = za[6] = za[7] = z2;
+
+		final int[] x2d = scratch.aabbX2d;
+		final int[] y2d = scratch.aabbY2d;
 
 		modelToCanvas(client, wv, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
@@ -1023,8 +939,9 @@ public class Perspective
 
 	private static Shapes<SimplePolygon> calculate2DBounds(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		final int[] x2d = scratch.vertexX2d(m.getVerticesCount());
+		final int[] y2d = scratch.vertexY2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvas(client, wv,
@@ -1036,18 +953,18 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[][] tris = scratch.tris;
+		tris[0] = m.getFaceIndices1();
+		tris[1] = m.getFaceIndices2();
+		tris[2] = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		final List<RectangleUnion.Rectangle> rects = scratch.rects;
+		rects.clear();
 
 		nextTri:
 		for (int tri = 0; tri < m.getFaceCount(); tri++)
@@ -1107,9 +1024,40 @@ public class Perspective
 			rects.add(r);
 		}
 
-		return RectangleUnion.union(rects);
+		final Shapes<SimplePolygon> union = RectangleUnion.union(rects);
+		rects.clear();
+		tris[0] = tris[1] = tris[2] = null;
+		return union;
+	}
+
+	/**
+	 * Per-thread buffers reused between clickbox calculations
+	 */
+	private static final class ClickboxScratch
+	{
+		private final float[] aabbX = new float[8];
+		private final float[] aabbY = new float[8];
+		private final float[] aabbZ = new float[8];
+		private final int[] aabbX2d = new int[8];
+		private final int[] aabbY2d = new int[8];
+		private final int[][] tris = new int[3][];
+		private final List<RectangleUnion.Rectangle> rects = new ArrayList<>();
+		private int[] vertexX2d = new int[0];
+		private int[] vertexY2d = new int[0];
+
+		private int[] vertexX2d(int count)
+		{
+			if (vertexX2d.length < count)
+			{
+				vertexX2d = new int[count];
+				vertexY2d = new int[count];
+			}
+			return vertexX2d;
+		}
 	}
 
+	private static final ThreadLocal<ClickboxScratch> CLICKBOX_SCRATCH = ThreadLocal.withInitial(ClickboxScratch::new);
+
 	/**
 	 * Calculates text position and centers on minimap depending on string length.
 	 *
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static net.runelite.api.Perspective.SINE;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * A snapshot of the camera and viewport used to translate local coordinates
+ * to canvas coordinates.
+ * <p>
+ * The camera is read from the client once when the context is captured, so
+ * projecting many points against the same context avoids re-reading the camera
+ * and recomputing its rotation for every point. The batch methods write into
+ * caller provided arrays, and points which are not on screen are written as
+ * {@link Integer#MIN_VALUE}, matching {@link Perspective#modelToCanvas}.
+ * <p>
+ * A context is only valid for the frame it was captured in, and is not thread safe.
+ */
+public final class ProjectionContext
+{
+	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
+	private static final int SCENE_MIN = -ESCENE_OFFSET << LOCAL_COORD_BITS;
+	private static final int SCENE_MAX = SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS;
+
+	private static final int MODE_CPU = 0;
+	private static final int MODE_GPU = 1;
+	private static final int MODE_PROJECTION = 2;
+
+	private final int mode;
+
+	// integer camera, used by the cpu renderer
+	private final int cameraX, cameraY, cameraZ;
+	private final int pitchSin, pitchCos, yawSin, yawCos;
+
+	// floating point camera, used by the gpu renderer
+	private final float cameraFpX, cameraFpY, cameraFpZ;
+	private final float pitchSinF, pitchCosF, yawSinF, yawCosF;
+
+	// projection of a non top-level worldview
+	private final Projection projection;
+	private final float[] projected;
+
+	private final int scale;
+	private final int viewportWidth, viewportHeight;
+	private final int viewportXOffset, viewportYOffset;
+
+	private int[] scratchX = new int[0];
+	private int[] scratchY = new int[0];
+	private int[] scratchZ = new int[0];
+
+	private ProjectionContext(int mode,
+		int cameraX, int cameraY, int cameraZ, int cameraPitch, int cameraYaw,
+		double cameraFpX, double cameraFpY, double cameraFpZ, double cameraFpPitch, double cameraFpYaw,
+		Projection projection,
+		int scale, int viewportWidth, int viewportHeight, int viewportXOffset, int viewportYOffset)
+	{
+		this.mode = mode;
+		this.cameraX = cameraX;
+		this.cameraY = cameraY;
+		this.cameraZ = cameraZ;
+		this.pitchSin = SINE[cameraPitch];
+		this.pitchCos = COSINE[cameraPitch];
+		this.yawSin = SINE[cameraYaw];
+		this.yawCos = COSINE[cameraYaw];
+		this.cameraFpX = (float) cameraFpX;
+		this.cameraFpY = (float) cameraFpY;
+		this.cameraFpZ = (float) cameraFpZ;
+		this.pitchSinF = (float) Math.sin(cameraFpPitch);
+		this.pitchCosF = (float) Math.cos(cameraFpPitch);
+		this.yawSinF = (float) Math.sin(cameraFpYaw);
+		this.yawCosF = (float) Math.cos(cameraFpYaw);
+		this.projection = projection;
+		this.projected = projection != null ? new float[3] : null;
+		this.scale = scale;
+		this.viewportWidth = viewportWidth;
+		this.viewportHeight = viewportHeight;
+		this.viewportXOffset = viewportXOffset;
+		this.viewportYOffset = viewportYOffset;
+	}
+
+	/**
+	 * Captures the camera of the top level worldview.
+	 *
+	 * @param client the game client
+	 * @return the projection context
+	 */
+	@Nonnull
+	public static ProjectionContext capture(@Nonnull Client client)
+	{
+		if (client.isGpu())
+		{
+			return new ProjectionContext(MODE_GPU,
+				0, 0, 0, 0, 0,
+				client.getCameraFpX(), client.getCameraFpY(), client.getCameraFpZ(), client.getCameraFpPitch(), client.getCameraFpYaw(),
+				null,
+				client.getScale(), client.getViewportWidth(), client.getViewportHeight(), client.getViewportXOffset(), client.getViewportYOffset());
+		}
+
+		return new ProjectionContext(MODE_CPU,
+			client.getCameraX(), client.getCameraY(), client.getCameraZ(), client.getCameraPitch(), client.getCameraYaw(),
+			0, 0, 0, 0, 0,
+			null,
+			client.getScale(), client.getViewportWidth(), client.getViewportHeight(), client.getViewportXOffset(), client.getViewportYOffset());
+	}
+
+	/**
+	 * Captures the camera for the given worldview.
+	 *
+	 * @param client the game client
+	 * @param wv the worldview
+	 * @return the projection context, or null if the worldview has no projection
+	 */
+	@Nullable
+	public static ProjectionContext capture(@Nonnull Client client, @Nonnull WorldView wv)
+	{
+		if (wv.isTopLevel())
+		{
+			return capture(client);
+		}
+
+		Projection projection = wv.getCanvasProjection();
+		if (projection == null)
+		{
+			return null;
+		}
+
+		return new ProjectionContext(MODE_PROJECTION,
+			0, 0, 0, 0, 0,
+			0, 0, 0, 0, 0,
+			projection,
+			client.getScale(), client.getViewportWidth(), client.getViewportHeight(), client.getViewportXOffset(), client.getViewportYOffset());
+	}
+
+	/**
+	 * Creates a context using the integer camera of the software renderer.
+	 */
+	@Nonnull
+	public static ProjectionContext cpu(int cameraX, int cameraY, int cameraZ, int cameraPitch, int cameraYaw,
+		int scale, int viewportWidth, int viewportHeight, int viewportXOffset, int viewportYOffset)
+	{
+		return new ProjectionContext(MODE_CPU,
+			cameraX, cameraY, cameraZ, cameraPitch, cameraYaw,
+			0, 0, 0, 0, 0,
+			null,
+			scale, viewportWidth, viewportHeight, viewportXOffset, viewportYOffset);
+	}
+
+	/**
+	 * Creates a context using the floating point camera of the gpu renderer.
+	 */
+	@Nonnull
+	public static ProjectionContext gpu(double cameraX, double cameraY, double cameraZ, double cameraPitch, double cameraYaw,
+		int scale, int viewportWidth, int viewportHeight, int viewportXOffset, int viewportYOffset)
+	{
+		return new ProjectionContext(MODE_GPU,
+			0, 0, 0, 0, 0,
+			cameraX, cameraY, cameraZ, cameraPitch, cameraYaw,
+			null,
+			scale, viewportWidth, viewportHeight, viewportXOffset, viewportYOffset);
+	}
+
+	/**
+	 * Translates three-dimensional local coordinates to their corresponding
+	 * coordinates on the game screen.
+	 *
+	 * @param x ground coordinate on the x axis
+	 * @param y ground coordinate on the y axis
+	 * @param z height
+	 * @return the canvas point, or null if the point is not in front of the camera
+	 */
+	@Nullable
+	public Point toCanvas(int x, int y, int z)
+	{
+		int[] out = new int[2];
+		if (!project(x, y, z, out, out, 0, 1))
+		{
+			return null;
+		}
+		return new Point(out[0], out[1]);
+	}
+
+	/**
+	 * Translates many local coordinates to canvas coordinates.
+	 *
+	 * @param count number of points
+	 * @param x local x coordinates
+	 * @param y local y coordinates
+	 * @param z heights
+	 * @param outX receives the canvas x coordinates
+	 * @param outY receives the canvas y coordinates
+	 * @return the number of points which were projected
+	 */
+	public int projectPoints(int count, int[] x, int[] y, int[] z, int[] outX, int[] outY)
+	{
+		int visible = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (project(x[i], y[i], z[i], outX, outY, i, i))
+			{
+				++visible;
+			}
+		}
+		return visible;
+	}
+
+	/**
+	 * Translates groups of four local coordinates, such as tile corners, to
+	 * canvas coordinates. A quad which has a corner behind the camera, or which
+	 * lies entirely outside of the viewport, is culled and has all four of its
+	 * corners written as {@link Integer#MIN_VALUE}.
+	 *
+	 * @param count number of quads
+	 * @param x local x coordinates, four per quad
+	 * @param y local y coordinates, four per quad
+	 * @param z heights, four per quad
+	 * @param outX receives the canvas x coordinates, four per quad
+	 * @param outY receives the canvas y coordinates, four per quad
+	 * @return the number of quads which were not culled
+	 */
+	public int projectQuads(int count, int[] x, int[] y, int[] z, int[] outX, int[] outY)
+	{
+		final int vpX1 = viewportXOffset;
+		final int vpY1 = viewportYOffset;
+		final int vpX2 = vpX1 + viewportWidth;
+		final int vpY2 = vpY1 + viewportHeight;
+
+		int visible = 0;
+		for (int quad = 0, i = 0; quad < count; ++quad, i += 4)
+		{
+			boolean ok = project(x[i], y[i], z[i], outX, outY, i, i)
+				& project(x[i + 1], y[i + 1], z[i + 1], outX, outY, i + 1, i + 1)
+				& project(x[i + 2], y[i + 2], z[i + 2], outX, outY, i + 2, i + 2)
+				& project(x[i + 3], y[i + 3], z[i + 3], outX, outY, i + 3, i + 3);
+
+			if (ok)
+			{
+				final int minX = Math.min(Math.min(outX[i], outX[i + 1]), Math.min(outX[i + 2], outX[i + 3]));
+				final int maxX = Math.max(Math.max(outX[i], outX[i + 1]), Math.max(outX[i + 2], outX[i + 3]));
+				final int minY = Math.min(Math.min(outY[i], outY[i + 1]), Math.min(outY[i + 2], outY[i + 3]));
+				final int maxY = Math.max(Math.max(outY[i], outY[i + 1]), Math.max(outY[i + 2], outY[i + 3]));
+				ok = maxX >= vpX1 && minX <= vpX2 && maxY >= vpY1 && minY <= vpY2;
+			}
+
+			if (ok)
+			{
+				++visible;
+			}
+			else
+			{
+				outX[i] = outX[i + 1] = outX[i + 2] = outX[i + 3] = Integer.MIN_VALUE;
+				outY[i] = outY[i + 1] = outY[i + 2] = outY[i + 3] = Integer.MIN_VALUE;
+			}
+		}
+		return visible;
+	}
+
+	/**
+	 * Calculates the canvas polygons of many square areas of tiles. The corners of each area are
+	 * written in the same order as {@link Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int)},
+	 * four per area. Areas which are outside of the scene or not on screen are culled, see
+	 * {@link #projectQuads(int, int[], int[], int[], int[], int[])}.
+	 *
+	 * @param wv the worldview the tiles are in
+	 * @param count number of areas
+	 * @param localX local x coordinates of the area centers
+	 * @param localY local y coordinates of the area centers
+	 * @param size the size of each area in tiles, 1 for single tiles
+	 * @param level the level of the tiles, or -1 for the worldview's plane
+	 * @param heightOffset offset from ground level
+	 * @param outX receives the canvas x coordinates, four per area
+	 * @param outY receives the canvas y coordinates, four per area
+	 * @return the number of areas which were not culled
+	 */
+	public int projectTiles(@Nonnull WorldView wv, int count, int[] localX, int[] localY, int size, int level, int heightOffset, int[] outX, int[] outY)
+	{
+		final int offset = wv.isTopLevel() ? ESCENE_OFFSET : 0;
+		final int escene = offset << 1;
+		final int sizeX = wv.getSizeX() + escene;
+		final int sizeY = wv.getSizeY() + escene;
+		final byte[][][] tileSettings = wv.getScene().getExtendedTileSettings();
+
+		if (level == -1)
+		{
+			level = wv.getPlane();
+		}
+
+		ensureScratch(count * 4);
+		final int[] cx = scratchX, cy = scratchY, cz = scratchZ;
+		final int half = size * LOCAL_TILE_SIZE / 2;
+
+		for (int tile = 0, i = 0; tile < count; ++tile, i += 4)
+		{
+			final int lx = localX[tile];
+			final int ly = localY[tile];
+			final int msx = (lx >> LOCAL_COORD_BITS) + offset;
+			final int msy = (ly >> LOCAL_COORD_BITS) + offset;
+
+			if (msx < 0 || msy < 0 || msx >= sizeX || msy >= sizeY)
+			{
+				// out of scene, place the tile behind the camera so that it is culled
+				cx[i] = cx[i + 1] = cx[i + 2] = cx[i + 3] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			int mapLevel = level;
+			if (level < Constants.MAX_Z - 1 && (tileSettings[1][msx][msy] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				mapLevel = level + 1;
+			}
+
+			final int swX = lx - half, swY = ly - half;
+			final int neX = lx + half, neY = ly + half;
+
+			cx[i] = swX;
+			cy[i] = swY;
+			cx[i + 1] = neX;
+			cy[i + 1] = swY;
+			cx[i + 2] = neX;
+			cy[i + 2] = neY;
+			cx[i + 3] = swX;
+			cy[i + 3] = neY;
+
+			cz[i] = wv.getTileHeight(swX, swY, mapLevel) - heightOffset;
+			cz[i + 1] = wv.getTileHeight(neX, swY, mapLevel) - heightOffset;
+			cz[i + 2] = wv.getTileHeight(neX, neY, mapLevel) - heightOffset;
+			cz[i + 3] = wv.getTileHeight(swX, neY, mapLevel) - heightOffset;
+		}
+
+		return projectQuads(count, cx, cy, cz, outX, outY);
+	}
+
+	/**
+	 * Builds a polygon from the corners of a quad written by {@link #projectQuads}
+	 * or {@link #projectTiles}.
+	 *
+	 * @param outX the canvas x coordinates
+	 * @param outY the canvas y coordinates
+	 * @param quad the index of the quad
+	 * @return the polygon, or null if the quad was culled
+	 */
+	@Nullable
+	public static Polygon toPolygon(int[] outX, int[] outY, int quad)
+	{
+		final int i = quad * 4;
+		if (outX[i] == Integer.MIN_VALUE)
+		{
+			return null;
+		}
+
+		return new Polygon(
+			new int[]{outX[i], outX[i + 1], outX[i + 2], outX[i + 3]},
+			new int[]{outY[i], outY[i + 1], outY[i + 2], outY[i + 3]},
+			4);
+	}
+
+	private boolean project(int x, int y, int z, int[] outX, int[] outY, int xIdx, int yIdx)
+	{
+		switch (mode)
+		{
+			case MODE_CPU:
+				if (x >= SCENE_MIN && y >= SCENE_MIN && x <= SCENE_MAX && y <= SCENE_MAX)
+				{
+					x -= cameraX;
+					y -= cameraY;
+					z -= cameraZ;
+
+					final int
+						x1 = x * yawCos + y * yawSin >> 16,
+						y1 = y * yawCos - x * yawSin >> 16,
+						y2 = z * pitchCos - y1 * pitchSin >> 16,
+						z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+					if (z1 >= 50)
+					{
+						outX[xIdx] = viewportWidth / 2 + x1 * scale / z1 + viewportXOffset;
+						outY[yIdx] = viewportHeight / 2 + y2 * scale / z1 + viewportYOffset;
+						return true;
+					}
+				}
+				break;
+			case MODE_GPU:
+				if (x >= SCENE_MIN && y >= SCENE_MIN && x <= SCENE_MAX && y <= SCENE_MAX)
+				{
+					final float
+						fx = x - cameraFpX,
+						fy = y - cameraFpY,
+						fz = z - cameraFpZ;
+
+					final float
+						x1 = fx * yawCosF + fy * yawSinF,
+						y1 = fy * yawCosF - fx * yawSinF,
+						y2 = fz * pitchCosF - y1 * pitchSinF,
+						z1 = y1 * pitchCosF + fz * pitchSinF;
+
+					if (z1 >= 50f)
+					{
+						outX[xIdx] = Math.round(viewportWidth / 2f + x1 * scale / z1) + viewportXOffset;
+						outY[yIdx] = Math.round(viewportHeight / 2f + y2 * scale / z1) + viewportYOffset;
+						return true;
+					}
+				}
+				break;
+			case MODE_PROJECTION:
+				if (x != Integer.MIN_VALUE)
+				{
+					final float[] p = projection.project(x, z, y, projected);
+					final float x1 = p[0], y1 = p[1], z1 = p[2];
+					final float pointX = viewportWidth / 2f + x1 * scale / z1;
+					final float pointY = viewportHeight / 2f + y1 * scale / z1;
+					outX[xIdx] = (int) pointX + viewportXOffset;
+					outY[yIdx] = (int) pointY + viewportYOffset;
+					return true;
+				}
+				break;
+		}
+
+		outX[xIdx] = Integer.MIN_VALUE;
+		outY[yIdx] = Integer.MIN_VALUE;
+		return false;
+	}
+
+	private void ensureScratch(int size)
+	{
+		if (scratchX.length < size)
+		{
+			scratchX = new int[size];
+			scratchY = new int[size];
+			scratchZ = new int[size];
+		}
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import net.runelite.api.geometry.Shapes;
+import net.runelite.api.geometry.SimplePolygon;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ClickboxCacheTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ClickboxCacheTest.class);
+
+	private final int[] camera = {6400, 1280, -1800, 256, 0};
+	private Client client;
+	private WorldView wv;
+
+	@Before
+	public void before()
+	{
+		ClickboxCache.clear();
+		ClickboxCache.hits.set(0);
+		ClickboxCache.misses.set(0);
+
+		client = stub(Client.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getCameraX":
+					return camera[0];
+				case "getCameraY":
+					return camera[1];
+				case "getCameraZ":
+					return camera[2];
+				case "getCameraPitch":
+					return camera[3];
+				case "getCameraYaw":
+					return camera[4];
+				case "getScale":
+					return 512;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				default:
+					return null;
+			}
+		});
+		wv = stub(WorldView.class, (name, args) -> name.equals("isTopLevel") ? true : null);
+	}
+
+	@Test
+	public void testReuse()
+	{
+		Model model = model(new Random(42), 200);
+
+		Shape first = Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0);
+		assertNotNull(first);
+		assertSame(first, Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0));
+
+		// moving the model, or the camera, invalidates the clickbox
+		assertNotSame(first, Perspective.getClickbox(client, wv, model, 0, 6528, 5120, 0));
+		camera[4] = 16;
+		assertNotSame(first, Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0));
+	}
+
+	@Test
+	public void testReadOnly()
+	{
+		Model model = model(new Random(42), 200);
+
+		Shape shape = Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0);
+		assertFalse(shape instanceof SimplePolygon);
+		assertFalse(shape instanceof Shapes);
+		assertEquals(Perspective.calculateClickbox(client, wv, model, 0, 6400, 5120, 0).getBounds(), shape.getBounds());
+	}
+
+	@Test
+	public void testVertexChange()
+	{
+		Model model = model(new Random(42), 200);
+
+		Shape first = Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0);
+		model.getVerticesX()[0] += 32;
+		Shape second = Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0);
+		assertNotSame(first, second);
+
+		// a single vertex anywhere in the model moving is a new frame
+		model.getVerticesY()[model.getVerticesCount() - 1] -= 1;
+		assertNotSame(second, Perspective.getClickbox(client, wv, model, 0, 6400, 5120, 0));
+	}
+
+	@Test
+	public void testHitCounts()
+	{
+		Model model = model(new Random(7), 50);
+		for (int i = 0; i < 10; ++i)
+		{
+			Perspective.getClickbox(client, wv, model, 512, 6400, 5120, 0);
+		}
+		assertEquals(1, ClickboxCache.misses.get());
+		assertEquals(9, ClickboxCache.hits.get());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int models = 200;
+		final int frames = 500;
+
+		Random r = new Random(42);
+		Model[] m = new Model[models];
+		for (int i = 0; i < models; ++i)
+		{
+			m[i] = model(r, 300);
+		}
+
+		for (boolean moving : new boolean[]{true, false})
+		{
+			before();
+
+			long start = System.nanoTime();
+			for (int frame = 0; frame < frames; ++frame)
+			{
+				if (moving)
+				{
+					camera[4] = frame & 2047;
+				}
+
+				for (int i = 0; i < models; ++i)
+				{
+					Perspective.getClickbox(client, wv, m[i], 0, 4224 + (i % 20) * 256, 3200 + (i / 20) * 256, 0);
+				}
+			}
+			long end = System.nanoTime();
+
+			logger.info("{} camera: {} clickboxes in {}ms, {}us/clickbox, {} hits {} misses",
+				moving ? "moving" : "static", models * frames, (end - start) / 1_000_000,
+				(double) (end - start) / 1000 / (models * frames), ClickboxCache.hits.get(), ClickboxCache.misses.get());
+		}
+	}
+
+	private static Model model(Random r, int vertices)
+	{
+		final int faces = vertices * 2;
+		final float[] vx = new float[vertices], vy = new float[vertices], vz = new float[vertices];
+		for (int i = 0; i < vertices; ++i)
+		{
+			vx[i] = r.nextInt(128) - 64;
+			vy[i] = -r.nextInt(192);
+			vz[i] = r.nextInt(128) - 64;
+		}
+
+		final int[] f1 = new int[faces], f2 = new int[faces], f3 = new int[faces];
+		for (int i = 0; i < faces; ++i)
+		{
+			f1[i] = r.nextInt(vertices);
+			f2[i] = r.nextInt(vertices);
+			f3[i] = r.nextInt(vertices);
+		}
+		final int[] colors = new int[faces];
+
+		final AABB aabb = stub(AABB.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getCenterY":
+					return -96;
+				case "getExtremeY":
+					return 96;
+				case "getExtremeX":
+				case "getExtremeZ":
+					return 64;
+				default:
+					return 0;
+			}
+		});
+
+		return stub(Model.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getVerticesCount":
+					return vertices;
+				case "getVerticesX":
+					return vx;
+				case "getVerticesY":
+					return vy;
+				case "getVerticesZ":
+					return vz;
+				case "getFaceCount":
+					return faces;
+				case "getFaceIndices1":
+					return f1;
+				case "getFaceIndices2":
+					return f2;
+				case "getFaceIndices3":
+					return f3;
+				case "getFaceColors3":
+					return colors;
+				case "getAABB":
+					return aabb;
+				default:
+					return null;
+			}
+		});
+	}
+
+	private interface Answer
+	{
+		Object answer(String name, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Answer answer)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+			}
+
+			Object ret = answer.answer(method.getName(), args);
+			if (ret != null)
+			{
+				return ret;
+			}
+
+			Class<?> rt = method.getReturnType();
+			if (rt == boolean.class)
+			{
+				return false;
+			}
+			else if (rt == int.class)
+			{
+				return 0;
+			}
+			else if (rt == double.class)
+			{
+				return 0d;
+			}
+			return null;
+		});
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import static net.runelite.api.Perspective.LOCAL_HALF_TILE_SIZE;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ProjectionContextTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ProjectionContextTest.class);
+
+	private static final int VIEWPORT_WIDTH = 765;
+	private static final int VIEWPORT_HEIGHT = 503;
+
+	// camera in the south of the scene, facing north and pitched down
+	private static ProjectionContext cpu()
+	{
+		return ProjectionContext.cpu(6400, 1280, -1800, 256, 0, 512, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, 4, 4);
+	}
+
+	private static ProjectionContext gpu()
+	{
+		return ProjectionContext.gpu(6400.5, 1280.5, -1800.5, 256 * Perspective.UNIT, 0, 512, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, 4, 4);
+	}
+
+	@Test
+	public void testBatchMatchesSingle()
+	{
+		for (ProjectionContext ctx : new ProjectionContext[]{cpu(), gpu()})
+		{
+			final int count = 64 * 64;
+			int[] x = new int[count], y = new int[count], z = new int[count];
+			for (int i = 0; i < count; ++i)
+			{
+				x[i] = (i % 64) * LOCAL_TILE_SIZE + 2560;
+				y[i] = (i / 64) * LOCAL_TILE_SIZE + 1280;
+				z[i] = -(i % 7) * 16;
+			}
+
+			int[] outX = new int[count], outY = new int[count];
+			int visible = ctx.projectPoints(count, x, y, z, outX, outY);
+
+			int expectedVisible = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				Point p = ctx.toCanvas(x[i], y[i], z[i]);
+				if (p == null)
+				{
+					assertEquals(Integer.MIN_VALUE, outX[i]);
+					assertEquals(Integer.MIN_VALUE, outY[i]);
+				}
+				else
+				{
+					++expectedVisible;
+					assertEquals(p.getX(), outX[i]);
+					assertEquals(p.getY(), outY[i]);
+				}
+			}
+
+			assertEquals(expectedVisible, visible);
+		}
+	}
+
+	@Test
+	public void testBehindCamera()
+	{
+		ProjectionContext ctx = cpu();
+		assertNull(ctx.toCanvas(6400, -2560, 0));
+		assertNotNull(ctx.toCanvas(6400, 5120, 0));
+	}
+
+	@Test
+	public void testQuadCulling()
+	{
+		ProjectionContext ctx = cpu();
+
+		// one tile in front of the camera, one behind, and one far off to the side
+		int[] centers = {6400, 5120, 6400, -2560, 12800, 2560};
+		int[] x = new int[12], y = new int[12], z = new int[12];
+		for (int tile = 0; tile < 3; ++tile)
+		{
+			fillTile(x, y, tile, centers[tile * 2], centers[tile * 2 + 1]);
+		}
+
+		int[] outX = new int[12], outY = new int[12];
+		assertEquals(1, ctx.projectQuads(3, x, y, z, outX, outY));
+
+		assertNotNull(ProjectionContext.toPolygon(outX, outY, 0));
+		assertNull(ProjectionContext.toPolygon(outX, outY, 1));
+		assertNull(ProjectionContext.toPolygon(outX, outY, 2));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkTiles()
+	{
+		final int tiles = 10_000;
+		int[] x = new int[tiles * 4], y = new int[tiles * 4], z = new int[tiles * 4];
+		for (int tile = 0; tile < tiles; ++tile)
+		{
+			fillTile(x, y, tile, (tile % 100) * LOCAL_TILE_SIZE + LOCAL_HALF_TILE_SIZE, (tile / 100) * LOCAL_TILE_SIZE + LOCAL_HALF_TILE_SIZE);
+		}
+
+		int[] outX = new int[tiles * 4], outY = new int[tiles * 4];
+		for (ProjectionContext ctx : new ProjectionContext[]{cpu(), gpu()})
+		{
+			int visible = 0;
+			for (int i = 0; i < 1000; ++i)
+			{
+				visible = ctx.projectQuads(tiles, x, y, z, outX, outY);
+			}
+
+			final int iterations = 5000;
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				ctx.projectQuads(tiles, x, y, z, outX, outY);
+			}
+			long end = System.nanoTime();
+
+			logger.info("Projected {} tiles ({} visible) in {}us, {}ns/tile",
+				tiles, visible, (end - start) / iterations / 1000, (double) (end - start) / iterations / tiles);
+		}
+	}
+
+	private static void fillTile(int[] x, int[] y, int tile, int centerX, int centerY)
+	{
+		final int i = tile * 4;
+		x[i] = x[i + 3] = centerX - LOCAL_HALF_TILE_SIZE;
+		x[i + 1] = x[i + 2] = centerX + LOCAL_HALF_TILE_SIZE;
+		y[i] = y[i + 1] = centerY - LOCAL_HALF_TILE_SIZE;
+		y[i + 2] = y[i + 3] = centerY + LOCAL_HALF_TILE_SIZE;
+	}
+}
@@ -38,6 +38,7 @@ plugins {
     id("net.runelite.runelite-gradle-plugin.assemble")
     id("net.runelite.runelite-gradle-plugin.index")
     id("net.runelite.runelite-gradle-plugin.jarsign")
+    id("net.runelite.runelite-gradle-plugin.pluginindex")
 }
 
 lombok.version = libs.versions.lombok.get()
@@ -191,6 +192,11 @@ tasks.withType<net.runelite.gradle.index.IndexTask> {
     indexFile = archiveOverlayDirectory.file("index")
 }
 
+tasks.withType<net.runelite.gradle.pluginindex.PluginIndexTask> {
+    pluginPackage = "net.runelite.client.plugins"
+    outputDirectory = file("build/generated/resources/pluginindex")
+}
+
 tasks.processResources {
     inputs.property("projectVersion", project.version)
 
@@ -24,25 +24,87 @@
  */
 package net.runelite.client;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.PluginIndex;
 import net.runelite.client.ui.FontManager;
 
 /**
- * Loads some slow to initialize classes (hopefully) before they are needed to streamline client startup
+ * Loads some slow to initialize classes (hopefully) before they are needed to streamline client startup.
+ * After the known slow initializers have run, the classes named by the spans of the previous
+ * {@link StartupTrace} are loaded, those whose stages took the longest first. If there is no previous
+ * trace, the plugin classes are loaded in index order instead.
  */
+@Slf4j
 @SuppressWarnings({"ResultOfMethodCallIgnored", "unused"})
 class ClassPreloader
 {
 	static void preload()
 	{
-		// This needs to enumerate the system fonts for some reason, and that takes a while
-		FontManager.getRunescapeSmallFont();
+		try (StartupTrace.Span span = StartupTrace.span("preload fonts"))
+		{
+			// This needs to enumerate the system fonts for some reason, and that takes a while
+			FontManager.getRunescapeSmallFont();
+		}
 
-		// This needs to load a timezone database that is mildly large
-		ZoneId.of("Europe/London");
+		try (StartupTrace.Span span = StartupTrace.span("preload timezones"))
+		{
+			// This needs to load a timezone database that is mildly large
+			ZoneId.of("Europe/London");
+		}
 
-		// This just needs to call 20 different DateTimeFormatter constructors, which are slow
-		Object unused = DateTimeFormatter.BASIC_ISO_DATE;
+		try (StartupTrace.Span span = StartupTrace.span("preload date formatters"))
+		{
+			// This just needs to call 20 different DateTimeFormatter constructors, which are slow
+			Object unused = DateTimeFormatter.BASIC_ISO_DATE;
+		}
+
+		try (StartupTrace.Span span = StartupTrace.span("preload classes"))
+		{
+			List<String> classNames = StartupTrace.readClasses(new File(RuneLite.LOGS_DIR, StartupTrace.FILE_NAME));
+			if (classNames.isEmpty())
+			{
+				classNames = readPluginIndex();
+			}
+
+			final ClassLoader classLoader = ClassPreloader.class.getClassLoader();
+			for (String className : classNames)
+			{
+				if (className.isEmpty())
+				{
+					continue;
+				}
+
+				try
+				{
+					Class.forName(className, false, classLoader);
+				}
+				catch (ClassNotFoundException | LinkageError ex)
+				{
+					log.debug("unable to preload {}", className, ex);
+				}
+			}
+		}
+	}
+
+	private static List<String> readPluginIndex()
+	{
+		try
+		{
+			final Map<String, List<String>> index = PluginIndex.read();
+			return index != null ? new ArrayList<>(index.keySet()) : Collections.emptyList();
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to read plugin index", ex);
+			return Collections.emptyList();
+		}
 	}
 }
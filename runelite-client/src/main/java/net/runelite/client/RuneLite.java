@@ -216,8 +216,11 @@ public class RuneLite
 		final OkHttpClient okHttpClient = buildHttpClient(options.has("insecure-skip-tls-verification"));
 		RuneLiteAPI.CLIENT = okHttpClient;
 
-		SplashScreen.init();
-		SplashScreen.stage(0, "Preparing RuneScape", "");
+		try (StartupTrace.Span span = StartupTrace.span("splash screen"))
+		{
+			SplashScreen.init();
+			SplashScreen.stage(0, "Preparing RuneScape", "");
+		}
 
 		try
 		{
@@ -226,7 +229,10 @@ public class RuneLite
 
 			new Thread(() ->
 			{
-				clientLoader.get();
+				try (StartupTrace.Span span = StartupTrace.span("client loader"))
+				{
+					clientLoader.get();
+				}
 				ClassPreloader.preload();
 			}, "Preloader").start();
 
@@ -257,24 +263,30 @@ public class RuneLite
 			log.info("Java VM arguments: {}", String.join(" ", runtime.getInputArguments()));
 
 			final long start = System.currentTimeMillis();
-			injector = Guice.createInjector(new RuneLiteModule(
-				okHttpClient,
-				clientLoader,
-				runtimeConfigLoader,
-				developerMode,
-				options.has("safe-mode"),
-				options.has("disable-telemetry"),
-				options.valueOf(sessionfile),
-				(String) options.valueOf("profile"),
-				options.has(insecureWriteCredentials),
-				options.has("noupdate")
-			));
-
-			injector.getInstance(RuneLite.class).start();
+			try (StartupTrace.Span span = StartupTrace.span("create injector"))
+			{
+				injector = Guice.createInjector(new RuneLiteModule(
+					okHttpClient,
+					clientLoader,
+					runtimeConfigLoader,
+					developerMode,
+					options.has("safe-mode"),
+					options.has("disable-telemetry"),
+					options.valueOf(sessionfile),
+					(String) options.valueOf("profile"),
+					options.has(insecureWriteCredentials),
+					options.has("noupdate")
+				));
+			}
+
+			final RuneLite runelite = injector.getInstance(RuneLite.class);
+			runelite.start();
 
 			final long end = System.currentTimeMillis();
 			final long uptime = runtime.getUptime();
 			log.info("Client initialization took {}ms. Uptime: {}ms", end - start, uptime);
+
+			runelite.startDeferred();
 		}
 		catch (Exception e)
 		{
@@ -286,6 +298,8 @@ public class RuneLite
 		}
 		finally
 		{
+			// stop recording if startup failed before the trace was written
+			StartupTrace.finish();
 			SplashScreen.stop();
 		}
 	}
@@ -304,31 +318,55 @@ public class RuneLite
 		System.setProperty("jagex.disableBouncyCastle", "true");
 		System.setProperty("jagex.userhome", RUNELITE_DIR.getAbsolutePath());
 
-		client.initialize();
+		try (StartupTrace.Span span = StartupTrace.span("client initialize"))
+		{
+			client.initialize();
+		}
 
 		SplashScreen.stage(.57, null, "Loading configuration");
 
 		// Load the session so that the session profiles can be loaded next
-		sessionManager.loadSession();
+		try (StartupTrace.Span span = StartupTrace.span("load session"))
+		{
+			sessionManager.loadSession();
+		}
 
 		// Load user configuration
-		configManager.load();
+		try (StartupTrace.Span span = StartupTrace.span("load configuration"))
+		{
+			configManager.load();
+		}
 
 		// Update check requires ConfigManager to be ready before it runs
-		Updater updater = injector.getInstance(Updater.class);
-		updater.update(); // will exit if an update is in progress
+		try (StartupTrace.Span span = StartupTrace.span("update check"))
+		{
+			Updater updater = injector.getInstance(Updater.class);
+			updater.update(); // will exit if an update is in progress
+		}
 
 		// Load the plugins, but does not start them yet.
 		// This will initialize configuration
-		pluginManager.loadCorePlugins();
-		pluginManager.loadSideLoadPlugins();
-		externalPluginManager.loadExternalPlugins();
+		try (StartupTrace.Span span = StartupTrace.span("load core plugins"))
+		{
+			pluginManager.loadCorePlugins();
+		}
+		try (StartupTrace.Span span = StartupTrace.span("load sideloaded plugins"))
+		{
+			pluginManager.loadSideLoadPlugins();
+		}
+		try (StartupTrace.Span span = StartupTrace.span("load external plugins"))
+		{
+			externalPluginManager.loadExternalPlugins();
+		}
 
 		SplashScreen.stage(.70, null, "Finalizing configuration");
 
 		// Plugins have provided their config, so set default config
 		// to main settings
-		pluginManager.loadDefaultPluginConfiguration(null);
+		try (StartupTrace.Span span = StartupTrace.span("load default plugin configuration"))
+		{
+			pluginManager.loadDefaultPluginConfiguration(null);
+		}
 
 		// Start client session
 		clientSessionManager.start();
@@ -337,7 +375,10 @@ public class RuneLite
 		SplashScreen.stage(.75, null, "Starting core interface");
 
 		// Initialize UI
-		clientUI.init();
+		try (StartupTrace.Span span = StartupTrace.span("client ui init"))
+		{
+			clientUI.init();
+		}
 
 		// Initialize Discord service
 		discordService.init();
@@ -356,13 +397,30 @@ public class RuneLite
 		overlayManager.add(tooltipOverlay.get());
 
 		// Start plugins
-		pluginManager.startPlugins();
+		try (StartupTrace.Span span = StartupTrace.span("start plugins"))
+		{
+			pluginManager.startPlugins();
+		}
 
 		SplashScreen.stop();
 
-		clientUI.show();
+		try (StartupTrace.Span span = StartupTrace.span("client ui show"))
+		{
+			clientUI.show();
+		}
 
 		client.unblockStartup();
+	}
+
+	/**
+	 * Run the parts of startup which are not needed for the client to become interactive
+	 */
+	private void startDeferred()
+	{
+		try (StartupTrace.Span span = StartupTrace.span("start deferred plugins"))
+		{
+			pluginManager.startDeferredPlugins();
+		}
 
 		if (telemetryClient != null)
 		{
@@ -375,6 +433,9 @@ public class RuneLite
 
 		ReflectUtil.queueInjectorAnnotationCacheInvalidation(injector);
 		ReflectUtil.invalidateAnnotationCaches();
+
+		final List<StartupTrace.TraceEvent> trace = StartupTrace.finish();
+		scheduledExecutorService.execute(() -> StartupTrace.write(new File(LOGS_DIR, StartupTrace.FILE_NAME), trace));
 	}
 
 	@VisibleForTesting
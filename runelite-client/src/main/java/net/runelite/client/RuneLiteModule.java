@@ -55,6 +55,7 @@ import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.DeferredEventBus;
@@ -139,14 +140,18 @@ public class RuneLiteModule extends AbstractModule
 
 		bind(Callbacks.class).to(Hooks.class);
 
-		bind(EventBus.class)
-			.toInstance(new EventBus());
-
 		bind(EventBus.class)
 			.annotatedWith(Names.named("Deferred EventBus"))
 			.to(DeferredEventBus.class);
 	}
 
+	@Provides
+	@Singleton
+	EventBus provideEventBus(Metrics metrics)
+	{
+		return new EventBus(metrics);
+	}
+
 	@Provides
 	@Singleton
 	Client provideClient()
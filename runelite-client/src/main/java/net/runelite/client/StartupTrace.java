@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.RuneLiteAPI;
+
+/**
+ * Records how long each stage of client startup takes. Stages are recorded as nested spans
+ * and written out in the Chrome trace event format, so the trace can be opened in chrome://tracing
+ * or Perfetto. Spans may name the class they load or run, and the classes named in the trace from the
+ * previous startup are loaded early by the {@link ClassPreloader}.
+ * <pre>
+ * try (StartupTrace.Span span = StartupTrace.span("load config"))
+ * {
+ *     configManager.load();
+ * }
+ * </pre>
+ */
+@Slf4j
+public class StartupTrace
+{
+	static final String FILE_NAME = "startup-trace.json";
+
+	private static final long ORIGIN = System.nanoTime();
+	private static final String CLASS_ARG = "class";
+	private static final Span NOOP = new Span(null, null);
+
+	private static final List<TraceEvent> events = Collections.synchronizedList(new ArrayList<>());
+	private static volatile boolean recording = true;
+
+	private StartupTrace()
+	{
+	}
+
+	/**
+	 * Start a span on the current thread. Once startup has finished this returns a span which does nothing.
+	 *
+	 * @param name name of the stage
+	 * @return the span, which must be closed once the stage has completed
+	 */
+	public static Span span(String name)
+	{
+		return span(name, null);
+	}
+
+	/**
+	 * Start a span on the current thread for a stage which loads or runs the given class
+	 *
+	 * @param name name of the stage
+	 * @param className binary name of the class
+	 * @return the span, which must be closed once the stage has completed
+	 */
+	public static Span span(String name, String className)
+	{
+		return recording ? new Span(name, className) : NOOP;
+	}
+
+	/**
+	 * Stop recording spans
+	 *
+	 * @return the recorded spans
+	 */
+	static List<TraceEvent> finish()
+	{
+		recording = false;
+		synchronized (events)
+		{
+			return new ArrayList<>(events);
+		}
+	}
+
+	static void write(File file, List<TraceEvent> events)
+	{
+		final Trace trace = new Trace();
+		trace.traceEvents = events;
+
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			RuneLiteAPI.GSON.toJson(trace, writer);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write startup trace", ex);
+		}
+	}
+
+	/**
+	 * Read the classes named by the spans of a previously written trace
+	 *
+	 * @param file trace file
+	 * @return the class names, ordered by the total duration of the spans naming them, longest first
+	 */
+	static List<String> readClasses(File file)
+	{
+		final Map<String, Long> durations = new HashMap<>();
+		if (!file.exists())
+		{
+			return new ArrayList<>();
+		}
+
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			final Trace trace = RuneLiteAPI.GSON.fromJson(reader, Trace.class);
+			if (trace != null && trace.traceEvents != null)
+			{
+				for (TraceEvent event : trace.traceEvents)
+				{
+					final String className = event.args != null ? event.args.get(CLASS_ARG) : null;
+					if (className != null)
+					{
+						durations.merge(className, event.dur, Long::sum);
+					}
+				}
+			}
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.warn("unable to read startup trace", ex);
+		}
+
+		return durations.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+	}
+
+	private static long micros(long nanos)
+	{
+		return TimeUnit.NANOSECONDS.toMicros(nanos - ORIGIN);
+	}
+
+	public static final class Span implements AutoCloseable
+	{
+		private final String name;
+		private final String className;
+		private final long start;
+
+		private Span(String name, String className)
+		{
+			this.name = name;
+			this.className = className;
+			this.start = System.nanoTime();
+		}
+
+		@Override
+		public void close()
+		{
+			if (name == null || !recording)
+			{
+				return;
+			}
+
+			final Thread thread = Thread.currentThread();
+			final TraceEvent event = new TraceEvent();
+			event.name = name;
+			event.ph = "X";
+			event.ts = micros(start);
+			event.dur = micros(System.nanoTime()) - event.ts;
+			event.tid = thread.getId();
+			event.args = new HashMap<>();
+			event.args.put("thread", thread.getName());
+			if (className != null)
+			{
+				event.args.put(CLASS_ARG, className);
+			}
+			events.add(event);
+		}
+	}
+
+	private static class Trace
+	{
+		private List<TraceEvent> traceEvents;
+	}
+
+	static class TraceEvent
+	{
+		String name;
+		String ph;
+		long ts;
+		long dur;
+		int pid;
+		long tid;
+		Map<String, String> args;
+	}
+}
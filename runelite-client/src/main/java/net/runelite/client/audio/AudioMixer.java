@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Software mixer for decoded sounds. Sounds are decoded once to 16-bit stereo PCM in {@link #FORMAT},
+ * and any number of them can play at once, each with its own gain, by summing their samples.
+ */
+class AudioMixer
+{
+	static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+
+	private static final class Voice
+	{
+		private final short[] samples;
+		private final float gain;
+		private int position;
+
+		private Voice(short[] samples, float gain)
+		{
+			this.samples = samples;
+			this.gain = gain;
+		}
+	}
+
+	// guarded by this
+	private final List<Voice> voices = new ArrayList<>();
+
+	/**
+	 * Decode an audio stream to interleaved samples in {@link #FORMAT}
+	 */
+	static short[] decode(InputStream stream) throws IOException, UnsupportedAudioFileException
+	{
+		try (AudioInputStream source = AudioSystem.getAudioInputStream(stream);
+			AudioInputStream pcm = convert(source))
+		{
+			final byte[] bytes = pcm.readAllBytes();
+			final short[] samples = new short[bytes.length / 2 & ~1];
+			ByteBuffer.wrap(bytes)
+				.order(ByteOrder.LITTLE_ENDIAN)
+				.asShortBuffer()
+				.get(samples);
+			return samples;
+		}
+	}
+
+	private static AudioInputStream convert(AudioInputStream source) throws UnsupportedAudioFileException
+	{
+		try
+		{
+			return AudioSystem.getAudioInputStream(FORMAT, source);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			throw new UnsupportedAudioFileException("Unable to convert " + source.getFormat() + " to " + FORMAT);
+		}
+	}
+
+	/**
+	 * Start playing a sound
+	 *
+	 * @param samples decoded samples
+	 * @param gain    linear gain
+	 */
+	synchronized void play(short[] samples, float gain)
+	{
+		voices.add(new Voice(samples, gain));
+		notifyAll();
+	}
+
+	synchronized boolean isIdle()
+	{
+		return voices.isEmpty();
+	}
+
+	/**
+	 * Block until there is a sound to play
+	 */
+	synchronized void awaitVoices() throws InterruptedException
+	{
+		while (voices.isEmpty())
+		{
+			wait();
+		}
+	}
+
+	/**
+	 * Mix the next frames of every playing sound into a buffer, as little endian 16-bit stereo.
+	 * Sounds which finish are removed, and the remainder of the buffer is filled with silence.
+	 *
+	 * @param buf    buffer to write to
+	 * @param frames number of frames to mix
+	 */
+	synchronized void render(byte[] buf, int frames)
+	{
+		final int samples = frames * 2;
+		for (int i = 0; i < samples; ++i)
+		{
+			float sum = 0f;
+			for (int v = 0; v < voices.size(); ++v)
+			{
+				final Voice voice = voices.get(v);
+				final int pos = voice.position + i;
+				if (pos < voice.samples.length)
+				{
+					sum += voice.samples[pos] * voice.gain;
+				}
+			}
+
+			final int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(sum)));
+			buf[i * 2] = (byte) sample;
+			buf[i * 2 + 1] = (byte) (sample >> 8);
+		}
+
+		voices.removeIf(voice ->
+		{
+			voice.position += samples;
+			return voice.position >= voice.samples.length;
+		});
+	}
+}
@@ -24,20 +24,19 @@
  */
 package net.runelite.client.audio;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import javax.inject.Singleton;
-import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.Line;
-import javax.sound.sampled.LineEvent;
 import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
 import javax.sound.sampled.UnsupportedAudioFileException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,13 +44,24 @@ import lombok.extern.slf4j.Slf4j;
  * General audio playback manager.
  * Not all audio formats are supported. Refer to {@link javax.sound.sampled.AudioFileFormat.Type} for a list of
  * formats supported by the sound system.
+ * <p>
+ * Files and resources are decoded once and cached. All sounds are mixed in software onto a single output line,
+ * which is opened on first use and kept open so a gain control persists in output mixing tools.
  */
 @Singleton
 @Slf4j
 public class AudioPlayer
 {
-	// We RETAIN one line in the "open" state at all times so a gain control persists in output mixing tools.
-	private Line prevLine;
+	private static final long MAX_CACHE_BYTES = 32L << 20;
+	// 50ms of audio per write
+	private static final int BUFFER_FRAMES = 2205;
+
+	private final Cache<String, short[]> sounds = CacheBuilder.newBuilder()
+		.maximumWeight(MAX_CACHE_BYTES)
+		.<String, short[]>weigher((key, samples) -> samples.length * 2)
+		.build();
+	private final AudioMixer mixer = new AudioMixer();
+	private SourceDataLine line;
 
 	/**
 	 * Plays an audio stream loaded from a file object.
@@ -62,10 +72,19 @@ public class AudioPlayer
 	public void play(File file, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
+		// a changed file is decoded again
+		final String key = file.getAbsolutePath() + ':' + file.lastModified() + ':' + file.length();
+		short[] samples = sounds.getIfPresent(key);
+		if (samples == null)
 		{
-			play(stream, gain);
+			try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
+			{
+				samples = AudioMixer.decode(stream);
+			}
+			sounds.put(key, samples);
 		}
+
+		play(samples, gain);
 	}
 
 	/**
@@ -78,10 +97,24 @@ public class AudioPlayer
 	public void play(Class<?> c, String path, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(c.getResourceAsStream(path)))
+		final URL url = c.getResource(path);
+		if (url == null)
+		{
+			throw new IOException("Missing audio resource " + path);
+		}
+
+		final String key = url.toString();
+		short[] samples = sounds.getIfPresent(key);
+		if (samples == null)
 		{
-			play(stream, gain);
+			try (BufferedInputStream stream = new BufferedInputStream(url.openStream()))
+			{
+				samples = AudioMixer.decode(stream);
+			}
+			sounds.put(key, samples);
 		}
+
+		play(samples, gain);
 	}
 
 	/**
@@ -93,66 +126,66 @@ public class AudioPlayer
 	public void play(InputStream stream, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (AudioInputStream audio = AudioSystem.getAudioInputStream(stream))
-		{
-			DataLine line = getSelfClosingLine(audio);
-
-			if (gain != 0)
-			{
-				trySetGain(line, gain);
-			}
+		play(AudioMixer.decode(stream), gain);
+	}
 
-			line.start();
-		}
+	private void play(short[] samples, float gain) throws LineUnavailableException
+	{
+		openLine();
+		mixer.play(samples, toLinear(gain));
 	}
 
-	private DataLine getSelfClosingLine(AudioInputStream stream) throws IOException, LineUnavailableException
+	@VisibleForTesting
+	static float toLinear(float gain)
 	{
-		// Clip is convenient because it will just buffer the entire stream with open(audio) rather than us having to
-		// write() to it.
-		Clip clip = AudioSystem.getClip();
+		// match the range of a typical MASTER_GAIN control
+		return (float) Math.pow(10, Math.min(gain, 6f) / 20);
+	}
 
-		try
-		{
-			clip.open(stream);
-		}
-		catch (IOException e)
+	private synchronized void openLine() throws LineUnavailableException
+	{
+		if (line != null)
 		{
-			clip.close();
-			throw e;
+			return;
 		}
 
-		clip.addLineListener(event ->
-		{
-			if (event.getType() != LineEvent.Type.STOP)
-			{
-				return;
-			}
-
-			synchronized (this) // We cut off the old line, and this one becomes the new "retainer".
-			{
-				if (prevLine != null)
-				{
-					prevLine.close();
-				}
-
-				prevLine = clip;
-			}
-		});
+		final SourceDataLine line = AudioSystem.getSourceDataLine(AudioMixer.FORMAT);
+		line.open(AudioMixer.FORMAT, BUFFER_FRAMES * AudioMixer.FORMAT.getFrameSize() * 2);
+		line.start();
+		this.line = line;
 
-		return clip;
+		final Thread thread = new Thread(() -> output(line), "audio-mixer");
+		thread.setDaemon(true);
+		thread.start();
 	}
 
-	private void trySetGain(DataLine line, float gain)
+	private void output(SourceDataLine line)
 	{
+		final byte[] buf = new byte[BUFFER_FRAMES * AudioMixer.FORMAT.getFrameSize()];
 		try
 		{
-			FloatControl control = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-			control.setValue(gain);
+			for (;;)
+			{
+				mixer.awaitVoices();
+				mixer.render(buf, BUFFER_FRAMES);
+				line.write(buf, 0, buf.length);
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
 		}
-		catch (Exception e)
+		catch (RuntimeException ex)
 		{
-			log.warn("Failed to set gain: {}", e.getMessage());
+			log.warn("Audio output failed", ex);
+		}
+		finally
+		{
+			synchronized (this)
+			{
+				line.close();
+				this.line = null;
+			}
 		}
 	}
 }
@@ -31,6 +31,9 @@ import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.metrics.Counter;
+import net.runelite.client.metrics.Histogram;
+import net.runelite.client.metrics.Metrics;
 
 @Singleton
 @Slf4j
@@ -38,10 +41,22 @@ public class ClientThread
 {
 	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
 	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	private final Metrics metrics;
+	private final Histogram taskTimes;
+	private final Counter deferredTasks;
 
 	@Inject
 	private Client client;
 
+	@Inject
+	ClientThread(Metrics metrics)
+	{
+		this.metrics = metrics;
+		taskTimes = metrics.histogram(Metrics.CLIENT_THREAD_TASK);
+		deferredTasks = metrics.counter(Metrics.CLIENT_THREAD_DEFERRED);
+		metrics.gauge(Metrics.CLIENT_THREAD_QUEUE, null, invokes::size);
+	}
+
 	public void invoke(Runnable r)
 	{
 		invoke(() ->
@@ -114,6 +129,7 @@ public class ClientThread
 		{
 			BooleanSupplier r = ir.next();
 			boolean remove = true;
+			final long start = metrics.start();
 			try
 			{
 				remove = r.getAsBoolean();
@@ -126,6 +142,7 @@ public class ClientThread
 			{
 				log.error("Exception in invoke", e);
 			}
+			taskTimes.recordSince(start);
 			if (remove)
 			{
 				ir.remove();
@@ -133,6 +150,7 @@ public class ClientThread
 			else
 			{
 				log.trace("Deferring task {}", r);
+				deferredTasks.increment();
 			}
 		}
 	}
@@ -74,6 +74,8 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.metrics.Histogram;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
@@ -117,12 +119,17 @@ public class Hooks implements Callbacks
 	private final RuntimeConfig runtimeConfig;
 	private final boolean developerMode;
 	private final RenderCallbackManager renderCallbackManager;
+	private final Metrics metrics;
+	private final Histogram frameTimes;
+	private final Histogram drawTimes;
+	private final Histogram tickTimes;
 
 	private Dimension lastStretchedDimensions;
 	private VolatileImage stretchedImage;
 	private Graphics2D stretchedGraphics;
 
 	private long lastCheck;
+	private long lastFrame;
 	private boolean shouldProcessGameTick;
 
 	private static MainBufferProvider lastMainBufferProvider;
@@ -188,7 +195,8 @@ public class Hooks implements Callbacks
 		@Nullable TelemetryClient telemetryClient,
 		@Nullable RuntimeConfig runtimeConfig,
 		@Named("developerMode") final boolean developerMode,
-		RenderCallbackManager renderCallbackManager
+		RenderCallbackManager renderCallbackManager,
+		Metrics metrics
 	)
 	{
 		this.client = client;
@@ -208,6 +216,10 @@ public class Hooks implements Callbacks
 		this.runtimeConfig = runtimeConfig;
 		this.developerMode = developerMode;
 		this.renderCallbackManager = renderCallbackManager;
+		this.metrics = metrics;
+		this.frameTimes = metrics.histogram(Metrics.FRAME_TIME);
+		this.drawTimes = metrics.histogram(Metrics.FRAME_DRAW);
+		this.tickTimes = metrics.histogram(Metrics.GAME_TICK);
 		eventBus.register(this);
 	}
 
@@ -230,12 +242,16 @@ public class Hooks implements Callbacks
 		{
 			shouldProcessGameTick = false;
 
+			final long start = metrics.start();
+
 			deferredEventBus.replay();
 
 			eventBus.post(GAME_TICK);
 
 			int tick = client.getTickCount();
 			client.setTickCount(tick + 1);
+
+			tickTimes.recordSince(start);
 		}
 
 		clientThread.invoke();
@@ -277,6 +293,13 @@ public class Hooks implements Callbacks
 	@Override
 	public void frame()
 	{
+		final long start = metrics.start();
+		if (start != 0L && lastFrame != 0L)
+		{
+			frameTimes.record(start - lastFrame);
+		}
+		lastFrame = start;
+
 		eventBus.post(BEFORE_RENDER);
 	}
 
@@ -379,6 +402,19 @@ public class Hooks implements Callbacks
 
 	@Override
 	public void draw(MainBufferProvider mainBufferProvider, Graphics graphics, int x, int y)
+	{
+		final long start = metrics.start();
+		try
+		{
+			drawFrame(mainBufferProvider, graphics);
+		}
+		finally
+		{
+			drawTimes.recordSince(start);
+		}
+	}
+
+	private void drawFrame(MainBufferProvider mainBufferProvider, Graphics graphics)
 	{
 		if (graphics == null)
 		{
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.api.chat.Duels;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Asynchronous lookups of chat command data. Lookups made within a short window of each other are
+ * de-duplicated and sent together as one batch request, or as concurrent single requests if the
+ * server has no batch endpoint. Results are cached briefly, so a command repeated in a busy chat
+ * is only looked up once.
+ */
+@Slf4j
+@Singleton
+public class BatchedChatClient
+{
+	private static final long WINDOW_MS = 50;
+	private static final long CACHE_TTL_MS = TimeUnit.SECONDS.toMillis(30);
+	private static final int MAX_BATCH = 64;
+
+	private static final String KC = "kc";
+	private static final String PB = "pb";
+	private static final String QP = "qp";
+	private static final String GC = "gc";
+	private static final String DUELS = "duels";
+	private static final String PETS = "pets";
+
+	// CHECKSTYLE:OFF
+	private static final Type PET_LIST = new TypeToken<Set<Integer>>(){}.getType();
+	// CHECKSTYLE:ON
+
+	@Value
+	static class Lookup
+	{
+		String type;
+		String name;
+		/**
+		 * the boss, for kc and pb lookups
+		 */
+		String key;
+	}
+
+	private final OkHttpClient client;
+	private final HttpUrl apiBase;
+	private final Gson gson;
+	private final ScheduledExecutorService scheduledExecutorService;
+	private final long windowMs;
+
+	private final Cache<Lookup, JsonElement> cache = CacheBuilder.newBuilder()
+		.maximumSize(512)
+		.expireAfterWrite(CACHE_TTL_MS, TimeUnit.MILLISECONDS)
+		.build();
+	// lookups which are waiting to be sent or have not completed yet, guarded by this
+	private final Map<Lookup, CompletableFuture<JsonElement>> pending = new HashMap<>();
+	private List<Lookup> batch = new ArrayList<>();
+	private volatile boolean batchSupported = true;
+
+	@Inject
+	private BatchedChatClient(OkHttpClient client, @Named("runelite.api.base") HttpUrl apiBase, Gson gson,
+		ScheduledExecutorService scheduledExecutorService)
+	{
+		this(client, apiBase, gson, scheduledExecutorService, WINDOW_MS);
+	}
+
+	@VisibleForTesting
+	BatchedChatClient(OkHttpClient client, HttpUrl apiBase, Gson gson, ScheduledExecutorService scheduledExecutorService, long windowMs)
+	{
+		this.client = client;
+		this.apiBase = apiBase;
+		this.gson = gson;
+		this.scheduledExecutorService = scheduledExecutorService;
+		this.windowMs = windowMs;
+	}
+
+	public CompletableFuture<Integer> getKc(String username, String boss)
+	{
+		return lookup(new Lookup(KC, username, boss), Integer.class);
+	}
+
+	public CompletableFuture<Double> getPb(String username, String boss)
+	{
+		return lookup(new Lookup(PB, username, boss), Double.class);
+	}
+
+	public CompletableFuture<Integer> getQp(String username)
+	{
+		return lookup(new Lookup(QP, username, null), Integer.class);
+	}
+
+	public CompletableFuture<Integer> getGc(String username)
+	{
+		return lookup(new Lookup(GC, username, null), Integer.class);
+	}
+
+	public CompletableFuture<Duels> getDuels(String username)
+	{
+		return lookup(new Lookup(DUELS, username, null), Duels.class);
+	}
+
+	public CompletableFuture<Set<Integer>> getPetList(String username)
+	{
+		return lookup(new Lookup(PETS, username, null), PET_LIST);
+	}
+
+	/**
+	 * Forget the cached lookups of a player, after their data has been submitted
+	 *
+	 * @param username the player
+	 */
+	public void invalidate(String username)
+	{
+		cache.asMap().keySet().removeIf(lookup -> lookup.name.equals(username));
+	}
+
+	private <T> CompletableFuture<T> lookup(Lookup lookup, Type type)
+	{
+		return lookup(lookup).thenApply(json -> gson.fromJson(json, type));
+	}
+
+	private synchronized CompletableFuture<JsonElement> lookup(Lookup lookup)
+	{
+		final JsonElement cached = cache.getIfPresent(lookup);
+		if (cached != null)
+		{
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		CompletableFuture<JsonElement> future = pending.get(lookup);
+		if (future != null)
+		{
+			return future;
+		}
+
+		future = new CompletableFuture<>();
+		pending.put(lookup, future);
+		batch.add(lookup);
+		if (batch.size() == 1)
+		{
+			scheduledExecutorService.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+		}
+		else if (batch.size() >= MAX_BATCH)
+		{
+			scheduledExecutorService.execute(this::flush);
+		}
+		return future;
+	}
+
+	private void flush()
+	{
+		final List<Lookup> lookups;
+		synchronized (this)
+		{
+			if (batch.isEmpty())
+			{
+				return;
+			}
+
+			lookups = batch;
+			batch = new ArrayList<>();
+		}
+
+		if (lookups.size() > 1 && batchSupported)
+		{
+			sendBatch(lookups);
+		}
+		else
+		{
+			lookups.forEach(this::send);
+		}
+	}
+
+	private void sendBatch(List<Lookup> lookups)
+	{
+		final HttpUrl url = apiBase.newBuilder()
+			.addPathSegment("chat")
+			.addPathSegment("batch")
+			.build();
+
+		final JsonArray body = new JsonArray();
+		for (Lookup lookup : lookups)
+		{
+			final JsonObject o = new JsonObject();
+			o.addProperty("type", lookup.type);
+			o.addProperty("name", lookup.name);
+			o.addProperty("key", lookup.key);
+			body.add(o);
+		}
+
+		final Request request = new Request.Builder()
+			.post(RequestBody.create(RuneLiteAPI.JSON, gson.toJson(body)))
+			.url(url)
+			.build();
+
+		client.newCall(request).enqueue(new Callback()
+		{
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				lookups.forEach(lookup -> fail(lookup, e));
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				try (response)
+				{
+					if (response.code() == 404 || response.code() == 405)
+					{
+						log.debug("Chat batch lookups are unsupported, falling back to single lookups");
+						batchSupported = false;
+						lookups.forEach(BatchedChatClient.this::send);
+						return;
+					}
+
+					if (!response.isSuccessful())
+					{
+						throw new IOException("Unable to look up chat commands: " + response);
+					}
+
+					final JsonArray results = new JsonParser().parse(response.body().charStream()).getAsJsonArray();
+					for (int i = 0; i < lookups.size(); ++i)
+					{
+						final JsonElement result = i < results.size() ? results.get(i) : null;
+						if (result == null || result.isJsonNull())
+						{
+							fail(lookups.get(i), new IOException("No data for " + lookups.get(i)));
+						}
+						else
+						{
+							complete(lookups.get(i), result);
+						}
+					}
+				}
+				catch (IOException | JsonParseException | IllegalStateException ex)
+				{
+					lookups.forEach(lookup -> fail(lookup, ex));
+				}
+			}
+		});
+	}
+
+	private void send(Lookup lookup)
+	{
+		final HttpUrl.Builder url = apiBase.newBuilder()
+			.addPathSegment("chat")
+			.addPathSegment(lookup.type)
+			.addQueryParameter("name", lookup.name);
+		if (lookup.key != null)
+		{
+			url.addQueryParameter("boss", lookup.key);
+		}
+
+		final Request request = new Request.Builder()
+			.url(url.build())
+			.build();
+
+		client.newCall(request).enqueue(new Callback()
+		{
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				fail(lookup, e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				try (response)
+				{
+					if (!response.isSuccessful())
+					{
+						throw new IOException("Unable to look up " + lookup.type + "!");
+					}
+
+					complete(lookup, new JsonParser().parse(response.body().charStream()));
+				}
+				catch (IOException | JsonParseException ex)
+				{
+					fail(lookup, ex);
+				}
+			}
+		});
+	}
+
+	private void complete(Lookup lookup, JsonElement result)
+	{
+		final CompletableFuture<JsonElement> future;
+		synchronized (this)
+		{
+			cache.put(lookup, result);
+			future = pending.remove(lookup);
+		}
+
+		if (future != null)
+		{
+			future.complete(result);
+		}
+	}
+
+	private void fail(Lookup lookup, Throwable ex)
+	{
+		final CompletableFuture<JsonElement> future;
+		synchronized (this)
+		{
+			future = pending.remove(lookup);
+		}
+
+		if (future != null)
+		{
+			future.completeExceptionally(ex);
+		}
+	}
+}
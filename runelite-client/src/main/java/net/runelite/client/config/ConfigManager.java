@@ -770,9 +770,20 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
+	}
+
+	/**
+	 * Get the keys in a config group which start with a prefix
+	 *
+	 * @param group the config group
+	 * @param keyPrefix the key prefix
+	 * @return the matching keys, without the group
+	 */
+	public List<String> getConfigurationKeys(String group, String keyPrefix)
+	{
+		final String prefix = group + "." + keyPrefix;
+		return configProfile.keysWithPrefix(prefix, group.length() + 1);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -785,10 +796,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
-			.collect(Collectors.toList());
+		return rsProfileConfigProfile.keysWithPrefix(prefix, group.length() + profile.length() + 2);
 	}
 
 	public static String getWholeKey(String groupName, String profile, String key)
@@ -1462,13 +1470,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -38,17 +38,18 @@ import java.lang.reflect.Modifier;
 import java.util.Comparator;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.metrics.Histogram;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.util.ReflectUtil;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
 @Slf4j
-@RequiredArgsConstructor
 @ThreadSafe
 public class EventBus
 {
@@ -77,6 +78,10 @@ public class EventBus
 	}
 
 	private final Consumer<Throwable> exceptionHandler;
+	@Nullable
+	private final Metrics metrics;
+	@Nullable
+	private final ClassValue<Histogram> dispatchTimes;
 
 	@Nonnull
 	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
@@ -86,7 +91,34 @@ public class EventBus
 	 */
 	public EventBus()
 	{
-		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e));
+		this((Metrics) null);
+	}
+
+	/**
+	 * Instantiates EventBus with default exception handler, recording dispatch times to {@code metrics}
+	 */
+	public EventBus(@Nullable Metrics metrics)
+	{
+		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e), metrics);
+	}
+
+	public EventBus(Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, null);
+	}
+
+	public EventBus(Consumer<Throwable> exceptionHandler, @Nullable Metrics metrics)
+	{
+		this.exceptionHandler = exceptionHandler;
+		this.metrics = metrics;
+		this.dispatchTimes = metrics == null ? null : new ClassValue<Histogram>()
+		{
+			@Override
+			protected Histogram computeValue(Class<?> type)
+			{
+				return metrics.histogram(Metrics.EVENT_DISPATCH, type.getName());
+			}
+		};
 	}
 
 	/**
@@ -216,6 +248,7 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
+		final long start = metrics != null ? metrics.start() : 0L;
 		for (final Subscriber subscriber : subscribers.get(event.getClass()))
 		{
 			try
@@ -227,5 +260,10 @@ public class EventBus
 				exceptionHandler.accept(e);
 			}
 		}
+
+		if (start != 0L)
+		{
+			dispatchTimes.get(event.getClass()).recordSince(start);
+		}
 	}
 }
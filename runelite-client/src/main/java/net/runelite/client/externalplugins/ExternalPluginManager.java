@@ -28,9 +28,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.hash.Hashing;
-import com.google.common.hash.HashingInputStream;
-import com.google.common.io.Files;
 import com.google.gson.Gson;
 import java.io.File;
 import java.io.IOException;
@@ -48,6 +45,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -66,19 +64,16 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.ui.SplashScreen;
-import net.runelite.client.util.CountingInputStream;
 import net.runelite.client.util.Text;
 import net.runelite.client.util.VerificationException;
-import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
 @Singleton
 @Slf4j
 public class ExternalPluginManager
 {
 	private static final String PLUGIN_LIST_KEY = "externalPlugins";
+	private static final int DOWNLOAD_THREADS = 6;
 	private static Class<? extends Plugin>[] builtinExternals = null;
 
 	@Inject
@@ -90,8 +85,8 @@ public class ExternalPluginManager
 	private final ScheduledExecutorService executor;
 	private final PluginManager pluginManager;
 	private final EventBus eventBus;
-	private final OkHttpClient okHttpClient;
 	private final Gson gson;
+	private final PluginHubDownloader downloader;
 
 	@Inject
 	private ExternalPluginManager(
@@ -109,8 +104,8 @@ public class ExternalPluginManager
 		this.executor = executor;
 		this.pluginManager = pluginManager;
 		this.eventBus = eventBus;
-		this.okHttpClient = okHttpClient;
 		this.gson = gson;
+		this.downloader = new PluginHubDownloader(okHttpClient, externalPluginClient::getJarURL, PluginHubManifest.JarData::getJarFile, DOWNLOAD_THREADS);
 
 		executor.scheduleWithFixedDelay(() -> externalPluginClient.submitPlugins(getInstalledExternalPlugins()),
 			new Random().nextInt(60), 180, TimeUnit.MINUTES);
@@ -181,6 +176,7 @@ public class ExternalPluginManager
 
 			SplashScreen.stage(splashStart, null, "Downloading external plugins");
 			Set<PluginHubManifest.JarData> externalPlugins = new HashSet<>();
+			Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 
 			RuneLite.PLUGINS_DIR.mkdirs();
 
@@ -190,7 +186,6 @@ public class ExternalPluginManager
 				Map<String, PluginHubManifest.JarData> manifests = manifest.getJars()
 					.stream().collect(ImmutableMap.toImmutableMap(PluginHubManifest.JarData::getInternalName, Function.identity()));
 
-				Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 				Set<File> keep = new HashSet<>();
 
 				for (String name : installedIDs)
@@ -224,35 +219,6 @@ public class ExternalPluginManager
 						}
 					}
 				}
-
-				int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
-				int downloaded = 0;
-
-				for (PluginHubManifest.JarData jarData : needsDownload)
-				{
-					HttpUrl url = externalPluginClient.getJarURL(jarData);
-
-					try (Response res = okHttpClient.newCall(new Request.Builder().url(url).build()).execute())
-					{
-						int fdownloaded = downloaded;
-						downloaded += jarData.getJarSize();
-						HashingInputStream his = new HashingInputStream(Hashing.sha256(),
-							new CountingInputStream(res.body().byteStream(), i ->
-								SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
-									null, "Downloading " + jarData.getDisplayName(),
-									i + fdownloaded, toDownload, true)));
-						Files.asByteSink(jarData.getJarFile()).writeFrom(his);
-						if (!PluginHubManifest.HASH_ENCODER.encodeToString(his.hash().asBytes()).equals(jarData.getJarHash()))
-						{
-							throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
-						}
-					}
-					catch (IOException | VerificationException e)
-					{
-						externalPlugins.remove(jarData);
-						log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
-					}
-				}
 			}
 			catch (IOException | VerificationException e)
 			{
@@ -260,8 +226,6 @@ public class ExternalPluginManager
 				return;
 			}
 
-			SplashScreen.stage(splashStart + (splashLength * .8), null, "Starting external plugins");
-
 			// TODO(abex): make sure the plugins get fully removed from the scheduler/eventbus/other managers (iterate and check classloader)
 			Set<PluginHubManifest.JarData> add = new HashSet<>();
 			for (PluginHubManifest.JarData jarData : externalPlugins)
@@ -298,100 +262,134 @@ public class ExternalPluginManager
 				pluginManager.remove(p);
 			}
 
+			SplashScreen.stage(splashStart + (splashLength * .2), null, "Starting external plugins");
+
+			// load the plugins which are already downloaded, then load the others as their downloads complete
 			for (PluginHubManifest.JarData jarData : add)
 			{
-				// I think this can't happen, but just in case
-				if (!jarData.isValid())
+				if (!needsDownload.contains(jarData))
 				{
-					log.warn("Invalid plugin for validated manifest: {}", jarData);
-					continue;
+					loadExternalPlugin(jarData, builtinExternalClasses, startup);
 				}
+			}
+
+			int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
+			AtomicInteger downloaded = new AtomicInteger();
+			try
+			{
+				downloader.download(needsDownload,
+					i -> SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
+						null, "Downloading external plugins", downloaded.addAndGet(i), toDownload, true),
+					jarData ->
+					{
+						if (add.contains(jarData))
+						{
+							loadExternalPlugin(jarData, builtinExternalClasses, startup);
+						}
+					},
+					(jarData, e) -> log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e));
+			}
+			catch (InterruptedException e)
+			{
+				log.warn("Interrupted downloading external plugins", e);
+				Thread.currentThread().interrupt();
+				return;
+			}
 
-				log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
+			if (!startup)
+			{
+				eventBus.post(new ExternalPluginsChanged());
+			}
+		}
+		finally
+		{
+			if (!startup)
+			{
+				SplashScreen.stop();
+			}
+		}
+	}
 
-				List<Plugin> newPlugins = null;
-				try
+	private void loadExternalPlugin(PluginHubManifest.JarData jarData, Set<String> builtinExternalClasses, boolean startup)
+	{
+		// I think this can't happen, but just in case
+		if (!jarData.isValid())
+		{
+			log.warn("Invalid plugin for validated manifest: {}", jarData);
+			return;
+		}
+
+		log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
+
+		List<Plugin> newPlugins = null;
+		try
+		{
+			PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{jarData.getJarFile().toURI().toURL()}, gson);
+			if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
+			{
+				log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
+				return;
+			}
+
+			List<Class<?>> clazzes = new ArrayList<>();
+			for (String className : cl.getStub().getPlugins())
+			{
+				clazzes.add(cl.loadClass(className));
+			}
+
+			List<Plugin> newPlugins2 = newPlugins = pluginManager.loadPlugins(clazzes, null);
+			if (!startup)
+			{
+				pluginManager.loadDefaultPluginConfiguration(newPlugins);
+
+				SwingUtilities.invokeAndWait(() ->
 				{
-					PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{jarData.getJarFile().toURI().toURL()}, gson);
-					if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
+					try
 					{
-						log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
-						continue;
+						for (Plugin p : newPlugins2)
+						{
+							pluginManager.startPlugin(p);
+						}
 					}
-
-					List<Class<?>> clazzes = new ArrayList<>();
-					for (String className : cl.getStub().getPlugins())
+					catch (PluginInstantiationException e)
 					{
-						clazzes.add(cl.loadClass(className));
+						throw new RuntimeException(e);
 					}
-
-					List<Plugin> newPlugins2 = newPlugins = pluginManager.loadPlugins(clazzes, null);
-					if (!startup)
+				});
+			}
+		}
+		catch (ThreadDeath e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			log.warn("Unable to start or load external plugin \"{}\"", jarData.getInternalName(), e);
+			if (newPlugins != null)
+			{
+				for (Plugin p : newPlugins)
+				{
+					try
 					{
-						pluginManager.loadDefaultPluginConfiguration(newPlugins);
-
 						SwingUtilities.invokeAndWait(() ->
 						{
 							try
 							{
-								for (Plugin p : newPlugins2)
-								{
-									pluginManager.startPlugin(p);
-								}
+								pluginManager.stopPlugin(p);
 							}
-							catch (PluginInstantiationException e)
+							catch (Exception e2)
 							{
-								throw new RuntimeException(e);
+								throw new RuntimeException(e2);
 							}
 						});
 					}
-				}
-				catch (ThreadDeath e)
-				{
-					throw e;
-				}
-				catch (Throwable e)
-				{
-					log.warn("Unable to start or load external plugin \"{}\"", jarData.getInternalName(), e);
-					if (newPlugins != null)
+					catch (InterruptedException | InvocationTargetException e2)
 					{
-						for (Plugin p : newPlugins)
-						{
-							try
-							{
-								SwingUtilities.invokeAndWait(() ->
-								{
-									try
-									{
-										pluginManager.stopPlugin(p);
-									}
-									catch (Exception e2)
-									{
-										throw new RuntimeException(e2);
-									}
-								});
-							}
-							catch (InterruptedException | InvocationTargetException e2)
-							{
-								log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
-							}
-							pluginManager.remove(p);
-						}
+						log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
 					}
+					pluginManager.remove(p);
 				}
 			}
-
-			if (!startup)
-			{
-				eventBus.post(new ExternalPluginsChanged());
-			}
-		}
-		finally
-		{
-			if (!startup)
-			{
-				SplashScreen.stop();
-			}
 		}
 	}
 
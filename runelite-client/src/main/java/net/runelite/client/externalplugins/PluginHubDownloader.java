@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.VerificationException;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Downloads plugin hub jars concurrently. Each jar is hashed as it is written, and is
+ * only moved into place once its hash has been verified. Interrupted downloads are left
+ * in a {@code .part} file, and are resumed with a range request on the next attempt.
+ */
+@Slf4j
+class PluginHubDownloader
+{
+	private final OkHttpClient okHttpClient;
+	private final Function<PluginHubManifest.JarData, HttpUrl> jarUrl;
+	private final Function<PluginHubManifest.JarData, File> jarFile;
+	private final int threads;
+
+	PluginHubDownloader(OkHttpClient okHttpClient, Function<PluginHubManifest.JarData, HttpUrl> jarUrl,
+		Function<PluginHubManifest.JarData, File> jarFile, int threads)
+	{
+		this.okHttpClient = okHttpClient;
+		this.jarUrl = jarUrl;
+		this.jarFile = jarFile;
+		this.threads = threads;
+	}
+
+	/**
+	 * Download jars, blocking until every download has completed or failed. As each jar becomes ready it is
+	 * passed to {@code onReady} on the calling thread, while the remaining jars continue downloading.
+	 *
+	 * @param jars the jars to download
+	 * @param progress called with the number of bytes downloaded since the last call, from the download threads
+	 * @param onReady called with each jar once it has been downloaded and verified
+	 * @param onFailed called with each jar which failed to download
+	 */
+	void download(Collection<PluginHubManifest.JarData> jars, IntConsumer progress,
+		Consumer<PluginHubManifest.JarData> onReady, BiConsumer<PluginHubManifest.JarData, Exception> onFailed)
+		throws InterruptedException
+	{
+		if (jars.isEmpty())
+		{
+			return;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, jars.size()),
+			new ThreadFactoryBuilder().setNameFormat("plugin-hub-download-%d").setDaemon(true).build());
+		try
+		{
+			final CompletionService<PluginHubManifest.JarData> completionService = new ExecutorCompletionService<>(executor);
+			final Map<Future<PluginHubManifest.JarData>, PluginHubManifest.JarData> pending = new HashMap<>();
+			for (PluginHubManifest.JarData jarData : jars)
+			{
+				pending.put(completionService.submit(() ->
+				{
+					download(jarData, progress);
+					return jarData;
+				}), jarData);
+			}
+
+			while (!pending.isEmpty())
+			{
+				final Future<PluginHubManifest.JarData> future = completionService.take();
+				final PluginHubManifest.JarData jarData = pending.remove(future);
+				try
+				{
+					future.get();
+				}
+				catch (ExecutionException e)
+				{
+					onFailed.accept(jarData, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+					continue;
+				}
+
+				onReady.accept(jarData);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	void download(PluginHubManifest.JarData jarData, IntConsumer progress) throws IOException, VerificationException
+	{
+		final File file = jarFile.apply(jarData);
+		final File partFile = new File(file.getPath() + ".part");
+
+		long resumeFrom = partFile.length();
+		if (resumeFrom >= jarData.getJarSize())
+		{
+			// the part is either complete and failed verification, or isn't for this jar
+			partFile.delete();
+			resumeFrom = 0;
+		}
+
+		final Request.Builder request = new Request.Builder().url(jarUrl.apply(jarData));
+		if (resumeFrom > 0)
+		{
+			request.header("Range", "bytes=" + resumeFrom + "-");
+		}
+
+		try (Response res = okHttpClient.newCall(request.build()).execute())
+		{
+			if (!res.isSuccessful())
+			{
+				throw new IOException("Unable to download plugin " + jarData.getInternalName() + ": " + res.code());
+			}
+
+			final Hasher hasher = Hashing.sha256().newHasher();
+			final boolean resumed = res.code() == 206;
+			if (resumed)
+			{
+				final String contentRange = res.header("Content-Range");
+				if (contentRange == null || !contentRange.startsWith("bytes " + resumeFrom + "-"))
+				{
+					partFile.delete();
+					throw new IOException("Unexpected content range resuming plugin " + jarData.getInternalName() + ": " + contentRange);
+				}
+
+				log.debug("Resuming download of {} from {} bytes", jarData.getInternalName(), resumeFrom);
+				Files.asByteSource(partFile).copyTo(Funnels.asOutputStream(hasher));
+				progress.accept((int) resumeFrom);
+			}
+
+			final byte[] buf = new byte[8192];
+			try (InputStream in = res.body().byteStream();
+				OutputStream out = new FileOutputStream(partFile, resumed))
+			{
+				int n;
+				while ((n = in.read(buf)) != -1)
+				{
+					hasher.putBytes(buf, 0, n);
+					out.write(buf, 0, n);
+					progress.accept(n);
+				}
+			}
+
+			if (!PluginHubManifest.HASH_ENCODER.encodeToString(hasher.hash().asBytes()).equals(jarData.getJarHash()))
+			{
+				partFile.delete();
+				throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
+			}
+		}
+
+		Files.move(partFile, file);
+	}
+}
@@ -24,8 +24,10 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
@@ -44,18 +46,25 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Named;
 import javax.inject.Singleton;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
+import net.runelite.api.Item;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemContainer;
 import net.runelite.api.SpritePixels;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ItemPricesLoaded;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemPrice;
 
@@ -63,26 +72,24 @@ import net.runelite.http.api.item.ItemPrice;
 @Slf4j
 public class ItemManager
 {
-	@Value
-	private static class ImageKey
-	{
-		private final int itemId;
-		private final int itemQuantity;
-		private final boolean stackable;
-	}
+	/**
+	 * The item image caches are bounded by the memory used by their pixels, rather than
+	 * by their number of entries. An item sprite is 36x32, so this holds about 1800 images.
+	 */
+	private static final long IMAGE_CACHE_BYTES = 8L << 20;
+	private static final long OUTLINE_CACHE_BYTES = 2L << 20;
 
-	@Value
-	private static class OutlineKey
-	{
-		private final int itemId;
-		private final int itemQuantity;
-		private final Color outlineColor;
-	}
+	/**
+	 * Item stack variants are selected by quantity thresholds which are unsigned shorts,
+	 * so when the quantity is not drawn any quantity above this renders identically.
+	 */
+	private static final int MAX_VARIANT_QUANTITY = 0xFFFF;
 
 	private final Client client;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
+	private final EventBus eventBus;
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -96,8 +103,8 @@ public class ItemManager
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
-	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
-	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
+	private final LoadingCache<Long, AsyncBufferedImage> itemImages;
+	private final LoadingCache<Long, BufferedImage> itemOutlines;
 
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
@@ -197,39 +204,61 @@ public class ItemManager
 
 	@Inject
 	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+		ItemClient itemClient, RuneLiteConfig runeLiteConfig, Metrics metrics, EventBus eventBus)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.eventBus = eventBus;
 
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(IMAGE_CACHE_BYTES)
+			.weigher((Long key, AsyncBufferedImage image) -> imageBytes(image))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
-				public AsyncBufferedImage load(ImageKey key) throws Exception
+				public AsyncBufferedImage load(Long key) throws Exception
 				{
-					return loadImage(key.itemId, key.itemQuantity, key.stackable);
+					return loadImage((int) (key >>> 33), (int) (long) key, (key & (1L << 32)) != 0);
 				}
 			});
 
 		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(OUTLINE_CACHE_BYTES)
+			.weigher((Long key, BufferedImage image) -> imageBytes(image))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
-				public BufferedImage load(OutlineKey key) throws Exception
+				public BufferedImage load(Long key) throws Exception
 				{
-					return loadItemOutline(key.itemId, key.itemQuantity, key.outlineColor);
+					return loadItemOutline((int) (key >>> 48), (int) (key >>> 32) & 0xFFFF, new Color((int) (long) key, true));
 				}
 			});
+
+		metrics.gauge(Metrics.ITEM_IMAGE_CACHE, "image_hit", () -> itemImages.stats().hitCount());
+		metrics.gauge(Metrics.ITEM_IMAGE_CACHE, "image_miss", () -> itemImages.stats().missCount());
+		metrics.gauge(Metrics.ITEM_IMAGE_CACHE, "outline_hit", () -> itemOutlines.stats().hitCount());
+		metrics.gauge(Metrics.ITEM_IMAGE_CACHE, "outline_miss", () -> itemOutlines.stats().missCount());
+
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged event)
+	{
+		final int containerId = event.getContainerId();
+		if (containerId == InventoryID.INV || containerId == InventoryID.BANK)
+		{
+			prefetchImages(event.getItemContainer());
+		}
 	}
 
 	private void loadPrices()
@@ -245,6 +274,7 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				eventBus.post(new ItemPricesLoaded());
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -456,25 +486,27 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-		clientThread.invoke(() ->
-		{
-			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
-			{
-				return false;
-			}
-			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
-				stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
-			if (sprite == null)
-			{
-				return false;
-			}
-			sprite.toBufferedImage(img);
-			img.loaded();
-			return true;
-		});
+		clientThread.invoke(() -> drawImage(img, itemId, quantity, stackable));
 		return img;
 	}
 
+	private boolean drawImage(AsyncBufferedImage img, int itemId, int quantity, boolean stackable)
+	{
+		if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			return false;
+		}
+		SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+			stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
+		if (sprite == null)
+		{
+			return false;
+		}
+		sprite.toBufferedImage(img);
+		img.loaded();
+		return true;
+	}
+
 	/**
 	 * Get item sprite image as BufferedImage.
 	 * <p>
@@ -503,9 +535,15 @@ public class ItemManager
 	 */
 	public AsyncBufferedImage getImage(int itemId, int quantity, boolean stackable)
 	{
+		if (itemId < 0)
+		{
+			// outside of the range of the cache key
+			return loadImage(itemId, quantity, stackable);
+		}
+
 		try
 		{
-			return itemImages.get(new ImageKey(itemId, quantity, stackable));
+			return itemImages.get(imageKey(itemId, quantity, stackable));
 		}
 		catch (ExecutionException ex)
 		{
@@ -537,13 +575,101 @@ public class ItemManager
 	 */
 	public BufferedImage getItemOutline(final int itemId, final int itemQuantity, final Color outlineColor)
 	{
+		if ((itemId & ~0xFFFF) != 0)
+		{
+			// outside of the range of the cache key
+			return loadItemOutline(itemId, itemQuantity, outlineColor);
+		}
+
 		try
 		{
-			return itemOutlines.get(new OutlineKey(itemId, itemQuantity, outlineColor));
+			return itemOutlines.get(outlineKey(itemId, itemQuantity, outlineColor));
 		}
 		catch (ExecutionException e)
 		{
 			return null;
 		}
 	}
+
+	/**
+	 * Load the images for the items in a container which are not already cached. All of the
+	 * missing sprites are created in a single pass, so later calls to
+	 * {@link #getImage(int, int, boolean)} for these items return loaded images.
+	 * <p>
+	 * This must be called on the client thread.
+	 *
+	 * @param container the container
+	 */
+	public void prefetchImages(ItemContainer container)
+	{
+		assert client.isClientThread();
+
+		if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			return;
+		}
+
+		for (Item item : container.getItems())
+		{
+			final int itemId = item.getId();
+			if (itemId < 0 || item.getQuantity() <= 0)
+			{
+				continue;
+			}
+
+			final boolean stackable = getItemComposition(itemId).isStackable();
+			final long key = imageKey(itemId, item.getQuantity(), stackable);
+			// asMap() does not count towards the cache statistics
+			if (itemImages.asMap().containsKey(key))
+			{
+				continue;
+			}
+
+			final AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+			if (drawImage(img, itemId, item.getQuantity(), stackable))
+			{
+				itemImages.put(key, img);
+			}
+		}
+	}
+
+	public CacheStats getImageCacheStats()
+	{
+		return itemImages.stats();
+	}
+
+	public CacheStats getOutlineCacheStats()
+	{
+		return itemOutlines.stats();
+	}
+
+	/**
+	 * Pack an item image key into a long: the item id in the upper 31 bits, then the stackable
+	 * flag, then the quantity. Negative ids can't be packed, and aren't cached.
+	 */
+	@VisibleForTesting
+	static long imageKey(int itemId, int quantity, boolean stackable)
+	{
+		if (!stackable)
+		{
+			quantity = Math.min(quantity, MAX_VARIANT_QUANTITY);
+		}
+		return (itemId & 0x7FFFFFFFL) << 33 | (stackable ? 1L << 32 : 0) | (quantity & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Pack an item outline key into a long: the item id in the upper 16 bits, then the
+	 * quantity, then the outline color. Outlines never draw the quantity.
+	 */
+	@VisibleForTesting
+	static long outlineKey(int itemId, int quantity, Color outlineColor)
+	{
+		final int bucket = Math.max(0, Math.min(quantity, MAX_VARIANT_QUANTITY));
+		return (long) (itemId & 0xFFFF) << 48 | (long) bucket << 32 | (outlineColor.getRGB() & 0xFFFFFFFFL);
+	}
+
+	private static int imageBytes(BufferedImage image)
+	{
+		return image.getWidth() * image.getHeight() * 4;
+	}
 }
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import net.runelite.api.widgets.Widget;
+
+/**
+ * A flattened copy of the widget tree. Widgets are stored in pre-order, so the descendants of the
+ * widget at index {@code i} are the widgets at {@code [i + 1, end(i))}. The children of a widget are
+ * ordered static children, then dynamic children, then nested interfaces.
+ * <p>
+ * The arrays are reused each time the snapshot is rebuilt, so a snapshot should only be used on the
+ * client thread, and not retained past the current client thread invocation.
+ *
+ * @see WidgetSnapshotService
+ */
+public final class WidgetSnapshot
+{
+	public static final byte ROOT = 'R';
+	public static final byte STATIC = 'S';
+	public static final byte DYNAMIC = 'D';
+	public static final byte NESTED = 'N';
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private int size;
+	private Widget[] widgets = new Widget[INITIAL_CAPACITY];
+	private int[] ids = new int[INITIAL_CAPACITY];
+	private int[] parents = new int[INITIAL_CAPACITY];
+	private int[] ends = new int[INITIAL_CAPACITY];
+	private byte[] kinds = new byte[INITIAL_CAPACITY];
+	private int[] types = new int[INITIAL_CAPACITY];
+	private boolean[] hidden = new boolean[INITIAL_CAPACITY];
+	private int[] x = new int[INITIAL_CAPACITY];
+	private int[] y = new int[INITIAL_CAPACITY];
+	private int[] width = new int[INITIAL_CAPACITY];
+	private int[] height = new int[INITIAL_CAPACITY];
+	private String[] texts = new String[INITIAL_CAPACITY];
+	private String[] names = new String[INITIAL_CAPACITY];
+	private int[] itemIds = new int[INITIAL_CAPACITY];
+	private int[] itemQuantities = new int[INITIAL_CAPACITY];
+	private int[] spriteIds = new int[INITIAL_CAPACITY];
+	private int[] textColors = new int[INITIAL_CAPACITY];
+
+	// open addressed component id -> index of the first static, nested or root widget with that id
+	private int[] idTable = new int[INITIAL_CAPACITY * 2];
+
+	// pending widgets for the traversal
+	private Widget[] stackWidgets = new Widget[64];
+	private int[] stackParents = new int[64];
+	private byte[] stackKinds = new byte[64];
+
+	/**
+	 * Rebuild the snapshot from the given widget roots
+	 */
+	void build(Widget[] roots)
+	{
+		Arrays.fill(widgets, 0, size, null);
+		Arrays.fill(texts, 0, size, null);
+		Arrays.fill(names, 0, size, null);
+		size = 0;
+
+		int sp = 0;
+		if (roots != null)
+		{
+			for (int i = roots.length - 1; i >= 0; --i)
+			{
+				sp = push(sp, roots[i], -1, ROOT);
+			}
+		}
+
+		while (sp > 0)
+		{
+			--sp;
+			final Widget w = stackWidgets[sp];
+			final int parent = stackParents[sp];
+			final byte kind = stackKinds[sp];
+			stackWidgets[sp] = null;
+
+			final int i = add(w, parent, kind);
+
+			// push in reverse so that the static children are visited first
+			sp = pushAll(sp, w.getNestedChildren(), i, NESTED);
+			sp = pushAll(sp, w.getDynamicChildren(), i, DYNAMIC);
+			sp = pushAll(sp, w.getStaticChildren(), i, STATIC);
+		}
+
+		// in pre-order every descendant follows its ancestor, so walking backwards
+		// finalizes the end of each subtree before it is propagated to the parent
+		for (int i = 0; i < size; ++i)
+		{
+			ends[i] = i + 1;
+		}
+		for (int i = size - 1; i >= 0; --i)
+		{
+			final int parent = parents[i];
+			if (parent >= 0 && ends[i] > ends[parent])
+			{
+				ends[parent] = ends[i];
+			}
+		}
+
+		buildIdTable();
+	}
+
+	private int pushAll(int sp, Widget[] children, int parent, byte kind)
+	{
+		if (children != null)
+		{
+			for (int i = children.length - 1; i >= 0; --i)
+			{
+				sp = push(sp, children[i], parent, kind);
+			}
+		}
+		return sp;
+	}
+
+	private int push(int sp, Widget widget, int parent, byte kind)
+	{
+		if (widget == null)
+		{
+			return sp;
+		}
+
+		if (sp == stackWidgets.length)
+		{
+			stackWidgets = Arrays.copyOf(stackWidgets, sp * 2);
+			stackParents = Arrays.copyOf(stackParents, sp * 2);
+			stackKinds = Arrays.copyOf(stackKinds, sp * 2);
+		}
+
+		stackWidgets[sp] = widget;
+		stackParents[sp] = parent;
+		stackKinds[sp] = kind;
+		return sp + 1;
+	}
+
+	private int add(Widget w, int parent, byte kind)
+	{
+		if (size == widgets.length)
+		{
+			grow();
+		}
+
+		final int i = size++;
+		widgets[i] = w;
+		ids[i] = w.getId();
+		parents[i] = parent;
+		kinds[i] = kind;
+		types[i] = w.getType();
+		hidden[i] = parent == -1 ? w.isHidden() : (hidden[parent] || w.isSelfHidden());
+		final Rectangle bounds = w.getBounds();
+		if (bounds != null)
+		{
+			x[i] = bounds.x;
+			y[i] = bounds.y;
+			width[i] = bounds.width;
+			height[i] = bounds.height;
+		}
+		else
+		{
+			x[i] = y[i] = -1;
+			width[i] = height[i] = 0;
+		}
+		texts[i] = w.getText();
+		names[i] = w.getName();
+		itemIds[i] = w.getItemId();
+		itemQuantities[i] = w.getItemQuantity();
+		spriteIds[i] = w.getSpriteId();
+		textColors[i] = w.getTextColor();
+		return i;
+	}
+
+	private void grow()
+	{
+		final int capacity = widgets.length * 2;
+		widgets = Arrays.copyOf(widgets, capacity);
+		ids = Arrays.copyOf(ids, capacity);
+		parents = Arrays.copyOf(parents, capacity);
+		ends = Arrays.copyOf(ends, capacity);
+		kinds = Arrays.copyOf(kinds, capacity);
+		types = Arrays.copyOf(types, capacity);
+		hidden = Arrays.copyOf(hidden, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		width = Arrays.copyOf(width, capacity);
+		height = Arrays.copyOf(height, capacity);
+		texts = Arrays.copyOf(texts, capacity);
+		names = Arrays.copyOf(names, capacity);
+		itemIds = Arrays.copyOf(itemIds, capacity);
+		itemQuantities = Arrays.copyOf(itemQuantities, capacity);
+		spriteIds = Arrays.copyOf(spriteIds, capacity);
+		textColors = Arrays.copyOf(textColors, capacity);
+		idTable = new int[capacity * 2];
+	}
+
+	private void buildIdTable()
+	{
+		Arrays.fill(idTable, -1);
+		final int mask = idTable.length - 1;
+		for (int i = 0; i < size; ++i)
+		{
+			if (kinds[i] == DYNAMIC)
+			{
+				continue;
+			}
+
+			int slot = hash(ids[i]) & mask;
+			while (idTable[slot] != -1)
+			{
+				if (ids[idTable[slot]] == ids[i])
+				{
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if (idTable[slot] == -1)
+			{
+				idTable[slot] = i;
+			}
+		}
+	}
+
+	private static int hash(int id)
+	{
+		final int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return the index of the static, nested or root widget with the given component id, or -1
+	 */
+	public int indexOf(int componentId)
+	{
+		final int mask = idTable.length - 1;
+		int slot = hash(componentId) & mask;
+		int i;
+		while ((i = idTable[slot]) != -1)
+		{
+			if (ids[i] == componentId)
+			{
+				return i;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the index of the given widget, or -1 if it is not in the snapshot
+	 */
+	public int indexOf(Widget widget)
+	{
+		if (widget == null)
+		{
+			return -1;
+		}
+
+		final int i = indexOf(widget.getId());
+		if (i == -1 || widgets[i] == widget)
+		{
+			return i;
+		}
+
+		// dynamic children share the id of their parent
+		for (int j = i + 1, end = ends[i]; j < end; ++j)
+		{
+			if (widgets[j] == widget)
+			{
+				return j;
+			}
+		}
+		return -1;
+	}
+
+	public Widget getWidget(int i)
+	{
+		return widgets[i];
+	}
+
+	public int getId(int i)
+	{
+		return ids[i];
+	}
+
+	/**
+	 * @return the index of the parent widget, or -1 for roots
+	 */
+	public int getParent(int i)
+	{
+		return parents[i];
+	}
+
+	/**
+	 * @return the index after the last descendant of the widget
+	 */
+	public int getEnd(int i)
+	{
+		return ends[i];
+	}
+
+	/**
+	 * @return one of {@link #ROOT}, {@link #STATIC}, {@link #DYNAMIC} or {@link #NESTED}
+	 */
+	public byte getKind(int i)
+	{
+		return kinds[i];
+	}
+
+	public int getType(int i)
+	{
+		return types[i];
+	}
+
+	/**
+	 * @return if the widget or any of its ancestors are hidden
+	 */
+	public boolean isHidden(int i)
+	{
+		return hidden[i];
+	}
+
+	public int getX(int i)
+	{
+		return x[i];
+	}
+
+	public int getY(int i)
+	{
+		return y[i];
+	}
+
+	public int getWidth(int i)
+	{
+		return width[i];
+	}
+
+	public int getHeight(int i)
+	{
+		return height[i];
+	}
+
+	public String getText(int i)
+	{
+		return texts[i];
+	}
+
+	public String getName(int i)
+	{
+		return names[i];
+	}
+
+	public int getItemId(int i)
+	{
+		return itemIds[i];
+	}
+
+	public int getItemQuantity(int i)
+	{
+		return itemQuantities[i];
+	}
+
+	public int getSpriteId(int i)
+	{
+		return spriteIds[i];
+	}
+
+	public int getTextColor(int i)
+	{
+		return textColors[i];
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.events.CanvasSizeChanged;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.WidgetClosed;
+import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Provides a {@link WidgetSnapshot} of the current widget tree, so that code which needs to search
+ * the widget tree can share one traversal rather than each walking it themselves. The snapshot
+ * is rebuilt on demand after interfaces are loaded, closed or modified by scripts, and at most
+ * once per game tick otherwise.
+ */
+@Singleton
+public class WidgetSnapshotService
+{
+	private final Client client;
+	private final WidgetSnapshot snapshot = new WidgetSnapshot();
+	private boolean dirty = true;
+
+	@Inject
+	private WidgetSnapshotService(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+	}
+
+	/**
+	 * Get the current widget tree. Must be called on the client thread.
+	 */
+	public WidgetSnapshot getSnapshot()
+	{
+		assert client.isClientThread();
+
+		if (dirty)
+		{
+			dirty = false;
+			snapshot.build(client.getWidgetRoots());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Force the snapshot to be rebuilt the next time it is requested, eg. after modifying widgets
+	 */
+	public void invalidate()
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onWidgetLoaded(WidgetLoaded event)
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onWidgetClosed(WidgetClosed event)
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onScriptPostFired(ScriptPostFired event)
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onCanvasSizeChanged(CanvasSizeChanged event)
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		dirty = true;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick event)
+	{
+		dirty = true;
+	}
+}
@@ -24,17 +24,47 @@
  */
 package net.runelite.client.hiscore;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.io.BaseEncoding;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.util.Text;
 
+/**
+ * Looks up player hiscores. Results are cached in memory and on disk; cached results older than
+ * {@link #FRESH_MS} are still returned by {@link #lookup(String, HiscoreEndpoint)} and
+ * {@link #lookupAsync(String, HiscoreEndpoint)} while being refreshed in the background.
+ * Concurrent lookups of the same player share a single request, and requests to each hiscore
+ * host are spaced out by a small worker pool.
+ */
+@Slf4j
 @Singleton
 public class HiscoreManager
 {
@@ -46,20 +76,63 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
-	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
+	@AllArgsConstructor
+	@Data
+	static class CachedResult
+	{
+		/**
+		 * the hiscore, or null if the player was not found
+		 */
+		HiscoreResult result;
+		long fetched;
+	}
+
+	static final long FRESH_MS = TimeUnit.MINUTES.toMillis(10);
+	static final long STALE_MS = TimeUnit.HOURS.toMillis(6);
+
+	private static final File HISCORE_DIR = new File(RuneLite.CACHE_DIR, "hiscore");
+	private static final int WORKERS = 2;
+	private static final int QUEUE_SIZE = 64;
+	private static final long HOST_INTERVAL_MS = 250;
+	private static final long RETRY_MS = TimeUnit.MINUTES.toMillis(1);
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
 	private final HiscoreClient hiscoreClient;
+	private final Gson gson;
+	private final File directory;
+	private final long hostIntervalNanos;
+	private final Cache<HiscoreKey, CachedResult> hiscoreCache = CacheBuilder.newBuilder()
+		.maximumSize(128L)
+		.expireAfterWrite(STALE_MS, TimeUnit.MILLISECONDS)
+		.build();
+	// lookups which recently failed, which lookupAsync does not retry until they expire
+	private final Cache<HiscoreKey, Boolean> failures = CacheBuilder.newBuilder()
+		.expireAfterWrite(RETRY_MS, TimeUnit.MILLISECONDS)
+		.build();
+	private final Map<HiscoreKey, CompletableFuture<CachedResult>> inflight = new ConcurrentHashMap<>();
+	private final Map<String, Long> nextRequest = new HashMap<>();
+	private final ThreadPoolExecutor executor;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(HiscoreClient hiscoreClient, Gson gson)
+	{
+		this(hiscoreClient, gson, HISCORE_DIR, WORKERS, HOST_INTERVAL_MS);
+	}
+
+	@VisibleForTesting
+	HiscoreManager(HiscoreClient hiscoreClient, Gson gson, File directory, int workers, long hostIntervalMs)
 	{
 		this.hiscoreClient = hiscoreClient;
-		hiscoreCache = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+		this.gson = gson;
+		this.directory = directory;
+		this.hostIntervalNanos = TimeUnit.MILLISECONDS.toNanos(hostIntervalMs);
+		executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(QUEUE_SIZE),
+			new ThreadFactoryBuilder()
+				.setNameFormat("hiscore-%d")
+				.setDaemon(true)
+				.build());
+		executor.allowCoreThreadTimeOut(true);
+		executor.execute(this::prune);
 	}
 
 	/**
@@ -72,22 +145,39 @@ public class HiscoreManager
 	 */
 	public HiscoreResult lookup(String username, HiscoreEndpoint endpoint) throws IOException
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		final HiscoreKey key = key(username, endpoint);
+		CachedResult cached = hiscoreCache.getIfPresent(key);
+		if (cached == null)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			cached = read(key);
 		}
 
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
-		if (hiscoreResult == null)
+		if (cached != null && !isExpired(cached))
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			if (!isFresh(cached))
+			{
+				refresh(key, username);
+			}
+			return cached.result;
 		}
 
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
+		try
+		{
+			return refresh(key, username).get().result;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted looking up hiscore");
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
 	}
 
 	/**
@@ -99,14 +189,234 @@ public class HiscoreManager
 	 */
 	public HiscoreResult lookupAsync(String username, HiscoreEndpoint endpoint)
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		final HiscoreKey key = key(username, endpoint);
+		CachedResult cached = hiscoreCache.getIfPresent(key);
+		if (cached != null && isExpired(cached))
+		{
+			cached = null;
+		}
+
+		if ((cached == null || !isFresh(cached)) && failures.getIfPresent(key) == null)
+		{
+			refresh(key, username);
+		}
+		return cached == null ? null : cached.result;
+	}
+
+	/**
+	 * Look up a players hiscore from a specified endpoint, fetching it unless a fresh result
+	 * is cached. If the fetch fails a stale cached result is used instead, if there is one.
+	 *
+	 * @param username Players username
+	 * @param endpoint Hiscore endpoint
+	 * @return a future completed with the HiscoreResult, or null if the player was not found
+	 */
+	public CompletableFuture<HiscoreResult> fetch(String username, HiscoreEndpoint endpoint)
+	{
+		final HiscoreKey key = key(username, endpoint);
+		final CachedResult cached = hiscoreCache.getIfPresent(key);
+		if (cached != null && isFresh(cached))
+		{
+			return CompletableFuture.completedFuture(cached.result);
+		}
+
+		final CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		refresh(key, username).whenComplete((result, ex) ->
+		{
+			if (ex == null)
+			{
+				future.complete(result.result);
+				return;
+			}
+
+			final CachedResult stale = hiscoreCache.getIfPresent(key);
+			if (stale != null && !isExpired(stale))
+			{
+				log.debug("Using cached hiscore for {} after lookup failure", username, ex);
+				future.complete(stale.result);
+			}
+			else
+			{
+				future.completeExceptionally(ex);
+			}
+		});
+		return future;
+	}
+
+	private CompletableFuture<CachedResult> refresh(HiscoreKey key, String username)
+	{
+		final CompletableFuture<CachedResult> future = new CompletableFuture<>();
+		final CompletableFuture<CachedResult> existing = inflight.putIfAbsent(key, future);
+		if (existing != null)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			return existing;
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
-		return null;
+		future.whenComplete((result, ex) -> inflight.remove(key, future));
+
+		log.debug("Submitting hiscore lookup for {} type {}", username, key.type);
+		try
+		{
+			executor.execute(() -> load(key, username, future));
+		}
+		catch (RejectedExecutionException ex)
+		{
+			future.completeExceptionally(new IOException("too many pending hiscore lookups", ex));
+		}
+		return future;
+	}
+
+	private void load(HiscoreKey key, String username, CompletableFuture<CachedResult> future)
+	{
+		try
+		{
+			if (hiscoreCache.getIfPresent(key) == null)
+			{
+				// results read from disk are kept even if stale, to fall back on if the lookup fails
+				final CachedResult cached = read(key);
+				if (cached != null && isFresh(cached))
+				{
+					future.complete(cached);
+					return;
+				}
+			}
+
+			throttle(key.type.getHiscoreURL().host());
+
+			final HiscoreResult result = hiscoreClient.lookup(username, key.type);
+			final CachedResult cached = new CachedResult(result, System.currentTimeMillis());
+			hiscoreCache.put(key, cached);
+			failures.invalidate(key);
+			write(key, cached);
+			future.complete(cached);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			future.completeExceptionally(new InterruptedIOException("interrupted looking up hiscore"));
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.warn("Unable to look up hiscore!", ex);
+			failures.put(key, Boolean.TRUE);
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Wait until the next request to the given host is allowed
+	 */
+	private void throttle(String host) throws InterruptedException
+	{
+		final long wait;
+		synchronized (nextRequest)
+		{
+			final long now = System.nanoTime();
+			final long at = Math.max(now, nextRequest.getOrDefault(host, now));
+			nextRequest.put(host, at + hostIntervalNanos);
+			wait = at - now;
+		}
+
+		if (wait > 0)
+		{
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+
+	private CachedResult read(HiscoreKey key)
+	{
+		final File file = file(key);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			final CachedResult cached = gson.fromJson(in, CachedResult.class);
+			if (cached == null || isExpired(cached))
+			{
+				return null;
+			}
+
+			hiscoreCache.put(key, cached);
+			return cached;
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.debug("unable to read cached hiscore {}", file, ex);
+			return null;
+		}
+	}
+
+	private void write(HiscoreKey key, CachedResult cached)
+	{
+		final File file = file(key);
+		try
+		{
+			Files.createDirectories(file.getParentFile().toPath());
+			final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+			try (Writer out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+			{
+				gson.toJson(cached, out);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to cache hiscore {}", file, ex);
+		}
+	}
+
+	/**
+	 * Delete cached hiscores which are too old to be used
+	 */
+	private void prune()
+	{
+		final File[] endpoints = directory.listFiles();
+		if (endpoints == null)
+		{
+			return;
+		}
+
+		final long cutoff = System.currentTimeMillis() - STALE_MS;
+		for (File endpoint : endpoints)
+		{
+			final File[] files = endpoint.listFiles();
+			if (files == null)
+			{
+				continue;
+			}
+
+			for (File file : files)
+			{
+				if (file.lastModified() < cutoff && !file.delete())
+				{
+					log.debug("unable to delete cached hiscore {}", file);
+				}
+			}
+		}
+	}
+
+	private File file(HiscoreKey key)
+	{
+		final String name = BaseEncoding.base16().lowerCase().encode(key.username.getBytes(StandardCharsets.UTF_8));
+		return new File(new File(directory, key.type.name().toLowerCase()), name + ".json");
+	}
+
+	private static HiscoreKey key(String username, HiscoreEndpoint endpoint)
+	{
+		Preconditions.checkNotNull(endpoint);
+		return new HiscoreKey(Text.toJagexName(username).toLowerCase(), endpoint);
+	}
+
+	private static boolean isFresh(CachedResult cached)
+	{
+		return System.currentTimeMillis() - cached.fetched < FRESH_MS;
+	}
+
+	private static boolean isExpired(CachedResult cached)
+	{
+		return System.currentTimeMillis() - cached.fetched >= STALE_MS;
 	}
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram in nanoseconds. Values are counted in log-linear buckets, each power of
+ * two being split into {@code 2^SUB_BUCKET_BITS} linear buckets, which bounds the error of a
+ * reported percentile to about 6% regardless of the magnitude of the value, while recording
+ * remains a constant time array increment.
+ * <p>
+ * The bucket counts are striped by thread so that threads recording into the same histogram
+ * don't contend on it. Stripes are allocated on first use, so a histogram only ever recorded
+ * from one thread has a single stripe.
+ */
+public final class Histogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// the largest positive long has exponent 62
+	static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private static final int STRIPE_BITS = 3;
+
+	private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(1 << STRIPE_BITS);
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	Histogram()
+	{
+	}
+
+	/**
+	 * Record the time elapsed since {@code start}
+	 *
+	 * @param start a time from {@link Metrics#start()}. Nothing is recorded if it is 0,
+	 *              which is returned when metrics are disabled.
+	 */
+	public void recordSince(long start)
+	{
+		if (start != 0L)
+		{
+			record(System.nanoTime() - start);
+		}
+	}
+
+	public void record(long nanos)
+	{
+		if (nanos < 0)
+		{
+			return;
+		}
+
+		stripe().incrementAndGet(bucket(nanos));
+		sum.add(nanos);
+		if (nanos > max.get())
+		{
+			max.accumulateAndGet(nanos, Math::max);
+		}
+	}
+
+	public Snapshot snapshot()
+	{
+		final long[] c = new long[BUCKETS];
+		long count = 0;
+		for (int s = 0; s < stripes.length(); ++s)
+		{
+			final AtomicLongArray counts = stripes.get(s);
+			if (counts == null)
+			{
+				continue;
+			}
+
+			for (int i = 0; i < BUCKETS; ++i)
+			{
+				final long n = counts.get(i);
+				c[i] += n;
+				count += n;
+			}
+		}
+		return new Snapshot(c, count, sum.sum(), max.get());
+	}
+
+	private AtomicLongArray stripe()
+	{
+		// fibonacci hash of the thread id, so threads with consecutive ids use different stripes
+		final int s = (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> (64 - STRIPE_BITS));
+		final AtomicLongArray counts = stripes.get(s);
+		if (counts != null)
+		{
+			return counts;
+		}
+
+		stripes.compareAndSet(s, null, new AtomicLongArray(BUCKETS));
+		return stripes.get(s);
+	}
+
+	static int bucket(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+
+		final int exp = 63 - Long.numberOfLeadingZeros(value);
+		final int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * @return the smallest value which is counted in the bucket
+	 */
+	static long lowerBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+
+		final int exp = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final int sub = bucket % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + sub) << (exp - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * A point in time copy of a histogram
+	 */
+	public static final class Snapshot
+	{
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		private Snapshot(long[] counts, long count, long sum, long max)
+		{
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		public long getCount()
+		{
+			return count;
+		}
+
+		public long getSum()
+		{
+			return sum;
+		}
+
+		/**
+		 * @return the largest value ever recorded. This is not reduced by {@link #since(Snapshot)}.
+		 */
+		public long getMax()
+		{
+			return max;
+		}
+
+		public long getMean()
+		{
+			return count == 0 ? 0 : sum / count;
+		}
+
+		/**
+		 * @param p percentile, between 0 and 1
+		 * @return the value at the given percentile, rounded down to the lower bound of its bucket
+		 */
+		public long percentile(double p)
+		{
+			if (count == 0)
+			{
+				return 0;
+			}
+
+			final long rank = Math.max(1, (long) Math.ceil(p * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; ++i)
+			{
+				seen += counts[i];
+				if (seen >= rank)
+				{
+					return lowerBound(i);
+				}
+			}
+			return max;
+		}
+
+		/**
+		 * @return the values recorded between {@code previous} and this snapshot
+		 */
+		public Snapshot since(Snapshot previous)
+		{
+			final long[] c = new long[counts.length];
+			for (int i = 0; i < c.length; ++i)
+			{
+				c[i] = counts[i] - previous.counts[i];
+			}
+			return new Snapshot(c, count - previous.count, sum - previous.sum, max);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import lombok.Value;
+
+/**
+ * Registry of the client's hot path counters, latency histograms and gauges. Metrics are
+ * disabled by default, in which case recording them is a single volatile read. Code being
+ * measured should look its metrics up once, and time itself with:
+ * <pre>
+ * final long start = metrics.start();
+ * ...
+ * histogram.recordSince(start);
+ * </pre>
+ */
+@Singleton
+public class Metrics
+{
+	public static final String FRAME_TIME = "frame_time";
+	public static final String FRAME_DRAW = "frame_draw";
+	public static final String GAME_TICK = "game_tick";
+	public static final String EVENT_DISPATCH = "event_dispatch";
+	public static final String CLIENT_THREAD_TASK = "client_thread_task";
+	public static final String CLIENT_THREAD_DEFERRED = "client_thread_deferred";
+	public static final String CLIENT_THREAD_QUEUE = "client_thread_queue";
+	public static final String GPU_DRAW = "gpu_draw";
+	public static final String ITEM_IMAGE_CACHE = "item_image_cache";
+	public static final String OVERLAY_RENDER = "overlay_render";
+
+	volatile boolean enabled;
+
+	private final ConcurrentMap<Name, Counter> counters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Name, Histogram> histograms = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Name, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+	@Value
+	public static class Name
+	{
+		String name;
+		@Nullable
+		String label;
+
+		@Override
+		public String toString()
+		{
+			return label == null ? name : name + "{" + label + "}";
+		}
+	}
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return the current time in nanoseconds, or 0 if metrics are disabled
+	 */
+	public long start()
+	{
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	public Counter counter(String name)
+	{
+		return counter(name, null);
+	}
+
+	public Counter counter(String name, @Nullable String label)
+	{
+		return counters.computeIfAbsent(new Name(name, label), k -> new Counter(this));
+	}
+
+	public Histogram histogram(String name)
+	{
+		return histogram(name, null);
+	}
+
+	public Histogram histogram(String name, @Nullable String label)
+	{
+		return histograms.computeIfAbsent(new Name(name, label), k -> new Histogram());
+	}
+
+	/**
+	 * Register a gauge, which is sampled whenever the metrics are read. This replaces any
+	 * gauge previously registered with the same name.
+	 */
+	public void gauge(String name, @Nullable String label, LongSupplier supplier)
+	{
+		gauges.put(new Name(name, label), supplier);
+	}
+
+	public void removeGauge(String name, @Nullable String label)
+	{
+		gauges.remove(new Name(name, label));
+	}
+
+	Map<Name, Counter> getCounters()
+	{
+		return counters;
+	}
+
+	public Map<Name, Histogram> getHistograms()
+	{
+		return histograms;
+	}
+
+	Map<Name, LongSupplier> getGauges()
+	{
+		return gauges;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Formats the contents of a {@link Metrics} registry for export
+ */
+public final class MetricsFormat
+{
+	private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+	private static final String[] QUANTILE_NAMES = {"p50", "p90", "p99", "p999"};
+	private static final String PREFIX = "runelite_";
+
+	private MetricsFormat()
+	{
+	}
+
+	/**
+	 * @return the metrics in the Prometheus text exposition format. Histograms are written as
+	 * summaries in seconds.
+	 */
+	public static String prometheus(Metrics metrics)
+	{
+		final StringBuilder sb = new StringBuilder();
+
+		String family = null;
+		for (Map.Entry<Metrics.Name, Counter> e : sorted(metrics.getCounters()))
+		{
+			final String name = PREFIX + e.getKey().getName() + "_total";
+			if (!name.equals(family))
+			{
+				sb.append("# TYPE ").append(name).append(" counter\n");
+				family = name;
+			}
+			sample(sb, name, e.getKey().getLabel(), null, e.getValue().get());
+		}
+
+		for (Map.Entry<Metrics.Name, LongSupplier> e : sorted(metrics.getGauges()))
+		{
+			final String name = PREFIX + e.getKey().getName();
+			if (!name.equals(family))
+			{
+				sb.append("# TYPE ").append(name).append(" gauge\n");
+				family = name;
+			}
+			sample(sb, name, e.getKey().getLabel(), null, e.getValue().getAsLong());
+		}
+
+		for (Map.Entry<Metrics.Name, Histogram> e : sorted(metrics.getHistograms()))
+		{
+			final String name = PREFIX + e.getKey().getName() + "_seconds";
+			if (!name.equals(family))
+			{
+				sb.append("# TYPE ").append(name).append(" summary\n");
+				family = name;
+			}
+
+			final String label = e.getKey().getLabel();
+			final Histogram.Snapshot snapshot = e.getValue().snapshot();
+			for (double q : QUANTILES)
+			{
+				sample(sb, name, label, Double.toString(q), seconds(snapshot.percentile(q)));
+			}
+			sample(sb, name + "_sum", label, null, seconds(snapshot.getSum()));
+			sample(sb, name + "_count", label, null, snapshot.getCount());
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * @return the metrics as a tree of maps, suitable for serializing to json. Histogram values are in nanoseconds.
+	 */
+	public static Map<String, Object> json(Metrics metrics)
+	{
+		final Map<String, Object> counters = new LinkedHashMap<>();
+		for (Map.Entry<Metrics.Name, Counter> e : sorted(metrics.getCounters()))
+		{
+			counters.put(e.getKey().toString(), e.getValue().get());
+		}
+
+		final Map<String, Object> gauges = new LinkedHashMap<>();
+		for (Map.Entry<Metrics.Name, LongSupplier> e : sorted(metrics.getGauges()))
+		{
+			gauges.put(e.getKey().toString(), e.getValue().getAsLong());
+		}
+
+		final Map<String, Object> histograms = new LinkedHashMap<>();
+		for (Map.Entry<Metrics.Name, Histogram> e : sorted(metrics.getHistograms()))
+		{
+			final Histogram.Snapshot snapshot = e.getValue().snapshot();
+			final Map<String, Object> h = new LinkedHashMap<>();
+			h.put("count", snapshot.getCount());
+			h.put("mean", snapshot.getMean());
+			for (int i = 0; i < QUANTILES.length; ++i)
+			{
+				h.put(QUANTILE_NAMES[i], snapshot.percentile(QUANTILES[i]));
+			}
+			h.put("max", snapshot.getMax());
+			histograms.put(e.getKey().toString(), h);
+		}
+
+		final Map<String, Object> root = new LinkedHashMap<>();
+		root.put("enabled", metrics.isEnabled());
+		root.put("counters", counters);
+		root.put("gauges", gauges);
+		root.put("histograms", histograms);
+		return root;
+	}
+
+	private static <T> List<Map.Entry<Metrics.Name, T>> sorted(Map<Metrics.Name, T> metrics)
+	{
+		final List<Map.Entry<Metrics.Name, T>> entries = new ArrayList<>(metrics.entrySet());
+		entries.sort(Comparator.comparing((Map.Entry<Metrics.Name, T> e) -> e.getKey().getName())
+			.thenComparing(e -> e.getKey().getLabel(), Comparator.nullsFirst(Comparator.naturalOrder())));
+		return entries;
+	}
+
+	private static void sample(StringBuilder sb, String name, String label, String quantile, Object value)
+	{
+		sb.append(name);
+		if (label != null || quantile != null)
+		{
+			sb.append('{');
+			if (label != null)
+			{
+				sb.append("name=\"").append(label.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+			}
+			if (quantile != null)
+			{
+				if (label != null)
+				{
+					sb.append(',');
+				}
+				sb.append("quantile=\"").append(quantile).append('"');
+			}
+			sb.append('}');
+		}
+		sb.append(' ').append(value).append('\n');
+	}
+
+	private static double seconds(long nanos)
+	{
+		return nanos / 1e9;
+	}
+}
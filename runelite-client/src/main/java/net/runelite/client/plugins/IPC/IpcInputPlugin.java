@@ -34,7 +34,11 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.game.WidgetSnapshot;
+import net.runelite.client.game.WidgetSnapshotService;
 import net.runelite.client.game.WorldService;
+import net.runelite.client.metrics.Metrics;
+import net.runelite.client.metrics.MetricsFormat;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -61,6 +65,8 @@ public class IpcInputPlugin extends Plugin
     @Inject private IpcInputConfig config;
     @Inject private WorldService worldService;
     @Inject private ItemManager itemManager;
+    @Inject private WidgetSnapshotService widgetSnapshotService;
+    @Inject private Metrics metrics;
 
     @Inject private OverlayManager overlayManager;
     // private CollisionOverlay collisionOverlay; // Disabled - was causing lag
@@ -97,7 +103,7 @@ public class IpcInputPlugin extends Plugin
         overlayManager.add(pathOverlay);
 
         try {
-            serverThread = new ServerThread(this, client, clientThread, config, port, pathOverlay, itemManager);
+            serverThread = new ServerThread(this, client, clientThread, config, port, pathOverlay, itemManager, widgetSnapshotService, metrics);
             serverThread.start();
             log.info("IPC Input listening on {}", port);
             // Do not post chat message here: it fires ChatMessage events before other plugins
@@ -195,6 +201,8 @@ public class IpcInputPlugin extends Plugin
         private final int port;
         private final PathOverlay pathOverlay;
         private final ItemManager itemManager;
+        private final WidgetSnapshotService widgetSnapshotService;
+        private final Metrics metrics;
 
         private final Gson gson = new Gson();
         private volatile boolean running = true;
@@ -399,7 +407,7 @@ public class IpcInputPlugin extends Plugin
             }
         }
 
-        ServerThread(IpcInputPlugin plugin, Client client, ClientThread clientThread, IpcInputConfig config, int port, PathOverlay pathOverlay, ItemManager itemManager)
+        ServerThread(IpcInputPlugin plugin, Client client, ClientThread clientThread, IpcInputConfig config, int port, PathOverlay pathOverlay, ItemManager itemManager, WidgetSnapshotService widgetSnapshotService, Metrics metrics)
         {
             super("IPC-Input-Server");
             this.plugin = plugin;
@@ -410,6 +418,8 @@ public class IpcInputPlugin extends Plugin
             this.port = port;
             this.pathOverlay = pathOverlay;
             this.itemManager = itemManager;
+            this.widgetSnapshotService = widgetSnapshotService;
+            this.metrics = metrics;
 
             try
             {
@@ -480,7 +490,7 @@ public class IpcInputPlugin extends Plugin
                                     }
                                 } catch (Throwable ignored) {}
                                 // Advertise supported cmds to help you spot version skew
-                                resp.put("cmds", new String[]{"ping","click","scroll","path","project","objects","npcs","tab","hovered","widget_exists","get_widget","get_widget_info","get_widget_children","get_bank_items","get_bank_tabs","get_bank_quantity_buttons","get_bank_deposit_buttons","get_bank_note_toggle","get_bank_search","bank-xvalue","get_ge_widgets","get_ge_offers","get_ge_setup","get_ge_confirm","get_ge_buttons","door_state","get_player","get_equipment","get_equipment_inventory","get_spellbook","get_camera","find_object","find_object_by_path","find_npc","scan_scene","detect_water","get_tutorial","get_game_state","get_world","get_worlds","hop_world"});
+                                resp.put("cmds", new String[]{"ping","click","scroll","path","project","objects","npcs","tab","hovered","widget_exists","get_widget","get_widget_info","get_widget_children","get_bank_items","get_bank_tabs","get_bank_quantity_buttons","get_bank_deposit_buttons","get_bank_note_toggle","get_bank_search","bank-xvalue","get_ge_widgets","get_ge_offers","get_ge_setup","get_ge_confirm","get_ge_buttons","door_state","get_player","get_equipment","get_equipment_inventory","get_spellbook","get_camera","find_object","find_object_by_path","find_npc","scan_scene","detect_water","get_tutorial","get_game_state","get_world","get_worlds","hop_world","metrics"});
                                 out.println(gson.toJson(resp));
                                 break;
                             }
@@ -490,6 +500,22 @@ public class IpcInputPlugin extends Plugin
                                 out.println("{\"ok\":true,\"port\":" + port + "}");
                                 break;
 
+                            case "metrics": {
+                                if (cmd.enable != null) {
+                                    metrics.setEnabled(cmd.enable);
+                                }
+                                final Map<String, Object> resp = new LinkedHashMap<>();
+                                resp.put("ok", true);
+                                if ("prometheus".equals(cmd.format)) {
+                                    resp.put("enabled", metrics.isEnabled());
+                                    resp.put("text", MetricsFormat.prometheus(metrics));
+                                } else {
+                                    resp.putAll(MetricsFormat.json(metrics));
+                                }
+                                out.println(gson.toJson(resp));
+                                break;
+                            }
+
                             case "get_game_state": {
                                 final java.util.Map<String,Object> resp = new java.util.LinkedHashMap<>();
                                 try {
@@ -5912,21 +5938,31 @@ public class IpcInputPlugin extends Plugin
             final Map<WorldPoint, Map<String, Object>> doorMap =
                     getDoorAnnotationsOnClientThread(client, clientThread, points, plane, 100);
 
-            // Now do the canvas projection and merge door data per row
-            for (int i = 0; i < coords.size(); i++) {
+            // Project all tiles in one pass against a single camera snapshot
+            final int n = coords.size();
+            final int[] lx = new int[n], ly = new int[n], lz = new int[n];
+            final int[] cx = new int[n], cy = new int[n];
+            for (int i = 0; i < n; i++) {
                 int[] xy = coords.get(i);
-                int wx = xy[0], wy = xy[1];
+                LocalPoint lp = LocalPoint.fromWorld(client, xy[0], xy[1]);
+                if (lp == null) { lx[i] = ly[i] = Integer.MIN_VALUE; continue; }
+                lx[i] = lp.getX();
+                ly[i] = lp.getY();
+                lz[i] = Perspective.getTileHeight(client, lp, plane);
+            }
+            ProjectionContext.capture(client).projectPoints(n, lx, ly, lz, cx, cy);
 
-                LocalPoint lp = LocalPoint.fromWorld(client, wx, wy);
-                if (lp == null) { out.add(java.util.Map.of("ok", true, "onscreen", false)); continue; }
+            // Now merge door data per row
+            for (int i = 0; i < n; i++) {
+                int[] xy = coords.get(i);
+                int wx = xy[0], wy = xy[1];
 
-                net.runelite.api.Point p = Perspective.localToCanvas(client, lp, plane);
-                if (p == null) { out.add(java.util.Map.of("ok", true, "onscreen", false)); continue; }
+                if (cx[i] == Integer.MIN_VALUE) { out.add(java.util.Map.of("ok", true, "onscreen", false)); continue; }
 
                 Map<String,Object> row = new LinkedHashMap<>();
                 row.put("ok", true);
                 row.put("onscreen", true);
-                row.put("canvas", java.util.Map.of("x", p.getX(), "y", p.getY()));
+                row.put("canvas", java.util.Map.of("x", cx[i], "y", cy[i]));
 
                 // Attach door when present
                 Map<String,Object> door = doorMap.get(new WorldPoint(wx, wy, plane));
@@ -6673,8 +6709,101 @@ public class IpcInputPlugin extends Plugin
             out.add(row);
         }
 
+        /**
+         * Find a widget in the shared snapshot, rebuilding it once if the widget isn't there, eg. because
+         * the snapshot is from before the widget was created. Returns -1 for widgets which aren't reachable
+         * from the widget roots, which have to be walked directly.
+         */
+        private int snapshotIndexOf(Widget parent) {
+            final int index = widgetSnapshotService.getSnapshot().indexOf(parent);
+            if (index != -1) {
+                return index;
+            }
+
+            widgetSnapshotService.invalidate();
+            return widgetSnapshotService.getSnapshot().indexOf(parent);
+        }
+
         private void getAllNestedChildren(Widget parent, java.util.List<Widget> allChildren) {
             if (parent == null) return;
+
+            // Descendants are contiguous in the snapshot, which is shared between commands
+            final int index = snapshotIndexOf(parent);
+            if (index == -1) {
+                walkNestedChildren(parent, allChildren);
+                return;
+            }
+
+            final WidgetSnapshot snapshot = widgetSnapshotService.getSnapshot();
+
+            for (int i = index + 1, end = snapshot.getEnd(index); i < end; ++i) {
+                allChildren.add(snapshot.getWidget(i));
+            }
+        }
+
+        private void collectChildWidgets(Widget parent, java.util.List<java.util.Map<String,Object>> children) {
+            if (parent == null) return;
+            
+            try {
+                final int index = snapshotIndexOf(parent);
+                if (index == -1) {
+                    collectChildWidgetsDirect(parent, children);
+                    return;
+                }
+
+                final WidgetSnapshot snapshot = widgetSnapshotService.getSnapshot();
+
+                for (int i = index + 1, end = snapshot.getEnd(index); i < end; ++i) {
+                    // Check visibility: not hidden AND has valid canvas position
+                    final int x = snapshot.getX(i);
+                    final int y = snapshot.getY(i);
+                    if (snapshot.isHidden(i) || x < 0 || y < 0) {
+                        continue;
+                    }
+
+                    final Widget child = snapshot.getWidget(i);
+                    java.util.Map<String,Object> childData = new java.util.LinkedHashMap<>();
+                    childData.put("id", snapshot.getId(i));
+                    final String name = snapshot.getName(i);
+                    childData.put("name", name != null ? name : "");
+                    final String text = snapshot.getText(i);
+                    childData.put("text", text != null ? text : "");
+                    childData.put("visible", true);
+                    childData.put("hasListener", child.hasListener());
+                    childData.put("isIf3", child.isIf3());
+                    childData.put("spriteId", snapshot.getSpriteId(i));
+                    childData.put("itemId", snapshot.getItemId(i));
+
+                    // Get OnOpListener safely
+                    try {
+                        Object onOpListener = child.getOnOpListener();
+                        childData.put("onOpListener", onOpListener);
+                    } catch (Exception ignored) {
+                        childData.put("onOpListener", null);
+                    }
+
+                    childData.put("textColor", String.format("%x", snapshot.getTextColor(i)));
+                    childData.put("bounds", java.util.Map.of(
+                            "x", x,
+                            "y", y,
+                            "width", snapshot.getWidth(i),
+                            "height", snapshot.getHeight(i)
+                    ));
+                    childData.put("canvasLocation", java.util.Map.of(
+                            "x", x,
+                            "y", y
+                    ));
+
+                    children.add(childData);
+                }
+            } catch (Exception e) {
+                System.out.println("[DEBUG] Error accessing child widgets: " + e.getMessage());
+            }
+        }
+
+
+        private void walkNestedChildren(Widget parent, java.util.List<Widget> allChildren) {
+            if (parent == null) return;
             
             // Get static children
             Widget[] staticChildren = parent.getStaticChildren();
@@ -6683,7 +6812,7 @@ public class IpcInputPlugin extends Plugin
                     if (child != null) {
                         allChildren.add(child);
                         // Recursively get children of this child
-                        getAllNestedChildren(child, allChildren);
+                        walkNestedChildren(child, allChildren);
                     }
                 }
             }
@@ -6695,7 +6824,7 @@ public class IpcInputPlugin extends Plugin
                     if (child != null) {
                         allChildren.add(child);
                         // Recursively get children of this child
-                        getAllNestedChildren(child, allChildren);
+                        walkNestedChildren(child, allChildren);
                     }
                 }
             }
@@ -6708,20 +6837,20 @@ public class IpcInputPlugin extends Plugin
                         if (child != null) {
                             allChildren.add(child);
                             // Recursively get children of this child
-                            getAllNestedChildren(child, allChildren);
+                            walkNestedChildren(child, allChildren);
                         }
                     }
                 }
             }
         }
 
-        private void collectChildWidgets(Widget parent, java.util.List<java.util.Map<String,Object>> children) {
+        private void collectChildWidgetsDirect(Widget parent, java.util.List<java.util.Map<String,Object>> children) {
             if (parent == null) return;
             
             try {
                 // Get all nested children recursively
                 java.util.List<Widget> allChildren = new java.util.ArrayList<>();
-                getAllNestedChildren(parent, allChildren);
+                walkNestedChildren(parent, allChildren);
                 
                 // Convert to data format and filter for visible widgets only
                 for (Widget child : allChildren) {
@@ -6823,7 +6952,6 @@ public class IpcInputPlugin extends Plugin
             }
         }
 
-
         // A tile is hard-blocked (solid object etc.)
         private static boolean hardBlocked(int[][] flags, int x, int y)
         {
@@ -6960,6 +7088,10 @@ public class IpcInputPlugin extends Plugin
             // mask
             @SerializedName("radius") Integer radius;
 
+            // metrics
+            @SerializedName("format") String format;
+            @SerializedName("enable") Boolean enable;
+
             // tilexy_many
             @SerializedName("tiles") List<Map<String,Integer>> tiles;
 
@@ -61,18 +61,37 @@ public class PathOverlay extends Overlay
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setStroke(new BasicStroke(2.0f));
 
+        // Project every waypoint once against a single camera snapshot
+        final List<WorldPoint> wps = waypoints;
+        final int n = wps.size();
+        final int[] xs = new int[n], ys = new int[n], zs = new int[n];
+        final int[] cx = new int[n], cy = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            WorldPoint wp = wps.get(i);
+            LocalPoint lp = LocalPoint.fromWorld(client, wp.getX(), wp.getY());
+            if (lp == null)
+            {
+                // outside of the scene, rejected by the projection
+                xs[i] = ys[i] = Integer.MIN_VALUE;
+                continue;
+            }
+            xs[i] = lp.getX();
+            ys[i] = lp.getY();
+            zs[i] = Perspective.getTileHeight(client, lp, plane);
+        }
+        final ProjectionContext ctx = ProjectionContext.capture(client);
+        ctx.projectPoints(n, xs, ys, zs, cx, cy);
+
         // Draw segments
         int lastX = -1, lastY = -1;
         g2.setColor(lineColor);
-        for (WorldPoint wp : waypoints)
+        for (int i = 0; i < n; i++)
         {
-            LocalPoint lp = LocalPoint.fromWorld(client, wp.getX(), wp.getY());
-            if (lp == null) continue;
-            net.runelite.api.Point p = Perspective.localToCanvas(client, lp, plane);
-            if (p == null) continue;
+            if (cx[i] == Integer.MIN_VALUE) continue;
 
-            int x = p.getX();
-            int y = p.getY();
+            int x = cx[i];
+            int y = cy[i];
 
             if (lastX != -1)
             {
@@ -82,21 +101,17 @@ public class PathOverlay extends Overlay
         }
 
         // Draw dots (door-aware)
-        for (WorldPoint wp : waypoints)
+        Tile[][] tiles = client.getScene().getTiles()[plane];
+        for (int i = 0; i < n; i++)
         {
-            LocalPoint lp = LocalPoint.fromWorld(client, wp.getX(), wp.getY());
-            if (lp == null) continue;
-
-//            final int plane = client.getPlane();
-            net.runelite.api.Point p = Perspective.localToCanvas(client, lp, plane);
-            if (p == null) continue;
+            if (cx[i] == Integer.MIN_VALUE) continue;
 
-            int x = p.getX(), y = p.getY();
+            WorldPoint wp = wps.get(i);
+            int x = cx[i], y = cy[i];
 
             // Get the Tile at this world point
             int localX = wp.getX() - client.getBaseX();
             int localY = wp.getY() - client.getBaseY();
-            Tile[][] tiles = client.getScene().getTiles()[plane];
             Tile tile = null;
             if (localX >= 0 && localX < 104 && localY >= 0 && localY < 104) {
                 tile = tiles[localX][localY];
@@ -113,7 +128,7 @@ public class PathOverlay extends Overlay
                 g2.drawString(d.state, x + 6, y - 4);
             } else {
                 // Normal waypoint
-                g2.setColor(new Color(0, 255, 120, 220));
+                g2.setColor(dotColor);
                 g2.fillOval(x - 3, y - 3, 6, 6);
             }
         }
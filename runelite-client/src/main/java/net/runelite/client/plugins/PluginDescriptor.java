@@ -75,4 +75,11 @@ public @interface PluginDescriptor
 	boolean developerPlugin() default false;
 
 	boolean loadInSafeMode() default true;
+
+	/**
+	 * If this plugin can be started after the client is shown, rather than before. This should be
+	 * used by plugins which are not needed immediately, such as ones integrating with external services,
+	 * so that they do not delay startup.
+	 */
+	boolean deferredStartup() default false;
 }
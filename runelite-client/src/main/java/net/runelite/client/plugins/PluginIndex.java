@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.base.Splitter;
+import com.google.common.io.CharStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * The index of the core plugins, which is generated by the build from the compiled plugin classes.
+ * Each line is the class name of a plugin followed by the class names of its {@link PluginDependency}s.
+ */
+public class PluginIndex
+{
+	private static final String RESOURCE = "plugins.index";
+	private static final Splitter SPLITTER = Splitter.on(' ').omitEmptyStrings();
+
+	/**
+	 * @return the class names of the indexed plugins, in index order, each mapped to the class names of the
+	 * plugins it depends on, or null if there is no index, such as when running from an IDE
+	 */
+	@Nullable
+	public static Map<String, List<String>> read() throws IOException
+	{
+		try (InputStream in = PluginIndex.class.getResourceAsStream(RESOURCE))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			final Map<String, List<String>> plugins = new LinkedHashMap<>();
+			for (String line : CharStreams.readLines(new InputStreamReader(in, StandardCharsets.UTF_8)))
+			{
+				final List<String> classNames = SPLITTER.splitToList(line);
+				if (!classNames.isEmpty())
+				{
+					plugins.put(classNames.get(0), classNames.subList(1, classNames.size()));
+				}
+			}
+			return plugins;
+		}
+	}
+}
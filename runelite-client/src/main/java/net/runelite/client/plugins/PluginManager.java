@@ -26,12 +26,15 @@ package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -49,13 +52,24 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -64,6 +78,7 @@ import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.RuneLite;
+import net.runelite.client.StartupTrace;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
@@ -86,6 +101,10 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * How long plugins are started for in one go on the EDT before letting it process other events
+	 */
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -96,6 +115,19 @@ public class PluginManager
 	private final Provider<GameEventManager> sceneTileManager;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final Map<Class<?>, PluginTiming> timings = new ConcurrentHashMap<>();
+
+	private static class PluginTiming
+	{
+		private volatile long loadNanos;
+		private volatile long instantiateNanos;
+		private volatile long startNanos;
+
+		private long totalNanos()
+		{
+			return loadNanos + instantiateNanos + startNanos;
+		}
+	}
 
 	@Inject
 	@VisibleForTesting
@@ -222,54 +254,220 @@ public class PluginManager
 		}
 	}
 
+	/**
+	 * Start the enabled plugins which are not marked {@link PluginDescriptor#deferredStartup()}
+	 */
 	public void startPlugins()
 	{
-		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		final List<Plugin> scannedPlugins = new ArrayList<>();
+		for (Plugin plugin : plugins)
+		{
+			if (!isDeferred(plugin))
+			{
+				scannedPlugins.add(plugin);
+			}
+		}
+
+		startPlugins(scannedPlugins, true);
+
+		for (Plugin plugin : plugins)
+		{
+			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
+		}
+
+		logPluginTimings(scannedPlugins);
+	}
+
+	/**
+	 * Start the plugins which are marked {@link PluginDescriptor#deferredStartup()}. This is called
+	 * once the client is shown.
+	 */
+	public void startDeferredPlugins()
+	{
+		final List<Plugin> deferredPlugins = new ArrayList<>();
+		for (Plugin plugin : plugins)
+		{
+			if (isDeferred(plugin))
+			{
+				deferredPlugins.add(plugin);
+			}
+		}
+
+		startPlugins(deferredPlugins, false);
+		log.debug("Started {} deferred plugins", deferredPlugins.size());
+	}
+
+	private static boolean isDeferred(Plugin plugin)
+	{
+		final PluginDescriptor descriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
+		return descriptor != null && descriptor.deferredStartup();
+	}
+
+	private void startPlugins(List<Plugin> scannedPlugins, boolean splash)
+	{
+		final AtomicInteger loaded = new AtomicInteger();
+		while (loaded.get() < scannedPlugins.size())
 		{
 			try
 			{
+				// start the plugins in batches, rather than one EDT round trip per plugin
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
-					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
+					final long deadline = System.nanoTime() + START_BATCH_NANOS;
+					do
 					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						final Plugin plugin = scannedPlugins.get(loaded.get());
+						final long start = System.nanoTime();
+						try (StartupTrace.Span span = StartupTrace.span("start " + plugin.getClass().getSimpleName(), plugin.getClass().getName()))
+						{
+							startPlugin(plugin);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+						}
+						timing(plugin.getClass()).startNanos = System.nanoTime() - start;
+
+						loaded.incrementAndGet();
+						if (splash)
+						{
+							SplashScreen.stage(.80, 1, null, "Starting plugins", loaded.get(), scannedPlugins.size(), false);
+						}
 					}
+					while (loaded.get() < scannedPlugins.size() && System.nanoTime() < deadline);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
 			{
 				throw new RuntimeException(e);
 			}
-
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
 		}
+	}
 
+	private void logPluginTimings(List<Plugin> plugins)
+	{
+		long load = 0, instantiate = 0, start = 0;
 		for (Plugin plugin : plugins)
 		{
-			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
+			final PluginTiming timing = timing(plugin.getClass());
+			load += timing.loadNanos;
+			instantiate += timing.instantiateNanos;
+			start += timing.startNanos;
+		}
+
+		log.info("{} plugins loaded in {}ms, instantiated in {}ms, started in {}ms", plugins.size(),
+			TimeUnit.NANOSECONDS.toMillis(load), TimeUnit.NANOSECONDS.toMillis(instantiate), TimeUnit.NANOSECONDS.toMillis(start));
+
+		if (log.isDebugEnabled())
+		{
+			plugins.stream()
+				.sorted(Comparator.comparingLong((Plugin p) -> timing(p.getClass()).totalNanos()).reversed())
+				.forEach(plugin ->
+				{
+					final PluginTiming timing = timing(plugin.getClass());
+					log.debug("{}: load {}ms, instantiate {}ms, start {}ms", plugin.getClass().getSimpleName(),
+						TimeUnit.NANOSECONDS.toMillis(timing.loadNanos),
+						TimeUnit.NANOSECONDS.toMillis(timing.instantiateNanos),
+						TimeUnit.NANOSECONDS.toMillis(timing.startNanos));
+				});
 		}
 	}
 
+	private PluginTiming timing(Class<?> clazz)
+	{
+		return timings.computeIfAbsent(clazz, k -> new PluginTiming());
+	}
+
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		final List<Class<?>> plugins;
+		final Function<Class<?>, Collection<Class<?>>> dependencies;
+		final Map<String, List<String>> index = PluginIndex.read();
+		if (index != null)
+		{
+			final Map<Class<?>, Collection<Class<?>>> indexed = loadPluginIndex(index);
+			plugins = new ArrayList<>(indexed.keySet());
+			dependencies = indexed::get;
+		}
+		else
+		{
+			log.debug("No plugin index, scanning the classpath for plugins");
+			plugins = new ArrayList<>();
+			dependencies = PluginManager::annotatedDependencies;
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+			for (ClassInfo classInfo : classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE))
+			{
+				final long start = System.nanoTime();
+				final Class<?> clazz = classInfo.load();
+				if (clazz.isAnnotationPresent(PluginDescriptor.class))
+				{
+					timing(clazz).loadNanos = System.nanoTime() - start;
+				}
+				plugins.add(clazz);
+			}
+		}
 
-		loadPlugins(plugins, (loaded, total) ->
+		loadPlugins(plugins, dependencies, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Load the classes of the indexed plugins
+	 *
+	 * @return the plugin classes, in index order, each mapped to the classes of its indexed dependencies
+	 */
+	private Map<Class<?>, Collection<Class<?>>> loadPluginIndex(Map<String, List<String>> index)
+	{
+		final Map<String, Class<?>> classes = new HashMap<>();
+		for (String className : index.keySet())
+		{
+			final long start = System.nanoTime();
+			final Class<?> clazz;
+			try (StartupTrace.Span span = StartupTrace.span("load " + className, className))
+			{
+				clazz = Class.forName(className, false, getClass().getClassLoader());
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Indexed plugin {} does not exist", className);
+				continue;
+			}
+			timing(clazz).loadNanos = System.nanoTime() - start;
+			classes.put(className, clazz);
+		}
+
+		final Map<Class<?>, Collection<Class<?>>> plugins = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> entry : index.entrySet())
+		{
+			final Class<?> clazz = classes.get(entry.getKey());
+			if (clazz == null)
+			{
+				continue;
+			}
+
+			final List<Class<?>> dependencies = new ArrayList<>(entry.getValue().size());
+			for (String dependency : entry.getValue())
+			{
+				final Class<?> dependencyClass = classes.get(dependency);
+				if (dependencyClass != null)
+				{
+					dependencies.add(dependencyClass);
+				}
+			}
+			plugins.put(clazz, dependencies);
+		}
+		return plugins;
+	}
+
+	private static Collection<Class<?>> annotatedDependencies(Class<?> clazz)
+	{
+		return Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+			.map(PluginDependency::value)
+			.collect(Collectors.toList());
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -310,6 +508,15 @@ public class PluginManager
 	}
 
 	public List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
+	{
+		return loadPlugins(plugins, PluginManager::annotatedDependencies, onPluginLoaded);
+	}
+
+	/**
+	 * @param dependencies the classes of the plugins each plugin depends on
+	 */
+	private List<Plugin> loadPlugins(List<Class<?>> plugins, Function<Class<?>, Collection<Class<?>>> dependencies,
+		BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
 	{
 		MutableGraph<Class<? extends Plugin>> graph = GraphBuilder
 			.directed()
@@ -355,13 +562,11 @@ public class PluginManager
 		// Build plugin graph
 		for (Class<? extends Plugin> pluginClazz : graph.nodes())
 		{
-			PluginDependency[] pluginDependencies = pluginClazz.getAnnotationsByType(PluginDependency.class);
-
-			for (PluginDependency pluginDependency : pluginDependencies)
+			for (Class<?> dependency : dependencies.apply(pluginClazz))
 			{
-				if (graph.nodes().contains(pluginDependency.value()))
+				if (graph.nodes().contains(dependency))
 				{
-					graph.putEdge(pluginDependency.value(), pluginClazz);
+					graph.putEdge((Class<Plugin>) dependency, pluginClazz);
 				}
 			}
 		}
@@ -371,30 +576,72 @@ public class PluginManager
 			throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		final List<List<Class<? extends Plugin>>> layers = topologicalLayers(graph);
+		final int total = graph.nodes().size();
+		final ExecutorService executor = total > 1
+			? Executors.newFixedThreadPool(Math.min(total, Runtime.getRuntime().availableProcessors()),
+				new ThreadFactoryBuilder().setNameFormat("plugin-loader-%d").setDaemon(true).build())
+			: MoreExecutors.newDirectExecutorService();
 
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		try
 		{
-			Plugin plugin;
-			try
+			for (List<Class<? extends Plugin>> layer : layers)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.error("Error instantiating plugin!", ex);
-			}
+				// plugins in a layer only depend on plugins in earlier layers, so can be instantiated together
+				List<Future<Plugin>> futures = new ArrayList<>(layer.size());
+				for (Class<? extends Plugin> pluginClazz : layer)
+				{
+					futures.add(executor.submit(() ->
+					{
+						final long start = System.nanoTime();
+						try (StartupTrace.Span span = StartupTrace.span("instantiate " + pluginClazz.getSimpleName(), pluginClazz.getName()))
+						{
+							return instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+						}
+						finally
+						{
+							timing(pluginClazz).instantiateNanos = System.nanoTime() - start;
+						}
+					}));
+				}
 
-			loaded++;
-			if (onPluginLoaded != null)
-			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				for (Future<Plugin> future : futures)
+				{
+					try
+					{
+						Plugin plugin = future.get();
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						if (!(ex.getCause() instanceof PluginInstantiationException))
+						{
+							Throwables.throwIfUnchecked(ex.getCause());
+							throw new PluginInstantiationException(ex.getCause());
+						}
+						log.error("Error instantiating plugin!", ex.getCause());
+					}
+					catch (InterruptedException ex)
+					{
+						Thread.currentThread().interrupt();
+						throw new PluginInstantiationException(ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, total);
+					}
+				}
 			}
 		}
+		finally
+		{
+			executor.shutdown();
+		}
 
 		return newPlugins;
 	}
@@ -690,34 +937,51 @@ public class PluginManager
 	 */
 	@VisibleForTesting
 	static <T> List<T> topologicalSort(Graph<T> graph)
+	{
+		return topologicalLayers(graph).stream()
+			.flatMap(List::stream)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Topologically sort a graph into layers. Each node is in the layer after its last predecessor,
+	 * so the nodes within a layer do not depend on each other.
+	 *
+	 * @param graph - A directed graph
+	 * @param <T>   - The type of the item contained in the nodes of the graph
+	 * @return - The layers of the graph, in dependency order.
+	 */
+	@VisibleForTesting
+	static <T> List<List<T>> topologicalLayers(Graph<T> graph)
 	{
 		MutableGraph<T> graphCopy = Graphs.copyOf(graph);
-		List<T> l = new ArrayList<>();
-		Set<T> s = graphCopy.nodes().stream()
+		List<List<T>> layers = new ArrayList<>();
+		List<T> layer = graphCopy.nodes().stream()
 			.filter(node -> graphCopy.inDegree(node) == 0)
-			.collect(Collectors.toSet());
-		while (!s.isEmpty())
+			.collect(Collectors.toList());
+		while (!layer.isEmpty())
 		{
-			Iterator<T> it = s.iterator();
-			T n = it.next();
-			it.remove();
-
-			l.add(n);
+			layers.add(layer);
 
-			for (T m : new HashSet<>(graphCopy.successors(n)))
+			List<T> next = new ArrayList<>();
+			for (T n : layer)
 			{
-				graphCopy.removeEdge(n, m);
-				if (graphCopy.inDegree(m) == 0)
+				for (T m : new HashSet<>(graphCopy.successors(n)))
 				{
-					s.add(m);
+					graphCopy.removeEdge(n, m);
+					if (graphCopy.inDegree(m) == 0)
+					{
+						next.add(m);
+					}
 				}
 			}
+			layer = next;
 		}
 		if (!graphCopy.edges().isEmpty())
 		{
 			throw new RuntimeException("Graph has at least one cycle");
 		}
-		return l;
+		return layers;
 	}
 
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
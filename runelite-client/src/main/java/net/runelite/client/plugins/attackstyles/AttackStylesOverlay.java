@@ -44,6 +44,8 @@ class AttackStylesOverlay extends OverlayPanel
 	{
 		super(plugin);
 		setPosition(OverlayPosition.ABOVE_CHATBOX_RIGHT);
+		// redrawn by the plugin when the attack style or warnings change
+		setCached(true);
 		this.plugin = plugin;
 		this.config = config;
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Attack style overlay");
@@ -371,6 +371,7 @@ public class AttackStylesPlugin extends Plugin
 			}
 		}
 		updateWidgetsToHide(config.removeWarnedStyles());
+		overlay.invalidate();
 	}
 
 	private void updateWidgetsToHide(boolean enabled)
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import javax.annotation.Nullable;
+import net.runelite.client.util.Text;
+
+/**
+ * A bidirectional index of item tags. Each tagged item maps to the ids of its tags, and each tag
+ * maps to the items tagged with it. Items are keyed by their config id, which is negative for
+ * variation tags.
+ * <p>
+ * The config remains the source of truth: every entry records the config value it was parsed
+ * from, so a lookup with a different value re-indexes the item.
+ */
+class TagIndex
+{
+	static final class Entry
+	{
+		private static final Entry EMPTY = new Entry(null, Collections.emptySet(), new BitSet());
+
+		@Nullable
+		private final String value;
+		private final Set<String> tags;
+		private final BitSet tagIds;
+
+		private Entry(@Nullable String value, Set<String> tags, BitSet tagIds)
+		{
+			this.value = value;
+			this.tags = tags;
+			this.tagIds = tagIds;
+		}
+
+		/**
+		 * The tags of the item, in the order they were added
+		 */
+		Set<String> getTags()
+		{
+			return Collections.unmodifiableSet(tags);
+		}
+	}
+
+	private final Map<String, Integer> tagIds = new HashMap<>();
+	private final List<String> tagNames = new ArrayList<>();
+	// the items with each tag; positive and negative config ids are stored in separate sets
+	private final List<BitSet> tagItems = new ArrayList<>();
+	private final List<BitSet> tagVariations = new ArrayList<>();
+	private final Map<Integer, Entry> items = new HashMap<>();
+
+	private String lastPrefix;
+	private BitSet lastMatching;
+
+	/**
+	 * Get the entry for an item, re-indexing it if its config value has changed
+	 *
+	 * @param id the config id of the item
+	 * @param value the current config value of the item
+	 */
+	synchronized Entry get(int id, @Nullable String value)
+	{
+		final Entry entry = items.getOrDefault(id, Entry.EMPTY);
+		// the config returns the same instance until the value is changed
+		if (entry.value == value || (value != null && value.equals(entry.value)))
+		{
+			return entry;
+		}
+		return update(id, value);
+	}
+
+	synchronized Entry update(int id, @Nullable String value)
+	{
+		final Entry old = items.getOrDefault(id, Entry.EMPTY);
+		for (int tag = old.tagIds.nextSetBit(0); tag >= 0; tag = old.tagIds.nextSetBit(tag + 1))
+		{
+			itemsWith(tag, id).clear(Math.abs(id));
+		}
+
+		if (value == null || value.isEmpty())
+		{
+			items.remove(id);
+			return Entry.EMPTY;
+		}
+
+		final Set<String> tags = new LinkedHashSet<>(Text.fromCSV(value.toLowerCase()));
+		final BitSet ids = new BitSet();
+		for (String tag : tags)
+		{
+			final int tagId = intern(tag);
+			ids.set(tagId);
+			itemsWith(tagId, id).set(Math.abs(id));
+		}
+
+		final Entry entry = new Entry(value, tags, ids);
+		items.put(id, entry);
+		return entry;
+	}
+
+	synchronized void clear()
+	{
+		items.clear();
+		for (BitSet set : tagItems)
+		{
+			set.clear();
+		}
+		for (BitSet set : tagVariations)
+		{
+			set.clear();
+		}
+	}
+
+	synchronized boolean contains(int id)
+	{
+		return items.containsKey(id);
+	}
+
+	/**
+	 * Call a consumer with the config id of every item with a tag
+	 */
+	synchronized void forEachItem(String tag, IntConsumer consumer)
+	{
+		final Integer tagId = tagIds.get(tag);
+		if (tagId == null)
+		{
+			return;
+		}
+
+		final BitSet positive = tagItems.get(tagId);
+		for (int id = positive.nextSetBit(0); id >= 0; id = positive.nextSetBit(id + 1))
+		{
+			consumer.accept(id);
+		}
+
+		final BitSet negative = tagVariations.get(tagId);
+		for (int id = negative.nextSetBit(0); id >= 0; id = negative.nextSetBit(id + 1))
+		{
+			consumer.accept(-id);
+		}
+	}
+
+	/**
+	 * Get the ids of the tags which start with a prefix. The set must not be modified.
+	 */
+	synchronized BitSet matching(String prefix)
+	{
+		// the same search is repeated for every item in the bank
+		if (prefix.equals(lastPrefix))
+		{
+			return lastMatching;
+		}
+
+		final BitSet matching = new BitSet();
+		for (int i = 0; i < tagNames.size(); ++i)
+		{
+			if (tagNames.get(i).startsWith(prefix))
+			{
+				matching.set(i);
+			}
+		}
+		lastPrefix = prefix;
+		lastMatching = matching;
+		return matching;
+	}
+
+	static boolean matches(Entry entry, BitSet tagIds)
+	{
+		return entry.tagIds.intersects(tagIds);
+	}
+
+	private int intern(String tag)
+	{
+		Integer id = tagIds.get(tag);
+		if (id == null)
+		{
+			id = tagNames.size();
+			tagIds.put(tag, id);
+			tagNames.add(tag);
+			tagItems.add(new BitSet());
+			tagVariations.add(new BitSet());
+			// a new tag may match the last search
+			lastPrefix = null;
+		}
+		return id;
+	}
+
+	private BitSet itemsWith(int tagId, int id)
+	{
+		return id < 0 ? tagVariations.get(tagId) : tagItems.get(tagId);
+	}
+}
@@ -26,15 +26,22 @@
 package net.runelite.client.plugins.banktags;
 
 import com.google.common.base.Strings;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
@@ -42,20 +49,54 @@ import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFI
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.TAG_HIDDEN_PREFIX;
 import net.runelite.client.util.Text;
 
+@Slf4j
 @Singleton
 public class TagManager
 {
 	private final ConfigManager configManager;
 	private final ItemManager itemManager;
 	private final Map<String, BankTag> customTags = new HashMap<>();
+	private final TagIndex index = new TagIndex();
+	// whether every item key in the config has been indexed
+	private volatile boolean indexLoaded;
 
 	@Inject
 	private TagManager(
 		final ItemManager itemManager,
-		final ConfigManager configManager)
+		final ConfigManager configManager,
+		final EventBus eventBus)
 	{
 		this.itemManager = itemManager;
 		this.configManager = configManager;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (!configChanged.getGroup().equals(CONFIG_GROUP) || configChanged.getProfile() != null
+			|| !configChanged.getKey().startsWith(ITEM_KEY_PREFIX))
+		{
+			return;
+		}
+
+		final int id;
+		try
+		{
+			id = Integer.parseInt(configChanged.getKey().substring(ITEM_KEY_PREFIX.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			return;
+		}
+		index.update(id, configChanged.getNewValue());
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		index.clear();
+		indexLoaded = false;
 	}
 
 	String getTagString(int itemId, boolean variation)
@@ -73,7 +114,12 @@ public class TagManager
 
 	Collection<String> getTags(int itemId, boolean variation)
 	{
-		return new LinkedHashSet<>(Text.fromCSV(getTagString(itemId, variation).toLowerCase()));
+		return new LinkedHashSet<>(getEntry(getItemId(itemId, variation)).getTags());
+	}
+
+	private TagIndex.Entry getEntry(int configId)
+	{
+		return index.get(configId, configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + configId));
 	}
 
 	void setTagString(int itemId, String tags, boolean variation)
@@ -88,6 +134,7 @@ public class TagManager
 		{
 			configManager.setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + itemId, tags);
 		}
+		getEntry(itemId);
 	}
 
 	public void addTags(int itemId, final Collection<String> t, boolean variation)
@@ -115,28 +162,75 @@ public class TagManager
 
 	boolean findTag(int itemId, String search)
 	{
-		Collection<String> tags = getTags(itemId, false);
-		tags.addAll(getTags(itemId, true));
-		return tags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search)));
+		final TagIndex.Entry tags = getEntry(getItemId(itemId, false));
+		final TagIndex.Entry variationTags = getEntry(getItemId(itemId, true));
+		// looked up after the entries, which may have added new tags
+		final BitSet matching = index.matching(Text.standardize(search));
+		return TagIndex.matches(tags, matching) || TagIndex.matches(variationTags, matching);
 	}
 
+	/**
+	 * Get the config ids of the items which have a tag, either on the item itself or on its variations
+	 */
 	public List<Integer> getItemsForTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		return configManager.getConfigurationKeys(prefix).stream()
-			.map(item -> Integer.parseInt(item.replace(prefix, "")))
-			.filter(item -> getTags(item, false).contains(tag) || getTags(item, true).contains(tag))
-			.collect(Collectors.toList());
+		loadIndex();
+
+		final Set<Integer> items = new LinkedHashSet<>();
+		index.forEachItem(tag, id ->
+		{
+			items.add(id);
+			if (id > 0)
+			{
+				// the variation entry of the item also matches through the item's own tags
+				if (index.contains(-id))
+				{
+					items.add(-id);
+				}
+			}
+			else
+			{
+				// a variation tag matches every item in the variation which has tags of its own
+				if (index.contains(-id))
+				{
+					items.add(-id);
+				}
+				for (int variation : ItemVariationMapping.getVariations(-id))
+				{
+					if (index.contains(variation))
+					{
+						items.add(variation);
+					}
+				}
+			}
+		});
+		return new ArrayList<>(items);
 	}
 
-	public void removeTag(String tag)
+	private void loadIndex()
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		configManager.getConfigurationKeys(prefix).forEach(item ->
+		if (indexLoaded)
 		{
-			int id = Integer.parseInt(item.replace(prefix, ""));
-			removeTag(id, tag);
-		});
+			return;
+		}
+
+		for (String key : configManager.getConfigurationKeys(CONFIG_GROUP, ITEM_KEY_PREFIX))
+		{
+			try
+			{
+				getEntry(Integer.parseInt(key.substring(ITEM_KEY_PREFIX.length())));
+			}
+			catch (NumberFormatException ex)
+			{
+				log.debug("invalid bank tag key {}", key);
+			}
+		}
+		indexLoaded = true;
+	}
+
+	public void removeTag(String tag)
+	{
+		getItemsForTag(Text.standardize(tag)).forEach(id -> removeTag(id, tag));
 
 		setHidden(tag, false);
 	}
@@ -52,6 +52,8 @@ class BarrowsBrotherSlainOverlay extends OverlayPanel
 		super(plugin);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(PRIORITY_LOW);
+		// redrawn by the plugin when the brothers interface opens or closes, or a kill varbit changes
+		setCached(true);
 		this.client = client;
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Barrows overlay");
 	}
@@ -37,11 +37,13 @@ import net.runelite.api.ItemContainer;
 import net.runelite.api.Player;
 import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.events.WidgetClosed;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.SpriteID;
+import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatMessageBuilder;
@@ -79,6 +81,7 @@ public class BarrowsPlugin extends Plugin
 	private static final int BARROWS_REGION_ID = 14131;
 
 	private LoopTimer barrowsPrayerDrainTimer;
+	private boolean brothersShown;
 
 	@Getter
 	private Widget puzzleAnswer;
@@ -129,6 +132,7 @@ public class BarrowsPlugin extends Plugin
 		overlayManager.remove(barrowsOverlay);
 		overlayManager.remove(brotherOverlay);
 		puzzleAnswer = null;
+		brothersShown = false;
 		stopPrayerDrainTimer();
 
 		// Restore widgets
@@ -234,6 +238,12 @@ public class BarrowsPlugin extends Plugin
 			barrowsBrothers.setHidden(true);
 		}
 
+		if ((barrowsBrothers != null) != brothersShown)
+		{
+			brothersShown = barrowsBrothers != null;
+			brotherOverlay.invalidate();
+		}
+
 		final Widget potential = client.getWidget(InterfaceID.BarrowsOverlay.KILLCOUNT);
 		if (potential != null)
 		{
@@ -241,6 +251,25 @@ public class BarrowsPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		if (event.getVarbitId() == VarbitID.BARROWS_KILLED_MONSTER)
+		{
+			brotherOverlay.invalidate();
+			return;
+		}
+
+		for (BarrowsBrothers brother : BarrowsBrothers.values())
+		{
+			if (event.getVarbitId() == brother.getKilledVarbit())
+			{
+				brotherOverlay.invalidate();
+				return;
+			}
+		}
+	}
+
 	@Subscribe
 	public void onWidgetClosed(WidgetClosed widgetClosed)
 	{
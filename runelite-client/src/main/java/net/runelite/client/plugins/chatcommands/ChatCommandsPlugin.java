@@ -41,7 +41,6 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,6 +72,7 @@ import net.runelite.api.gameval.VarPlayerID;
 import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.chat.BatchedChatClient;
 import net.runelite.client.chat.ChatClient;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatCommandManager;
@@ -82,8 +82,8 @@ import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatInput;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.hiscore.HiscoreClient;
 import net.runelite.client.hiscore.HiscoreEndpoint;
+import net.runelite.client.hiscore.HiscoreManager;
 import net.runelite.client.hiscore.HiscoreResult;
 import net.runelite.client.hiscore.HiscoreSkill;
 import net.runelite.client.hiscore.Skill;
@@ -94,7 +94,6 @@ import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.client.util.ImageUtil;
 import net.runelite.client.util.QuantityFormatter;
 import net.runelite.client.util.Text;
-import net.runelite.http.api.chat.Duels;
 import net.runelite.http.api.item.ItemPrice;
 import org.apache.commons.text.WordUtils;
 
@@ -193,11 +192,14 @@ public class ChatCommandsPlugin extends Plugin
 	private ChatKeyboardListener chatKeyboardListener;
 
 	@Inject
-	private HiscoreClient hiscoreClient;
+	private HiscoreManager hiscoreManager;
 
 	@Inject
 	private ChatClient chatClient;
 
+	@Inject
+	private BatchedChatClient batchedChatClient;
+
 	@Inject
 	private RuneLiteConfig runeLiteConfig;
 
@@ -945,6 +947,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitKc(playerName, boss, kc);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -973,7 +976,7 @@ public class ChatCommandsPlugin extends Plugin
 		}
 
 		ChatMessageType type = chatMessage.getType();
-		String search = message.substring(KILLCOUNT_COMMAND_STRING.length() + 1);
+		final String search = longBossName(message.substring(KILLCOUNT_COMMAND_STRING.length() + 1));
 
 		final String player;
 		if (type.equals(ChatMessageType.PRIVATECHATOUT))
@@ -985,32 +988,28 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		search = longBossName(search);
-
-		final int kc;
-		try
-		{
-			kc = chatClient.getKc(player, search);
-		}
-		catch (IOException ex)
+		batchedChatClient.getKc(player, search).whenComplete((kc, ex) ->
 		{
-			log.debug("unable to lookup killcount", ex);
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup killcount", ex);
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.HIGHLIGHT)
-			.append(search)
-			.append(ChatColorType.NORMAL)
-			.append(" kill count: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(String.format("%,d", kc))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.HIGHLIGHT)
+				.append(search)
+				.append(ChatColorType.NORMAL)
+				.append(" kill count: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(String.format("%,d", kc))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean duelArenaSubmit(ChatInput chatInput, String value)
@@ -1032,6 +1031,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitDuels(playerName, wins, losses, winningStreak, losingStreak);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1065,41 +1065,39 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		Duels duels;
-		try
-		{
-			duels = chatClient.getDuels(player);
-		}
-		catch (IOException ex)
+		batchedChatClient.getDuels(player).whenComplete((duels, ex) ->
 		{
-			log.debug("unable to lookup duels", ex);
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup duels", ex);
+				return;
+			}
+
+			final int wins = duels.getWins();
+			final int losses = duels.getLosses();
+			final int winningStreak = duels.getWinningStreak();
+			final int losingStreak = duels.getLosingStreak();
+
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Duel Arena wins: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(String.format("%,d", wins))
+				.append(ChatColorType.NORMAL)
+				.append("   losses: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(String.format("%,d", losses))
+				.append(ChatColorType.NORMAL)
+				.append("   streak: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(String.format("%,d", winningStreak != 0 ? winningStreak : -losingStreak))
+				.build();
 
-		final int wins = duels.getWins();
-		final int losses = duels.getLosses();
-		final int winningStreak = duels.getWinningStreak();
-		final int losingStreak = duels.getLosingStreak();
-
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Duel Arena wins: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(String.format("%,d", wins))
-			.append(ChatColorType.NORMAL)
-			.append("   losses: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(String.format("%,d", losses))
-			.append(ChatColorType.NORMAL)
-			.append("   streak: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(String.format("%,d", winningStreak != 0 ? winningStreak : -losingStreak))
-			.build();
-
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private void questPointsLookup(ChatMessage chatMessage, String message)
@@ -1121,28 +1119,26 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		int qp;
-		try
-		{
-			qp = chatClient.getQp(player);
-		}
-		catch (IOException ex)
+		batchedChatClient.getQp(player).whenComplete((qp, ex) ->
 		{
-			log.debug("unable to lookup quest points", ex);
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup quest points", ex);
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Quest points: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(Integer.toString(qp))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Quest points: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(Integer.toString(qp))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean questPointsSubmit(ChatInput chatInput, String value)
@@ -1155,6 +1151,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitQp(playerName, qp);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1182,7 +1179,7 @@ public class ChatCommandsPlugin extends Plugin
 		}
 
 		ChatMessageType type = chatMessage.getType();
-		String search = message.substring(PB_COMMAND.length() + 1);
+		final String search = longBossName(message.substring(PB_COMMAND.length() + 1));
 
 		final String player;
 		if (type.equals(ChatMessageType.PRIVATECHATOUT))
@@ -1194,32 +1191,28 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		search = longBossName(search);
-
-		final double pb;
-		try
+		batchedChatClient.getPb(player, search).whenComplete((pb, ex) ->
 		{
-			pb = chatClient.getPb(player, search);
-		}
-		catch (IOException ex)
-		{
-			log.debug("unable to lookup personal best", ex);
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup personal best", ex);
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.HIGHLIGHT)
-			.append(search)
-			.append(ChatColorType.NORMAL)
-			.append(" personal best: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(secondsToTimeString(pb))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.HIGHLIGHT)
+				.append(search)
+				.append(ChatColorType.NORMAL)
+				.append(" personal best: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(secondsToTimeString(pb))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean personalBestSubmit(ChatInput chatInput, String value)
@@ -1240,6 +1233,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitPb(playerName, boss, pb);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1273,28 +1267,26 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		int gc;
-		try
+		batchedChatClient.getGc(player).whenComplete((gc, ex) ->
 		{
-			gc = chatClient.getGc(player);
-		}
-		catch (IOException ex)
-		{
-			log.debug("unable to lookup gamble count", ex);
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup gamble count", ex);
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Barbarian Assault High-level gambles: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(String.format("%,d", gc))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Barbarian Assault High-level gambles: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(String.format("%,d", gc))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean gambleCountSubmit(ChatInput chatInput, String value)
@@ -1307,6 +1299,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitGc(playerName, gc);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1347,47 +1340,45 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		Set<Integer> playerPetList;
-		try
-		{
-			playerPetList = chatClient.getPetList(player);
-		}
-		catch (IOException ex)
+		batchedChatClient.getPetList(player).whenComplete((playerPetList, ex) ->
 		{
-			log.debug("unable to lookup pet list", ex);
-
-			if (player.equals(client.getLocalPlayer().getName()))
+			if (ex != null)
 			{
-				String response = "Open the 'All Pets' tab in the Collection Log to update your pet list";
-				log.debug("Setting response {}", response);
-				final MessageNode messageNode = chatMessage.getMessageNode();
-				messageNode.setValue(response);
-				client.refreshChat();
+				log.debug("unable to lookup pet list", ex);
+
+				if (player.equals(client.getLocalPlayer().getName()))
+				{
+					String response = "Open the 'All Pets' tab in the Collection Log to update your pet list";
+					log.debug("Setting response {}", response);
+					final MessageNode messageNode = chatMessage.getMessageNode();
+					messageNode.setValue(response);
+					client.refreshChat();
+				}
+				return;
 			}
-			return;
-		}
 
-		ChatMessageBuilder responseBuilder = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Pets: ")
-			.append("(" + playerPetList.size() + ")");
+			ChatMessageBuilder responseBuilder = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Pets: ")
+				.append("(" + playerPetList.size() + ")");
 
-		// Append pets that the player owns
-		for (int petIdx = 0; petIdx < pets.length; ++petIdx)
-		{
-			final int petId = pets[petIdx];
-			if (playerPetList.contains(petId))
+			// Append pets that the player owns
+			for (int petIdx = 0; petIdx < pets.length; ++petIdx)
 			{
-				responseBuilder.append(" ").img(petsIconIdx + petIdx);
+				final int petId = pets[petIdx];
+				if (playerPetList.contains(petId))
+				{
+					responseBuilder.append(" ").img(petsIconIdx + petIdx);
+				}
 			}
-		}
 
-		String response = responseBuilder.build();
+			String response = responseBuilder.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	/**
@@ -1408,6 +1399,7 @@ public class ChatCommandsPlugin extends Plugin
 				if (!petList.isEmpty())
 				{
 					chatClient.submitPetList(playerName, petList);
+					batchedChatClient.invalidate(playerName);
 				}
 			}
 			catch (Exception ex)
@@ -1442,28 +1434,26 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		int num;
-		try
-		{
-			num = chatClient.getKc(player, "Combat Achievements");
-		}
-		catch (IOException ex)
+		batchedChatClient.getKc(player, "Combat Achievements").whenComplete((num, ex) ->
 		{
-			log.debug("unable to lookup combat achievements");
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup combat achievements");
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Combat Achievements: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(Integer.toString(num))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Combat Achievements: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(Integer.toString(num))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean caSubmit(ChatInput chatInput, String value)
@@ -1481,6 +1471,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitKc(playerName, "Combat Achievements", tasks);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1514,28 +1505,26 @@ public class ChatCommandsPlugin extends Plugin
 			player = Text.sanitize(chatMessage.getName());
 		}
 
-		int num;
-		try
-		{
-			num = chatClient.getKc(player, "Collections Logged");
-		}
-		catch (IOException ex)
+		batchedChatClient.getKc(player, "Collections Logged").whenComplete((num, ex) ->
 		{
-			log.debug("unable to lookup clog");
-			return;
-		}
+			if (ex != null)
+			{
+				log.debug("unable to lookup clog");
+				return;
+			}
 
-		String response = new ChatMessageBuilder()
-			.append(ChatColorType.NORMAL)
-			.append("Collections Logged: ")
-			.append(ChatColorType.HIGHLIGHT)
-			.append(Integer.toString(num))
-			.build();
+			String response = new ChatMessageBuilder()
+				.append(ChatColorType.NORMAL)
+				.append("Collections Logged: ")
+				.append(ChatColorType.HIGHLIGHT)
+				.append(Integer.toString(num))
+				.build();
 
-		log.debug("Setting response {}", response);
-		final MessageNode messageNode = chatMessage.getMessageNode();
-		messageNode.setRuneLiteFormatMessage(response);
-		client.refreshChat();
+			log.debug("Setting response {}", response);
+			final MessageNode messageNode = chatMessage.getMessageNode();
+			messageNode.setRuneLiteFormatMessage(response);
+			client.refreshChat();
+		});
 	}
 
 	private boolean clogSubmit(ChatInput chatInput, String value)
@@ -1548,6 +1537,7 @@ public class ChatCommandsPlugin extends Plugin
 			try
 			{
 				chatClient.submitKc(playerName, "Collections Logged", clog);
+				batchedChatClient.invalidate(playerName);
 			}
 			catch (Exception ex)
 			{
@@ -1659,7 +1649,7 @@ public class ChatCommandsPlugin extends Plugin
 
 		try
 		{
-			final HiscoreResult result = hiscoreClient.lookup(lookup.getName(), lookup.getEndpoint());
+			final HiscoreResult result = hiscoreManager.lookup(lookup.getName(), lookup.getEndpoint());
 			if (result == null)
 			{
 				log.warn("unable to look up skill {} for {}: not found", skill, search);
@@ -1711,7 +1701,7 @@ public class ChatCommandsPlugin extends Plugin
 
 		try
 		{
-			HiscoreResult playerStats = hiscoreClient.lookup(lookup.getName(), lookup.getEndpoint());
+			HiscoreResult playerStats = hiscoreManager.lookup(lookup.getName(), lookup.getEndpoint());
 
 			if (playerStats == null)
 			{
@@ -1836,7 +1826,7 @@ public class ChatCommandsPlugin extends Plugin
 				HiscoreEndpoint.SEASONAL :
 				lookup.getEndpoint();
 
-			final HiscoreResult result = hiscoreClient.lookup(lookup.getName(), endPoint);
+			final HiscoreResult result = hiscoreManager.lookup(lookup.getName(), endPoint);
 
 			if (result == null)
 			{
@@ -1915,7 +1905,7 @@ public class ChatCommandsPlugin extends Plugin
 		{
 			final Skill hiscoreSkill;
 			final HiscoreLookup lookup = getCorrectLookupFor(chatMessage);
-			final HiscoreResult result = hiscoreClient.lookup(lookup.getName(), lookup.getEndpoint());
+			final HiscoreResult result = hiscoreManager.lookup(lookup.getName(), lookup.getEndpoint());
 
 			if (result == null)
 			{
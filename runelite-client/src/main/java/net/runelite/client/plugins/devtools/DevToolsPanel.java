@@ -40,6 +40,7 @@ import net.runelite.api.GameState;
 import net.runelite.api.MenuAction;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.overlay.OverlayMenuEntry;
@@ -62,6 +63,7 @@ class DevToolsPanel extends PluginPanel
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
+	private final Metrics metrics;
 
 	@Inject
 	private DevToolsPanel(
@@ -75,7 +77,8 @@ class DevToolsPanel extends PluginPanel
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
-		ScheduledExecutorService scheduledExecutorService)
+		ScheduledExecutorService scheduledExecutorService,
+		Metrics metrics)
 	{
 		super();
 		this.client = client;
@@ -89,6 +92,7 @@ class DevToolsPanel extends PluginPanel
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
+		this.metrics = metrics;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -220,6 +224,9 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getWorldEntities());
 
+		container.add(plugin.getProfiler());
+		plugin.getProfiler().addActionListener((ev) -> metrics.setEnabled(!plugin.getProfiler().isActive()));
+
 		return container;
 	}
 }
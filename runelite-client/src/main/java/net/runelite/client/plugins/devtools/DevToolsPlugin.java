@@ -76,6 +76,7 @@ import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.ClientToolbar;
@@ -129,6 +130,12 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private SoundEffectOverlay soundEffectOverlay;
 
+	@Inject
+	private ProfilerOverlay profilerOverlay;
+
+	@Inject
+	private Metrics metrics;
+
 	@Inject
 	private EventBus eventBus;
 
@@ -173,6 +180,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton menus;
 	private DevToolsButton uiDefaultsInspector;
 	private DevToolsButton worldEntities;
+	private DevToolsButton profiler;
 	private NavigationButton navButton;
 
 	private final HotkeyListener swingInspectorHotkeyListener = new HotkeyListener(() -> config.swingInspectorHotkey())
@@ -277,6 +285,7 @@ public class DevToolsPlugin extends Plugin
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
 		worldEntities = new DevToolsButton("World Entities");
+		profiler = new DevToolsButton("Profiler");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -285,6 +294,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
+		overlayManager.add(profilerOverlay);
 
 		final DevToolsPanel panel = injector.getInstance(DevToolsPanel.class);
 
@@ -315,6 +325,11 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
+		overlayManager.remove(profilerOverlay);
+		if (profiler.isActive())
+		{
+			metrics.setEnabled(false);
+		}
 		clientToolbar.removeNavigation(navButton);
 		Toolkit.getDefaultToolkit().removeAWTEventListener(swingInspectorKeyListener);
 	}
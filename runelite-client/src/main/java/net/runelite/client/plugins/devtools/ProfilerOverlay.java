@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import net.runelite.client.metrics.Histogram;
+import net.runelite.client.metrics.Metrics;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayRenderMetrics;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+/**
+ * Shows the metrics which took the most time over the last second, and the overlays
+ * which take the longest to render
+ */
+class ProfilerOverlay extends OverlayPanel
+{
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final int MAX_ROWS = 12;
+	private static final int MAX_OVERLAY_ROWS = 6;
+
+	private final DevToolsPlugin plugin;
+	private final Metrics metrics;
+	private final OverlayManager overlayManager;
+
+	private final Map<Metrics.Name, Histogram.Snapshot> previous = new HashMap<>();
+	private final List<Row> rows = new ArrayList<>();
+	private final List<Overlay> slowOverlays = new ArrayList<>();
+	private long lastWindow;
+
+	private static final class Row
+	{
+		private final String name;
+		private final Histogram.Snapshot snapshot;
+
+		private Row(String name, Histogram.Snapshot snapshot)
+		{
+			this.name = name;
+			this.snapshot = snapshot;
+		}
+	}
+
+	@Inject
+	ProfilerOverlay(DevToolsPlugin plugin, Metrics metrics, OverlayManager overlayManager)
+	{
+		this.plugin = plugin;
+		this.metrics = metrics;
+		this.overlayManager = overlayManager;
+		setPosition(OverlayPosition.TOP_LEFT);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!plugin.getProfiler().isActive())
+		{
+			previous.clear();
+			rows.clear();
+			slowOverlays.clear();
+			lastWindow = 0;
+			return null;
+		}
+
+		final long now = System.nanoTime();
+		if (now - lastWindow >= WINDOW_NANOS)
+		{
+			lastWindow = now;
+			updateRows();
+			updateOverlays();
+		}
+
+		panelComponent.setPreferredSize(new Dimension(260, 0));
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Time/s, p50, p99 (ms)")
+			.build());
+
+		for (Row row : rows)
+		{
+			final Histogram.Snapshot s = row.snapshot;
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left(row.name)
+				.right(String.format("%.1f %.2f %.2f", millis(s.getSum()), millis(s.percentile(.5)), millis(s.percentile(.99))))
+				.build());
+		}
+
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Overlays: avg, max (ms), cached")
+			.build());
+
+		for (Overlay overlay : slowOverlays)
+		{
+			final OverlayRenderMetrics m = overlay.getRenderMetrics();
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left(overlay.getName())
+				.right(String.format("%.2f %.2f %d%%", m.getAverageRenderTime() / 1e6, millis(m.getMaxRenderTime()),
+					m.getRenders() == 0 ? 0 : m.getCacheHits() * 100 / m.getRenders()))
+				.build());
+		}
+
+		return super.render(graphics);
+	}
+
+	private void updateRows()
+	{
+		rows.clear();
+		for (Map.Entry<Metrics.Name, Histogram> entry : metrics.getHistograms().entrySet())
+		{
+			final Histogram.Snapshot snapshot = entry.getValue().snapshot();
+			final Histogram.Snapshot last = previous.put(entry.getKey(), snapshot);
+			if (last == null)
+			{
+				continue;
+			}
+
+			final Histogram.Snapshot window = snapshot.since(last);
+			if (window.getCount() > 0)
+			{
+				final Metrics.Name name = entry.getKey();
+				rows.add(new Row(name.getLabel() != null ? name.getLabel() : name.getName(), window));
+			}
+		}
+
+		rows.sort(Comparator.comparingLong((Row r) -> r.snapshot.getSum()).reversed());
+		if (rows.size() > MAX_ROWS)
+		{
+			rows.subList(MAX_ROWS, rows.size()).clear();
+		}
+	}
+
+	private void updateOverlays()
+	{
+		slowOverlays.clear();
+		for (Overlay overlay : overlayManager.getAllOverlays())
+		{
+			if (overlay != this && overlay.getRenderMetrics().getRenders() > 0)
+			{
+				slowOverlays.add(overlay);
+			}
+		}
+
+		slowOverlays.sort(Comparator.comparingDouble((Overlay o) -> o.getRenderMetrics().getAverageRenderTime()).reversed());
+		if (slowOverlays.size() > MAX_OVERLAY_ROWS)
+		{
+			slowOverlays.subList(MAX_OVERLAY_ROWS, slowOverlays.size()).clear();
+		}
+	}
+
+	private static double millis(long nanos)
+	{
+		return nanos / 1e6;
+	}
+}
@@ -68,6 +68,8 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.game.WidgetSnapshot;
+import net.runelite.client.game.WidgetSnapshotService;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 
@@ -92,6 +94,7 @@ class WidgetInspector extends DevToolsFrame
 	private final DevToolsConfig config;
 	private final Provider<WidgetInspectorOverlay> overlay;
 	private final OverlayManager overlayManager;
+	private final WidgetSnapshotService widgetSnapshotService;
 
 	private final JTree widgetTree;
 	private final WidgetInfoTableModel infoTableModel;
@@ -116,7 +119,8 @@ class WidgetInspector extends DevToolsFrame
 		DevToolsConfig config,
 		EventBus eventBus,
 		Provider<WidgetInspectorOverlay> overlay,
-		OverlayManager overlayManager)
+		OverlayManager overlayManager,
+		WidgetSnapshotService widgetSnapshotService)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
@@ -124,6 +128,7 @@ class WidgetInspector extends DevToolsFrame
 		this.config = config;
 		this.overlay = overlay;
 		this.overlayManager = overlayManager;
+		this.widgetSnapshotService = widgetSnapshotService;
 
 		eventBus.register(this);
 
@@ -202,20 +207,30 @@ class WidgetInspector extends DevToolsFrame
 	{
 		clientThread.invokeLater(() ->
 		{
-			Widget[] rootWidgets = client.getWidgetRoots();
+			// always show the live tree, eg. including widgets created since the last interface change
+			widgetSnapshotService.invalidate();
+			final WidgetSnapshot snapshot = widgetSnapshotService.getSnapshot();
+			final DefaultMutableTreeNode[] nodes = new DefaultMutableTreeNode[snapshot.size()];
+			final boolean skipHidden = hideHidden.isSelected();
 			root = new DefaultMutableTreeNode();
 
 			Widget wasSelectedWidget = selectedWidget;
 
 			selectedWidget = null;
 
-			for (Widget widget : rootWidgets)
+			for (int i = 0; i < snapshot.size(); )
 			{
-				DefaultMutableTreeNode childNode = addWidget("R", widget);
-				if (childNode != null)
+				if (skipHidden && snapshot.isHidden(i))
 				{
-					root.add(childNode);
+					i = snapshot.getEnd(i);
+					continue;
 				}
+
+				final DefaultMutableTreeNode node = new WidgetTreeNode(String.valueOf((char) snapshot.getKind(i)), snapshot.getWidget(i));
+				final int parent = snapshot.getParent(i);
+				(parent == -1 ? root : nodes[parent]).add(node);
+				nodes[i] = node;
+				++i;
 			}
 
 			SwingUtilities.invokeLater(() ->
@@ -226,57 +241,6 @@ class WidgetInspector extends DevToolsFrame
 		});
 	}
 
-	private DefaultMutableTreeNode addWidget(String type, Widget widget)
-	{
-		if (widget == null || (hideHidden.isSelected() && widget.isHidden()))
-		{
-			return null;
-		}
-
-		DefaultMutableTreeNode node = new WidgetTreeNode(type, widget);
-
-		Widget[] childComponents = widget.getDynamicChildren();
-		if (childComponents != null)
-		{
-			for (Widget component : childComponents)
-			{
-				DefaultMutableTreeNode childNode = addWidget("D", component);
-				if (childNode != null)
-				{
-					node.add(childNode);
-				}
-			}
-		}
-
-		childComponents = widget.getStaticChildren();
-		if (childComponents != null)
-		{
-			for (Widget component : childComponents)
-			{
-				DefaultMutableTreeNode childNode = addWidget("S", component);
-				if (childNode != null)
-				{
-					node.add(childNode);
-				}
-			}
-		}
-
-		childComponents = widget.getNestedChildren();
-		if (childComponents != null)
-		{
-			for (Widget component : childComponents)
-			{
-				DefaultMutableTreeNode childNode = addWidget("N", component);
-				if (childNode != null)
-				{
-					node.add(childNode);
-				}
-			}
-		}
-
-		return node;
-	}
-
 	private void setSelectedWidget(Widget widget, boolean updateTree)
 	{
 		infoTableModel.setWidget(widget);
@@ -71,7 +71,8 @@ import okhttp3.Response;
 @PluginDescriptor(
 	name = "Discord",
 	description = "Show your status and activity in the Discord user panel",
-	tags = {"action", "activity", "external", "integration", "status"}
+	tags = {"action", "activity", "external", "integration", "status"},
+	deferredStartup = true
 )
 @Slf4j
 public class DiscordPlugin extends Plugin
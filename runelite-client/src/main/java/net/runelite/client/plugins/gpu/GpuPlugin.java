@@ -67,6 +67,8 @@ import net.runelite.client.callback.RenderCallbackManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.metrics.Histogram;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.PluginInstantiationException;
@@ -133,6 +135,10 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	@Inject
 	private RenderCallbackManager renderCallbackManager;
 
+	@Inject
+	private Metrics metrics;
+	private Histogram drawTimes;
+
 	private Canvas canvas;
 	private AWTContext awtContext;
 	private Callback debugCallback;
@@ -271,6 +277,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	@Override
 	protected void startUp()
 	{
+		drawTimes = metrics.histogram(Metrics.GPU_DRAW);
 		root = new SceneContext(NUM_ZONES, NUM_ZONES);
 		subs = new SceneContext[MAX_WORLDVIEWS];
 		clientUploader = new SceneUploader(renderCallbackManager);
@@ -1395,6 +1402,19 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 	@Override
 	public void draw(int overlayColor)
+	{
+		final long start = metrics.start();
+		try
+		{
+			drawFrame(overlayColor);
+		}
+		finally
+		{
+			drawTimes.recordSince(start);
+		}
+	}
+
+	private void drawFrame(int overlayColor)
 	{
 		final GameState gameState = client.getGameState();
 		if (gameState == GameState.STARTING)
@@ -48,7 +48,6 @@ class GroundItem
 	private ItemLayer itemLayer;
 	private int haPrice;
 	private int gePrice;
-	private int offset;
 	private boolean tradeable;
 	@MagicConstant(intValues = {OWNERSHIP_NONE, OWNERSHIP_SELF, OWNERSHIP_OTHER, OWNERSHIP_GROUP})
 	private int ownership;
@@ -63,6 +62,7 @@ class GroundItem
 	boolean highlighted;
 	boolean hidden;
 	Color color;
+	String label;
 
 	int getHaPrice()
 	{
@@ -78,5 +78,6 @@ class GroundItem
 	{
 		highlighted = hidden = false;
 		color = null;
+		label = null;
 	}
 }
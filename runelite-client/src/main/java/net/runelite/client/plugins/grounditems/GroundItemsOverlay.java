@@ -27,6 +27,7 @@ package net.runelite.client.plugins.grounditems;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
@@ -36,9 +37,11 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
+import net.runelite.api.ItemLayer;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
@@ -74,6 +77,8 @@ public class GroundItemsOverlay extends Overlay
 	private static final Color PUBLIC_TIMER_COLOR = Color.YELLOW;
 	private static final Color PRIVATE_TIMER_COLOR = Color.GREEN;
 	private static final int TIMER_OVERLAY_DIAMETER = 10;
+	// Labels are culled once their tile is this far outside the viewport, to leave room for the timers and boxes
+	private static final int CULL_MARGIN = 64;
 
 	private final Client client;
 	private final GroundItemsPlugin plugin;
@@ -82,7 +87,24 @@ public class GroundItemsOverlay extends Overlay
 	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
 	private final TextComponent textComponent = new TextComponent();
 	private final ProgressPieComponent progressPieComponent = new ProgressPieComponent();
-	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+	// the labels drawn on each tile, rebuilt when the tile changes
+	private final Map<WorldPoint, LabelStack> labelStacks = new HashMap<>();
+	private boolean stacksHotKeyPressed;
+	private int stacksAccountType;
+	private Font stacksFont;
+
+	private static class LabelStack
+	{
+		private final GroundItem[] items;
+		private final int[] widths;
+		private int maxWidth;
+
+		private LabelStack(GroundItem[] items)
+		{
+			this.items = items;
+			this.widths = new int[items.length];
+		}
+	}
 
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
@@ -113,57 +135,22 @@ public class GroundItemsOverlay extends Overlay
 			return null;
 		}
 
-		offsetMap.clear();
+		final boolean hotKeyPressed = plugin.isHotKeyPressed();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
 		GroundItem topGroundItem = null;
 
-		if (plugin.isHotKeyPressed())
+		if (hotKeyPressed)
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
+			// The item hovered last frame is drawn last, so that it is on top of the other labels
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
-			GroundItem groundItem = null;
-
-			for (GroundItem item : groundItemList)
+			topGroundItem = hoveredItem(plugin.getTextBoxBounds(), awtMousePos);
+			if (topGroundItem == null)
 			{
-				item.setOffset(offsetMap.compute(item.getItemLayer().getWorldLocation(), (k, v) -> v != null ? v + 1 : 0));
-
-				if (groundItem != null)
-				{
-					continue;
-				}
-
-				if (plugin.getTextBoxBounds() != null
-					&& item.equals(plugin.getTextBoxBounds().getValue())
-					&& plugin.getTextBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-					continue;
-				}
-
-				if (plugin.getHiddenBoxBounds() != null
-					&& item.equals(plugin.getHiddenBoxBounds().getValue())
-					&& plugin.getHiddenBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-					continue;
-				}
-
-				if (plugin.getHighlightBoxBounds() != null
-					&& item.equals(plugin.getHighlightBoxBounds().getValue())
-					&& plugin.getHighlightBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-				}
+				topGroundItem = hoveredItem(plugin.getHiddenBoxBounds(), awtMousePos);
 			}
-
-			if (groundItem != null)
+			if (topGroundItem == null)
 			{
-				groundItemList.remove(groundItem);
-				groundItemList.add(groundItem);
-				topGroundItem = groundItem;
+				topGroundItem = hoveredItem(plugin.getHighlightBoxBounds(), awtMousePos);
 			}
 		}
 
@@ -172,49 +159,64 @@ public class GroundItemsOverlay extends Overlay
 		plugin.setHighlightBoxBounds(null);
 
 		final LocalPoint localLocation = player.getLocalLocation();
-		final DespawnTimerMode groundItemTimers = config.groundItemTimers();
-		final boolean outline = config.textOutline();
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(VarbitID.IRONMAN);
 
-		for (GroundItem item : groundItemList)
+		if (hotKeyPressed != stacksHotKeyPressed || accountType != stacksAccountType || fm.getFont() != stacksFont)
 		{
-			final WorldView wv = item.getItemLayer().getWorldView();
-			final LocalPoint groundPoint = LocalPoint.fromWorld(wv, item.getItemLayer().getWorldLocation());
+			labelStacks.clear();
+			stacksHotKeyPressed = hotKeyPressed;
+			stacksAccountType = accountType;
+			stacksFont = fm.getFont();
+		}
 
-			if (groundPoint == null
-				|| (groundPoint.getWorldView() == WorldView.TOPLEVEL && localLocation.distanceTo(groundPoint) > MAX_DISTANCE)
-				|| !plugin.shouldDisplayItem(ownershipFilterMode, item.getOwnership(), accountType))
+		final int viewportX = client.getViewportXOffset();
+		final int viewportY = client.getViewportYOffset();
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+		final boolean highlightTiles = config.highlightTiles();
+		final DespawnTimerMode groundItemTimers = config.groundItemTimers();
+		final boolean outline = config.textOutline();
+
+		GroundItem deferredItem = null;
+		int deferredWidth = 0, deferredX = 0, deferredY = 0;
+
+		for (Map.Entry<WorldPoint, Map<Integer, GroundItem>> tile : plugin.getCollectedGroundItems().rowMap().entrySet())
+		{
+			final WorldPoint worldPoint = tile.getKey();
+			LabelStack stack = labelStacks.get(worldPoint);
+			if (stack == null)
+			{
+				stack = buildStack(tile.getValue().values(), fm, hotKeyPressed, ownershipFilterMode, accountType);
+				labelStacks.put(worldPoint, stack);
+			}
+
+			final GroundItem[] items = stack.items;
+			if (items.length == 0)
 			{
 				continue;
 			}
 
-			plugin.updateItemColor(item);
+			final ItemLayer itemLayer = items[0].getItemLayer();
+			final WorldView wv = itemLayer.getWorldView();
+			final LocalPoint groundPoint = LocalPoint.fromWorld(wv, worldPoint);
 
-			if (!item.highlighted && !plugin.isHotKeyPressed())
+			if (groundPoint == null
+				|| (groundPoint.getWorldView() == WorldView.TOPLEVEL && localLocation.distanceTo(groundPoint) > MAX_DISTANCE))
 			{
-				// Do not display hidden items
-				if (item.hidden)
-				{
-					continue;
-				}
-
-				// Do not display non-highlighted items
-				if (config.showHighlightedOnly())
-				{
-					continue;
-				}
+				continue;
 			}
 
-			final Color color = item.color;
-
-			if (config.highlightTiles())
+			if (highlightTiles)
 			{
-				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint, item.getItemLayer().getHeight());
+				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint, itemLayer.getHeight());
 
 				if (poly != null)
 				{
-					OverlayUtil.renderPolygon(graphics, poly, color);
+					for (GroundItem item : items)
+					{
+						OverlayUtil.renderPolygon(graphics, poly, item.color);
+					}
 				}
 			}
 
@@ -223,169 +225,267 @@ public class GroundItemsOverlay extends Overlay
 				continue;
 			}
 
-			itemStringBuilder.append(item.getName());
+			// Every label on a tile is anchored to the same point, so project it once for the whole stack
+			final Point tilePoint = Perspective.localToCanvas(client, groundPoint, wv.getPlane(), itemLayer.getHeight() + OFFSET_Z);
 
-			if (item.getQuantity() > 1)
+			if (tilePoint == null)
 			{
-				itemStringBuilder.append(" (")
-					.append(QuantityFormatter.quantityToStackSize(item.getQuantity()))
-					.append(')');
+				continue;
 			}
 
-			if (item.getId() != ItemID.COINS)
+			final int tileX = tilePoint.getX();
+			final int tileY = tilePoint.getY();
+			if (tileX + stack.maxWidth / 2 + CULL_MARGIN < viewportX
+				|| tileX - stack.maxWidth / 2 - CULL_MARGIN > viewportX + viewportWidth
+				|| tileY + CULL_MARGIN < viewportY
+				|| tileY - STRING_GAP * (items.length - 1) - CULL_MARGIN > viewportY + viewportHeight)
 			{
-				PriceDisplayMode displayMode = config.priceDisplayMode();
-				if (displayMode == PriceDisplayMode.BOTH)
-				{
-					if (item.getGePrice() > 0)
-					{
-						itemStringBuilder.append(" (GE: ")
-							.append(QuantityFormatter.quantityToStackSize(item.getGePrice()))
-							.append(" gp)");
-					}
+				continue;
+			}
 
-					if (item.getHaPrice() > 0)
-					{
-						itemStringBuilder.append(" (HA: ")
-							.append(QuantityFormatter.quantityToStackSize(item.getHaPrice()))
-							.append(" gp)");
-					}
-				}
-				else if (displayMode != PriceDisplayMode.OFF)
-				{
-					final int price = displayMode == PriceDisplayMode.GE
-						? item.getGePrice()
-						: item.getHaPrice();
+			for (int i = 0; i < items.length; ++i)
+			{
+				final GroundItem item = items[i];
+				final int textX = tileX - stack.widths[i] / 2;
+				final int textY = tileY - STRING_GAP * i;
 
-					if (price > 0)
-					{
-						itemStringBuilder
-							.append(" (")
-							.append(QuantityFormatter.quantityToStackSize(price))
-							.append(" gp)");
-					}
+				if (item == topGroundItem)
+				{
+					deferredItem = item;
+					deferredWidth = stack.widths[i];
+					deferredX = textX;
+					deferredY = textY;
+					continue;
 				}
+
+				renderItem(graphics, fm, item, stack.widths[i], textX, textY, mousePos, topGroundItem, groundItemTimers, outline);
 			}
+		}
+
+		if (deferredItem != null)
+		{
+			renderItem(graphics, fm, deferredItem, deferredWidth, deferredX, deferredY, mousePos, topGroundItem, groundItemTimers, outline);
+		}
+
+		return null;
+	}
 
-			final String itemString = itemStringBuilder.toString();
-			itemStringBuilder.setLength(0);
+	void invalidateTile(WorldPoint worldPoint)
+	{
+		labelStacks.remove(worldPoint);
+	}
 
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getItemLayer().getHeight() + OFFSET_Z);
+	void invalidateTiles()
+	{
+		labelStacks.clear();
+	}
 
-			if (textPoint == null)
+	/**
+	 * Build the labels drawn on a tile, bottom first. The stack is kept until the items on the tile,
+	 * or the config, changes.
+	 */
+	private LabelStack buildStack(Collection<GroundItem> groundItems, FontMetrics fm, boolean hotKeyPressed,
+		OwnershipFilterMode ownershipFilterMode, int accountType)
+	{
+		final List<GroundItem> items = new ArrayList<>(groundItems.size());
+		for (GroundItem item : groundItems)
+		{
+			if (!plugin.shouldDisplayItem(ownershipFilterMode, item.getOwnership(), accountType))
 			{
 				continue;
 			}
 
-			final int offset = plugin.isHotKeyPressed()
-				? item.getOffset()
-				: offsetMap.compute(item.getItemLayer().getWorldLocation(), (k, v) -> v != null ? v + 1 : 0);
-
-			final int textX = textPoint.getX();
-			final int textY = textPoint.getY() - (STRING_GAP * offset);
+			plugin.updateItemColor(item);
 
-			if (plugin.isHotKeyPressed())
+			if (!item.highlighted && !hotKeyPressed)
 			{
-				final int stringWidth = fm.stringWidth(itemString);
-				final int stringHeight = fm.getHeight();
-
-				// Item bounds
-				int x = textX - 2;
-				int y = textY - stringHeight - 2;
-				int width = stringWidth + 4;
-				int height = stringHeight + 4;
-				final Rectangle itemBounds = new Rectangle(x, y, width, height);
-
-				// Hidden box
-				x += width + 2;
-				y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
-				width = height = RECTANGLE_SIZE;
-				final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
-
-				// Highlight box
-				x += width + 2;
-				final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
-
-				boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
-
-				if (mouseInBox)
+				// Do not display hidden items
+				if (item.hidden)
 				{
-					plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
+					continue;
 				}
-				else if (mouseInHiddenBox)
-				{
-					plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
 
+				// Do not display non-highlighted items
+				if (config.showHighlightedOnly())
+				{
+					continue;
 				}
-				else if (mouseInHighlightBox)
+			}
+
+			items.add(item);
+		}
+
+		final LabelStack stack = new LabelStack(items.toArray(new GroundItem[0]));
+		for (int i = 0; i < stack.items.length; ++i)
+		{
+			final int width = fm.stringWidth(getLabel(stack.items[i]));
+			stack.widths[i] = width;
+			stack.maxWidth = Math.max(stack.maxWidth, width);
+		}
+		return stack;
+	}
+
+	private String getLabel(GroundItem item)
+	{
+		if (item.label != null)
+		{
+			return item.label;
+		}
+
+		itemStringBuilder.append(item.getName());
+
+		if (item.getQuantity() > 1)
+		{
+			itemStringBuilder.append(" (")
+				.append(QuantityFormatter.quantityToStackSize(item.getQuantity()))
+				.append(')');
+		}
+
+		if (item.getId() != ItemID.COINS)
+		{
+			PriceDisplayMode displayMode = config.priceDisplayMode();
+			if (displayMode == PriceDisplayMode.BOTH)
+			{
+				if (item.getGePrice() > 0)
 				{
-					plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
+					itemStringBuilder.append(" (GE: ")
+						.append(QuantityFormatter.quantityToStackSize(item.getGePrice()))
+						.append(" gp)");
 				}
 
-				boolean topItem = topGroundItem == item;
+				if (item.getHaPrice() > 0)
+				{
+					itemStringBuilder.append(" (HA: ")
+						.append(QuantityFormatter.quantityToStackSize(item.getHaPrice()))
+						.append(" gp)");
+				}
+			}
+			else if (displayMode != PriceDisplayMode.OFF)
+			{
+				final int price = displayMode == PriceDisplayMode.GE
+					? item.getGePrice()
+					: item.getHaPrice();
 
-				// Draw background if hovering
-				if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
+				if (price > 0)
 				{
-					backgroundComponent.setRectangle(itemBounds);
-					backgroundComponent.render(graphics);
+					itemStringBuilder
+						.append(" (")
+						.append(QuantityFormatter.quantityToStackSize(price))
+						.append(" gp)");
 				}
+			}
+		}
 
-				// Draw hidden box
-				drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, item.hidden, true);
+		item.label = itemStringBuilder.toString();
+		itemStringBuilder.setLength(0);
+		return item.label;
+	}
+
+	private void renderItem(Graphics2D graphics, FontMetrics fm, GroundItem item, int stringWidth, int textX, int textY,
+		Point mousePos, GroundItem topGroundItem, DespawnTimerMode groundItemTimers, boolean outline)
+	{
+		final String itemString = item.label;
+		final Color color = item.color;
 
-				// Draw highlight box
-				drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, item.highlighted, false);
+		if (plugin.isHotKeyPressed())
+		{
+			final int stringHeight = fm.getHeight();
+
+			// Item bounds
+			int x = textX - 2;
+			int y = textY - stringHeight - 2;
+			int width = stringWidth + 4;
+			int height = stringHeight + 4;
+			final Rectangle itemBounds = new Rectangle(x, y, width, height);
+
+			// Hidden box
+			x += width + 2;
+			y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
+			width = height = RECTANGLE_SIZE;
+			final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
+
+			// Highlight box
+			x += width + 2;
+			final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
+
+			boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
+
+			if (mouseInBox)
+			{
+				plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
 			}
+			else if (mouseInHiddenBox)
+			{
+				plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
 
-			// When the hotkey is pressed the hidden/highlight boxes are drawn to the right of the text,
-			// so always draw the pie since it is on the left hand side.
-			if (groundItemTimers == DespawnTimerMode.PIE || plugin.isHotKeyPressed())
+			}
+			else if (mouseInHighlightBox)
 			{
-				drawTimerPieOverlay(graphics, textX, textY, item);
+				plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
 			}
-			else if (groundItemTimers == DespawnTimerMode.SECONDS || groundItemTimers == DespawnTimerMode.TICKS)
+
+			boolean topItem = topGroundItem == item;
+
+			// Draw background if hovering
+			if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
 			{
-				Instant despawnTime = calculateDespawnTime(item);
-				Color timerColor = getItemTimerColor(item);
-				if (despawnTime != null && timerColor != null)
-				{
-					long despawnTimeMillis = despawnTime.toEpochMilli() - Instant.now().toEpochMilli();
-					final String timerText;
-					if (groundItemTimers == DespawnTimerMode.SECONDS)
-					{
-						timerText = String.format(" - %.1f", despawnTimeMillis / 1000f);
-					}
-					else // TICKS
-					{
-						timerText = String.format(" - %d", despawnTimeMillis / 600);
-					}
+				backgroundComponent.setRectangle(itemBounds);
+				backgroundComponent.render(graphics);
+			}
+
+			// Draw hidden box
+			drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, item.hidden, true);
+
+			// Draw highlight box
+			drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, item.highlighted, false);
+		}
 
-					// The timer text is drawn separately to have its own color, and is intentionally not included
-					// in the getCanvasTextLocation() call because the timer text can change per frame and we do not
-					// use a monospaced font, which causes the text location on screen to jump around slightly each frame.
-					textComponent.setText(timerText);
-					textComponent.setColor(timerColor);
-					textComponent.setOutline(outline);
-					textComponent.setPosition(new java.awt.Point(textX + fm.stringWidth(itemString), textY));
-					textComponent.render(graphics);
+		// When the hotkey is pressed the hidden/highlight boxes are drawn to the right of the text,
+		// so always draw the pie since it is on the left hand side.
+		if (groundItemTimers == DespawnTimerMode.PIE || plugin.isHotKeyPressed())
+		{
+			drawTimerPieOverlay(graphics, textX, textY, item);
+		}
+		else if (groundItemTimers == DespawnTimerMode.SECONDS || groundItemTimers == DespawnTimerMode.TICKS)
+		{
+			Instant despawnTime = calculateDespawnTime(item);
+			Color timerColor = getItemTimerColor(item);
+			if (despawnTime != null && timerColor != null)
+			{
+				long despawnTimeMillis = despawnTime.toEpochMilli() - Instant.now().toEpochMilli();
+				final String timerText;
+				if (groundItemTimers == DespawnTimerMode.SECONDS)
+				{
+					timerText = String.format(" - %.1f", despawnTimeMillis / 1000f);
+				}
+				else // TICKS
+				{
+					timerText = String.format(" - %d", despawnTimeMillis / 600);
 				}
-			}
 
-			textComponent.setText(itemString);
-			textComponent.setColor(color);
-			textComponent.setOutline(outline);
-			textComponent.setPosition(new java.awt.Point(textX, textY));
-			textComponent.render(graphics);
+				// The timer text is drawn separately to have its own color, and is intentionally not included
+				// in the label width because the timer text can change per frame and we do not use a
+				// monospaced font, which causes the text location on screen to jump around slightly each frame.
+				textComponent.setText(timerText);
+				textComponent.setColor(timerColor);
+				textComponent.setOutline(outline);
+				textComponent.setPosition(new java.awt.Point(textX + stringWidth, textY));
+				textComponent.render(graphics);
+			}
 		}
 
-		return null;
+		textComponent.setText(itemString);
+		textComponent.setColor(color);
+		textComponent.setOutline(outline);
+		textComponent.setPosition(new java.awt.Point(textX, textY));
+		textComponent.render(graphics);
+	}
+
+	private static GroundItem hoveredItem(Map.Entry<Rectangle, GroundItem> bounds, java.awt.Point mousePos)
+	{
+		return bounds != null && bounds.getKey().contains(mousePos) ? bounds.getValue() : null;
 	}
 
 	private Instant calculateDespawnTime(GroundItem groundItem)
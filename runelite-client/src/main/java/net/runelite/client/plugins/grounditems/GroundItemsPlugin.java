@@ -84,6 +84,7 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ItemPricesLoaded;
 import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
@@ -225,6 +226,7 @@ public class GroundItemsPlugin extends Plugin
 		hiddenItemList = null;
 		highlightedItemsList = null;
 		collectedGroundItems.clear();
+		clientThread.invokeLater(overlay::invalidateTiles);
 		clientThread.invokeLater(this::removeAllLootbeams);
 	}
 
@@ -237,6 +239,24 @@ public class GroundItemsPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onItemPricesLoaded(ItemPricesLoaded event)
+	{
+		clientThread.invokeLater(() ->
+		{
+			for (GroundItem groundItem : collectedGroundItems.values())
+			{
+				if (groundItem.getItemId() != COINS)
+				{
+					groundItem.setGePrice(itemManager.getItemPrice(groundItem.getItemId()));
+					groundItem.reset();
+				}
+			}
+			overlay.invalidateTiles();
+			handleLootbeams();
+		});
+	}
+
 	@Subscribe
 	public void onProfileChanged(ProfileChanged profileChanged)
 	{
@@ -263,6 +283,7 @@ public class GroundItemsPlugin extends Plugin
 	{
 		var wv = event.getWorldView();
 		collectedGroundItems.values().removeIf(g -> g.getItemLayer().getWorldView() == wv);
+		overlay.invalidateTiles();
 		lootbeams.values().removeIf(l -> l.getWorldView() == wv.getId());
 	}
 
@@ -285,6 +306,7 @@ public class GroundItemsPlugin extends Plugin
 		{
 			collectedGroundItems.put(tile.getWorldLocation(), item.getId(), groundItem);
 		}
+		overlay.invalidateTile(tile.getWorldLocation());
 
 		if (shouldDisplayItem(config.ownershipFilterMode(), groundItem.getOwnership(), client.getVarbitValue(VarbitID.IRONMAN)))
 		{
@@ -335,6 +357,7 @@ public class GroundItemsPlugin extends Plugin
 			groundItem.reset();
 		}
 
+		overlay.invalidateTile(tile.getWorldLocation());
 		handleLootbeam(tile.getWorldLocation());
 	}
 
@@ -354,6 +377,7 @@ public class GroundItemsPlugin extends Plugin
 			groundItem.reset();
 		}
 
+		overlay.invalidateTile(tile.getWorldLocation());
 		handleLootbeam(tile.getWorldLocation());
 	}
 
@@ -489,7 +513,11 @@ public class GroundItemsPlugin extends Plugin
 
 		priceChecks = priceCheckBuilder.build();
 
-		clientThread.invokeLater(() -> collectedGroundItems.values().forEach(GroundItem::reset));
+		clientThread.invokeLater(() ->
+		{
+			collectedGroundItems.values().forEach(GroundItem::reset);
+			overlay.invalidateTiles();
+		});
 		clientThread.invokeLater(this::handleLootbeams);
 	}
 
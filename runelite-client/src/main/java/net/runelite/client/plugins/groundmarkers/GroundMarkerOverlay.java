@@ -33,11 +33,12 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Stroke;
-import javax.annotation.Nullable;
+import java.util.Collection;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
+import net.runelite.api.ProjectionContext;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
@@ -54,6 +55,13 @@ public class GroundMarkerOverlay extends Overlay
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
 
+	// marker tiles and their projected corners, reused between frames
+	private ColorTileMarker[] visibleMarkers = new ColorTileMarker[0];
+	private int[] localX = new int[0];
+	private int[] localY = new int[0];
+	private int[] canvasX = new int[0];
+	private int[] canvasY = new int[0];
+
 	@Inject
 	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
 	{
@@ -75,16 +83,52 @@ public class GroundMarkerOverlay extends Overlay
 		}
 
 		Stroke stroke = new BasicStroke((float) config.borderWidth());
+		Color fillColor = new Color(0, 0, 0, config.fillOpacity());
 		for (WorldView wv : points.keySet())
 		{
-			for (final ColorTileMarker point : points.get(wv))
+			final ProjectionContext ctx = ProjectionContext.capture(client, wv);
+			if (ctx == null)
+			{
+				continue;
+			}
+
+			final Collection<ColorTileMarker> markers = points.get(wv);
+			ensureCapacity(markers.size());
+
+			int count = 0;
+			for (final ColorTileMarker point : markers)
 			{
 				WorldPoint worldPoint = point.getWorldPoint();
-				if (worldPoint.getPlane() != wv.getPlane())
+				if (worldPoint.getPlane() != wv.getPlane() || !isInDrawDistance(worldPoint))
+				{
+					continue;
+				}
+
+				LocalPoint lp = LocalPoint.fromWorld(wv, worldPoint);
+				if (lp == null)
 				{
 					continue;
 				}
 
+				visibleMarkers[count] = point;
+				localX[count] = lp.getX();
+				localY[count] = lp.getY();
+				++count;
+			}
+
+			if (count == 0)
+			{
+				continue;
+			}
+
+			// project all of the markers of the worldview at once, rather than capturing the camera for each tile
+			ctx.projectTiles(wv, count, localX, localY, 1, -1, 0, canvasX, canvasY);
+
+			for (int i = 0; i < count; ++i)
+			{
+				final ColorTileMarker point = visibleMarkers[i];
+				visibleMarkers[i] = null;
+
 				Color tileColor = point.getColor();
 				if (tileColor == null)
 				{
@@ -92,44 +136,47 @@ public class GroundMarkerOverlay extends Overlay
 					tileColor = config.markerColor();
 				}
 
-				drawTile(graphics, wv, worldPoint, tileColor, point.getLabel(), stroke);
+				Polygon poly = ProjectionContext.toPolygon(canvasX, canvasY, i);
+				if (poly != null)
+				{
+					OverlayUtil.renderPolygon(graphics, poly, tileColor, fillColor, stroke);
+				}
+
+				String label = point.getLabel();
+				if (!Strings.isNullOrEmpty(label))
+				{
+					LocalPoint lp = new LocalPoint(localX[i], localY[i], wv);
+					Point canvasTextLocation = Perspective.getCanvasTextLocation(client, graphics, lp, label, 0);
+					if (canvasTextLocation != null)
+					{
+						OverlayUtil.renderTextLocation(graphics, canvasTextLocation, label, tileColor);
+					}
+				}
 			}
 		}
 
 		return null;
 	}
 
-	private void drawTile(Graphics2D graphics, WorldView wv, WorldPoint point, Color color, @Nullable String label, Stroke borderStroke)
+	private boolean isInDrawDistance(WorldPoint point)
 	{
 		if (client.getLocalPlayer().getWorldView().isTopLevel())
 		{
 			WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-
-			if (point.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
-			{
-				return;
-			}
-		}
-
-		LocalPoint lp = LocalPoint.fromWorld(wv, point);
-		if (lp == null)
-		{
-			return;
-		}
-
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
-		if (poly != null)
-		{
-			OverlayUtil.renderPolygon(graphics, poly, color, new Color(0, 0, 0, config.fillOpacity()), borderStroke);
+			return point.distanceTo(playerLocation) < MAX_DRAW_DISTANCE;
 		}
+		return true;
+	}
 
-		if (!Strings.isNullOrEmpty(label))
+	private void ensureCapacity(int count)
+	{
+		if (localX.length < count)
 		{
-			Point canvasTextLocation = Perspective.getCanvasTextLocation(client, graphics, lp, label, 0);
-			if (canvasTextLocation != null)
-			{
-				OverlayUtil.renderTextLocation(graphics, canvasTextLocation, label, color);
-			}
+			visibleMarkers = new ColorTileMarker[count];
+			localX = new int[count];
+			localY = new int[count];
+			canvasX = new int[count * 4];
+			canvasY = new int[count * 4];
 		}
 	}
 }
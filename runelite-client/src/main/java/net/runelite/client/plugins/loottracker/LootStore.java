@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Local store of loot history for a single RuneScape profile.
+ * <p>
+ * Every kill is appended as a binary record to {@code loot.log}. Per-source aggregates
+ * are kept in memory and periodically written to {@code loot.dat} together with the
+ * log offset they cover, so loading the store only needs to replay the tail of the log.
+ */
+@Slf4j
+class LootStore implements Closeable
+{
+	private static final int MAGIC = 0x4c4f4f54; // LOOT
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	private static final int MAX_RECORD_SIZE = 1 << 20;
+	// number of records appended before the aggregates are rewritten
+	private static final int COMPACT_INTERVAL = 8192;
+
+	private static final byte RECORD_LOOT = 0;
+	private static final byte RECORD_REMOVE = 1;
+
+	private final File logFile;
+	private final File aggregateFile;
+	private final File migratedFile;
+	private final Map<String, ConfigLoot> aggregates = new HashMap<>();
+
+	private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+	private final DataOutputStream record = new DataOutputStream(recordBuffer);
+	private DataOutputStream out;
+	private long logSize;
+	private int uncompacted;
+
+	private LootStore(File dir)
+	{
+		logFile = new File(dir, "loot.log");
+		aggregateFile = new File(dir, "loot.dat");
+		migratedFile = new File(dir, "migrated");
+	}
+
+	/**
+	 * Open the store in the given directory, creating it if it doesn't exist
+	 */
+	static LootStore open(File dir) throws IOException
+	{
+		if (!dir.exists() && !dir.mkdirs())
+		{
+			throw new IOException("unable to create loot directory " + dir);
+		}
+
+		LootStore store = new LootStore(dir);
+		store.load();
+		return store;
+	}
+
+	private void load() throws IOException
+	{
+		long offset = readAggregates();
+
+		if (!logFile.exists() || logFile.length() < HEADER_SIZE)
+		{
+			try (DataOutputStream header = new DataOutputStream(new FileOutputStream(logFile)))
+			{
+				header.writeInt(MAGIC);
+				header.writeInt(VERSION);
+			}
+			aggregates.clear();
+			offset = HEADER_SIZE;
+		}
+		else if (offset < HEADER_SIZE || offset > logFile.length())
+		{
+			// aggregates are missing or don't belong to this log
+			aggregates.clear();
+			offset = HEADER_SIZE;
+		}
+
+		final long end = replay(offset);
+		if (end < logFile.length())
+		{
+			log.warn("Truncating loot log {} with partial record at offset {}", logFile, end);
+			try (RandomAccessFile raf = new RandomAccessFile(logFile, "rw"))
+			{
+				raf.setLength(end);
+			}
+		}
+
+		logSize = end;
+		// if part of the log had to be replayed, rewrite the aggregates on the next write
+		uncompacted = offset == end ? 0 : COMPACT_INTERVAL - 1;
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile, true)));
+	}
+
+	/**
+	 * Replay the log from the given offset, applying each record to the aggregates
+	 *
+	 * @return the offset of the end of the last complete record
+	 */
+	private long replay(long offset) throws IOException
+	{
+		try (FileInputStream fin = new FileInputStream(logFile))
+		{
+			final DataInputStream header = new DataInputStream(fin);
+			if (header.readInt() != MAGIC || header.readInt() != VERSION)
+			{
+				throw new IOException("loot log " + logFile + " has an unknown format");
+			}
+
+			fin.getChannel().position(offset);
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(fin, 65536));
+
+			byte[] buf = new byte[256];
+			for (;;)
+			{
+				final int length;
+				try
+				{
+					length = in.readInt();
+					if (length <= 0 || length > MAX_RECORD_SIZE)
+					{
+						return offset;
+					}
+
+					if (buf.length < length)
+					{
+						buf = new byte[Math.max(length, buf.length * 2)];
+					}
+					in.readFully(buf, 0, length);
+				}
+				catch (EOFException ex)
+				{
+					return offset;
+				}
+
+				final DataInputStream rec = new DataInputStream(new ByteArrayInputStream(buf, 0, length));
+				final byte kind = rec.readByte();
+				final long time = rec.readLong();
+				final String type = rec.readUTF();
+				final String name = rec.readUTF();
+
+				try
+				{
+					apply(kind, type, name, time, rec);
+				}
+				catch (IllegalArgumentException ex)
+				{
+					log.debug("Skipping loot record with unknown type {}", type);
+				}
+
+				offset += 4 + length;
+			}
+		}
+	}
+
+	private void apply(byte kind, String type, String name, long time, DataInputStream rec) throws IOException
+	{
+		final String key = key(type, name);
+		if (kind == RECORD_REMOVE)
+		{
+			aggregates.remove(key);
+			return;
+		}
+
+		final int kills = rec.readInt();
+		final int drops = rec.readInt();
+
+		ConfigLoot loot = aggregates.get(key);
+		if (loot == null)
+		{
+			loot = new ConfigLoot(LootRecordType.valueOf(type), name);
+			loot.first = Instant.ofEpochMilli(time);
+			aggregates.put(key, loot);
+		}
+
+		loot.kills += kills;
+		for (int i = 0; i < drops; ++i)
+		{
+			loot.add(rec.readInt(), rec.readInt());
+		}
+		loot.last = Instant.ofEpochMilli(time);
+	}
+
+	/**
+	 * Append a kill to the log
+	 *
+	 * @param drops item ids and quantities, interleaved
+	 */
+	synchronized void add(LootRecordType type, String name, Instant time, int kills, int[] drops) throws IOException
+	{
+		recordBuffer.reset();
+		record.writeByte(RECORD_LOOT);
+		record.writeLong(time.toEpochMilli());
+		record.writeUTF(type.name());
+		record.writeUTF(name);
+		record.writeInt(kills);
+		record.writeInt(drops.length / 2);
+		for (int drop : drops)
+		{
+			record.writeInt(drop);
+		}
+
+		write();
+
+		final String key = key(type.name(), name);
+		ConfigLoot loot = aggregates.get(key);
+		if (loot == null)
+		{
+			loot = new ConfigLoot(type, name);
+			loot.first = time;
+			aggregates.put(key, loot);
+		}
+
+		loot.kills += kills;
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		loot.last = time;
+
+		recorded();
+	}
+
+	/**
+	 * Remove all loot for a source
+	 */
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		final String key = key(type.name(), name);
+		if (!aggregates.containsKey(key))
+		{
+			return;
+		}
+
+		recordBuffer.reset();
+		record.writeByte(RECORD_REMOVE);
+		record.writeLong(System.currentTimeMillis());
+		record.writeUTF(type.name());
+		record.writeUTF(name);
+		write();
+
+		aggregates.remove(key);
+
+		recorded();
+	}
+
+	/**
+	 * Remove all loot
+	 */
+	synchronized void removeAll() throws IOException
+	{
+		out.close();
+		Files.deleteIfExists(aggregateFile.toPath());
+		Files.deleteIfExists(logFile.toPath());
+		aggregates.clear();
+		load();
+	}
+
+	private void write() throws IOException
+	{
+		out.writeInt(recordBuffer.size());
+		recordBuffer.writeTo(out);
+		out.flush();
+		logSize += 4 + recordBuffer.size();
+	}
+
+	private void recorded() throws IOException
+	{
+		if (++uncompacted >= COMPACT_INTERVAL)
+		{
+			compact();
+		}
+	}
+
+	@Nullable
+	synchronized ConfigLoot get(LootRecordType type, String name)
+	{
+		final ConfigLoot loot = aggregates.get(key(type.name(), name));
+		return loot != null ? copy(loot) : null;
+	}
+
+	/**
+	 * @return true if loot saved in the config by older versions of the plugin has been copied into the store
+	 */
+	boolean isConfigMigrated()
+	{
+		return migratedFile.exists();
+	}
+
+	void setConfigMigrated() throws IOException
+	{
+		if (!migratedFile.exists() && !migratedFile.createNewFile())
+		{
+			throw new IOException("unable to create " + migratedFile);
+		}
+	}
+
+	synchronized boolean contains(LootRecordType type, String name)
+	{
+		return aggregates.containsKey(key(type.name(), name));
+	}
+
+	/**
+	 * Get the aggregated loot of every source, most recently looted first
+	 */
+	synchronized List<ConfigLoot> getAll()
+	{
+		final List<ConfigLoot> loots = new ArrayList<>(aggregates.size());
+		for (ConfigLoot loot : aggregates.values())
+		{
+			loots.add(copy(loot));
+		}
+		loots.sort(Comparator.comparing(ConfigLoot::getLast).reversed());
+		return loots;
+	}
+
+	/**
+	 * Write the aggregates, so that opening the store does not have to replay the log
+	 */
+	synchronized void compact() throws IOException
+	{
+		out.flush();
+
+		final File tempFile = File.createTempFile("loot", null, aggregateFile.getParentFile());
+		try (FileOutputStream fout = new FileOutputStream(tempFile);
+			DataOutputStream dout = new DataOutputStream(new BufferedOutputStream(fout)))
+		{
+			dout.writeInt(MAGIC);
+			dout.writeInt(VERSION);
+			dout.writeLong(logSize);
+			dout.writeInt(aggregates.size());
+			for (ConfigLoot loot : aggregates.values())
+			{
+				dout.writeUTF(loot.type.name());
+				dout.writeUTF(loot.name);
+				dout.writeInt(loot.kills);
+				dout.writeLong(loot.first.toEpochMilli());
+				dout.writeLong(loot.last.toEpochMilli());
+				dout.writeInt(loot.drops.length);
+				for (int drop : loot.drops)
+				{
+					dout.writeInt(drop);
+				}
+			}
+			dout.flush();
+			fout.getChannel().force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), aggregateFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), aggregateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		uncompacted = 0;
+	}
+
+	/**
+	 * @return the log offset covered by the aggregates, or -1 if they couldn't be read
+	 */
+	private long readAggregates()
+	{
+		if (!aggregateFile.exists())
+		{
+			return -1;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(aggregateFile))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return -1;
+			}
+
+			final long offset = in.readLong();
+			final int count = in.readInt();
+			for (int i = 0; i < count; ++i)
+			{
+				final ConfigLoot loot = new ConfigLoot(LootRecordType.valueOf(in.readUTF()), in.readUTF());
+				loot.kills = in.readInt();
+				loot.first = Instant.ofEpochMilli(in.readLong());
+				loot.last = Instant.ofEpochMilli(in.readLong());
+				loot.drops = new int[in.readInt()];
+				for (int j = 0; j < loot.drops.length; ++j)
+				{
+					loot.drops[j] = in.readInt();
+				}
+				aggregates.put(key(loot.type.name(), loot.name), loot);
+			}
+			return offset;
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			log.warn("unable to read loot aggregates from {}", aggregateFile, ex);
+			aggregates.clear();
+			return -1;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		if (uncompacted > 0)
+		{
+			compact();
+		}
+		out.close();
+	}
+
+	private static String key(String type, String name)
+	{
+		return type + "_" + name;
+	}
+
+	private static ConfigLoot copy(ConfigLoot loot)
+	{
+		final ConfigLoot copy = new ConfigLoot(loot.type, loot.name);
+		copy.kills = loot.kills;
+		copy.first = loot.first;
+		copy.last = loot.last;
+		copy.drops = loot.drops.clone();
+		return copy;
+	}
+}
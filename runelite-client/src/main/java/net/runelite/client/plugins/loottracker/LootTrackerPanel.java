@@ -115,6 +115,7 @@ class LootTrackerPanel extends PluginPanel
 	private final JRadioButton singleLootBtn = new JRadioButton();
 	private final JRadioButton groupedLootBtn = new JRadioButton();
 	private final JButton collapseBtn = new JButton();
+	private final JButton loadOlderBtn = new JButton("Load older loot");
 
 	// Aggregate of all kills
 	private final LinkedHashMap<LootTrackerRecord, LootTrackerRecord> aggregateRecords = new LinkedHashMap<>(16, 0.75f, true);
@@ -187,6 +188,15 @@ class LootTrackerPanel extends PluginPanel
 		layoutPanel.add(overallPanel);
 		layoutPanel.add(logsContainer);
 
+		loadOlderBtn.setVisible(false);
+		loadOlderBtn.setAlignmentX(CENTER_ALIGNMENT);
+		loadOlderBtn.addActionListener(e ->
+		{
+			loadOlderBtn.setVisible(false);
+			plugin.loadOlderLoot();
+		});
+		layoutPanel.add(loadOlderBtn);
+
 		// Add error pane
 		errorPanel.setContent("Loot tracker", "You have not received any loot yet.");
 		add(errorPanel);
@@ -438,6 +448,26 @@ class LootTrackerPanel extends PluginPanel
 		rebuild();
 	}
 
+	/**
+	 * Adds a Collection of records which are older than every record already in the panel
+	 */
+	void addOlderRecords(Collection<LootTrackerRecord> recs)
+	{
+		final List<LootTrackerRecord> newer = new ArrayList<>(aggregateRecords.values());
+		aggregateRecords.clear();
+		recs.forEach(r -> aggregateRecords.put(r, r));
+		newer.forEach(r -> aggregateRecords.put(r, r));
+		rebuild();
+	}
+
+	/**
+	 * Shows or hides the button for loading older loot from the loot store
+	 */
+	void setOlderLootAvailable(boolean available)
+	{
+		loadOlderBtn.setVisible(available);
+	}
+
 	/**
 	 * Changes grouping mode of panel
 	 *
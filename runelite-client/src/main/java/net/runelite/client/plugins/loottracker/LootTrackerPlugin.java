@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,14 +37,17 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +55,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -90,6 +93,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -134,6 +138,7 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -374,6 +379,11 @@ public class LootTrackerPlugin extends Plugin
 	private LootTrackerPanel panel;
 	private NavigationButton navButton;
 
+	// opened and closed on the executor, but read from the client thread and the EDT
+	private volatile LootStore lootStore;
+	// stored loot not yet loaded into the panel, most recent first. Only used on the executor.
+	private Deque<ConfigLoot> olderLoot = new ArrayDeque<>();
+
 	private boolean chestLooted;
 	private boolean pvpKeysLooted;
 	private boolean lastLoadingIntoInstance;
@@ -478,88 +488,183 @@ public class LootTrackerPlugin extends Plugin
 		{
 			// Current queued loot is for the previous profile, so save it first with the current profile key
 			submitLoot();
+			closeLootStore();
 
 			this.profileKey = profileKey;
 
 			log.debug("Switched to profile {}", profileKey);
 
+			final LootStore store;
+			try
+			{
+				store = LootStore.open(new File(LOOT_DIR, profileKey));
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to open loot store for profile {}", profileKey, ex);
+				return;
+			}
+
+			lootStore = store;
+			migrateLootConfig(store, profileKey);
+
 			if (!config.rememberLoot())
 			{
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
 			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			olderLoot = store.getAll().stream()
+				.filter(loot -> !loot.last.isBefore(old))
+				.collect(Collectors.toCollection(ArrayDeque::new));
+
+			List<ConfigLoot> loots = nextLootPage();
+			log.debug("Loaded {} records", loots.size());
+
+			loadRecords(loots, records ->
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
+				panel.clearRecords();
+				panel.addRecords(records);
+			});
+		});
+	}
 
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+	void loadOlderLoot()
+	{
+		executor.execute(() ->
+		{
+			List<ConfigLoot> loots = nextLootPage();
+			log.debug("Loaded {} older records", loots.size());
+			loadRecords(loots, panel::addOlderRecords);
+		});
+	}
 
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+	/**
+	 * Take the next page of loot from the loot store, limited to {@link #MAX_DROPS} drops
+	 *
+	 * @return the loot, oldest first
+	 */
+	private List<ConfigLoot> nextLootPage()
+	{
+		final Deque<ConfigLoot> older = olderLoot;
+		final List<ConfigLoot> loots = new ArrayList<>();
+		int drops = 0;
+		while (!older.isEmpty() && (loots.isEmpty() || drops + older.peek().numDrops() <= MAX_DROPS))
+		{
+			ConfigLoot loot = older.poll();
+			drops += loot.numDrops();
+			loots.add(0, loot);
+		}
+		return loots;
+	}
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
-				{
-					// fast drop
-					continue;
-				}
+	private void loadRecords(List<ConfigLoot> loots, Consumer<List<LootTrackerRecord>> consumer)
+	{
+		final boolean more = !olderLoot.isEmpty();
+		clientThread.invokeLater(() ->
+		{
+			// convertToLootTrackerRecord requires item compositions to be available to get the item name,
+			// so it can't be run while the client is starting
+			if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
+			{
+				return false;
+			}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+			// convertToLootTrackerRecord must be called on client thread
+			List<LootTrackerRecord> records = loots.stream()
+				.map(this::convertToLootTrackerRecord)
+				.collect(Collectors.toList());
+			SwingUtilities.invokeLater(() ->
+			{
+				consumer.accept(records);
+				panel.setOlderLootAvailable(more);
+			});
 
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+			return true;
+		});
+	}
+
+	/**
+	 * Copy loot saved in the config by older versions of the plugin into the loot store. The config
+	 * is left alone, as it is synced to the profile's other clients which may still be using it.
+	 */
+	private void migrateLootConfig(LootStore store, String profileKey)
+	{
+		if (store.isConfigMigrated())
+		{
+			return;
+		}
+
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		List<ConfigLoot> loots = new ArrayList<>();
+		Instant old = Instant.now().minus(MAX_AGE);
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Skipping loot with malformed json: {}", json, ex);
+				continue;
 			}
 
-			log.debug("Loaded {} records", loots.size());
+			if (configLoot == null || configLoot.last == null || configLoot.last.isBefore(old)
+				|| store.contains(configLoot.type, configLoot.name))
+			{
+				continue;
+			}
 
-			clientThread.invokeLater(() ->
+			loots.add(configLoot);
+		}
+
+		// the loot store expects each source's loot to be added in time order
+		loots.sort(Comparator.comparing(ConfigLoot::getLast));
+
+		try
+		{
+			for (ConfigLoot loot : loots)
 			{
-				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
-				// so it can't be run while the client is starting
-				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
+				// an empty record at the first kill keeps when the loot was first seen
+				if (loot.first != null && loot.first.isBefore(loot.last))
 				{
-					return false;
+					store.add(loot.type, loot.name, loot.first, 0, new int[0]);
 				}
+				store.add(loot.type, loot.name, loot.last, loot.kills, loot.drops);
+			}
+			store.compact();
+			store.setConfigMigrated();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to migrate loot to the loot store", ex);
+			return;
+		}
 
-				// convertToLootTrackerRecord must be called on client thread
-				List<LootTrackerRecord> records = loots.stream()
-					.map(this::convertToLootTrackerRecord)
-					.collect(Collectors.toList());
-				SwingUtilities.invokeLater(() ->
-				{
-					panel.clearRecords();
-					panel.addRecords(records);
-				});
-
-				return true;
-			});
-		});
+		log.debug("Migrated {} loot records from config", loots.size());
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	private void closeLootStore()
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		final LootStore store = lootStore;
+		if (store == null)
+		{
+			return;
+		}
+
+		lootStore = null;
+		try
+		{
+			store.close();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to close loot store", ex);
+		}
 	}
 
 	@Subscribe
@@ -617,6 +722,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		executor.execute(this::closeLootStore);
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -1381,43 +1487,33 @@ public class LootTrackerPlugin extends Plugin
 		return lootTrackerClient.submit(copy);
 	}
 
-	private Collection<ConfigLoot> combine(List<LootRecord> records)
+	private void saveLoot(List<LootRecord> records)
 	{
-		Map<ConfigLoot, ConfigLoot> map = new HashMap<>();
-		for (LootRecord record : records)
+		final LootStore store = lootStore;
+		if (store == null)
 		{
-			ConfigLoot key = new ConfigLoot(record.getType(), record.getEventId());
-			ConfigLoot loot = map.computeIfAbsent(key, k -> key);
-			loot.kills += record.getAmount();
-			for (GameItem item : record.getDrops())
-			{
-				loot.add(item.getId(), item.getQty());
-			}
+			log.debug("Trying to save loot with no loot store!");
+			return;
 		}
-		return map.values();
-	}
 
-	private void saveLoot(List<LootRecord> records)
-	{
-		Instant now = Instant.now();
-		Collection<ConfigLoot> combinedRecords = combine(records);
-		for (ConfigLoot record : combinedRecords)
+		try
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
+			for (LootRecord record : records)
 			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
+				final Collection<GameItem> items = record.getDrops();
+				final int[] drops = new int[items.size() * 2];
+				int i = 0;
+				for (GameItem item : items)
 				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
+					drops[i++] = item.getId();
+					drops[i++] = item.getQty();
 				}
+				store.add(record.getType(), record.getEventId(), record.getTime(), record.getAmount(), drops);
 			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot", ex);
 		}
 	}
 
@@ -1661,59 +1757,58 @@ public class LootTrackerPlugin extends Plugin
 
 	ConfigLoot getLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		final LootStore store = lootStore;
+		if (store == null)
 		{
-			log.debug("Trying to get loot with no profile!");
+			log.debug("Trying to get loot with no loot store!");
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		return store.get(type, name);
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		executor.execute(() ->
 		{
-			log.debug("Trying to remove loot with no profile!");
-			return;
-		}
+			final LootStore store = lootStore;
+			if (store == null)
+			{
+				log.debug("Trying to remove loot with no loot store!");
+				return;
+			}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+			try
+			{
+				store.remove(type, name);
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to remove loot for {} {}", type, name, ex);
+			}
+		});
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		executor.execute(() ->
 		{
-			log.debug("Trying to clear loot with no profile!");
-			return;
-		}
+			final LootStore store = lootStore;
+			if (store == null)
+			{
+				log.debug("Trying to clear loot with no loot store!");
+				return;
+			}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
-		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
-		}
+			olderLoot.clear();
+			try
+			{
+				store.removeAll();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to clear loot", ex);
+			}
+		});
 	}
 }
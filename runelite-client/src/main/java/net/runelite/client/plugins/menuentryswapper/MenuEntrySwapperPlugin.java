@@ -37,14 +37,17 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Provides;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.inject.Inject;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
@@ -71,6 +74,8 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.NpcUtil;
@@ -103,6 +108,30 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private static final String UI_KEY_PREFIX = "ui_";
 	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
 
+	/**
+	 * The custom swap tables, and the config keys they are loaded from. Keys are matched in
+	 * order, so prefixes which are a prefix of another must come after it.
+	 */
+	@RequiredArgsConstructor
+	private enum CustomSwap
+	{
+		ITEM(MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX),
+		ITEM_SHIFT(SHIFTCLICK_CONFIG_GROUP, ITEM_KEY_PREFIX),
+		WORN_ITEM_SHIFT(MenuEntrySwapperConfig.GROUP, WORN_ITEM_SHIFT_KEY_PREFIX),
+		WORN_ITEM(MenuEntrySwapperConfig.GROUP, WORN_ITEM_KEY_PREFIX),
+		OBJECT_SHIFT(MenuEntrySwapperConfig.GROUP, OBJECT_SHIFT_KEY_PREFIX),
+		OBJECT(MenuEntrySwapperConfig.GROUP, OBJECT_KEY_PREFIX),
+		NPC_SHIFT(MenuEntrySwapperConfig.GROUP, NPC_SHIFT_KEY_PREFIX),
+		NPC(MenuEntrySwapperConfig.GROUP, NPC_KEY_PREFIX),
+		UI_SHIFT(MenuEntrySwapperConfig.GROUP, UI_SHIFT_KEY_PREFIX),
+		UI(MenuEntrySwapperConfig.GROUP, UI_KEY_PREFIX);
+
+		private final String group;
+		private final String prefix;
+	}
+
+	private static final CustomSwap[] CUSTOM_SWAPS = CustomSwap.values();
+
 	private static final List<MenuAction> NPC_MENU_TYPES = ImmutableList.of(
 		MenuAction.NPC_FIRST_OPTION,
 		MenuAction.NPC_SECOND_OPTION,
@@ -207,6 +236,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private NpcUtil npcUtil;
 
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
+	// the enabled built-in swaps by option, compiled from swaps when the config changes
+	private volatile boolean swapsDirty;
+	private Map<String, Swap[]> enabledSwaps, enabledShiftSwaps;
+	private volatile SwapTable[] customSwaps;
+	// menu options with their tags removed and lowercased, options are few enough that this is bounded
+	private final Map<String, String> normalizedOptions = new HashMap<>();
 	private final ArrayListMultimap<String, Integer> cacheOptionIndexes = ArrayListMultimap.create();
 	private Menu cacheOptionMenu;
 	private boolean lastShift, curShift;
@@ -222,12 +257,39 @@ public class MenuEntrySwapperPlugin extends Plugin
 	{
 		setupSwaps();
 		removeOldSwaps();
+		loadCustomSwaps();
+		swapsDirty = true;
 	}
 
 	@Override
 	public void shutDown()
 	{
 		swaps.clear();
+		enabledSwaps = enabledShiftSwaps = null;
+		customSwaps = null;
+		normalizedOptions.clear();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		final String group = event.getGroup();
+		if (event.getProfile() != null || (!group.equals(MenuEntrySwapperConfig.GROUP) && !group.equals(SHIFTCLICK_CONFIG_GROUP)))
+		{
+			return;
+		}
+
+		if (!updateCustomSwap(group, event.getKey(), event.getNewValue()))
+		{
+			swapsDirty = true;
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event)
+	{
+		loadCustomSwaps();
+		swapsDirty = true;
 	}
 
 	@VisibleForTesting
@@ -356,17 +418,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("pick", "pick-lots", config::swapPick);
 
-		swap("view offer", "abort offer", () -> shiftModifier() && config.swapGEAbort());
+		swap("view offer", "abort offer", shift -> shift && config.swapGEAbort());
 
-		swap("value", "buy 1", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_1);
-		swap("value", "buy 5", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_5);
-		swap("value", "buy 10", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_10);
-		swap("value", "buy 50", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_50);
+		swap("value", "buy 1", shift -> shift && config.shopBuy() == BuyMode.BUY_1);
+		swap("value", "buy 5", shift -> shift && config.shopBuy() == BuyMode.BUY_5);
+		swap("value", "buy 10", shift -> shift && config.shopBuy() == BuyMode.BUY_10);
+		swap("value", "buy 50", shift -> shift && config.shopBuy() == BuyMode.BUY_50);
 
-		swap("value", "sell 1", () -> shiftModifier() && config.shopSell() == SellMode.SELL_1);
-		swap("value", "sell 5", () -> shiftModifier() && config.shopSell() == SellMode.SELL_5);
-		swap("value", "sell 10", () -> shiftModifier() && config.shopSell() == SellMode.SELL_10);
-		swap("value", "sell 50", () -> shiftModifier() && config.shopSell() == SellMode.SELL_50);
+		swap("value", "sell 1", shift -> shift && config.shopSell() == SellMode.SELL_1);
+		swap("value", "sell 5", shift -> shift && config.shopSell() == SellMode.SELL_5);
+		swap("value", "sell 10", shift -> shift && config.shopSell() == SellMode.SELL_10);
+		swap("value", "sell 50", shift -> shift && config.shopSell() == SellMode.SELL_50);
 
 		swap("wear", "tele to poh", config::swapTeleToPoh);
 
@@ -410,8 +472,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("tan 1", "tan all", config::swapTan);
 
-		swap("climb", "climb-up", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
-		swap("climb", "climb-down", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
+		swap("climb", "climb-up", shift -> (shift ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
+		swap("climb", "climb-down", shift -> (shift ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
 	}
 
 	private void removeOldSwaps()
@@ -450,6 +512,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 		swap(option, alwaysTrue(), swappedOption, enabled);
 	}
 
+	private void swap(String option, String swappedOption, Predicate<Boolean> enabled)
+	{
+		swaps.put(option, new Swap(alwaysTrue(), alwaysTrue(), swappedOption, enabled, true));
+	}
+
 	private void swap(String option, String target, String swappedOption, Supplier<Boolean> enabled)
 	{
 		swap(option, equalTo(target), swappedOption, enabled);
@@ -457,24 +524,18 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private void swap(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, true));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, shift -> enabled.get(), true));
 	}
 
 	private void swapContains(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, false));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, shift -> enabled.get(), false));
 	}
 
 	private Integer getItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return getCustomSwap(shift ? CustomSwap.ITEM_SHIFT : CustomSwap.ITEM, itemId);
 	}
 
 	private void setItemSwapConfig(boolean shift, int itemId, int index)
@@ -492,14 +553,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return getCustomSwap(shift ? CustomSwap.WORN_ITEM_SHIFT : CustomSwap.WORN_ITEM, itemId);
 	}
 
 	private void setWornItemSwapConfig(boolean shift, int itemId, int index)
@@ -1471,8 +1525,6 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
 
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
@@ -1484,7 +1536,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				if (swapIndex == -1)
 				{
-					swap(menu, menuEntries, "use", target, index, true);
+					swap(menu, menuEntries, "use", Text.removeTags(menuEntry.getTarget()).toLowerCase(), index, true);
 				}
 				else if (swapIndex + 1 == menuEntry.getItemOp())
 				{
@@ -1551,8 +1603,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 				objectId = objectComposition.getId();
 			}
 
-			Integer customOption = getObjectSwapConfig(shiftModifier(), objectId);
-			if (customOption != null && customOption >= 0)
+			final int customOption = customSwap(shiftModifier() ? CustomSwap.OBJECT_SHIFT : CustomSwap.OBJECT, objectId);
+			if (customOption >= 0)
 			{
 				MenuAction swapAction = OBJECT_MENU_TYPES.get(customOption);
 				if (swapAction == menuAction)
@@ -1570,8 +1622,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 			final NPCComposition composition = npc.getTransformedComposition();
 			assert composition != null;
 
-			Integer customOption = getNpcSwapConfig(shiftModifier(), composition.getId());
-			if (customOption != null && customOption >= 0)
+			final int customOption = customSwap(shiftModifier() ? CustomSwap.NPC_SHIFT : CustomSwap.NPC, composition.getId());
+			if (customOption >= 0)
 			{
 				MenuAction swapAction = NPC_MENU_TYPES.get(customOption);
 				if (swapAction == menuAction)
@@ -1627,15 +1679,20 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 
 		// Built-in swaps
-		Collection<Swap> swaps = this.swaps.get(option);
+		final String option = normalizeOption(menuEntry.getOption());
+		final Swap[] swaps = enabledSwaps(shiftModifier()).get(option);
+		if (swaps == null)
+		{
+			return;
+		}
+
+		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
 		for (Swap swap : swaps)
 		{
-			if (swap.getTargetPredicate().test(target) && swap.getEnabled().get())
+			if (swap.getTargetPredicate().test(target)
+				&& swap(menu, menuEntries, swap.getSwappedOption(), target, index, swap.isStrict()))
 			{
-				if (swap(menu, menuEntries, swap.getSwappedOption(), target, index, swap.isStrict()))
-				{
-					break;
-				}
+				break;
 			}
 		}
 	}
@@ -1661,6 +1718,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// cancel -> npc op -> walk here -> ground item op
 		// which cannot be achieved with a simple swap.
 
+		final boolean shift = curShift;
 		for (MenuEntry menuEntry : client.getMenuEntries())
 		{
 			MenuAction type = menuEntry.getType();
@@ -1676,10 +1734,9 @@ public class MenuEntrySwapperPlugin extends Plugin
 					objectId = objectComposition.getId();
 				}
 
-				final boolean shift = shiftModifier();
-				Integer customOption = getObjectSwapConfig(shift, objectId);
-				if ((customOption == null && shift && config.objectShiftClickWalkHere())
-					|| (customOption != null && customOption == -1))
+				final int customOption = customSwap(shift ? CustomSwap.OBJECT_SHIFT : CustomSwap.OBJECT, objectId);
+				if ((customOption == SwapTable.MISSING && shift && config.objectShiftClickWalkHere())
+					|| customOption == -1)
 				{
 					menuEntry.setDeprioritized(true);
 				}
@@ -1691,10 +1748,9 @@ public class MenuEntrySwapperPlugin extends Plugin
 				final NPCComposition composition = npc.getTransformedComposition();
 				assert composition != null;
 
-				boolean shift = shiftModifier();
-				Integer customOption = getNpcSwapConfig(shift, composition.getId());
-				if ((customOption == null && shift && config.npcShiftClickWalkHere())
-					|| (customOption != null && customOption == -1))
+				final int customOption = customSwap(shift ? CustomSwap.NPC_SHIFT : CustomSwap.NPC, composition.getId());
+				if ((customOption == SwapTable.MISSING && shift && config.npcShiftClickWalkHere())
+					|| customOption == -1)
 				{
 					menuEntry.setDeprioritized(true);
 				}
@@ -1703,7 +1759,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 				|| type == MenuAction.GROUND_ITEM_THIRD_OPTION || type == MenuAction.GROUND_ITEM_FOURTH_OPTION
 				|| type == MenuAction.GROUND_ITEM_FIFTH_OPTION)
 			{
-				if (shiftModifier() && config.groundItemShiftClickWalkHere())
+				if (shift && config.groundItemShiftClickWalkHere())
 				{
 					menuEntry.setDeprioritized(true);
 				}
@@ -1798,7 +1854,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
+				String entryOption = normalizeOption(entry.getOption());
 				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
 
 				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
@@ -1821,7 +1877,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			cacheOptionIndexes.clear();
 			for (MenuEntry entry : menu.getMenuEntries())
 			{
-				String opt = Text.removeTags(entry.getOption()).toLowerCase();
+				String opt = normalizeOption(entry.getOption());
 				cacheOptionIndexes.put(opt, idx++);
 			}
 			log.trace("[{}] Rebuilt option index cache with {} entries", client.getGameCycle(), idx);
@@ -1858,8 +1914,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Update optionIndexes
 		if (cacheOptionMenu == menu)
 		{
-			String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-				option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+			String option1 = normalizeOption(entry1.getOption()),
+				option2 = normalizeOption(entry2.getOption());
 
 			List<Integer> list1 = cacheOptionIndexes.get(option1),
 				list2 = cacheOptionIndexes.get(option2);
@@ -1881,6 +1937,22 @@ public class MenuEntrySwapperPlugin extends Plugin
 		list.add(idx < 0 ? -idx - 1 : idx, value);
 	}
 
+	private String normalizeOption(String option)
+	{
+		String normalized = normalizedOptions.get(option);
+		if (normalized == null)
+		{
+			if (normalizedOptions.size() >= 1024)
+			{
+				normalizedOptions.clear();
+			}
+
+			normalized = Text.removeTags(option).toLowerCase();
+			normalizedOptions.put(option, normalized);
+		}
+		return normalized;
+	}
+
 	private boolean shiftModifier()
 	{
 		return client.isKeyPressed(KeyCode.KC_SHIFT);
@@ -1888,13 +1960,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getObjectSwapConfig(boolean shift, int objectId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return getCustomSwap(shift ? CustomSwap.OBJECT_SHIFT : CustomSwap.OBJECT, objectId);
 	}
 
 	private void setObjectSwapConfig(boolean shift, int objectId, int index)
@@ -1924,14 +1990,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getNpcSwapConfig(boolean shift, int npcId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return getCustomSwap(shift ? CustomSwap.NPC_SHIFT : CustomSwap.NPC, npcId);
 	}
 
 	private void setNpcSwapConfig(boolean shift, int npcId, int index)
@@ -2008,14 +2067,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return getCustomSwap(shift ? CustomSwap.UI_SHIFT : CustomSwap.UI, uiKey(componentId, itemId));
 	}
 
 	private void setUiSwapConfig(boolean shift, int componentId, int itemId, int op)
@@ -2030,4 +2082,147 @@ public class MenuEntrySwapperPlugin extends Plugin
 		configManager.unsetConfiguration(MenuEntrySwapperConfig.GROUP,
 			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
 	}
+
+	private Integer getCustomSwap(CustomSwap swap, long key)
+	{
+		final int value = customSwap(swap, key);
+		return value == SwapTable.MISSING ? null : value;
+	}
+
+	private int customSwap(CustomSwap swap, long key)
+	{
+		return customSwaps[swap.ordinal()].get(key);
+	}
+
+	private static long uiKey(int componentId, int itemId)
+	{
+		return (long) componentId << 32 | (itemId & 0xffffffffL);
+	}
+
+	private void loadCustomSwaps()
+	{
+		final Map<CustomSwap, Map<Long, Integer>> swaps = new EnumMap<>(CustomSwap.class);
+		for (String group : new String[]{MenuEntrySwapperConfig.GROUP, SHIFTCLICK_CONFIG_GROUP})
+		{
+			for (String wholeKey : configManager.getConfigurationKeys(group + "."))
+			{
+				final String key = wholeKey.substring(group.length() + 1);
+				final CustomSwap swap = parseCustomSwap(group, key);
+				if (swap == null)
+				{
+					continue;
+				}
+
+				final String value = configManager.getConfiguration(group, key);
+				try
+				{
+					if (!Strings.isNullOrEmpty(value))
+					{
+						swaps.computeIfAbsent(swap, k -> new HashMap<>())
+							.put(parseCustomSwapKey(swap, key), Integer.parseInt(value));
+					}
+				}
+				catch (NumberFormatException ex)
+				{
+					log.debug("invalid custom swap {}.{}: {}", group, key, value);
+				}
+			}
+		}
+
+		final SwapTable[] tables = new SwapTable[CUSTOM_SWAPS.length];
+		for (CustomSwap swap : CUSTOM_SWAPS)
+		{
+			tables[swap.ordinal()] = SwapTable.of(swaps.getOrDefault(swap, Collections.emptyMap()));
+		}
+		customSwaps = tables;
+		log.debug("Loaded {} custom swaps", Arrays.stream(tables).mapToInt(SwapTable::size).sum());
+	}
+
+	/**
+	 * Apply a change to a custom swap config key to the swap tables
+	 *
+	 * @return false if the key isn't a custom swap
+	 */
+	private synchronized boolean updateCustomSwap(String group, String key, String value)
+	{
+		final CustomSwap swap = parseCustomSwap(group, key);
+		if (swap == null)
+		{
+			return false;
+		}
+
+		final SwapTable[] tables = customSwaps;
+		if (tables == null)
+		{
+			return true;
+		}
+
+		try
+		{
+			final long tableKey = parseCustomSwapKey(swap, key);
+			final SwapTable table = tables[swap.ordinal()];
+			final SwapTable[] updated = tables.clone();
+			updated[swap.ordinal()] = Strings.isNullOrEmpty(value) ? table.without(tableKey) : table.with(tableKey, Integer.parseInt(value));
+			customSwaps = updated;
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("invalid custom swap {}.{}: {}", group, key, value);
+		}
+		return true;
+	}
+
+	private static CustomSwap parseCustomSwap(String group, String key)
+	{
+		for (CustomSwap swap : CUSTOM_SWAPS)
+		{
+			if (swap.group.equals(group) && key.startsWith(swap.prefix)
+				&& key.length() > swap.prefix.length() && Character.isDigit(key.charAt(swap.prefix.length())))
+			{
+				return swap;
+			}
+		}
+		return null;
+	}
+
+	private static long parseCustomSwapKey(CustomSwap swap, String key)
+	{
+		final String id = key.substring(swap.prefix.length());
+		if (swap == CustomSwap.UI || swap == CustomSwap.UI_SHIFT)
+		{
+			final int idx = id.indexOf('_');
+			return idx == -1
+				? uiKey(Integer.parseInt(id), -1)
+				: uiKey(Integer.parseInt(id.substring(0, idx)), Integer.parseInt(id.substring(idx + 1)));
+		}
+		return Integer.parseInt(id);
+	}
+
+	private Map<String, Swap[]> enabledSwaps(boolean shift)
+	{
+		if (swapsDirty)
+		{
+			// clear first so a change made while compiling is picked up on the next menu
+			swapsDirty = false;
+			enabledSwaps = compileSwaps(false);
+			enabledShiftSwaps = compileSwaps(true);
+		}
+		return shift ? enabledShiftSwaps : enabledSwaps;
+	}
+
+	private Map<String, Swap[]> compileSwaps(boolean shift)
+	{
+		final Map<String, Swap[]> compiled = new HashMap<>();
+		for (String option : swaps.keySet())
+		{
+			final Swap[] enabled = swaps.get(option).stream()
+				.filter(swap -> swap.getEnabled().test(shift))
+				.toArray(Swap[]::new);
+			if (enabled.length > 0)
+			{
+				compiled.put(option, enabled);
+			}
+		}
+		return compiled;
+	}
 }
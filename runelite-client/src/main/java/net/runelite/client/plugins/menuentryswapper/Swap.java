@@ -25,7 +25,6 @@
 package net.runelite.client.plugins.menuentryswapper;
 
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 import lombok.Value;
 
 @Value
@@ -34,6 +33,6 @@ class Swap
 	private Predicate<String> optionPredicate;
 	private Predicate<String> targetPredicate;
 	private String swappedOption;
-	private Supplier<Boolean> enabled;
+	private Predicate<Boolean> enabled;
 	private boolean strict;
 }
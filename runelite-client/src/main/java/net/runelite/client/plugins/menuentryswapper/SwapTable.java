@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An open addressing long to int map of custom swaps. Tables are never modified once published;
+ * changes are made to a copy so lookups from the client thread don't need to lock.
+ */
+final class SwapTable
+{
+	static final int MISSING = Integer.MIN_VALUE;
+
+	static final SwapTable EMPTY = new SwapTable(4);
+
+	private long[] keys;
+	private int[] values;
+	private int size;
+
+	private SwapTable(int capacity)
+	{
+		keys = new long[capacity];
+		values = new int[capacity];
+		Arrays.fill(values, MISSING);
+	}
+
+	static SwapTable of(Map<Long, Integer> swaps)
+	{
+		if (swaps.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		final SwapTable table = EMPTY.copy(swaps.size());
+		swaps.forEach(table::put);
+		return table;
+	}
+
+	int get(long key)
+	{
+		final int mask = keys.length - 1;
+		for (int i = hash(key) & mask; ; i = (i + 1) & mask)
+		{
+			final int value = values[i];
+			if (value == MISSING || keys[i] == key)
+			{
+				return value;
+			}
+		}
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	SwapTable with(long key, int value)
+	{
+		assert value != MISSING;
+		final SwapTable table = copy(size + 1);
+		table.put(key, value);
+		return table;
+	}
+
+	SwapTable without(long key)
+	{
+		if (get(key) == MISSING)
+		{
+			return this;
+		}
+
+		final SwapTable table = copy(size);
+		table.remove(key);
+		return table;
+	}
+
+	private SwapTable copy(int expected)
+	{
+		int capacity = keys.length;
+		while (expected * 2 > capacity)
+		{
+			capacity <<= 1;
+		}
+
+		if (capacity == keys.length)
+		{
+			final SwapTable table = new SwapTable(0);
+			table.keys = keys.clone();
+			table.values = values.clone();
+			table.size = size;
+			return table;
+		}
+
+		final SwapTable table = new SwapTable(capacity);
+		for (int i = 0; i < keys.length; ++i)
+		{
+			if (values[i] != MISSING)
+			{
+				table.put(keys[i], values[i]);
+			}
+		}
+		return table;
+	}
+
+	private void put(long key, int value)
+	{
+		final int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		while (values[i] != MISSING && keys[i] != key)
+		{
+			i = (i + 1) & mask;
+		}
+
+		if (values[i] == MISSING)
+		{
+			++size;
+		}
+		keys[i] = key;
+		values[i] = value;
+	}
+
+	private void remove(long key)
+	{
+		final int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		while (keys[i] != key)
+		{
+			i = (i + 1) & mask;
+		}
+
+		// shift back the entries following the removed one which would otherwise become unreachable
+		for (int j = (i + 1) & mask; values[j] != MISSING; j = (j + 1) & mask)
+		{
+			final int home = hash(keys[j]) & mask;
+			if (i <= j ? (home <= i || home > j) : (home <= i && home > j))
+			{
+				keys[i] = keys[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+
+		values[i] = MISSING;
+		--size;
+	}
+
+	private static int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
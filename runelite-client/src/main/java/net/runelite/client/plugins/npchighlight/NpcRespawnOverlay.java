@@ -29,11 +29,11 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.Polygon;
 import java.awt.Shape;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import javax.inject.Inject;
@@ -41,6 +41,8 @@ import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
+import net.runelite.api.ProjectionContext;
+import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
@@ -65,6 +67,16 @@ class NpcRespawnOverlay extends Overlay
 	private final NpcIndicatorsConfig config;
 	private final NpcIndicatorsPlugin plugin;
 
+	// respawn areas and their projected corners, reused between frames
+	private MemorizedNpc[] npcs = new MemorizedNpc[0];
+	private int[] centerX = new int[0];
+	private int[] centerY = new int[0];
+	private int[] groupX = new int[0];
+	private int[] groupY = new int[0];
+	private int[] groupIndex = new int[0];
+	private int[] canvasX = new int[0];
+	private int[] canvasY = new int[0];
+
 	@Inject
 	NpcRespawnOverlay(Client client, NpcIndicatorsConfig config, NpcIndicatorsPlugin plugin)
 	{
@@ -84,32 +96,94 @@ class NpcRespawnOverlay extends Overlay
 			return null;
 		}
 
-		deadNpcsToDisplay.forEach((id, npc) -> renderNpcRespawn(npc, graphics));
+		final WorldView wv = client.getTopLevelWorldView();
+		final ProjectionContext ctx = ProjectionContext.capture(client, wv);
+		ensureCapacity(deadNpcsToDisplay.size());
+
+		int count = 0;
+		for (MemorizedNpc npc : deadNpcsToDisplay.values())
+		{
+			if (npc.getPossibleRespawnLocations().isEmpty())
+			{
+				continue;
+			}
+
+			final WorldPoint respawnLocation = npc.getPossibleRespawnLocations().get(0);
+			final LocalPoint lp = LocalPoint.fromWorld(wv, respawnLocation.getX(), respawnLocation.getY());
+			if (lp == null)
+			{
+				continue;
+			}
+
+			npcs[count] = npc;
+			centerX[count] = lp.getX() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2;
+			centerY[count] = lp.getY() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2;
+			++count;
+		}
+
+		// the respawn areas are projected in one batch for each npc size
+		for (int i = 0; i < count; ++i)
+		{
+			final int size = npcs[i].getNpcSize();
+			if (isSizeProjected(i, size))
+			{
+				continue;
+			}
+
+			int group = 0;
+			for (int j = i; j < count; ++j)
+			{
+				if (npcs[j].getNpcSize() == size)
+				{
+					groupX[group] = centerX[j];
+					groupY[group] = centerY[j];
+					groupIndex[group] = j;
+					++group;
+				}
+			}
+
+			ctx.projectTiles(wv, group, groupX, groupY, size, -1, 0, canvasX, canvasY);
+			for (int g = 0; g < group; ++g)
+			{
+				renderPoly(graphics, config.highlightColor(), config.fillColor(), ProjectionContext.toPolygon(canvasX, canvasY, g));
+				renderTimer(graphics, npcs[groupIndex[g]], new LocalPoint(groupX[g], groupY[g], wv));
+			}
+		}
+
+		Arrays.fill(npcs, 0, count, null);
 		return null;
 	}
 
-	private void renderNpcRespawn(final MemorizedNpc npc, final Graphics2D graphics)
+	private boolean isSizeProjected(int index, int size)
 	{
-		if (npc.getPossibleRespawnLocations().isEmpty())
+		for (int i = 0; i < index; ++i)
 		{
-			return;
+			if (npcs[i].getNpcSize() == size)
+			{
+				return true;
+			}
 		}
+		return false;
+	}
 
-		final WorldPoint respawnLocation = npc.getPossibleRespawnLocations().get(0);
-		final LocalPoint lp = LocalPoint.fromWorld(client, respawnLocation.getX(), respawnLocation.getY());
-
-		if (lp == null)
+	private void ensureCapacity(int count)
+	{
+		if (npcs.length < count)
 		{
-			return;
+			npcs = new MemorizedNpc[count];
+			centerX = new int[count];
+			centerY = new int[count];
+			groupX = new int[count];
+			groupY = new int[count];
+			groupIndex = new int[count];
+			canvasX = new int[count * 4];
+			canvasY = new int[count * 4];
 		}
+	}
 
-		final LocalPoint centerLp = new LocalPoint(
-			lp.getX() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2,
-			lp.getY() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2);
-
-		final Polygon poly = Perspective.getCanvasTileAreaPoly(client, centerLp, npc.getNpcSize());
-		renderPoly(graphics, config.highlightColor(), config.fillColor(), poly);
-
+	private void renderTimer(final Graphics2D graphics, final MemorizedNpc npc, final LocalPoint centerLp)
+	{
+		final WorldPoint respawnLocation = npc.getPossibleRespawnLocations().get(0);
 		final Instant now = Instant.now();
 		final double baseTick = ((npc.getDiedOnTick() + npc.getRespawnTime()) - client.getTickCount()) * (Constants.GAME_TICK_LENGTH / 1000.0);
 		final double sinceLast = (now.toEpochMilli() - plugin.getLastTickUpdate().toEpochMilli()) / 1000.0;
@@ -29,6 +29,9 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Keybind;
+import net.runelite.client.config.Range;
+import net.runelite.client.util.PngEncoder;
+import net.runelite.client.util.ScreenshotFormat;
 
 @ConfigGroup("screenshot")
 public interface ScreenshotConfig extends Config
@@ -95,6 +98,31 @@ public interface ScreenshotConfig extends Config
 		return Keybind.NOT_SET;
 	}
 
+	@ConfigItem(
+		keyName = "format",
+		name = "Image format",
+		description = "The file format screenshots are saved in. QOI is lossless like PNG, saves much faster, but produces larger files.",
+		position = 5
+	)
+	default ScreenshotFormat format()
+	{
+		return ScreenshotFormat.PNG;
+	}
+
+	@Range(
+		max = 9
+	)
+	@ConfigItem(
+		keyName = "compressionLevel",
+		name = "PNG compression",
+		description = "The PNG compression level, from 0 (fastest, largest) to 9 (slowest, smallest).",
+		position = 6
+	)
+	default int compressionLevel()
+	{
+		return PngEncoder.DEFAULT_COMPRESSION_LEVEL;
+	}
+
 	@ConfigItem(
 		keyName = "rewards",
 		name = "Screenshot rewards",
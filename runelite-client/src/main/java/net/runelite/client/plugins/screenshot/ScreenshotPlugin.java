@@ -989,7 +989,7 @@ public class ScreenshotPlugin extends Plugin
 		final BufferedImage screenshot;
 		if (!config.includeFrame())
 		{
-			// just simply copy the image
+			// the frame is not reused, so it is saved without copying
 			screenshot = ImageUtil.bufferedImageFromImage(image);
 		}
 		else
@@ -997,7 +997,8 @@ public class ScreenshotPlugin extends Plugin
 			screenshot = imageCapture.addClientFrame(image);
 		}
 
-		imageCapture.saveScreenshot(screenshot, fileName, subDir, config.notifyWhenTaken(), config.copyToClipboard());
+		imageCapture.saveScreenshot(screenshot, fileName, subDir, config.notifyWhenTaken(), config.copyToClipboard(),
+			config.format(), config.compressionLevel());
 	}
 
 	private boolean isInsideGauntlet()
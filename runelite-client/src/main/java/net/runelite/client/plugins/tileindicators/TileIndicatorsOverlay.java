@@ -32,6 +32,7 @@ import java.awt.Polygon;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
+import net.runelite.api.ProjectionContext;
 import net.runelite.api.Tile;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
@@ -43,9 +44,22 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 
 public class TileIndicatorsOverlay extends Overlay
 {
+	private static final int MAX_TILES = 3;
+
 	private final Client client;
 	private final TileIndicatorsConfig config;
 
+	// the hovered, destination and current tiles of this frame
+	private final int[] localX = new int[MAX_TILES];
+	private final int[] localY = new int[MAX_TILES];
+	private final int[] worldViews = new int[MAX_TILES];
+	private final Color[] colors = new Color[MAX_TILES];
+	private final double[] borderWidths = new double[MAX_TILES];
+	private final Color[] fillColors = new Color[MAX_TILES];
+	private final int[] canvasX = new int[MAX_TILES * 4];
+	private final int[] canvasY = new int[MAX_TILES * 4];
+	private int count;
+
 	@Inject
 	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config)
 	{
@@ -59,6 +73,8 @@ public class TileIndicatorsOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		count = 0;
+
 		if (config.highlightHoveredTile())
 		{
 			WorldView wv = client.getLocalPlayer().getWorldView();
@@ -66,49 +82,76 @@ public class TileIndicatorsOverlay extends Overlay
 			// If we have tile "selected" render it
 			if (tile != null)
 			{
-				renderTile(graphics, tile.getLocalLocation(), config.highlightHoveredColor(), config.hoveredTileBorderWidth(), config.hoveredTileFillColor());
+				addTile(tile.getLocalLocation(), config.highlightHoveredColor(), config.hoveredTileBorderWidth(), config.hoveredTileFillColor());
 			}
 		}
 
 		if (config.highlightDestinationTile())
 		{
-			renderTile(graphics, client.getLocalDestinationLocation(), config.highlightDestinationColor(), config.destinationTileBorderWidth(), config.destinationTileFillColor());
+			addTile(client.getLocalDestinationLocation(), config.highlightDestinationColor(), config.destinationTileBorderWidth(), config.destinationTileFillColor());
 		}
 
 		if (config.highlightCurrentTile())
 		{
 			final WorldPoint playerPos = client.getLocalPlayer().getWorldLocation();
-			if (playerPos == null)
-			{
-				return null;
-			}
-
-			final LocalPoint playerPosLocal = LocalPoint.fromWorld(client, playerPos);
-			if (playerPosLocal == null)
+			if (playerPos != null)
 			{
-				return null;
+				addTile(LocalPoint.fromWorld(client, playerPos), config.highlightCurrentColor(), config.currentTileBorderWidth(), config.currentTileFillColor());
 			}
+		}
 
-			renderTile(graphics, playerPosLocal, config.highlightCurrentColor(), config.currentTileBorderWidth(), config.currentTileFillColor());
+		if (count > 0)
+		{
+			renderTiles(graphics);
 		}
 
 		return null;
 	}
 
-	private void renderTile(final Graphics2D graphics, final LocalPoint dest, final Color color, final double borderWidth, final Color fillColor)
+	private void addTile(final LocalPoint dest, final Color color, final double borderWidth, final Color fillColor)
 	{
 		if (dest == null)
 		{
 			return;
 		}
 
-		final Polygon poly = Perspective.getCanvasTilePoly(client, dest);
+		localX[count] = dest.getX();
+		localY[count] = dest.getY();
+		worldViews[count] = dest.getWorldView();
+		colors[count] = color;
+		borderWidths[count] = borderWidth;
+		fillColors[count] = fillColor;
+		++count;
+	}
 
-		if (poly == null)
+	private void renderTiles(final Graphics2D graphics)
+	{
+		// the highlighted tiles are almost always in the same worldview, so project them together
+		final WorldView wv = client.getWorldView(worldViews[0]);
+		final ProjectionContext ctx = wv != null ? ProjectionContext.capture(client, wv) : null;
+		if (ctx != null)
 		{
-			return;
+			ctx.projectTiles(wv, count, localX, localY, 1, -1, 0, canvasX, canvasY);
 		}
 
-		OverlayUtil.renderPolygon(graphics, poly, color, fillColor, new BasicStroke((float) borderWidth));
+		for (int i = 0; i < count; ++i)
+		{
+			final Polygon poly;
+			if (ctx != null && worldViews[i] == worldViews[0])
+			{
+				poly = ProjectionContext.toPolygon(canvasX, canvasY, i);
+			}
+			else
+			{
+				poly = Perspective.getCanvasTilePoly(client, new LocalPoint(localX[i], localY[i], worldViews[i]));
+			}
+
+			if (poly != null)
+			{
+				OverlayUtil.renderPolygon(graphics, poly, colors[i], fillColors[i], new BasicStroke((float) borderWidths[i]));
+			}
+
+			colors[i] = fillColors[i] = null;
+		}
 	}
 }
@@ -52,7 +52,8 @@ import net.runelite.client.task.Schedule;
 @PluginDescriptor(
 	name = "Twitch",
 	description = "Integrates Twitch chat",
-	enabledByDefault = false
+	enabledByDefault = false,
+	deferredStartup = true
 )
 @Slf4j
 public class TwitchPlugin extends Plugin implements TwitchListener
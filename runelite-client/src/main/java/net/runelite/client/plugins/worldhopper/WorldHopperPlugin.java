@@ -26,12 +26,12 @@
  */
 package net.runelite.client.plugins.worldhopper;
 
-import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.FileDescriptor;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -82,8 +82,10 @@ import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.PingEngine;
 import net.runelite.client.plugins.worldhopper.ping.RetransmitCalculator;
 import net.runelite.client.plugins.worldhopper.ping.TCP_INFO_v0;
+import net.runelite.client.plugins.worldhopper.ping.WorldPing;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -157,15 +159,14 @@ public class WorldHopperPlugin extends Plugin
 
 	private int favoriteWorld1, favoriteWorld2;
 
-	private ScheduledFuture<?> pingFuture, currPingFuture;
-	private int currentWorld;
+	private ScheduledFuture<?> currPingFuture;
+	private volatile boolean worldListOpen;
+	private final PingEngine pingEngine = new PingEngine(world -> Ping.ping(world, true), this::onPing);
 	private Instant lastFetch;
 
 	@Getter(AccessLevel.PACKAGE)
 	private int currentPing;
 
-	private final Map<Integer, Integer> storedPings = new HashMap<>();
-
 	final RetransmitCalculator retransmitCalculator = new RetransmitCalculator();
 
 	private final HotkeyListener previousKeyListener = new HotkeyListener(() -> config.previousKey())
@@ -220,23 +221,21 @@ public class WorldHopperPlugin extends Plugin
 		panel.setRegionFilterMode(config.regionFilter());
 		panel.setWorldTypeFilters(config.worldTypeFilter());
 
+		updatePingEngine();
+
 		// The plugin has its own executor for pings, as it blocks for a long time
 		hopperExecutorService = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor());
 		// populate initial world list
 		hopperExecutorService.execute(this::updateList);
-		// Run the first-run ping
-		hopperExecutorService.execute(this::pingInitialWorlds);
 
-		// Give some initial delay - this won't run until after pingInitialWorlds finishes anyway
-		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingNextWorld, 15, 3, TimeUnit.SECONDS);
 		currPingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingCurrentWorld, 15, 1, TimeUnit.SECONDS);
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
-		pingFuture.cancel(true);
-		pingFuture = null;
+		worldListOpen = false;
+		pingEngine.stop();
 
 		currPingFuture.cancel(true);
 		currPingFuture = null;
@@ -268,8 +267,10 @@ public class WorldHopperPlugin extends Plugin
 					{
 						clientToolbar.removeNavigation(navButton);
 					}
+					updatePingEngine();
 					break;
 				case "ping":
+					updatePingEngine();
 					if (config.ping())
 					{
 						SwingUtilities.invokeLater(() -> panel.showPing());
@@ -512,6 +513,8 @@ public class WorldHopperPlugin extends Plugin
 		WorldResult worldResult = worldService.getWorlds();
 		if (worldResult != null)
 		{
+			pingEngine.setWorlds(worldResult.getWorlds());
+
 			clientThread.invokeLater(() ->
 			{
 				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
@@ -821,69 +824,37 @@ public class WorldHopperPlugin extends Plugin
 		return null;
 	}
 
-	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
-	 */
-	private void pingInitialWorlds()
+	private void updatePingEngine()
 	{
-		WorldResult worldResult = worldService.getWorlds();
-		if (worldResult == null || !config.showSidebar() || !config.ping())
+		// the world list is only pinged while it is visible
+		if (config.showSidebar() && config.ping() && worldListOpen)
 		{
-			return;
+			pingEngine.start();
 		}
-
-		Stopwatch stopwatch = Stopwatch.createStarted();
-
-		for (World world : worldResult.getWorlds())
+		else
 		{
-			int ping = ping(world, false);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			pingEngine.stop();
 		}
-
-		stopwatch.stop();
-
-		log.debug("Done pinging worlds in {}", stopwatch.elapsed());
 	}
 
 	/**
-	 * Ping the next world
+	 * Set the worlds which are re-pinged more often, which are the ones shown in the world list
 	 */
-	private void pingNextWorld()
+	void setPriorityWorlds(Collection<Integer> worldIds)
 	{
-		WorldResult worldResult = worldService.getWorlds();
-		if (worldResult == null || !config.showSidebar() || !config.ping())
-		{
-			return;
-		}
-
-		List<World> worlds = worldResult.getWorlds();
-		if (worlds.isEmpty())
-		{
-			return;
-		}
-
-		if (currentWorld >= worlds.size())
-		{
-			// Wrap back around
-			currentWorld = 0;
-		}
-
-		World world = worlds.get(currentWorld++);
-
-		// If we are displaying the ping overlay, there is a separate scheduled task for the current world
-		boolean displayPing = config.displayPing() && client.getGameState() == GameState.LOGGED_IN;
-		if (displayPing && client.getWorld() == world.getId())
-		{
-			return;
-		}
+		pingEngine.setPriority(worldIds);
+	}
 
-		int ping = ping(world, false);
-		log.trace("Ping for world {} is: {}", world.getId(), ping);
+	void setWorldListOpen(boolean open)
+	{
+		worldListOpen = open;
+		updatePingEngine();
+	}
 
-		if (panel.isActive())
-		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+	private void onPing(World world, WorldPing stats)
+	{
+		final int ping = stats.getPing();
+		SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
 	}
 
 	/**
@@ -905,7 +876,7 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		int ping = ping(currentWorld, true);
+		int ping = Ping.ping(currentWorld, false);
 		log.trace("Ping for current world is: {}", ping);
 
 		FileDescriptor fd = client.getSocketFD();
@@ -923,20 +894,17 @@ public class WorldHopperPlugin extends Plugin
 		if (ping < 0)
 		{
 			ping = rtt; // use rtt for ping if icmp is blocked
-			storedPings.put(currentWorld.getId(), rtt);
 		}
 
+		// this also keeps the ping engine from pinging the current world
+		pingEngine.record(currentWorld, ping);
+
 		if (ping < 0)
 		{
 			return;
 		}
 
 		currentPing = ping;
-
-		if (panel.isActive())
-		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(currentWorld.getId(), currentPing));
-		}
 	}
 
 	Integer getStoredPing(World world)
@@ -946,13 +914,7 @@ public class WorldHopperPlugin extends Plugin
 			return null;
 		}
 
-		return storedPings.get(world.getId());
-	}
-
-	private int ping(World world, boolean isCurrentWorld)
-	{
-		int ping = Ping.ping(world, !isCurrentWorld);
-		storedPings.put(world.getId(), ping);
-		return ping;
+		final WorldPing ping = pingEngine.getPing(world.getId());
+		return ping != null ? ping.getPing() : null;
 	}
 }
@@ -99,12 +99,16 @@ class WorldSwitcherPanel extends PluginPanel
 	{
 		active = true;
 		updateList();
+		updatePingPriority();
+		plugin.setWorldListOpen(true);
 	}
 
 	@Override
 	public void onDeactivate()
 	{
 		active = false;
+		updatePingPriority();
+		plugin.setWorldListOpen(false);
 	}
 
 	void switchCurrentHighlight(int newWorld, int lastWorld)
@@ -151,7 +155,7 @@ class WorldSwitcherPanel extends PluginPanel
 				worldTableRow.setPing(ping);
 
 				// If the panel is sorted by ping, re-sort it
-				if (orderIndex == WorldOrder.PING)
+				if (orderIndex == WorldOrder.PING && active)
 				{
 					updateList();
 				}
@@ -296,6 +300,23 @@ class WorldSwitcherPanel extends PluginPanel
 		}
 
 		updateList();
+		updatePingPriority();
+	}
+
+	/**
+	 * Re-ping the worlds which pass the filters more often while the list is open
+	 */
+	private void updatePingPriority()
+	{
+		final List<Integer> worldIds = new ArrayList<>(rows.size());
+		if (active)
+		{
+			for (WorldTableRow row : rows)
+			{
+				worldIds.add(row.getWorld().getId());
+			}
+		}
+		plugin.setPriorityWorlds(worldIds);
 	}
 
 	private void orderBy(WorldOrder order)
@@ -39,6 +39,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.OSType;
 import net.runelite.http.api.worlds.World;
@@ -51,7 +52,8 @@ public class Ping
 	private static final int PORT = 43594;
 	private static final int MAX_IPV4_HEADER_SIZE = 60;
 
-	private static short seq;
+	// worlds are pinged concurrently, so every echo request needs its own sequence number
+	private static final AtomicInteger seq = new AtomicInteger();
 
 	@Deprecated
 	public static int ping(World world)
@@ -164,7 +166,7 @@ public class Ping
 				throw new IOException("failed to set SO_SNDTIMEO");
 			}
 
-			short seqno = seq++;
+			short seqno = (short) seq.getAndIncrement();
 
 			// struct icmphdr
 			byte[] request = {
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings worlds concurrently. A fixed number of workers each repeatedly take the world whose
+ * ping is most overdue, which bounds the number of pings in flight. Worlds with a priority,
+ * such as the ones currently shown in the world list, are re-pinged more often than the rest.
+ */
+@Slf4j
+public class PingEngine
+{
+	public interface Pinger
+	{
+		/**
+		 * Ping a world, blocking until it responds or times out
+		 *
+		 * @return the ping in milliseconds, or -1 on failure
+		 */
+		int ping(World world);
+	}
+
+	public interface Listener
+	{
+		void onPing(World world, WorldPing ping);
+	}
+
+	public static final int DEFAULT_WINDOW = 8;
+	private static final long PRIORITY_INTERVAL = TimeUnit.SECONDS.toNanos(15);
+	private static final long BACKGROUND_INTERVAL = TimeUnit.SECONDS.toNanos(90);
+
+	private final Pinger pinger;
+	private final Listener listener;
+	private final int window;
+	private final long priorityInterval;
+	private final long backgroundInterval;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final Map<Integer, WorldPing> pings = new HashMap<>();
+	private List<World> worlds = Collections.emptyList();
+	private Set<Integer> priority = Collections.emptySet();
+	private ExecutorService workers;
+
+	public PingEngine(Pinger pinger, Listener listener)
+	{
+		this(pinger, listener, DEFAULT_WINDOW, PRIORITY_INTERVAL, BACKGROUND_INTERVAL);
+	}
+
+	PingEngine(Pinger pinger, Listener listener, int window, long priorityInterval, long backgroundInterval)
+	{
+		this.pinger = pinger;
+		this.listener = listener;
+		this.window = window;
+		this.priorityInterval = priorityInterval;
+		this.backgroundInterval = backgroundInterval;
+	}
+
+	public void start()
+	{
+		lock.lock();
+		try
+		{
+			if (workers != null)
+			{
+				return;
+			}
+
+			workers = Executors.newFixedThreadPool(window, new ThreadFactoryBuilder()
+				.setNameFormat("world-ping-%d")
+				.setDaemon(true)
+				.build());
+			for (int i = 0; i < window; ++i)
+			{
+				workers.execute(this::run);
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	public void stop()
+	{
+		lock.lock();
+		try
+		{
+			if (workers != null)
+			{
+				workers.shutdownNow();
+				workers = null;
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Set the worlds to ping. Statistics for worlds which are no longer in the list are discarded.
+	 */
+	public void setWorlds(List<World> worlds)
+	{
+		lock.lock();
+		try
+		{
+			this.worlds = new ArrayList<>(worlds);
+			final Set<Integer> ids = new HashSet<>();
+			for (World world : worlds)
+			{
+				ids.add(world.getId());
+			}
+			pings.keySet().retainAll(ids);
+			changed.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Set the worlds to re-ping more frequently, typically the ones visible in the world list
+	 */
+	public void setPriority(Collection<Integer> worldIds)
+	{
+		lock.lock();
+		try
+		{
+			priority = new HashSet<>(worldIds);
+			changed.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Record a ping measured elsewhere, such as for the current world. This also delays the
+	 * next ping of the world.
+	 */
+	public void record(World world, int ping)
+	{
+		final WorldPing stats;
+		lock.lock();
+		try
+		{
+			stats = pings.computeIfAbsent(world.getId(), WorldPing::new);
+			stats.record(ping, System.nanoTime());
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		listener.onPing(world, stats);
+	}
+
+	@Nullable
+	public WorldPing getPing(int worldId)
+	{
+		lock.lock();
+		try
+		{
+			return pings.get(worldId);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	private void run()
+	{
+		try
+		{
+			while (!Thread.currentThread().isInterrupted())
+			{
+				final World world = next();
+				int ping;
+				try
+				{
+					ping = pinger.ping(world);
+				}
+				catch (RuntimeException ex)
+				{
+					log.warn("error pinging world {}", world.getId(), ex);
+					ping = -1;
+				}
+				log.trace("Ping for world {} is: {}", world.getId(), ping);
+
+				final WorldPing stats;
+				lock.lock();
+				try
+				{
+					stats = pings.computeIfAbsent(world.getId(), WorldPing::new);
+					stats.inFlight = false;
+					stats.record(ping, System.nanoTime());
+				}
+				finally
+				{
+					lock.unlock();
+				}
+				listener.onPing(world, stats);
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			// stopped
+		}
+	}
+
+	/**
+	 * Wait for, and claim, the next world to ping
+	 */
+	private World next() throws InterruptedException
+	{
+		lock.lockInterruptibly();
+		try
+		{
+			while (true)
+			{
+				final long now = System.nanoTime();
+				World best = null;
+				long bestOverdue = Long.MIN_VALUE;
+				for (World world : worlds)
+				{
+					final WorldPing stats = pings.get(world.getId());
+					if (stats != null && stats.inFlight)
+					{
+						continue;
+					}
+
+					final boolean prioritized = priority.contains(world.getId());
+					// worlds which have never been pinged go first, in list order
+					final long overdue = stats == null
+						? (prioritized ? Long.MAX_VALUE : Long.MAX_VALUE - 1)
+						: now - stats.lastProbe - (prioritized ? priorityInterval : backgroundInterval);
+					if (overdue > bestOverdue)
+					{
+						best = world;
+						bestOverdue = overdue;
+					}
+				}
+
+				if (best == null)
+				{
+					changed.await();
+				}
+				else if (bestOverdue >= 0)
+				{
+					pings.computeIfAbsent(best.getId(), WorldPing::new).inFlight = true;
+					return best;
+				}
+				else
+				{
+					changed.awaitNanos(-bestOverdue);
+				}
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
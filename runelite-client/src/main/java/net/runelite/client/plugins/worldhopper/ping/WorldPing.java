@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import lombok.Getter;
+
+/**
+ * Ping statistics for a single world. The average and jitter are exponential moving averages,
+ * with the jitter computed as in RFC 3550.
+ */
+@Getter
+public class WorldPing
+{
+	static final double ALPHA = 0.25;
+
+	private final int worldId;
+	// written under the engine lock, and read without it by listeners and the ui
+	private volatile int last = -1;
+	private volatile double average;
+	private volatile double jitter;
+	private volatile int samples;
+	private volatile int failures;
+	volatile long lastProbe;
+	volatile boolean inFlight;
+
+	WorldPing(int worldId)
+	{
+		this.worldId = worldId;
+	}
+
+	void record(int ping, long now)
+	{
+		lastProbe = now;
+		last = ping;
+		if (ping < 0)
+		{
+			++failures;
+			return;
+		}
+
+		if (samples++ == 0)
+		{
+			average = ping;
+			jitter = 0;
+		}
+		else
+		{
+			jitter += (Math.abs(ping - average) - jitter) * ALPHA;
+			average += (ping - average) * ALPHA;
+		}
+	}
+
+	/**
+	 * The smoothed ping, or -1 if the world has never responded or its latest probe failed
+	 */
+	public int getPing()
+	{
+		return samples == 0 || last < 0 ? -1 : (int) Math.round(average);
+	}
+}
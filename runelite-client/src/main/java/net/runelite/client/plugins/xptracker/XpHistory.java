@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Skill;
+
+/**
+ * History of xp gains per skill, downsampled into fixed size ring buffers of
+ * second, minute, hour, and day buckets. The ring buffers live in a memory mapped
+ * file, so recording a gain is just a few writes into the mapping.
+ * <p>
+ * A sliding window sum over the minute buckets is kept per skill so that the recent xp
+ * rate is available in constant time.
+ */
+@Slf4j
+class XpHistory implements Closeable
+{
+	@Getter
+	@RequiredArgsConstructor
+	enum Resolution
+	{
+		SECOND(1, 4096),
+		MINUTE(60, 7 * 24 * 60),
+		HOUR(3600, 90 * 24),
+		DAY(86400, 5 * 366);
+
+		/**
+		 * Bucket length in seconds
+		 */
+		private final int period;
+		/**
+		 * Number of buckets retained
+		 */
+		private final int capacity;
+	}
+
+	@Value
+	static class XpSample
+	{
+		Instant time;
+		int xp;
+	}
+
+	private static final int MAGIC = 0x58504853; // XPHS
+	private static final int VERSION = 1;
+	private static final int MAX_SKILLS = 32;
+	// bucket numbers are counted from this epoch so that second buckets fit in an int
+	private static final long EPOCH = Instant.parse("2020-01-01T00:00:00Z").getEpochSecond();
+
+	private static final Resolution[] RESOLUTIONS = Resolution.values();
+	private static final int WINDOW_MINUTES = 60;
+
+	// header: magic, version
+	private static final int HEADER_INTS = 2;
+	// per skill: last xp, then per resolution the number of buckets ever written
+	private static final int SKILL_HEADER_INTS = 1 + RESOLUTIONS.length;
+	private static final int SKILL_INTS;
+	private static final int[] RING_OFFSET = new int[RESOLUTIONS.length];
+
+	static
+	{
+		int offset = SKILL_HEADER_INTS;
+		for (Resolution resolution : RESOLUTIONS)
+		{
+			RING_OFFSET[resolution.ordinal()] = offset;
+			// bucket number and xp
+			offset += resolution.capacity * 2;
+		}
+		SKILL_INTS = offset;
+	}
+
+	private final FileChannel channel;
+	private final MappedByteBuffer mapped;
+	private final IntBuffer data;
+
+	// sliding window state, per skill
+	private final int[] windowSum = new int[MAX_SKILLS];
+	private final int[] windowTail = new int[MAX_SKILLS];
+
+	private XpHistory(FileChannel channel, MappedByteBuffer mapped)
+	{
+		this.channel = channel;
+		this.mapped = mapped;
+		this.data = mapped.asIntBuffer();
+	}
+
+	/**
+	 * Open the history file, creating it if it doesn't exist
+	 */
+	static XpHistory open(File file) throws IOException
+	{
+		final File dir = file.getParentFile();
+		if (dir != null && !dir.exists() && !dir.mkdirs())
+		{
+			throw new IOException("unable to create xp history directory " + dir);
+		}
+
+		final long size = (HEADER_INTS + (long) MAX_SKILLS * SKILL_INTS) * Integer.BYTES;
+		final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try
+		{
+			final boolean fresh = channel.size() != size;
+			if (fresh)
+			{
+				if (channel.size() > 0)
+				{
+					log.warn("Discarding xp history {} with unexpected size {}", file, channel.size());
+				}
+				channel.truncate(0);
+			}
+
+			final XpHistory history = new XpHistory(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+			if (fresh || history.data.get(0) != MAGIC || history.data.get(1) != VERSION)
+			{
+				for (int i = 0; i < size / Integer.BYTES; ++i)
+				{
+					history.data.put(i, 0);
+				}
+				history.data.put(0, MAGIC);
+				history.data.put(1, VERSION);
+			}
+
+			history.initWindows();
+			return history;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			channel.close();
+			throw ex;
+		}
+	}
+
+	private void initWindows()
+	{
+		final int now = bucket(System.currentTimeMillis() / 1000L, Resolution.MINUTE);
+		for (int skill = 0; skill < MAX_SKILLS; ++skill)
+		{
+			final int written = written(skill, Resolution.MINUTE);
+			int tail = written;
+			int sum = 0;
+			while (tail > 0 && tail > written - Resolution.MINUTE.capacity)
+			{
+				final int idx = ringIndex(skill, Resolution.MINUTE, tail - 1);
+				if (data.get(idx) <= now - WINDOW_MINUTES)
+				{
+					break;
+				}
+				sum += data.get(idx + 1);
+				--tail;
+			}
+			windowSum[skill] = sum;
+			windowTail[skill] = tail;
+		}
+	}
+
+	/**
+	 * Set the current xp of a skill without recording the change as a gain, eg.
+	 * on login where the xp may have been gained elsewhere.
+	 */
+	synchronized void sync(Skill skill, int xp)
+	{
+		data.put(skillBase(skill.ordinal()), xp);
+	}
+
+	/**
+	 * Record the xp of a skill, adding the difference from the previous xp to the history
+	 *
+	 * @param millis the time of the change
+	 */
+	synchronized void record(Skill skill, int xp, long millis)
+	{
+		final int s = skill.ordinal();
+		final int base = skillBase(s);
+		final int last = data.get(base);
+		data.put(base, xp);
+
+		final int delta = xp - last;
+		if (last == 0 || delta <= 0)
+		{
+			// first observation, or xp went backwards
+			return;
+		}
+
+		final long seconds = millis / 1000L;
+		for (Resolution resolution : RESOLUTIONS)
+		{
+			add(s, resolution, bucket(seconds, resolution), delta);
+		}
+		windowSum[s] += delta;
+	}
+
+	private void add(int skill, Resolution resolution, int bucket, int delta)
+	{
+		final int countIdx = skillBase(skill) + 1 + resolution.ordinal();
+		final int written = data.get(countIdx);
+		if (written > 0)
+		{
+			final int idx = ringIndex(skill, resolution, written - 1);
+			if (data.get(idx) == bucket)
+			{
+				data.put(idx + 1, data.get(idx + 1) + delta);
+				return;
+			}
+		}
+
+		final int idx = ringIndex(skill, resolution, written);
+		data.put(idx, bucket);
+		data.put(idx + 1, delta);
+		data.put(countIdx, written + 1);
+	}
+
+	/**
+	 * Advance the sliding windows to the given time. Each call is amortized constant time per skill.
+	 */
+	synchronized void tick(long millis)
+	{
+		final int now = bucket(millis / 1000L, Resolution.MINUTE);
+		for (Skill skill : Skill.values())
+		{
+			final int s = skill.ordinal();
+			final int written = written(s, Resolution.MINUTE);
+			while (windowTail[s] < written)
+			{
+				final int idx = ringIndex(s, Resolution.MINUTE, windowTail[s]);
+				if (data.get(idx) > now - WINDOW_MINUTES)
+				{
+					break;
+				}
+				windowSum[s] -= data.get(idx + 1);
+				++windowTail[s];
+			}
+		}
+	}
+
+	/**
+	 * Get the xp rate of a skill over the last hour of history, as of the last {@link #tick(long)}
+	 */
+	synchronized int getXpPerHour(Skill skill, long millis)
+	{
+		final int s = skill.ordinal();
+		final int sum = windowSum[s];
+		if (sum == 0)
+		{
+			return 0;
+		}
+
+		// measure from the start of the oldest minute in the window, so a window which isn't full yet
+		// isn't diluted by time before the first gain
+		final int oldest = data.get(ringIndex(s, Resolution.MINUTE, windowTail[s]));
+		final long elapsed = Math.max(60L, millis / 1000L - (EPOCH + (long) oldest * 60L));
+		return (int) Math.min(Integer.MAX_VALUE, sum * 3600L / Math.min(elapsed, WINDOW_MINUTES * 60L));
+	}
+
+	/**
+	 * Get the number of seconds until the given amount of xp is gained at the recent xp rate
+	 *
+	 * @return the number of seconds, or -1 if there is no recent xp
+	 */
+	synchronized long getSecondsToXp(Skill skill, int xp, long millis)
+	{
+		final int xpPerHour = getXpPerHour(skill, millis);
+		return xpPerHour == 0 ? -1 : (long) xp * 3600L / xpPerHour;
+	}
+
+	/**
+	 * Get the xp gained in each bucket between two times, skipping empty buckets
+	 *
+	 * @param from start time, inclusive
+	 * @param to end time, exclusive
+	 */
+	synchronized List<XpSample> query(Skill skill, Resolution resolution, Instant from, Instant to)
+	{
+		final int s = skill.ordinal();
+		final int start = bucket(from.getEpochSecond(), resolution);
+		final int end = bucket(to.getEpochSecond() + resolution.period - 1, resolution);
+		final int written = written(s, resolution);
+
+		final List<XpSample> samples = new ArrayList<>();
+		for (int seq = written - 1; seq >= 0 && seq >= written - resolution.capacity; --seq)
+		{
+			final int idx = ringIndex(s, resolution, seq);
+			final int bucket = data.get(idx);
+			if (bucket < start)
+			{
+				break;
+			}
+			if (bucket < end)
+			{
+				samples.add(new XpSample(Instant.ofEpochSecond(EPOCH + (long) bucket * resolution.period), data.get(idx + 1)));
+			}
+		}
+		Collections.reverse(samples);
+		return samples;
+	}
+
+	/**
+	 * Get the finest resolution which still has history back to the given time
+	 */
+	synchronized Resolution resolutionFor(Skill skill, Instant from)
+	{
+		final int s = skill.ordinal();
+		for (Resolution resolution : RESOLUTIONS)
+		{
+			final int written = written(s, resolution);
+			if (written < resolution.capacity)
+			{
+				return resolution;
+			}
+
+			final int oldest = data.get(ringIndex(s, resolution, written - resolution.capacity));
+			if (oldest <= bucket(from.getEpochSecond(), resolution))
+			{
+				return resolution;
+			}
+		}
+		return Resolution.DAY;
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		mapped.force();
+		channel.close();
+	}
+
+	private int written(int skill, Resolution resolution)
+	{
+		return data.get(skillBase(skill) + 1 + resolution.ordinal());
+	}
+
+	private static int bucket(long epochSeconds, Resolution resolution)
+	{
+		return (int) Math.floorDiv(epochSeconds - EPOCH, (long) resolution.period);
+	}
+
+	private static int skillBase(int skill)
+	{
+		return HEADER_INTS + skill * SKILL_INTS;
+	}
+
+	private static int ringIndex(int skill, Resolution resolution, int seq)
+	{
+		return skillBase(skill) + RING_OFFSET[resolution.ordinal()] + (seq % resolution.capacity) * 2;
+	}
+}
@@ -34,9 +34,11 @@ import net.runelite.client.util.QuantityFormatter;
 public enum XpPanelLabel
 {
 	TIME_TO_LEVEL("TTL", XpSnapshotSingle::getTimeTillGoalShort),
+	RECENT_TIME_TO_LEVEL("TTL (1h)", XpSnapshotSingle::getRecentTimeTillGoalShort),
 
 	XP_GAINED("XP Gained", snap -> format(snap.getXpGainedInSession())),
 	XP_HOUR("XP/hr", snap -> format(snap.getXpPerHour())),
+	RECENT_XP_HOUR("XP/hr (1h)", snap -> format(snap.getRecentXpPerHour())),
 	XP_LEFT("XP Left", snap -> format(snap.getXpRemainingToGoal())),
 
 	ACTIONS_LEFT("Actions", snap -> format(snap.getActionsRemainingToGoal())),
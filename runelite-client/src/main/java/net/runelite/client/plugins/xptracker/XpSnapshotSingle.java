@@ -27,7 +27,7 @@ package net.runelite.client.plugins.xptracker;
 import lombok.Builder;
 import lombok.Value;
 
-@Builder
+@Builder(toBuilder = true)
 @Value
 class XpSnapshotSingle
 {
@@ -38,6 +38,7 @@ class XpSnapshotSingle
 	private int xpGainedInSession;
 	private int xpRemainingToGoal;
 	private int xpPerHour;
+	private int recentXpPerHour;
 	private double skillProgressToGoal;
 	private int actionsInSession;
 	private int actionsRemainingToGoal;
@@ -45,5 +46,6 @@ class XpSnapshotSingle
 	private String timeTillGoal;
 	private String timeTillGoalHours;
 	private String timeTillGoalShort;
+	private String recentTimeTillGoalShort;
 	private boolean compactView;
 }
@@ -152,7 +152,11 @@ class XpStateSingle
 
 	private String getTimeTillLevel(XpGoalTimeType goalTimeType)
 	{
-		long remainingSeconds = getSecondsTillLevel();
+		return formatTimeTillGoal(getSecondsTillLevel(), goalTimeType);
+	}
+
+	static String formatTimeTillGoal(long remainingSeconds, XpGoalTimeType goalTimeType)
+	{
 		if (remainingSeconds < 0)
 		{
 			return "\u221e";
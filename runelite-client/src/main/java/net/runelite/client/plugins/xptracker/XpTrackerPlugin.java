@@ -30,8 +30,13 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import javax.inject.Inject;
 import lombok.AccessLevel;
 import lombok.Setter;
@@ -51,6 +56,7 @@ import net.runelite.api.events.StatChanged;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.VarPlayerID;
 import net.runelite.api.widgets.WidgetUtil;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -80,6 +86,7 @@ public class XpTrackerPlugin extends Plugin
 	 */
 	private static final int XP_THRESHOLD = 10_000;
 
+	private static final File HISTORY_DIR = new File(RuneLite.RUNELITE_DIR, "xp");
 	private static final String MENUOP_ADD_CANVAS_TRACKER = "Add to canvas";
 	private static final String MENUOP_REMOVE_CANVAS_TRACKER = "Remove from canvas";
 
@@ -120,6 +127,7 @@ public class XpTrackerPlugin extends Plugin
 	private boolean fetchXp; // fetch lastXp for the online xp tracker
 	private long lastXp = 0;
 	private int initializeTracker;
+	private XpHistory xpHistory;
 
 	private final XpPauseState xpPauseState = new XpPauseState();
 
@@ -171,6 +179,7 @@ public class XpTrackerPlugin extends Plugin
 		overlayManager.removeIf(e -> e instanceof XpInfoBoxOverlay);
 		xpState.reset();
 		clientToolbar.removeNavigation(navButton);
+		closeHistory();
 	}
 
 	@Subscribe
@@ -236,6 +245,9 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(event.getPreviousProfile(), save);
 		}
+
+		// the history for the new profile is opened once the tracker initializes
+		closeHistory();
 	}
 
 	@Subscribe
@@ -246,6 +258,8 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(configManager.getRSProfileKey(), save);
 		}
+
+		closeHistory();
 	}
 
 	private XpWorldType worldSetToType(EnumSet<WorldType> types)
@@ -419,6 +433,11 @@ public class XpTrackerPlugin extends Plugin
 			return;
 		}
 
+		if (xpHistory != null)
+		{
+			xpHistory.record(skill, currentXp, System.currentTimeMillis());
+		}
+
 		if (xpTrackerConfig.hideMaxed() && currentLevel >= Experience.MAX_REAL_LEVEL)
 		{
 			xpPanel.resetSkill(skill);
@@ -427,7 +446,7 @@ public class XpTrackerPlugin extends Plugin
 		}
 
 		final XpUpdateResult updateResult = xpState.updateSkill(skill, currentXp, startGoalXp, endGoalXp);
-		xpPanel.updateSkillExperience(updateResult == XpUpdateResult.UPDATED, xpPauseState.isPaused(skill), skill, xpState.getSkillSnapshot(skill));
+		xpPanel.updateSkillExperience(updateResult == XpUpdateResult.UPDATED, xpPauseState.isPaused(skill), skill, getSkillSnapshot(skill));
 
 		// Also update the total experience
 		xpState.updateOverall(client.getOverallExperience());
@@ -462,7 +481,7 @@ public class XpTrackerPlugin extends Plugin
 				// apply state to the panel
 				for (Skill skill : save.skills.keySet())
 				{
-					xpPanel.updateSkillExperience(true, false, skill, xpState.getSkillSnapshot(skill));
+					xpPanel.updateSkillExperience(true, false, skill, getSkillSnapshot(skill));
 				}
 				xpPanel.updateTotal(xpState.getTotalSnapshot());
 			}
@@ -513,6 +532,8 @@ public class XpTrackerPlugin extends Plugin
 				log.debug("Initializing XP tracker with {} overall exp", overallXp);
 				xpState.initializeOverall(overallXp);
 			}
+
+			openHistory(configManager.getRSProfileKey());
 		}
 
 		if (fetchXp)
@@ -520,6 +541,11 @@ public class XpTrackerPlugin extends Plugin
 			lastXp = client.getOverallExperience();
 			fetchXp = false;
 		}
+
+		if (xpHistory != null)
+		{
+			xpHistory.tick(System.currentTimeMillis());
+		}
 	}
 
 	@Subscribe
@@ -570,7 +596,76 @@ public class XpTrackerPlugin extends Plugin
 
 	XpSnapshotSingle getSkillSnapshot(Skill skill)
 	{
-		return xpState.getSkillSnapshot(skill);
+		final XpHistory history = xpHistory;
+		final XpSnapshotSingle snapshot = xpState.getSkillSnapshot(skill);
+		if (history == null)
+		{
+			return snapshot;
+		}
+
+		final long now = System.currentTimeMillis();
+		final long recentSecondsToGoal = history.getSecondsToXp(skill, snapshot.getXpRemainingToGoal(), now);
+		return snapshot.toBuilder()
+			.recentXpPerHour(history.getXpPerHour(skill, now))
+			.recentTimeTillGoalShort(XpStateSingle.formatTimeTillGoal(recentSecondsToGoal, XpGoalTimeType.SHORT))
+			.build();
+	}
+
+	/**
+	 * Get the xp gained in a skill between two times, at the finest resolution the history still has
+	 * back to {@code from}, for charting
+	 */
+	List<XpHistory.XpSample> getXpHistory(Skill skill, Instant from, Instant to)
+	{
+		final XpHistory history = xpHistory;
+		if (history == null)
+		{
+			return Collections.emptyList();
+		}
+
+		return history.query(skill, history.resolutionFor(skill, from), from, to);
+	}
+
+	private void openHistory(String profile)
+	{
+		if (xpHistory != null || profile == null)
+		{
+			return;
+		}
+
+		try
+		{
+			xpHistory = XpHistory.open(new File(HISTORY_DIR, profile + ".dat"));
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to open xp history", ex);
+			return;
+		}
+
+		// xp may have been gained while logged out, which shouldn't count towards the history
+		for (Skill skill : Skill.values())
+		{
+			xpHistory.sync(skill, client.getSkillExperience(skill));
+		}
+	}
+
+	private void closeHistory()
+	{
+		if (xpHistory == null)
+		{
+			return;
+		}
+
+		try
+		{
+			xpHistory.close();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to close xp history", ex);
+		}
+		xpHistory = null;
 	}
 
 	private static @Varp int startGoalVarpForSkill(final Skill skill)
@@ -742,6 +837,8 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(configManager.getRSProfileKey(), save);
 		}
+
+		closeHistory();
 	}
 
 	private void rebuildSkills()
@@ -749,7 +846,7 @@ public class XpTrackerPlugin extends Plugin
 		// Rebuild calculated values like xp/hr in panel
 		for (Skill skill : Skill.values())
 		{
-			xpPanel.updateSkillExperience(false, xpPauseState.isPaused(skill), skill, xpState.getSkillSnapshot(skill));
+			xpPanel.updateSkillExperience(false, xpPauseState.isPaused(skill), skill, getSkillSnapshot(skill));
 		}
 
 		xpPanel.updateTotal(xpState.getTotalSnapshot());
@@ -759,7 +856,7 @@ public class XpTrackerPlugin extends Plugin
 	{
 		if (pause ? xpPauseState.pauseSkill(skill) : xpPauseState.unpauseSkill(skill))
 		{
-			xpPanel.updateSkillExperience(false, xpPauseState.isPaused(skill), skill, xpState.getSkillSnapshot(skill));
+			xpPanel.updateSkillExperience(false, xpPauseState.isPaused(skill), skill, getSkillSnapshot(skill));
 		}
 	}
 
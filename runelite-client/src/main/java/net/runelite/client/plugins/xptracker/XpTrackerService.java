@@ -48,6 +48,11 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp per hour over the last hour of xp history
+	 */
+	int getRecentXpHr(Skill skill);
+
 	/**
 	 * Get the start goal XP
 	 */
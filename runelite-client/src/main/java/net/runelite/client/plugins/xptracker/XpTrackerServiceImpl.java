@@ -63,6 +63,12 @@ class XpTrackerServiceImpl implements XpTrackerService
 		return plugin.getSkillSnapshot(skill).getXpPerHour();
 	}
 
+	@Override
+	public int getRecentXpHr(Skill skill)
+	{
+		return plugin.getSkillSnapshot(skill).getRecentXpPerHour();
+	}
+
 	@Override
 	public int getStartGoalXp(Skill skill)
 	{
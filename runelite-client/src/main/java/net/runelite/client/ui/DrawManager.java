@@ -54,6 +54,11 @@ public class DrawManager
 		everyFrame.remove(everyFrameListener);
 	}
 
+	/**
+	 * Request the next frame. The listener is called on the client thread with a newly allocated
+	 * image of the frame, which is shared with the other listeners of the same frame but never
+	 * drawn to again, so it may be kept and read from any thread without copying.
+	 */
 	public void requestNextFrameListener(Consumer<Image> nextFrameListener)
 	{
 		nextFrame.add(nextFrameListener);
@@ -26,6 +26,7 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.Preconditions;
 import java.awt.Dimension;
+import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
@@ -92,6 +93,25 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay only changes when {@link #invalidate()} is called.
+	 * Cached overlays are rendered into an offscreen image which is drawn each frame
+	 * instead of calling {@link #render(Graphics2D)}, until the overlay is invalidated
+	 * or resized. Ignored for {@link OverlayPosition#DYNAMIC} and {@link OverlayPosition#TOOLTIP} overlays.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean cached;
+
+	/**
+	 * Render timings of this overlay
+	 */
+	@Setter(AccessLevel.NONE)
+	private final OverlayRenderMetrics renderMetrics = new OverlayRenderMetrics();
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayImageCache imageCache = new OverlayImageCache();
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -233,6 +253,15 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Mark a {@link #isCached() cached} overlay as needing to be redrawn on the next frame.
+	 * This is safe to call from any thread.
+	 */
+	public void invalidate()
+	{
+		imageCache.invalidate();
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Offscreen image of a {@link Overlay#isCached() cached} overlay, redrawn only after the
+ * overlay is invalidated, resized, or the overlay font changes.
+ */
+class OverlayImageCache
+{
+	private volatile boolean dirty = true;
+	private BufferedImage image;
+	private Font font;
+	private Dimension preferredSize;
+	private Dimension dimension;
+
+	void invalidate()
+	{
+		dirty = true;
+	}
+
+	void release()
+	{
+		dirty = true;
+		image = null;
+		font = null;
+	}
+
+	boolean isValid(Font font, @Nullable Dimension preferredSize)
+	{
+		return !dirty
+			&& image != null
+			&& this.font == font
+			&& Objects.equals(this.preferredSize, preferredSize);
+	}
+
+	/**
+	 * Render the overlay into the cached image, growing the image if the overlay
+	 * reports a larger size than the image can hold.
+	 *
+	 * @return the dimension returned by {@link Overlay#render(Graphics2D)}
+	 */
+	@Nullable
+	Dimension redraw(Overlay overlay, Graphics2D target, Font font)
+	{
+		final Dimension preferredSize = overlay.getPreferredSize();
+		Dimension size = preferredSize != null ? preferredSize : dimension;
+
+		// clear before rendering so an overlay invalidating itself during render stays dirty
+		dirty = false;
+		Dimension rendered;
+		for (;;)
+		{
+			final int width = Math.max(1, size != null ? size.width : 1);
+			final int height = Math.max(1, size != null ? size.height : 1);
+			if (image == null || image.getWidth() < width || image.getHeight() < height)
+			{
+				image = new BufferedImage(
+					Math.max(width, image != null ? image.getWidth() : 0),
+					Math.max(height, image != null ? image.getHeight() : 0),
+					BufferedImage.TYPE_INT_ARGB_PRE);
+			}
+
+			final Graphics2D graphics = image.createGraphics();
+			try
+			{
+				graphics.setComposite(AlphaComposite.Clear);
+				graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+				graphics.setComposite(AlphaComposite.SrcOver);
+				graphics.setRenderingHints(target.getRenderingHints());
+				graphics.setFont(font);
+				rendered = overlay.render(graphics);
+			}
+			catch (RuntimeException ex)
+			{
+				dirty = true;
+				throw ex;
+			}
+			finally
+			{
+				graphics.dispose();
+			}
+
+			if (rendered == null || (rendered.width <= image.getWidth() && rendered.height <= image.getHeight()))
+			{
+				break;
+			}
+
+			size = rendered;
+		}
+
+		this.font = font;
+		this.preferredSize = preferredSize != null ? new Dimension(preferredSize) : null;
+		this.dimension = rendered != null ? new Dimension(rendered) : null;
+		return rendered;
+	}
+
+	void draw(Graphics2D graphics)
+	{
+		graphics.drawImage(image, 0, 0, null);
+	}
+
+	@Nullable
+	Dimension getDimension()
+	{
+		return dimension;
+	}
+}
@@ -133,6 +133,7 @@ public class OverlayManager
 			{
 				loadOverlay(o);
 				o.revalidate();
+				o.invalidate();
 			});
 		}
 		rebuildOverlayLayers();
@@ -200,6 +201,7 @@ public class OverlayManager
 
 		if (remove)
 		{
+			overlay.getImageCache().release();
 			rebuildOverlayLayers();
 		}
 
@@ -214,7 +216,15 @@ public class OverlayManager
 	 */
 	public synchronized boolean removeIf(Predicate<Overlay> filter)
 	{
-		final boolean removeIf = overlays.removeIf(filter);
+		final boolean removeIf = overlays.removeIf(overlay ->
+		{
+			if (filter.test(overlay))
+			{
+				overlay.getImageCache().release();
+				return true;
+			}
+			return false;
+		});
 
 		if (removeIf)
 		{
@@ -235,11 +245,22 @@ public class OverlayManager
 		return overlays.stream().anyMatch(filter);
 	}
 
+	/**
+	 * Returns a copy of all of the overlays which have been added
+	 *
+	 * @return the overlays
+	 */
+	public synchronized List<Overlay> getAllOverlays()
+	{
+		return new ArrayList<>(overlays);
+	}
+
 	/**
 	 * Clear all overlays
 	 */
 	public synchronized void clear()
 	{
+		overlays.forEach(overlay -> overlay.getImageCache().release());
 		overlays.clear();
 		rebuildOverlayLayers();
 	}
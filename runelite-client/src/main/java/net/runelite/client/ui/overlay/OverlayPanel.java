@@ -27,6 +27,7 @@ package net.runelite.client.ui.overlay;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.Objects;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -67,6 +68,24 @@ public abstract class OverlayPanel extends Overlay
 		setResizable(true);
 	}
 
+	public void setDynamicFont(boolean dynamicFont)
+	{
+		if (this.dynamicFont != dynamicFont)
+		{
+			this.dynamicFont = dynamicFont;
+			invalidate();
+		}
+	}
+
+	public void setPreferredColor(Color preferredColor)
+	{
+		if (!Objects.equals(this.preferredColor, preferredColor))
+		{
+			this.preferredColor = preferredColor;
+			invalidate();
+		}
+	}
+
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
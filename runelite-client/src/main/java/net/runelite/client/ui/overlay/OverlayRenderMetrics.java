@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import lombok.Getter;
+
+/**
+ * Render timings of an overlay, as measured by the overlay renderer.
+ */
+@Getter
+public class OverlayRenderMetrics
+{
+	// weight of the newest sample in the moving average
+	private static final double ALPHA = 0.05;
+
+	/**
+	 * Time spent rendering the overlay in the most recent frame, in nanoseconds
+	 */
+	private long lastRenderTime;
+
+	/**
+	 * Exponential moving average of the render time, in nanoseconds
+	 */
+	private double averageRenderTime;
+
+	/**
+	 * Longest render time seen, in nanoseconds
+	 */
+	private long maxRenderTime;
+
+	/**
+	 * Number of times the overlay has been rendered
+	 */
+	private long renders;
+
+	/**
+	 * Number of renders which were drawn from the overlay's cached image
+	 */
+	private long cacheHits;
+
+	void record(long nanos, boolean cacheHit)
+	{
+		lastRenderTime = nanos;
+		averageRenderTime = renders == 0 ? nanos : averageRenderTime + ALPHA * (nanos - averageRenderTime);
+		maxRenderTime = Math.max(maxRenderTime, nanos);
+		++renders;
+		if (cacheHit)
+		{
+			++cacheHits;
+		}
+	}
+
+	/**
+	 * Reset all timings
+	 */
+	public void reset()
+	{
+		lastRenderTime = 0;
+		averageRenderTime = 0;
+		maxRenderTime = 0;
+		renders = 0;
+		cacheHits = 0;
+	}
+}
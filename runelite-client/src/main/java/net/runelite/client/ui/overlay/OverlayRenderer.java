@@ -66,6 +66,7 @@ import net.runelite.client.events.OverlayMenuClicked;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
+import net.runelite.client.metrics.Metrics;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.util.ColorUtil;
@@ -96,6 +97,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final Metrics metrics;
 
 	private Font font, tooltipFont, interfaceFont;
 
@@ -129,7 +131,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final Metrics metrics
 	)
 	{
 		this.client = client;
@@ -138,6 +141,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.metrics = metrics;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -333,7 +337,14 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			final long start = System.nanoTime();
+			final boolean cacheHit = safeRender(overlay, graphics, location);
+			final long elapsed = System.nanoTime() - start;
+			overlay.getRenderMetrics().record(elapsed, cacheHit);
+			if (metrics.isEnabled())
+			{
+				metrics.histogram(Metrics.OVERLAY_RENDER, overlay.getName()).record(elapsed);
+			}
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -341,16 +352,20 @@ public class OverlayRenderer extends MouseAdapter
 				OverlayUtil.shiftSnapCorner(overlayPosition, snapCorner, bounds, PADDING);
 			}
 
-			// Restore graphics2d properties prior to drawing bounds
+			// Restore graphics2d properties prior to drawing bounds. Drawing a cached
+			// overlay image only translates the graphics.
 			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			if (!cacheHit)
 			{
-				graphics.setClip(clip);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -715,36 +730,63 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	/**
+	 * Render the overlay at the given point
+	 *
+	 * @return true if the overlay was drawn from its cached image without calling render
+	 */
+	private boolean safeRender(Overlay overlay, Graphics2D graphics, Point point)
 	{
 		final OverlayPosition position = overlay.getPosition();
+		final Font overlayFont;
 
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(font);
+			overlayFont = font;
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(tooltipFont);
+			overlayFont = tooltipFont;
 		}
 		else
 		{
-			graphics.setFont(interfaceFont);
+			overlayFont = interfaceFont;
 		}
 
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final boolean cached = overlay.isCached() && position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP;
+		final OverlayImageCache imageCache = overlay.getImageCache();
+		final boolean cacheHit = cached && imageCache.isValid(overlayFont, overlay.getPreferredSize());
+
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			if (cacheHit)
+			{
+				overlayDimension = imageCache.getDimension();
+			}
+			else if (cached)
+			{
+				overlayDimension = imageCache.redraw(overlay, graphics, overlayFont);
+			}
+			else
+			{
+				graphics.setFont(overlayFont);
+				overlayDimension = overlay.render(graphics);
+			}
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			return false;
+		}
+
+		if (cached)
+		{
+			imageCache.draw(graphics);
 		}
 
 		if (overlayDimension != null)
@@ -755,6 +797,7 @@ public class OverlayRenderer extends MouseAdapter
 		{
 			overlay.getBounds().setSize(0, 0);
 		}
+		return cacheHit;
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
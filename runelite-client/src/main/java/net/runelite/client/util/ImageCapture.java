@@ -26,6 +26,7 @@
 package net.runelite.client.util;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Insets;
@@ -35,15 +36,21 @@ import java.awt.TrayIcon;
 import java.awt.datatransfer.Clipboard;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -65,6 +72,7 @@ import net.runelite.client.ui.DrawManager;
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	private static final int WRITE_QUEUE_SIZE = 4;
 
 	private final Client client;
 	private final Notifier notifier;
@@ -73,6 +81,8 @@ public class ImageCapture
 	private final ScheduledExecutorService executor;
 	private final EventBus eventBus;
 
+	private final ExecutorService writer = createWriter();
+
 	/**
 	 * Take a screenshot and save it
 	 * @param subDir the subdirectory to save the screenshot in
@@ -96,6 +106,7 @@ public class ImageCapture
 				}
 				else
 				{
+					// frames are new images which are not reused, so the encoder reads their pixels in place
 					screenshot = ImageUtil.bufferedImageFromImage(img);
 				}
 
@@ -177,6 +188,33 @@ public class ImageCapture
 		boolean notify,
 		boolean saveToClipboard
 	)
+	{
+		saveScreenshot(screenshot, fileName, subDir, notify, saveToClipboard, ScreenshotFormat.PNG, PngEncoder.DEFAULT_COMPRESSION_LEVEL);
+	}
+
+	/**
+	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * <p>
+	 * The screenshot is encoded and written on a background thread. If too many screenshots are
+	 * already waiting to be written, the screenshot is dropped rather than blocking the caller.
+	 *
+	 * @param screenshot screenshot, which must not be modified after this call
+	 * @param fileName Filename to use, without file extension.
+	 * @param subDir Directory within the player screenshots dir to store the captured screenshot to.
+	 * @param notify Send a notification to the system tray when the image is captured.
+	 * @param saveToClipboard Whether to also save the screenshot to clipboard
+	 * @param format the image format to save the screenshot in
+	 * @param compressionLevel the PNG compression level, 0-9
+	 */
+	public void saveScreenshot(
+		BufferedImage screenshot,
+		String fileName,
+		@Nullable String subDir,
+		boolean notify,
+		boolean saveToClipboard,
+		ScreenshotFormat format,
+		int compressionLevel
+	)
 	{
 		if (client.getGameState() == GameState.LOGIN_SCREEN)
 		{
@@ -185,6 +223,7 @@ public class ImageCapture
 			return;
 		}
 
+		// the player folder depends on client state, so it is resolved before handing off to the writer
 		File playerFolder;
 		if (client.getLocalPlayer() != null && client.getLocalPlayer().getName() != null)
 		{
@@ -207,26 +246,48 @@ public class ImageCapture
 			playerFolder = SCREENSHOT_DIR;
 		}
 
-		playerFolder.mkdirs();
+		final String name = fileName + (fileName.isEmpty() ? "" : " ") + format(new Date());
+
+		writer.execute(() -> writeScreenshot(screenshot, playerFolder, name, notify, saveToClipboard, format, compressionLevel));
+	}
 
-		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
+	private void writeScreenshot(
+		BufferedImage screenshot,
+		File playerFolder,
+		String fileName,
+		boolean notify,
+		boolean saveToClipboard,
+		ScreenshotFormat format,
+		int compressionLevel
+	)
+	{
+		playerFolder.mkdirs();
 
-		File screenshotFile = new File(playerFolder, fileName + ".png");
+		final String extension = "." + format.getExtension();
+		File screenshotFile = new File(playerFolder, fileName + extension);
 		// To make sure that screenshots don't get overwritten, check if file exists,
 		// and if it does create file with same name and suffix.
 		int i = 1;
 		while (screenshotFile.exists())
 		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + extension);
 		}
 
-		try
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(screenshotFile), 1 << 16))
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			if (format == ScreenshotFormat.QOI)
+			{
+				QoiEncoder.write(screenshot, out);
+			}
+			else
+			{
+				PngEncoder.write(screenshot, compressionLevel, out);
+			}
 		}
 		catch (IOException ex)
 		{
 			log.error("error writing screenshot", ex);
+			screenshotFile.delete();
 			return;
 		}
 
@@ -277,6 +338,19 @@ public class ImageCapture
 		takeScreenshot(screenshot, fileName, null, notify, imageUploadStyle);
 	}
 
+	private static ExecutorService createWriter()
+	{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(WRITE_QUEUE_SIZE),
+			new ThreadFactoryBuilder()
+				.setNameFormat("screenshot-writer")
+				.setDaemon(true)
+				.build(),
+			(r, e) -> log.warn("Screenshot writer is behind, dropping screenshot"));
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	private static String format(Date date)
 	{
 		synchronized (TIME_FORMAT)
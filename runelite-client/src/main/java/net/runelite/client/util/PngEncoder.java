@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A PNG encoder for 8 bit RGB and RGBA images. The image is split into horizontal stripes which are
+ * filtered and deflated in parallel, and then joined into a single zlib stream, in the same way as pigz.
+ * Int packed images are read directly from their backing array.
+ */
+public final class PngEncoder
+{
+	public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+
+	private static final byte[] SIGNATURE = {(byte) 137, 'P', 'N', 'G', '\r', '\n', 26, '\n'};
+	private static final int MIN_STRIPE_ROWS = 64;
+	private static final int ADLER_BASE = 65521;
+
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_SUB = 1;
+	private static final int FILTER_UP = 2;
+	private static final int FILTER_PAETH = 4;
+
+	private PngEncoder()
+	{
+	}
+
+	/**
+	 * Encode an image as a PNG
+	 *
+	 * @param image image to encode
+	 * @param level deflate compression level, 0-9
+	 * @param out stream to write the PNG to
+	 */
+	public static void write(BufferedImage image, int level, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+
+		final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		final int stripes = Math.max(1, Math.min(parallelism, height / MIN_STRIPE_ROWS));
+		final int stripeRows = (height + stripes - 1) / stripes;
+
+		final List<Future<Stripe>> futures = new ArrayList<>(stripes);
+		for (int y = 0; y < height; y += stripeRows)
+		{
+			final int y0 = y, y1 = Math.min(height, y + stripeRows);
+			final boolean last = y1 == height;
+			if (last)
+			{
+				// the final stripe is encoded on this thread
+				futures.add(CompletableFuture.completedFuture(encode(image, alpha, y0, y1, level, true)));
+			}
+			else
+			{
+				futures.add(ForkJoinPool.commonPool().submit(() -> encode(image, alpha, y0, y1, level, false)));
+			}
+		}
+
+		final DataOutputStream dos = new DataOutputStream(out);
+		dos.write(SIGNATURE);
+
+		final ByteArrayOutputStream ihdr = new ByteArrayOutputStream(13);
+		final DataOutputStream ihdrOut = new DataOutputStream(ihdr);
+		ihdrOut.writeInt(width);
+		ihdrOut.writeInt(height);
+		ihdrOut.writeByte(8); // bit depth
+		ihdrOut.writeByte(alpha ? 6 : 2); // color type
+		ihdrOut.writeByte(0); // compression
+		ihdrOut.writeByte(0); // filter
+		ihdrOut.writeByte(0); // interlace
+		writeChunk(dos, "IHDR", ihdr.toByteArray(), ihdr.size());
+
+		long adler = 1;
+		boolean first = true;
+		for (Future<Stripe> future : futures)
+		{
+			final Stripe stripe;
+			try
+			{
+				stripe = future.get();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+			catch (ExecutionException ex)
+			{
+				throw new IOException(ex.getCause());
+			}
+
+			adler = combineAdler(adler, stripe.adler, stripe.rawLength);
+
+			byte[] data = stripe.data;
+			int length = stripe.length;
+			if (first)
+			{
+				data = prepend(zlibHeader(level), data, length);
+				length += 2;
+				first = false;
+			}
+			if (stripe.last)
+			{
+				data = append(data, length, (int) adler);
+				length += 4;
+			}
+			writeChunk(dos, "IDAT", data, length);
+		}
+
+		writeChunk(dos, "IEND", new byte[0], 0);
+		dos.flush();
+	}
+
+	private static final class Stripe
+	{
+		private final byte[] data;
+		private final int length;
+		private final long adler;
+		private final int rawLength;
+		private final boolean last;
+
+		private Stripe(byte[] data, int length, long adler, int rawLength, boolean last)
+		{
+			this.data = data;
+			this.length = length;
+			this.adler = adler;
+			this.rawLength = rawLength;
+			this.last = last;
+		}
+	}
+
+	private static Stripe encode(BufferedImage image, boolean alpha, int y0, int y1, int level, boolean last)
+	{
+		final int width = image.getWidth();
+		final int bpp = alpha ? 4 : 3;
+		final int rowLength = width * bpp;
+		final byte[] raw = new byte[(rowLength + 1) * (y1 - y0)];
+
+		final int[] pixels = directPixels(image);
+		final int[] row = pixels == null ? new int[width] : null;
+		byte[] prev = new byte[rowLength];
+		byte[] cur = new byte[rowLength];
+		final byte[][] scratch = new byte[3][rowLength];
+		if (y0 > 0)
+		{
+			unpack(image, pixels, row, y0 - 1, alpha, prev);
+		}
+
+		int pos = 0;
+		for (int y = y0; y < y1; ++y)
+		{
+			unpack(image, pixels, row, y, alpha, cur);
+			pos = filter(cur, prev, bpp, scratch, raw, pos);
+
+			final byte[] t = prev;
+			prev = cur;
+			cur = t;
+		}
+
+		final Adler32 adler = new Adler32();
+		adler.update(raw, 0, raw.length);
+
+		final Deflater deflater = new Deflater(level, true);
+		try
+		{
+			deflater.setInput(raw);
+			byte[] out = new byte[Math.max(1024, raw.length / 4)];
+			int length = 0;
+			if (last)
+			{
+				deflater.finish();
+			}
+
+			while (true)
+			{
+				if (length == out.length)
+				{
+					out = Arrays.copyOf(out, out.length * 2);
+				}
+
+				final int n = last
+					? deflater.deflate(out, length, out.length - length)
+					: deflater.deflate(out, length, out.length - length, Deflater.SYNC_FLUSH);
+				length += n;
+
+				// a sync flush is complete once it does not fill the output buffer
+				if (last ? deflater.finished() : length < out.length)
+				{
+					break;
+				}
+			}
+			return new Stripe(out, length, adler.getValue(), raw.length, last);
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	private static int[] directPixels(BufferedImage image)
+	{
+		final int type = image.getType();
+		if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+			&& image.getRaster().getParent() == null
+			&& image.getRaster().getDataBuffer() instanceof DataBufferInt)
+		{
+			final DataBufferInt buffer = (DataBufferInt) image.getRaster().getDataBuffer();
+			if (buffer.getNumBanks() == 1 && buffer.getOffset() == 0)
+			{
+				return buffer.getData();
+			}
+		}
+		return null;
+	}
+
+	private static void unpack(BufferedImage image, int[] pixels, int[] row, int y, boolean alpha, byte[] out)
+	{
+		final int width = image.getWidth();
+		final int offset;
+		final int[] src;
+		if (pixels != null)
+		{
+			src = pixels;
+			offset = y * width;
+		}
+		else
+		{
+			image.getRGB(0, y, width, 1, row, 0, width);
+			src = row;
+			offset = 0;
+		}
+
+		int o = 0;
+		for (int x = 0; x < width; ++x)
+		{
+			final int argb = src[offset + x];
+			out[o++] = (byte) (argb >>> 16);
+			out[o++] = (byte) (argb >>> 8);
+			out[o++] = (byte) argb;
+			if (alpha)
+			{
+				out[o++] = (byte) (argb >>> 24);
+			}
+		}
+	}
+
+	/**
+	 * Filter a row using whichever of the none, sub, up and paeth filters gives the smallest sum of
+	 * absolute differences, which is the heuristic recommended by the PNG specification. All of the
+	 * candidate filters are computed in a single pass over the row.
+	 *
+	 * @return the position after the filtered row
+	 */
+	private static int filter(byte[] cur, byte[] prev, int bpp, byte[][] scratch, byte[] out, int pos)
+	{
+		final int length = cur.length;
+		final byte[] subRow = scratch[0], upRow = scratch[1], paethRow = scratch[2];
+		long none = 0, sub = 0, up = 0, paeth = 0;
+		for (int i = 0; i < bpp; ++i)
+		{
+			// a and c are zero for the first pixel, which reduces paeth to up
+			final byte x = cur[i];
+			final byte u = (byte) (x - prev[i]);
+			subRow[i] = x;
+			upRow[i] = u;
+			paethRow[i] = u;
+			none += Math.abs(x);
+			sub += Math.abs(x);
+			up += Math.abs(u);
+			paeth += Math.abs(u);
+		}
+		for (int i = bpp; i < length; ++i)
+		{
+			final int x = cur[i];
+			final int a = cur[i - bpp] & 0xff;
+			final int b = prev[i] & 0xff;
+			final int c = prev[i - bpp] & 0xff;
+			final byte s = (byte) (x - a);
+			final byte u = (byte) (x - b);
+			final byte p = (byte) (x - paethPredictor(a, b, c));
+			subRow[i] = s;
+			upRow[i] = u;
+			paethRow[i] = p;
+			none += Math.abs((byte) x);
+			sub += Math.abs(s);
+			up += Math.abs(u);
+			paeth += Math.abs(p);
+		}
+
+		int filter = FILTER_NONE;
+		byte[] row = cur;
+		long best = none;
+		if (sub < best)
+		{
+			filter = FILTER_SUB;
+			row = subRow;
+			best = sub;
+		}
+		if (up < best)
+		{
+			filter = FILTER_UP;
+			row = upRow;
+			best = up;
+		}
+		if (paeth < best)
+		{
+			filter = FILTER_PAETH;
+			row = paethRow;
+		}
+
+		out[pos++] = (byte) filter;
+		System.arraycopy(row, 0, out, pos, length);
+		return pos + length;
+	}
+
+	private static int paethPredictor(int a, int b, int c)
+	{
+		final int p = a + b - c;
+		final int pa = Math.abs(p - a);
+		final int pb = Math.abs(p - b);
+		final int pc = Math.abs(p - c);
+		if (pa <= pb && pa <= pc)
+		{
+			return a;
+		}
+		return pb <= pc ? b : c;
+	}
+
+	private static byte[] zlibHeader(int level)
+	{
+		final int flevel = level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3;
+		int header = 0x78 << 8 | flevel << 6;
+		header += 31 - header % 31;
+		return new byte[]{(byte) (header >> 8), (byte) header};
+	}
+
+	/**
+	 * Combine the adler-32 checksums of two sequences, as zlib's adler32_combine
+	 */
+	static long combineAdler(long adler1, long adler2, long length2)
+	{
+		final long rem = length2 % ADLER_BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = rem * sum1 % ADLER_BASE;
+		sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+		sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + ADLER_BASE - rem;
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum2 >= ((long) ADLER_BASE << 1))
+		{
+			sum2 -= (long) ADLER_BASE << 1;
+		}
+		if (sum2 >= ADLER_BASE)
+		{
+			sum2 -= ADLER_BASE;
+		}
+		return sum1 | (sum2 << 16);
+	}
+
+	private static byte[] prepend(byte[] header, byte[] data, int length)
+	{
+		final byte[] out = new byte[header.length + length];
+		System.arraycopy(header, 0, out, 0, header.length);
+		System.arraycopy(data, 0, out, header.length, length);
+		return out;
+	}
+
+	private static byte[] append(byte[] data, int length, int value)
+	{
+		final byte[] out = data.length >= length + 4 ? data : Arrays.copyOf(data, length + 4);
+		out[length] = (byte) (value >>> 24);
+		out[length + 1] = (byte) (value >>> 16);
+		out[length + 2] = (byte) (value >>> 8);
+		out[length + 3] = (byte) value;
+		return out;
+	}
+
+	private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException
+	{
+		final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		final CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, length);
+
+		out.writeInt(length);
+		out.write(typeBytes);
+		out.write(data, 0, length);
+		out.writeInt((int) crc.getValue());
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An encoder for the lossless QOI image format (https://qoiformat.org). QOI compresses screenshots
+ * less than PNG, but encodes an order of magnitude faster.
+ */
+public final class QoiEncoder
+{
+	private static final int OP_INDEX = 0x00;
+	private static final int OP_DIFF = 0x40;
+	private static final int OP_LUMA = 0x80;
+	private static final int OP_RUN = 0xc0;
+	private static final int OP_RGB = 0xfe;
+	private static final int OP_RGBA = 0xff;
+
+	private QoiEncoder()
+	{
+	}
+
+	public static void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+
+		// worst case is every pixel being an OP_RGBA
+		final byte[] buf = new byte[14 + width * 5 + 8];
+		int p = 0;
+		buf[p++] = 'q';
+		buf[p++] = 'o';
+		buf[p++] = 'i';
+		buf[p++] = 'f';
+		p = writeInt(buf, p, width);
+		p = writeInt(buf, p, height);
+		buf[p++] = (byte) (alpha ? 4 : 3);
+		buf[p++] = 0; // sRGB with linear alpha
+
+		final int[] index = new int[64];
+		final int[] row = new int[width];
+		int prev = 0xff000000;
+		int run = 0;
+
+		for (int y = 0; y < height; ++y)
+		{
+			image.getRGB(0, y, width, 1, row, 0, width);
+			for (int x = 0; x < width; ++x)
+			{
+				final int px = alpha ? row[x] : row[x] | 0xff000000;
+				if (px == prev)
+				{
+					if (++run == 62)
+					{
+						buf[p++] = (byte) (OP_RUN | (run - 1));
+						run = 0;
+					}
+					continue;
+				}
+
+				if (run > 0)
+				{
+					buf[p++] = (byte) (OP_RUN | (run - 1));
+					run = 0;
+				}
+
+				final int r = (px >>> 16) & 0xff;
+				final int g = (px >>> 8) & 0xff;
+				final int b = px & 0xff;
+				final int a = px >>> 24;
+				final int hash = (r * 3 + g * 5 + b * 7 + a * 11) & 63;
+
+				if (index[hash] == px)
+				{
+					buf[p++] = (byte) (OP_INDEX | hash);
+				}
+				else
+				{
+					index[hash] = px;
+
+					if (a == prev >>> 24)
+					{
+						final int vr = (byte) (r - ((prev >>> 16) & 0xff));
+						final int vg = (byte) (g - ((prev >>> 8) & 0xff));
+						final int vb = (byte) (b - (prev & 0xff));
+						final int vgr = vr - vg;
+						final int vgb = vb - vg;
+
+						if (vr > -3 && vr < 2 && vg > -3 && vg < 2 && vb > -3 && vb < 2)
+						{
+							buf[p++] = (byte) (OP_DIFF | (vr + 2) << 4 | (vg + 2) << 2 | (vb + 2));
+						}
+						else if (vgr > -9 && vgr < 8 && vg > -33 && vg < 32 && vgb > -9 && vgb < 8)
+						{
+							buf[p++] = (byte) (OP_LUMA | (vg + 32));
+							buf[p++] = (byte) ((vgr + 8) << 4 | (vgb + 8));
+						}
+						else
+						{
+							buf[p++] = (byte) OP_RGB;
+							buf[p++] = (byte) r;
+							buf[p++] = (byte) g;
+							buf[p++] = (byte) b;
+						}
+					}
+					else
+					{
+						buf[p++] = (byte) OP_RGBA;
+						buf[p++] = (byte) r;
+						buf[p++] = (byte) g;
+						buf[p++] = (byte) b;
+						buf[p++] = (byte) a;
+					}
+				}
+				prev = px;
+			}
+
+			out.write(buf, 0, p);
+			p = 0;
+		}
+
+		if (run > 0)
+		{
+			buf[p++] = (byte) (OP_RUN | (run - 1));
+		}
+		for (int i = 0; i < 7; ++i)
+		{
+			buf[p++] = 0;
+		}
+		buf[p++] = 1;
+		out.write(buf, 0, p);
+	}
+
+	private static int writeInt(byte[] buf, int p, int value)
+	{
+		buf[p] = (byte) (value >>> 24);
+		buf[p + 1] = (byte) (value >>> 16);
+		buf[p + 2] = (byte) (value >>> 8);
+		buf[p + 3] = (byte) value;
+		return p + 4;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StartupTraceTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testTrace() throws Exception
+	{
+		try (StartupTrace.Span outer = StartupTrace.span("outer", "net.runelite.Outer"))
+		{
+			try (StartupTrace.Span inner = StartupTrace.span("inner", "net.runelite.Inner"))
+			{
+				Thread.sleep(5);
+			}
+			Thread.sleep(1);
+		}
+
+		final List<StartupTrace.TraceEvent> events = StartupTrace.finish();
+		final StartupTrace.TraceEvent inner = find(events, "inner");
+		final StartupTrace.TraceEvent outer = find(events, "outer");
+		assertEquals("X", outer.ph);
+		assertTrue(inner.dur >= 5000);
+		assertTrue(outer.ts <= inner.ts && outer.ts + outer.dur >= inner.ts + inner.dur);
+
+		// spans are not recorded once startup has finished
+		try (StartupTrace.Span span = StartupTrace.span("late"))
+		{
+		}
+		assertEquals(events.size(), StartupTrace.finish().size());
+
+		final File file = folder.newFile(StartupTrace.FILE_NAME);
+		StartupTrace.write(file, events);
+		assertEquals(Arrays.asList("net.runelite.Outer", "net.runelite.Inner"), StartupTrace.readClasses(file));
+	}
+
+	private static StartupTrace.TraceEvent find(List<StartupTrace.TraceEvent> events, String name)
+	{
+		return events.stream()
+			.filter(e -> e.name.equals(name))
+			.findFirst()
+			.orElseThrow(AssertionError::new);
+	}
+}
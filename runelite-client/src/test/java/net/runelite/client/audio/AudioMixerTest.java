@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.audio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class AudioMixerTest
+{
+	@Test
+	public void testMix()
+	{
+		final AudioMixer mixer = new AudioMixer();
+		mixer.play(new short[]{1000, -1000, 1000, -1000, 1000, -1000}, 1f);
+		mixer.play(new short[]{400, 400}, 0.5f);
+		assertFalse(mixer.isIdle());
+
+		final byte[] buf = new byte[2 * 4];
+		mixer.render(buf, 2);
+		assertArrayEquals(new short[]{1200, -800, 1000, -1000}, samples(buf));
+
+		// the second sound has finished, and the first finishes part way through the buffer
+		mixer.render(buf, 2);
+		assertArrayEquals(new short[]{1000, -1000, 0, 0}, samples(buf));
+		assertTrue(mixer.isIdle());
+	}
+
+	@Test
+	public void testClipping()
+	{
+		final AudioMixer mixer = new AudioMixer();
+		mixer.play(new short[]{30000, -30000}, 1f);
+		mixer.play(new short[]{30000, -30000}, 1f);
+
+		final byte[] buf = new byte[4];
+		mixer.render(buf, 1);
+		assertArrayEquals(new short[]{Short.MAX_VALUE, Short.MIN_VALUE}, samples(buf));
+	}
+
+	@Test
+	public void testDecode() throws IOException, UnsupportedAudioFileException
+	{
+		// one second of 8-bit mono
+		final AudioFormat format = new AudioFormat(22050f, 8, 1, true, false);
+		final byte[] pcm = new byte[22050];
+		for (int i = 0; i < pcm.length; ++i)
+		{
+			pcm[i] = (byte) (Math.sin(i * 0.05) * 100);
+		}
+		final ByteArrayOutputStream wav = new ByteArrayOutputStream();
+		AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length), AudioFileFormat.Type.WAVE, wav);
+
+		final short[] samples = AudioMixer.decode(new ByteArrayInputStream(wav.toByteArray()));
+		assertEquals(44100 * 2, samples.length, 64);
+		for (int i = 0; i < samples.length; i += 2)
+		{
+			assertEquals(samples[i], samples[i + 1]);
+		}
+	}
+
+	@Test
+	public void testGain()
+	{
+		assertEquals(1f, AudioPlayer.toLinear(0f), 0f);
+		assertEquals(0.5f, AudioPlayer.toLinear(-6.02f), 0.001f);
+		assertEquals(0f, AudioPlayer.toLinear(Float.NEGATIVE_INFINITY), 0f);
+	}
+
+	private static short[] samples(byte[] buf)
+	{
+		final short[] samples = new short[buf.length / 2];
+		ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+		return samples;
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.http.api.chat.Duels;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BatchedChatClientTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(BatchedChatClientTest.class);
+
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	private final Gson gson = new Gson();
+	private final OkHttpClient okHttpClient = new OkHttpClient();
+	private final AtomicInteger batchRequests = new AtomicInteger();
+	private final AtomicInteger singleRequests = new AtomicInteger();
+	private ScheduledExecutorService executor;
+	private boolean batchSupported = true;
+	private long latencyMs;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor();
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				final MockResponse response = new MockResponse()
+					.setHeadersDelay(latencyMs, TimeUnit.MILLISECONDS);
+				final HttpUrl url = request.getRequestUrl();
+				if (url.encodedPath().equals("/chat/batch"))
+				{
+					batchRequests.incrementAndGet();
+					if (!batchSupported)
+					{
+						return response.setResponseCode(404);
+					}
+
+					final JsonArray lookups = new JsonParser().parse(request.getBody().readUtf8()).getAsJsonArray();
+					final JsonArray results = new JsonArray();
+					for (JsonElement lookup : lookups)
+					{
+						final JsonObject o = lookup.getAsJsonObject();
+						final String key = o.has("key") ? o.get("key").getAsString() : null;
+						results.add(value(o.get("type").getAsString(), o.get("name").getAsString(), key));
+					}
+					return response.setBody(gson.toJson(results));
+				}
+
+				singleRequests.incrementAndGet();
+				final String type = url.pathSegments().get(1);
+				final JsonElement value = value(type, url.queryParameter("name"), url.queryParameter("boss"));
+				if (value.isJsonNull())
+				{
+					return response.setResponseCode(404);
+				}
+				return response.setBody(gson.toJson(value));
+			}
+		});
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	private JsonElement value(String type, String name, String key)
+	{
+		switch (type)
+		{
+			case "kc":
+				return gson.toJsonTree(name.length() * 100 + key.length());
+			case "pb":
+				return gson.toJsonTree(key.length() + 0.6);
+			case "qp":
+				return gson.toJsonTree(300);
+			case "duels":
+				final Duels duels = new Duels();
+				duels.setWins(name.length());
+				duels.setLosingStreak(2);
+				return gson.toJsonTree(duels);
+			case "pets":
+				return gson.toJsonTree(new int[]{name.length(), 42});
+			default:
+				return JsonNull.INSTANCE;
+		}
+	}
+
+	@Test
+	public void testBatch() throws Exception
+	{
+		final BatchedChatClient chatClient = client();
+
+		final List<CompletableFuture<Integer>> kcs = new ArrayList<>();
+		for (int i = 0; i < 10; ++i)
+		{
+			// the same few kcs are requested repeatedly
+			kcs.add(chatClient.getKc("player " + (i % 3), "Zulrah"));
+		}
+		final CompletableFuture<Double> pb = chatClient.getPb("abc", "Vorkath");
+		final CompletableFuture<Integer> qp = chatClient.getQp("abc");
+		final CompletableFuture<Duels> duels = chatClient.getDuels("abcd");
+		final CompletableFuture<Set<Integer>> pets = chatClient.getPetList("ab");
+
+		for (int i = 0; i < kcs.size(); ++i)
+		{
+			assertEquals(800 + 6, (int) kcs.get(i).get());
+		}
+		assertEquals(7.6, pb.get(), 0);
+		assertEquals(300, (int) qp.get());
+		assertEquals(4, duels.get().getWins());
+		assertEquals(2, duels.get().getLosingStreak());
+		assertEquals(Set.of(2, 42), pets.get());
+		assertEquals(1, batchRequests.get());
+		assertEquals(0, singleRequests.get());
+
+		// the results are cached
+		assertEquals(806, (int) chatClient.getKc("player 1", "Zulrah").get());
+		assertEquals(1, batchRequests.get());
+
+		chatClient.invalidate("player 1");
+		assertEquals(806, (int) chatClient.getKc("player 1", "Zulrah").get());
+		assertEquals(1, batchRequests.get());
+		assertEquals(1, singleRequests.get());
+	}
+
+	@Test
+	public void testSingleFallback() throws Exception
+	{
+		batchSupported = false;
+		final BatchedChatClient chatClient = client();
+
+		final List<CompletableFuture<Integer>> kcs = new ArrayList<>();
+		for (int i = 0; i < 10; ++i)
+		{
+			kcs.add(chatClient.getKc("player " + (i % 3), "Zulrah"));
+		}
+		for (CompletableFuture<Integer> kc : kcs)
+		{
+			assertEquals(806, (int) kc.get());
+		}
+		assertEquals(1, batchRequests.get());
+		assertEquals(3, singleRequests.get());
+
+		// the batch endpoint is not tried again
+		chatClient.getQp("a");
+		chatClient.getGc("a");
+		try
+		{
+			chatClient.getGc("a").get();
+			fail();
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IOException);
+		}
+		assertEquals(806, (int) chatClient.getKc("player 4", "Zulrah").get());
+		assertEquals(1, batchRequests.get());
+		assertEquals(6, singleRequests.get());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws Exception
+	{
+		latencyMs = 40;
+		final int lookups = 30;
+		final ChatClient serial = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(Gson.class).toInstance(gson);
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.api.base")).toInstance(server.url("/"));
+		}).getInstance(ChatClient.class);
+
+		// the chat command executor handles one lookup at a time
+		long start = System.nanoTime();
+		for (int i = 0; i < lookups; ++i)
+		{
+			serial.getKc("player " + (i % 10), "Zulrah");
+		}
+		logger.info("serial: {} requests, last result after {}ms", singleRequests.getAndSet(0), (System.nanoTime() - start) / 1_000_000);
+
+		for (boolean batch : new boolean[]{true, false})
+		{
+			batchSupported = batch;
+			batchRequests.set(0);
+			final BatchedChatClient chatClient = client();
+			start = System.nanoTime();
+			final List<CompletableFuture<Integer>> kcs = new ArrayList<>();
+			for (int i = 0; i < lookups; ++i)
+			{
+				kcs.add(chatClient.getKc("player " + (i % 10), "Zulrah"));
+			}
+			CompletableFuture.allOf(kcs.toArray(new CompletableFuture[0])).get();
+			logger.info("{}: {} batch and {} single requests, last result after {}ms", batch ? "batched" : "fallback",
+				batchRequests.get(), singleRequests.getAndSet(0), (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	private BatchedChatClient client()
+	{
+		return new BatchedChatClient(okHttpClient, server.url("/"), gson, executor, 20);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ConfigDataTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ConfigDataTest.class);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testKeysWithPrefix()
+	{
+		final ConfigData data = new ConfigData(new File(folder.getRoot(), "test.properties"));
+		data.setProperty("banktags.item_1", "a");
+		data.setProperty("banktags.item_2", "b");
+		data.setProperty("banktags.icon_a", "1");
+		data.setProperty("banktags", "x");
+		data.setProperty("banktagsx.item_3", "c");
+		data.putAll(ImmutableMap.of("banktags.item_10", "d"));
+
+		assertEquals(Arrays.asList("banktags.item_1", "banktags.item_10", "banktags.item_2"), data.keysWithPrefix("banktags.item_"));
+		assertEquals(Arrays.asList("item_1", "item_10", "item_2"), data.keysWithPrefix("banktags.item_", "banktags.".length()));
+		assertEquals(Collections.emptyList(), data.keysWithPrefix("loottracker."));
+
+		data.unset("banktags.item_10");
+		data.setProperty("banktags.item_1", "changed");
+		assertEquals(Arrays.asList("banktags.item_1", "banktags.item_2"), data.keysWithPrefix("banktags.item_"));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final ConfigData data = new ConfigData(new File(folder.getRoot(), "bench.properties"));
+		final Random random = new Random(42);
+		final String[] groups = {"banktags", "loottracker", "timetracking", "runelite", "menuentryswapper", "grounditems"};
+		for (int i = 0; i < 100_000; ++i)
+		{
+			final String group = groups[random.nextInt(groups.length)];
+			data.setProperty(group + ".key_" + random.nextInt(1_000_000), "value");
+		}
+		for (int i = 0; i < 200; ++i)
+		{
+			data.setProperty("banktags.item_" + i, "tag");
+		}
+
+		final int iterations = 2000;
+		for (int round = 0; round < 3; ++round)
+		{
+			long start = System.nanoTime();
+			int count = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				final List<String> keys = data.keySet().stream()
+					.filter(k -> k.startsWith("banktags.item_"))
+					.collect(Collectors.toList());
+				count += keys.size();
+			}
+			long scan = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				count -= data.keysWithPrefix("banktags.item_").size();
+			}
+			long indexed = System.nanoTime() - start;
+
+			assertEquals(0, count);
+			logger.info("100k keys, 200 matches: scan {}us, index {}us per enumeration",
+				scan / 1000 / iterations, indexed / 1000 / iterations);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.util.VerificationException;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PluginHubDownloaderTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(PluginHubDownloaderTest.class);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	private final Map<String, byte[]> jars = new HashMap<>();
+	private final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+	private long latencyMs;
+
+	@Before
+	public void before()
+	{
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				final byte[] jar = jars.get(request.getPath().substring(1));
+				if (jar == null)
+				{
+					return new MockResponse().setResponseCode(404);
+				}
+
+				final MockResponse response = new MockResponse()
+					.setHeadersDelay(latencyMs, TimeUnit.MILLISECONDS);
+				final String range = request.getHeader("Range");
+				if (range == null)
+				{
+					return response.setBody(new Buffer().write(jar));
+				}
+
+				ranges.add(range);
+				final int from = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+				return response.setResponseCode(206)
+					.setHeader("Content-Range", "bytes " + from + "-" + (jar.length - 1) + "/" + jar.length)
+					.setBody(new Buffer().write(jar, from, jar.length - from));
+			}
+		});
+	}
+
+	@Test
+	public void testDownload() throws InterruptedException
+	{
+		final List<PluginHubManifest.JarData> jarData = new ArrayList<>();
+		for (int i = 0; i < 5; ++i)
+		{
+			jarData.add(jar("plugin" + i, 10_000 + i));
+		}
+
+		final List<PluginHubManifest.JarData> ready = new ArrayList<>();
+		downloader(3).download(jarData, i ->
+		{
+		}, ready::add, (jar, e) ->
+		{
+			throw new AssertionError(e);
+		});
+
+		assertEquals(5, ready.size());
+		for (PluginHubManifest.JarData jar : jarData)
+		{
+			assertArrayEquals(jars.get(jar.getInternalName()), read(file(jar)));
+			assertFalse(part(jar).exists());
+		}
+	}
+
+	@Test
+	public void testResume() throws IOException, VerificationException
+	{
+		final PluginHubManifest.JarData jarData = jar("resumed", 50_000);
+		final byte[] jar = jars.get("resumed");
+		Files.write(Arrays.copyOf(jar, 20_000), part(jarData));
+
+		final int[] progress = new int[1];
+		downloader(1).download(jarData, i -> progress[0] += i);
+
+		assertEquals(Collections.singletonList("bytes=20000-"), ranges);
+		assertArrayEquals(jar, read(file(jarData)));
+		assertEquals(50_000, progress[0]);
+	}
+
+	@Test
+	public void testHashMismatch() throws InterruptedException
+	{
+		final PluginHubManifest.JarData jarData = jar("corrupt", 10_000);
+		jars.get("corrupt")[0] ^= 1;
+
+		final List<Exception> failures = new ArrayList<>();
+		downloader(1).download(Collections.singletonList(jarData), i ->
+		{
+		}, jar ->
+		{
+			throw new AssertionError();
+		}, (jar, e) -> failures.add(e));
+
+		assertEquals(1, failures.size());
+		assertTrue(failures.get(0) instanceof VerificationException);
+		assertFalse(file(jarData).exists());
+		assertFalse(part(jarData).exists());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws InterruptedException
+	{
+		// 50 plugins, each taking 100ms to start being served and 20ms to load
+		latencyMs = 100;
+		final List<PluginHubManifest.JarData> jarData = new ArrayList<>();
+		for (int i = 0; i < 50; ++i)
+		{
+			jarData.add(jar("plugin" + i, 100_000 + i * 4_000));
+		}
+
+		for (int threads : new int[]{1, 6})
+		{
+			for (PluginHubManifest.JarData jar : jarData)
+			{
+				file(jar).delete();
+			}
+
+			long start = System.nanoTime();
+			downloader(threads).download(jarData, i ->
+			{
+			}, jar ->
+			{
+				try
+				{
+					Thread.sleep(20);
+				}
+				catch (InterruptedException e)
+				{
+					throw new RuntimeException(e);
+				}
+			}, (jar, e) ->
+			{
+				throw new AssertionError(e);
+			});
+			long end = System.nanoTime();
+
+			logger.info("{} threads: {} plugins ready in {}ms", threads, jarData.size(), (end - start) / 1_000_000);
+		}
+	}
+
+	private PluginHubManifest.JarData jar(String name, int size)
+	{
+		final byte[] jar = new byte[size];
+		new Random(name.hashCode()).nextBytes(jar);
+		jars.put(name, jar);
+
+		final PluginHubManifest.JarData jarData = new PluginHubManifest.JarData();
+		jarData.setInternalName(name);
+		jarData.setDisplayName(name);
+		jarData.setJarSize(size);
+		jarData.setJarHash(PluginHubManifest.HASH_ENCODER.encodeToString(Hashing.sha256().hashBytes(jar).asBytes()));
+		return jarData;
+	}
+
+	private PluginHubDownloader downloader(int threads)
+	{
+		return new PluginHubDownloader(new OkHttpClient(), jar -> server.url("/" + jar.getInternalName()), this::file, threads);
+	}
+
+	private File file(PluginHubManifest.JarData jarData)
+	{
+		return new File(folder.getRoot(), jarData.getInternalName() + ".jar");
+	}
+
+	private File part(PluginHubManifest.JarData jarData)
+	{
+		return new File(folder.getRoot(), jarData.getInternalName() + ".jar.part");
+	}
+
+	private static byte[] read(File file)
+	{
+		try
+		{
+			return Files.toByteArray(file);
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -28,18 +28,39 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
 import javax.inject.Named;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.SpritePixels;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +116,74 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testImageKey()
+	{
+		assertNotEquals(ItemManager.imageKey(ItemID.COINS, 1000, true), ItemManager.imageKey(ItemID.COINS, 1001, true));
+		assertNotEquals(ItemManager.imageKey(ItemID.COINS, 1000, true), ItemManager.imageKey(ItemID.COINS, 1000, false));
+		assertNotEquals(ItemManager.imageKey(ItemID.COINS, 1000, false), ItemManager.imageKey(ItemID.COINS + 1, 1000, false));
+		// quantities beyond the last stack variant render the same when the quantity is not drawn
+		assertEquals(ItemManager.imageKey(ItemID.COINS, 100_000, false), ItemManager.imageKey(ItemID.COINS, 200_000, false));
+		assertNotEquals(ItemManager.imageKey(ItemID.COINS, 100_000, true), ItemManager.imageKey(ItemID.COINS, 200_000, true));
+
+		assertNotEquals(ItemManager.outlineKey(ItemID.COINS, 1, Color.RED), ItemManager.outlineKey(ItemID.COINS, 1, Color.BLUE));
+		assertNotEquals(ItemManager.outlineKey(ItemID.COINS, 1, Color.RED), ItemManager.outlineKey(ItemID.COINS, 1, new Color(255, 0, 0, 128)));
+		assertEquals(ItemManager.outlineKey(ItemID.COINS, 100_000, Color.RED), ItemManager.outlineKey(ItemID.COINS, 200_000, Color.RED));
+	}
+
+	@Test
+	public void testPrefetchImages()
+	{
+		// only checked when assertions are enabled
+		lenient().when(client.isClientThread()).thenReturn(true);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getItemDefinition(anyInt())).thenReturn(mock(ItemComposition.class));
+		when(client.createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt()))
+			.thenReturn(mock(SpritePixels.class));
+
+		ItemContainer container = mock(ItemContainer.class);
+		when(container.getItems()).thenReturn(new Item[]{
+			new Item(ItemID.COINS, 1000),
+			new Item(-1, 0),
+			new Item(ItemID.YEW_SEED, 1),
+			new Item(ItemID.COINS, 1000),
+		});
+
+		itemManager.prefetchImages(container);
+		verify(client, times(2)).createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt());
+
+		assertNotNull(itemManager.getImage(ItemID.COINS, 1000, false));
+		assertNotNull(itemManager.getImage(ItemID.YEW_SEED, 1, false));
+		verify(clientThread, never()).invoke(any(BooleanSupplier.class));
+		assertEquals(2, itemManager.getImageCacheStats().hitCount());
+		assertEquals(0, itemManager.getImageCacheStats().missCount());
+	}
+
+	@Test
+	public void testNegativeId()
+	{
+		// negative ids are not cached, as their keys would alias the largest ids
+		assertNotSame(itemManager.getImage(-1, 1, false), itemManager.getImage(-1, 1, false));
+		assertEquals(0, itemManager.getImageCacheStats().requestCount());
+	}
+
+	@Test
+	public void testPrefetchOnContainerChanged()
+	{
+		lenient().when(client.isClientThread()).thenReturn(true);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getItemDefinition(anyInt())).thenReturn(mock(ItemComposition.class));
+		when(client.createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt()))
+			.thenReturn(mock(SpritePixels.class));
+
+		ItemContainer container = mock(ItemContainer.class);
+		when(container.getItems()).thenReturn(new Item[]{new Item(ItemID.COINS, 1000)});
+
+		itemManager.onItemContainerChanged(new ItemContainerChanged(InventoryID.WORN, container));
+		verify(client, never()).createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt());
+
+		itemManager.onItemContainerChanged(new ItemContainerChanged(InventoryID.BANK, container));
+		verify(client).createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt());
+	}
+}
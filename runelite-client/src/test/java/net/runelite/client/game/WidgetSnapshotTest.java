@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Rectangle;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.widgets.Widget;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class WidgetSnapshotTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(WidgetSnapshotTest.class);
+
+	private static class Node
+	{
+		final int id;
+		final List<Widget> staticChildren = new ArrayList<>();
+		final List<Widget> dynamicChildren = new ArrayList<>();
+		final List<Widget> nestedChildren = new ArrayList<>();
+		Node parent;
+		boolean selfHidden;
+		String text = "";
+		int itemId = -1;
+		Rectangle bounds = new Rectangle(10, 10, 36, 32);
+
+		Node(int id)
+		{
+			this.id = id;
+		}
+	}
+
+	@Test
+	public void testTree()
+	{
+		final Node root = new Node(1 << 16);
+		final Widget rootWidget = widget(root);
+		final Node a = new Node(1 << 16 | 1);
+		final Widget aWidget = child(root, root.staticChildren, a);
+		final Node d0 = new Node(a.id);
+		d0.itemId = 995;
+		final Widget d0Widget = child(a, a.dynamicChildren, d0);
+		final Node d1 = new Node(a.id);
+		d1.itemId = 4151;
+		d1.text = "Whip";
+		final Widget d1Widget = child(a, a.dynamicChildren, d1);
+		final Node b = new Node(1 << 16 | 2);
+		b.selfHidden = true;
+		child(root, root.staticChildren, b);
+		final Node nested = new Node(2 << 16);
+		nested.text = "Whip";
+		nested.itemId = 995;
+		child(b, b.nestedChildren, nested);
+		final Node d2 = new Node(root.id);
+		child(root, root.dynamicChildren, d2);
+
+		final WidgetSnapshot snapshot = new WidgetSnapshot();
+		snapshot.build(new Widget[]{rootWidget});
+
+		// static children, then dynamic, then nested, in pre-order
+		assertEquals(7, snapshot.size());
+		assertEquals("RSDDSND", kinds(snapshot));
+		assertEquals(7, snapshot.getEnd(0));
+		assertEquals(4, snapshot.getEnd(1));
+		assertEquals(6, snapshot.getEnd(4));
+		assertEquals(4, snapshot.getParent(5));
+
+		assertEquals(0, snapshot.indexOf(root.id));
+		assertEquals(1, snapshot.indexOf(a.id));
+		assertEquals(5, snapshot.indexOf(nested.id));
+		assertEquals(-1, snapshot.indexOf(3 << 16));
+		assertEquals(1, snapshot.indexOf(aWidget));
+		assertEquals(2, snapshot.indexOf(d0Widget));
+		assertEquals(3, snapshot.indexOf(d1Widget));
+
+		// hidden is inherited from the parent
+		assertFalse(snapshot.isHidden(1));
+		assertTrue(snapshot.isHidden(4));
+		assertTrue(snapshot.isHidden(5));
+
+		assertEquals(995, snapshot.getItemId(2));
+		assertEquals(4151, snapshot.getItemId(3));
+		assertEquals(995, snapshot.getItemId(5));
+		assertEquals("Whip", snapshot.getText(3));
+		assertEquals("Whip", snapshot.getText(5));
+
+		// rebuilding reuses the snapshot
+		snapshot.build(new Widget[]{aWidget});
+		assertEquals("RDD", kinds(snapshot));
+		assertEquals(-1, snapshot.indexOf(root.id));
+		assertEquals(995, snapshot.getItemId(1));
+	}
+
+	@Test
+	public void testGrow()
+	{
+		final WidgetSnapshot snapshot = new WidgetSnapshot();
+		final Widget root = bank(5000);
+		snapshot.build(new Widget[]{root});
+		assertEquals(5003, snapshot.size());
+		assertEquals(snapshot.size(), snapshot.getEnd(0));
+		for (int i = 0; i < 5000; i += 999)
+		{
+			assertEquals(i, snapshot.getItemId(2 + i));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final Widget root = bank(1200);
+		final WidgetSnapshot snapshot = new WidgetSnapshot();
+		final int iterations = 20_000;
+
+		for (int round = 0; round < 3; ++round)
+		{
+			long start = System.nanoTime();
+			long found = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				final List<Widget> all = new ArrayList<>();
+				getAllNestedChildren(root, all);
+				for (Widget w : all)
+				{
+					final Map<String, Object> data = new LinkedHashMap<>();
+					data.put("id", w.getId());
+					data.put("itemId", w.getItemId());
+					data.put("text", w.getText());
+					data.put("bounds", w.getBounds());
+					found += data.size();
+				}
+			}
+			long end = System.nanoTime();
+			logger.info("recursive walk: {}us/query ({})", (end - start) / 1000 / iterations, found);
+
+			start = System.nanoTime();
+			found = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				snapshot.build(new Widget[]{root});
+				for (int j = 1, e = snapshot.getEnd(0); j < e; ++j)
+				{
+					found += snapshot.getItemId(j) + snapshot.getX(j);
+				}
+			}
+			end = System.nanoTime();
+			logger.info("snapshot rebuild and scan: {}us/query ({})", (end - start) / 1000 / iterations, found);
+
+			start = System.nanoTime();
+			found = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				final int idx = snapshot.indexOf(2 << 16 | 1);
+				for (int j = idx + 1, e = snapshot.getEnd(idx); j < e; ++j)
+				{
+					found += snapshot.getItemId(j) + snapshot.getX(j);
+				}
+			}
+			end = System.nanoTime();
+			logger.info("shared snapshot scan: {}ns/query ({})", (end - start) / iterations, found);
+		}
+	}
+
+	private static void getAllNestedChildren(Widget parent, List<Widget> allChildren)
+	{
+		for (Widget[] children : new Widget[][]{parent.getStaticChildren(), parent.getDynamicChildren(), parent.getNestedChildren()})
+		{
+			if (children != null)
+			{
+				for (Widget child : children)
+				{
+					allChildren.add(child);
+					getAllNestedChildren(child, allChildren);
+				}
+			}
+		}
+	}
+
+	private static Widget bank(int items)
+	{
+		final Node root = new Node(2 << 16);
+		final Widget rootWidget = widget(root);
+		final Node container = new Node(2 << 16 | 1);
+		child(root, root.staticChildren, container);
+		child(root, root.staticChildren, new Node(2 << 16 | 2));
+		for (int i = 0; i < items; ++i)
+		{
+			final Node item = new Node(container.id);
+			item.itemId = i;
+			item.bounds = new Rectangle(50 + (i % 8) * 48, 80 + (i / 8) * 36, 36, 32);
+			child(container, container.dynamicChildren, item);
+		}
+		return rootWidget;
+	}
+
+	private static String kinds(WidgetSnapshot snapshot)
+	{
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < snapshot.size(); ++i)
+		{
+			sb.append((char) snapshot.getKind(i));
+		}
+		return sb.toString();
+	}
+
+	private static Widget child(Node parent, List<Widget> list, Node child)
+	{
+		child.parent = parent;
+		final Widget widget = widget(child);
+		list.add(widget);
+		return widget;
+	}
+
+	private static Widget widget(Node node)
+	{
+		return (Widget) Proxy.newProxyInstance(Widget.class.getClassLoader(), new Class[]{Widget.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				case "getId":
+					return node.id;
+				case "getStaticChildren":
+					return node.staticChildren.toArray(new Widget[0]);
+				case "getDynamicChildren":
+					return node.dynamicChildren.toArray(new Widget[0]);
+				case "getNestedChildren":
+					return node.nestedChildren.toArray(new Widget[0]);
+				case "isSelfHidden":
+				case "isHidden":
+					return node.selfHidden;
+				case "getText":
+					return node.text;
+				case "getItemId":
+					return node.itemId;
+				case "getBounds":
+					return new Rectangle(node.bounds);
+				default:
+					final Class<?> rt = method.getReturnType();
+					if (rt == boolean.class)
+					{
+						return false;
+					}
+					else if (rt == int.class)
+					{
+						return 0;
+					}
+					return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.inject.Guice;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HiscoreManagerTest
+{
+	private static final String RESPONSE = "{\"skills\":[{\"name\":\"Overall\",\"rank\":1,\"level\":2277,\"xp\":4600000000}],"
+		+ "\"activities\":[{\"name\":\"Zulrah\",\"rank\":20,\"score\":1000}]}";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	private final Gson gson = new Gson();
+	private final AtomicInteger requests = new AtomicInteger();
+	private HiscoreClient hiscoreClient;
+	private File directory;
+
+	@Before
+	public void before() throws IOException
+	{
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				requests.incrementAndGet();
+				if ("nobody".equals(request.getRequestUrl().queryParameter("player")))
+				{
+					return new MockResponse().setResponseCode(404);
+				}
+				return new MockResponse()
+					.setHeadersDelay(100, TimeUnit.MILLISECONDS)
+					.setBody(RESPONSE);
+			}
+		});
+
+		// send the requests for every endpoint to the local server
+		final OkHttpClient okHttpClient = new OkHttpClient.Builder()
+			.addInterceptor(chain ->
+			{
+				final HttpUrl url = chain.request().url().newBuilder()
+					.scheme("http")
+					.host(server.getHostName())
+					.port(server.getPort())
+					.build();
+				return chain.proceed(chain.request().newBuilder().url(url).build());
+			})
+			.build();
+		hiscoreClient = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(Gson.class).toInstance(gson);
+		}).getInstance(HiscoreClient.class);
+		directory = folder.newFolder();
+	}
+
+	@Test
+	public void testConcurrentLookups() throws Exception
+	{
+		final HiscoreManager hiscoreManager = manager(0);
+
+		final List<CompletableFuture<HiscoreResult>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; ++i)
+		{
+			final String name = i % 2 == 0 ? "Zezima" : "zezima";
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return hiscoreManager.lookup(name, HiscoreEndpoint.NORMAL);
+				}
+				catch (IOException ex)
+				{
+					throw new RuntimeException(ex);
+				}
+			}));
+		}
+
+		final HiscoreResult result = futures.get(0).get();
+		assertEquals(2277, result.getSkill(HiscoreSkill.OVERALL).getLevel());
+		assertEquals(1000, result.getSkill(HiscoreSkill.ZULRAH).getLevel());
+		for (CompletableFuture<HiscoreResult> future : futures)
+		{
+			assertSame(result, future.get());
+		}
+		assertEquals(1, requests.get());
+
+		// other endpoints are looked up separately
+		assertNotNull(hiscoreManager.fetch("zezima", HiscoreEndpoint.IRONMAN).get());
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	public void testDiskCache() throws Exception
+	{
+		final HiscoreResult result = manager(0).lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertNull(manager(0).lookup("nobody", HiscoreEndpoint.NORMAL));
+		assertEquals(2, requests.get());
+
+		// a new client reads the results from disk
+		final HiscoreManager hiscoreManager = manager(0);
+		assertEquals(result, hiscoreManager.lookup("zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookup("nobody", HiscoreEndpoint.NORMAL));
+		assertEquals(result, hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL).get());
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	public void testStaleWhileRevalidate() throws Exception
+	{
+		final HiscoreResult result = manager(0).lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(1, requests.get());
+
+		// age the cached result past its freshness
+		final List<Path> files;
+		try (Stream<Path> paths = Files.walk(directory.toPath()))
+		{
+			files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+		assertEquals(1, files.size());
+		final JsonObject cached = gson.fromJson(new String(Files.readAllBytes(files.get(0)), StandardCharsets.UTF_8), JsonObject.class);
+		cached.addProperty("fetched", System.currentTimeMillis() - HiscoreManager.FRESH_MS - 1000);
+		Files.write(files.get(0), gson.toJson(cached).getBytes(StandardCharsets.UTF_8));
+
+		// the stale result is returned immediately, and refreshed in the background
+		final HiscoreManager hiscoreManager = manager(0);
+		assertEquals(result, hiscoreManager.lookup("zezima", HiscoreEndpoint.NORMAL));
+		for (int i = 0; i < 100 && requests.get() < 2; ++i)
+		{
+			Thread.sleep(20);
+		}
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	public void testHostRateLimit() throws Exception
+	{
+		final HiscoreManager hiscoreManager = manager(200);
+
+		final long start = System.nanoTime();
+		final List<CompletableFuture<HiscoreResult>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; ++i)
+		{
+			futures.add(hiscoreManager.fetch("player " + i, HiscoreEndpoint.NORMAL));
+		}
+		for (CompletableFuture<HiscoreResult> future : futures)
+		{
+			assertNotNull(future.get());
+		}
+
+		assertEquals(4, requests.get());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(600));
+	}
+
+	private HiscoreManager manager(long hostIntervalMs)
+	{
+		return new HiscoreManager(hiscoreClient, gson, directory, 2, hostIntervalMs);
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.metrics;
+
+import java.util.Map;
+import java.util.Random;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MetricsTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(MetricsTest.class);
+
+	private final Metrics metrics = new Metrics();
+
+	@Test
+	public void testBuckets()
+	{
+		long prev = -1;
+		for (int bucket = 0; bucket < Histogram.BUCKETS; ++bucket)
+		{
+			final long lower = Histogram.lowerBound(bucket);
+			assertTrue(lower > prev);
+			assertEquals(bucket, Histogram.bucket(lower));
+			prev = lower;
+		}
+		assertEquals(Histogram.BUCKETS - 1, Histogram.bucket(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testPercentiles()
+	{
+		final Histogram histogram = new Histogram();
+		for (int i = 1; i <= 10_000; ++i)
+		{
+			histogram.record(i * 1000L);
+		}
+
+		final Histogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(10_000, snapshot.getCount());
+		assertEquals(10_000_000L, snapshot.getMax());
+		assertEquals(5_000_500L, snapshot.getMean());
+
+		for (double p : new double[]{.5, .9, .99, .999})
+		{
+			final double expected = p * 10_000_000L;
+			final long actual = snapshot.percentile(p);
+			assertTrue(p + ": " + actual, actual <= expected && actual > expected * 0.93);
+		}
+	}
+
+	@Test
+	public void testSince()
+	{
+		final Histogram histogram = new Histogram();
+		histogram.record(100);
+		final Histogram.Snapshot first = histogram.snapshot();
+		histogram.record(1_000_000);
+		histogram.record(1_000_000);
+
+		final Histogram.Snapshot window = histogram.snapshot().since(first);
+		assertEquals(2, window.getCount());
+		assertEquals(2_000_000, window.getSum());
+		assertEquals(Histogram.lowerBound(Histogram.bucket(1_000_000)), window.percentile(0));
+	}
+
+	@Test
+	public void testStriped() throws InterruptedException
+	{
+		final Histogram histogram = new Histogram();
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; ++t)
+		{
+			threads[t] = new Thread(() ->
+			{
+				for (int i = 0; i < 10_000; ++i)
+				{
+					histogram.record(1000);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		final Histogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(40_000, snapshot.getCount());
+		assertEquals(40_000_000L, snapshot.getSum());
+		assertEquals(Histogram.lowerBound(Histogram.bucket(1000)), snapshot.percentile(.5));
+	}
+
+	@Test
+	public void testDisabled()
+	{
+		final Counter counter = metrics.counter("test_disabled");
+		final Histogram histogram = metrics.histogram("test_disabled");
+
+		counter.increment();
+		histogram.recordSince(metrics.start());
+		assertEquals(0, counter.get());
+		assertEquals(0, histogram.snapshot().getCount());
+
+		metrics.setEnabled(true);
+		counter.increment();
+		histogram.recordSince(metrics.start());
+		assertEquals(1, counter.get());
+		assertEquals(1, histogram.snapshot().getCount());
+	}
+
+	@Test
+	public void testFormat()
+	{
+		metrics.setEnabled(true);
+		metrics.counter("test_format", "a").add(3);
+		metrics.histogram("test_format", "b").record(2_000_000);
+		metrics.gauge("test_format_gauge", null, () -> 7);
+
+		final String text = MetricsFormat.prometheus(metrics);
+		assertTrue(text.contains("# TYPE runelite_test_format_total counter\nrunelite_test_format_total{name=\"a\"} 3\n"));
+		assertTrue(text.contains("runelite_test_format_gauge 7\n"));
+		assertTrue(text.contains("runelite_test_format_seconds{name=\"b\",quantile=\"0.5\"} 0.001966"));
+		assertTrue(text.contains("runelite_test_format_seconds_count{name=\"b\"} 1\n"));
+
+		final Map<String, Object> json = MetricsFormat.json(metrics);
+		assertEquals(3L, ((Map<?, ?>) json.get("counters")).get("test_format{a}"));
+		assertEquals(1L, ((Map<?, ?>) ((Map<?, ?>) json.get("histograms")).get("test_format{b}")).get("count"));
+	}
+
+	public static class TestEvent
+	{
+	}
+
+	public static class Subscriber
+	{
+		private long sum;
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			sum += System.identityHashCode(event) & 1;
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final EventBus eventBus = new EventBus(metrics);
+		final Random random = new Random(42);
+		for (int i = 0; i < 8; ++i)
+		{
+			eventBus.register(new Subscriber());
+		}
+
+		final TestEvent[] events = new TestEvent[1024];
+		for (int i = 0; i < events.length; ++i)
+		{
+			events[i] = new TestEvent();
+		}
+
+		final int posts = 20_000_000;
+		for (int round = 0; round < 3; ++round)
+		{
+			for (boolean enabled : new boolean[]{false, true})
+			{
+				metrics.setEnabled(enabled);
+				final long start = System.nanoTime();
+				for (int i = 0; i < posts; ++i)
+				{
+					eventBus.post(events[random.nextInt(events.length)]);
+				}
+				final long end = System.nanoTime();
+				logger.info("metrics {}: {}ns/post", enabled ? "enabled" : "disabled", (double) (end - start) / posts);
+			}
+		}
+	}
+}
@@ -40,10 +40,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,6 +60,7 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -235,4 +240,48 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testTopologicalLayers()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(1);
+		graph.addNode(2);
+		graph.addNode(3);
+		graph.addNode(4);
+		graph.addNode(5);
+
+		graph.putEdge(1, 2);
+		graph.putEdge(1, 3);
+		graph.putEdge(2, 4);
+		graph.putEdge(3, 4);
+
+		List<List<Integer>> layers = PluginManager.topologicalLayers(graph);
+
+		assertEquals(3, layers.size());
+		assertEquals(Set.of(1, 5), new HashSet<>(layers.get(0)));
+		assertEquals(Set.of(2, 3), new HashSet<>(layers.get(1)));
+		assertEquals(List.of(4), layers.get(2));
+	}
+
+	@Test
+	public void testPluginIndex() throws IOException
+	{
+		final Map<String, List<String>> index = PluginIndex.read();
+		// the index is generated by the build, and is missing when the tests are run from an IDE
+		assumeNotNull(index);
+
+		final Map<String, List<String>> scanned = new TreeMap<>();
+		for (Class<?> clazz : pluginClasses)
+		{
+			scanned.put(clazz.getName(), Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+				.map(d -> d.value().getName())
+				.collect(Collectors.toList()));
+		}
+
+		assertEquals(scanned, new TreeMap<>(index));
+	}
 }
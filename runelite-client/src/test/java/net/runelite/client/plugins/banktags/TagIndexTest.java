@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import net.runelite.client.util.Text;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TagIndexTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(TagIndexTest.class);
+
+	@Test
+	public void testIndex()
+	{
+		final TagIndex index = new TagIndex();
+		index.get(4151, "Bossing,whip");
+		index.get(-1215, "bossing");
+		index.get(995, "money");
+
+		assertEquals(Arrays.asList("bossing", "whip"), new ArrayList<>(index.get(4151, "Bossing,whip").getTags()));
+		assertEquals(Arrays.asList(4151, -1215), items(index, "bossing"));
+		assertEquals(Arrays.asList(995), items(index, "money"));
+		assertEquals(Arrays.asList(), items(index, "unknown"));
+
+		// a changed value re-indexes the item
+		index.get(4151, "whip,slayer");
+		assertEquals(Arrays.asList(-1215), items(index, "bossing"));
+		assertEquals(Arrays.asList(4151), items(index, "slayer"));
+
+		index.update(-1215, null);
+		assertFalse(index.contains(-1215));
+		assertEquals(Arrays.asList(), items(index, "bossing"));
+		assertTrue(index.get(-1215, null).getTags().isEmpty());
+	}
+
+	@Test
+	public void testMatching()
+	{
+		final TagIndex index = new TagIndex();
+		final TagIndex.Entry whip = index.get(4151, "herb,bossing,whip long tag");
+
+		assertTrue(TagIndex.matches(whip, index.matching("whip")));
+		assertTrue(TagIndex.matches(whip, index.matching("boss")));
+		assertFalse(TagIndex.matches(whip, index.matching("long")));
+		assertSame(index.matching("boss"), index.matching("boss"));
+
+		// new tags invalidate the cached search
+		final TagIndex.Entry coins = index.get(995, "money,bossing");
+		assertTrue(TagIndex.matches(coins, index.matching("money")));
+		assertTrue(TagIndex.matches(coins, index.matching("boss")));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final Random random = new Random(42);
+		final String[] tags = new String[100];
+		for (int i = 0; i < tags.length; ++i)
+		{
+			tags[i] = "tag " + i;
+		}
+
+		// an 800 item bank, with each item having a few tags
+		final int[] bank = new int[800];
+		final String[] values = new String[bank.length];
+		for (int i = 0; i < bank.length; ++i)
+		{
+			bank[i] = 1000 + i * 7;
+			final Collection<String> itemTags = new LinkedHashSet<>();
+			for (int j = random.nextInt(4); j >= 0; --j)
+			{
+				itemTags.add(tags[random.nextInt(tags.length)]);
+			}
+			values[i] = Text.toCSV(itemTags);
+		}
+
+		final TagIndex index = new TagIndex();
+		final String search = "tag 4";
+		final int iterations = 2000;
+		for (int round = 0; round < 3; ++round)
+		{
+			// a search keystroke tests every item in the bank
+			long start = System.nanoTime();
+			int found = 0;
+			for (int it = 0; it < iterations; ++it)
+			{
+				for (String value : values)
+				{
+					final Collection<String> itemTags = new LinkedHashSet<>(Text.fromCSV(value.toLowerCase()));
+					if (itemTags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search))))
+					{
+						++found;
+					}
+				}
+			}
+			final long parse = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int it = 0; it < iterations; ++it)
+			{
+				for (int i = 0; i < bank.length; ++i)
+				{
+					final TagIndex.Entry entry = index.get(bank[i], values[i]);
+					if (TagIndex.matches(entry, index.matching(Text.standardize(search))))
+					{
+						--found;
+					}
+				}
+			}
+			final long indexed = System.nanoTime() - start;
+			assertEquals(0, found);
+
+			// opening a tag tab
+			start = System.nanoTime();
+			int items = 0;
+			for (int it = 0; it < iterations; ++it)
+			{
+				for (String value : values)
+				{
+					if (new LinkedHashSet<>(Text.fromCSV(value.toLowerCase())).contains(tags[7]))
+					{
+						++items;
+					}
+				}
+			}
+			final long scan = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int it = 0; it < iterations; ++it)
+			{
+				items -= items(index, tags[7]).size();
+			}
+			final long lookup = System.nanoTime() - start;
+			assertEquals(0, items);
+
+			logger.info("search: parse {}us, index {}us; tag items: scan {}us, index {}us",
+				parse / 1000 / iterations, indexed / 1000 / iterations, scan / 1000 / iterations, lookup / 1000 / iterations);
+		}
+	}
+
+	private static List<Integer> items(TagIndex index, String tag)
+	{
+		final List<Integer> items = new ArrayList<>();
+		index.forEachItem(tag, items::add);
+		return items;
+	}
+}
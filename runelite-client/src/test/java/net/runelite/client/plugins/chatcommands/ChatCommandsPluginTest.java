@@ -33,6 +33,7 @@ import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
@@ -57,14 +58,15 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.chat.BatchedChatClient;
 import net.runelite.client.chat.ChatClient;
 import net.runelite.client.chat.ChatCommandManager;
 import net.runelite.client.config.ChatColorConfig;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.hiscore.HiscoreClient;
 import net.runelite.client.hiscore.HiscoreEndpoint;
+import net.runelite.client.hiscore.HiscoreManager;
 import net.runelite.client.hiscore.HiscoreResult;
 import net.runelite.client.hiscore.HiscoreSkill;
 import net.runelite.client.hiscore.Skill;
@@ -121,12 +123,16 @@ public class ChatCommandsPluginTest
 
 	@Mock
 	@Bind
-	HiscoreClient hiscoreClient;
+	HiscoreManager hiscoreManager;
 
 	@Mock
 	@Bind
 	ChatClient chatClient;
 
+	@Mock
+	@Bind
+	BatchedChatClient batchedChatClient;
+
 	@Mock
 	@Bind
 	RuneLiteConfig runeLiteConfig;
@@ -661,7 +667,7 @@ public class ChatCommandsPluginTest
 		HiscoreResult hiscoreResult = new HiscoreResult(PLAYER_NAME,
 			ImmutableMap.of(HiscoreSkill.CHAMBERS_OF_XERIC_CHALLENGE_MODE, new Skill(10, 1000, -1)));
 
-		when(hiscoreClient.lookup(eq(PLAYER_NAME), nullable(HiscoreEndpoint.class))).thenReturn(hiscoreResult);
+		when(hiscoreManager.lookup(eq(PLAYER_NAME), nullable(HiscoreEndpoint.class))).thenReturn(hiscoreResult);
 
 		MessageNode messageNode = mock(MessageNode.class);
 
@@ -679,7 +685,7 @@ public class ChatCommandsPluginTest
 	{
 		when(chatCommandsConfig.killcount()).thenReturn(true);
 
-		when(chatClient.getKc(PLAYER_NAME, "Kalphite Queen (Echo)")).thenReturn(1);
+		when(batchedChatClient.getKc(PLAYER_NAME, "Kalphite Queen (Echo)")).thenReturn(CompletableFuture.completedFuture(1));
 
 		MessageNode messageNode = mock(MessageNode.class);
 
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.util.ReflectUtil;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GroundItemsOverlayTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(GroundItemsOverlayTest.class);
+
+	private static final int BASE_X = 3200;
+	private static final int BASE_Y = 3200;
+
+	private final GroundItemsPlugin plugin = new GroundItemsPlugin();
+
+	@Inject
+	private GroundItemsOverlay overlay;
+
+	@Bind
+	private Client client;
+
+	@Bind
+	private GroundItemsConfig config;
+
+	@Bind
+	private ScheduledExecutorService executor;
+
+	@Bind
+	private ClientThread clientThread = mock(ClientThread.class);
+
+	@Bind
+	private ItemManager itemManager = mock(ItemManager.class);
+
+	@Bind
+	private OverlayManager overlayManager = mock(OverlayManager.class);
+
+	@Bind
+	private MouseManager mouseManager = mock(MouseManager.class);
+
+	@Bind
+	private KeyManager keyManager = mock(KeyManager.class);
+
+	@Bind
+	private Notifier notifier = mock(Notifier.class);
+
+	@Bind
+	private ConfigManager configManager = mock(ConfigManager.class);
+
+	private WorldView wv;
+	private Point mouse = new Point(0, 0);
+	private Graphics2D graphics;
+
+	@Before
+	public void before()
+	{
+		final int[][][] tileHeights = new int[4][105][105];
+		final byte[][][] tileSettings = new byte[4][104][104];
+		wv = stub(WorldView.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getId":
+					return WorldView.TOPLEVEL;
+				case "getBaseX":
+					return BASE_X;
+				case "getBaseY":
+					return BASE_Y;
+				case "getSizeX":
+				case "getSizeY":
+					return 104;
+				case "getTileHeights":
+					return tileHeights;
+				case "getTileSettings":
+					return tileSettings;
+				case "isTopLevel":
+					return true;
+				default:
+					return null;
+			}
+		});
+		final Player player = stub(Player.class, (name, args) -> name.equals("getLocalLocation") ? new LocalPoint(6400, 3200, WorldView.TOPLEVEL) : null);
+
+		client = stub(Client.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getCameraX":
+					return 6400;
+				case "getCameraY":
+					return 1280;
+				case "getCameraZ":
+					return -1800;
+				case "getCameraPitch":
+					return 256;
+				case "getScale":
+					return 512;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				case "getWorldView":
+				case "getTopLevelWorldView":
+					return wv;
+				case "getLocalPlayer":
+					return player;
+				case "getMouseCanvasPosition":
+					return mouse;
+				default:
+					return null;
+			}
+		});
+		config = stub(GroundItemsConfig.class, (name, args) -> null);
+		executor = stub(ScheduledExecutorService.class, (name, args) ->
+		{
+			if (name.equals("execute"))
+			{
+				((Runnable) args[0]).run();
+			}
+			return null;
+		});
+
+		Guice.createInjector(BoundFieldModule.of(this), binder ->
+		{
+			binder.bind(GroundItemsPlugin.class).toInstance(plugin);
+			binder.bind(GroundItemsOverlay.class).in(Singleton.class);
+		}).injectMembers(this);
+
+		// load the highlighted and hidden item lists
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(GroundItemsConfig.GROUP);
+		plugin.onConfigChanged(configChanged);
+
+		graphics = new BufferedImage(773, 511, BufferedImage.TYPE_INT_ARGB).createGraphics();
+	}
+
+	@Test
+	public void testLabelInvalidation()
+	{
+		final WorldPoint wp = new WorldPoint(BASE_X + 50, BASE_Y + 25, 0);
+		final GroundItem dragonBones = spawn(wp, 536, "Dragon bones", 1);
+
+		overlay.render(graphics);
+		assertEquals("Dragon bones", dragonBones.label);
+
+		dragonBones.setQuantity(5);
+		dragonBones.reset();
+		overlay.invalidateTile(wp);
+
+		overlay.render(graphics);
+		assertEquals("Dragon bones (5)", dragonBones.label);
+	}
+
+	@Test
+	public void testStackedLabelBounds()
+	{
+		final WorldPoint wp = new WorldPoint(BASE_X + 50, BASE_Y + 25, 0);
+		spawn(wp, 536, "Dragon bones", 1);
+		final GroundItem scimitar = spawn(wp, 1333, "Rune scimitar", 1);
+
+		final Point p = Perspective.localToCanvas(client, LocalPoint.fromWorld(wv, wp), 0, 16);
+		assertNotNull(p);
+
+		// the second label on the tile is stacked above the first
+		mouse = new Point(p.getX(), p.getY() - 16 - 4);
+		plugin.setHotKeyPressed(true);
+		overlay.render(graphics);
+
+		assertNotNull(plugin.getTextBoxBounds());
+		assertSame(scimitar, plugin.getTextBoxBounds().getValue());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// 5000 items spread over 300 tiles around the player
+		for (int i = 0; i < 5000; ++i)
+		{
+			final int tile = i % 300;
+			spawn(new WorldPoint(BASE_X + 40 + tile % 20, BASE_Y + 15 + tile / 20, 0), i / 300, "Item " + i, 1 + i % 3);
+		}
+
+		final int frames = 1000;
+		for (int i = 0; i < frames; ++i)
+		{
+			overlay.render(graphics);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < frames; ++i)
+		{
+			overlay.render(graphics);
+		}
+		long end = System.nanoTime();
+
+		logger.info("{} frames of {} items in {}ms, {}us/frame", frames, plugin.getCollectedGroundItems().size(),
+			(end - start) / 1_000_000, (end - start) / 1000 / frames);
+	}
+
+	private GroundItem spawn(WorldPoint wp, int id, String name, int quantity)
+	{
+		final ItemLayer itemLayer = stub(ItemLayer.class, (method, args) ->
+		{
+			switch (method)
+			{
+				case "getWorldView":
+					return wv;
+				case "getWorldLocation":
+					return wp;
+				default:
+					return null;
+			}
+		});
+		final GroundItem item = GroundItem.builder()
+			.id(id)
+			.itemId(id)
+			.name(name)
+			.quantity(quantity)
+			.itemLayer(itemLayer)
+			.build();
+		plugin.getCollectedGroundItems().put(wp, id, item);
+		return item;
+	}
+
+	private interface Answer
+	{
+		Object answer(String name, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Answer answer)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+			}
+
+			Object ret = answer.answer(method.getName(), args);
+			if (ret != null)
+			{
+				return ret;
+			}
+
+			if (method.isDefault())
+			{
+				return ReflectUtil.privateLookupIn(type)
+					.unreflectSpecial(method, type)
+					.bindTo(proxy)
+					.invokeWithArguments(args);
+			}
+
+			Class<?> rt = method.getReturnType();
+			if (rt == boolean.class)
+			{
+				return false;
+			}
+			else if (rt == int.class)
+			{
+				return 0;
+			}
+			return null;
+		});
+	}
+}
@@ -38,14 +38,17 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ItemPricesLoaded;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.plugins.grounditems.config.HighlightTier;
 import net.runelite.client.plugins.grounditems.config.OwnershipFilterMode;
 import net.runelite.client.ui.overlay.OverlayManager;
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +56,7 @@ import static org.mockito.ArgumentMatchers.any;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -103,6 +107,10 @@ public class GroundItemsPluginTest
 	@Bind
 	private ConfigManager configManager;
 
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
 	@Before
 	public void setUp()
 	{
@@ -152,4 +160,44 @@ public class GroundItemsPluginTest
 
 		verify(notifier).notify("You received a highlighted drop: Abyssal whip");
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testPricesLoaded()
+	{
+		when(config.getHighlightItems()).thenReturn("");
+		when(config.notifyTier()).thenReturn(HighlightTier.OFF);
+		when(config.ownershipFilterMode()).thenReturn(OwnershipFilterMode.ALL);
+		ItemComposition itemComposition = mock(ItemComposition.class);
+		when(itemComposition.getNote()).thenReturn(-1);
+		when(itemManager.getItemComposition(ItemID.ABYSSAL_WHIP)).thenReturn(itemComposition);
+		when(itemManager.getItemPrice(ItemID.ABYSSAL_WHIP)).thenReturn(1000);
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(clientThread).invokeLater(any(Runnable.class));
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("grounditems");
+		groundItemsPlugin.onConfigChanged(configChanged);
+
+		Tile tile = mock(Tile.class);
+		when(tile.getItemLayer()).thenReturn(mock(ItemLayer.class));
+		when(tile.getWorldLocation()).thenReturn(new WorldPoint(0, 0, 0));
+
+		TileItem tileItem = mock(TileItem.class);
+		when(tileItem.getId()).thenReturn(ItemID.ABYSSAL_WHIP);
+		when(tileItem.getQuantity()).thenReturn(1);
+
+		groundItemsPlugin.onItemSpawned(new ItemSpawned(tile, tileItem));
+
+		GroundItem groundItem = groundItemsPlugin.getCollectedGroundItems().values().iterator().next();
+		assertEquals(1000, groundItem.getGePrice());
+
+		when(itemManager.getItemPrice(ItemID.ABYSSAL_WHIP)).thenReturn(2000);
+		groundItemsPlugin.onItemPricesLoaded(new ItemPricesLoaded());
+
+		assertEquals(2000, groundItem.getGePrice());
+		verify(overlay, times(2)).invalidateTiles();
+	}
+}
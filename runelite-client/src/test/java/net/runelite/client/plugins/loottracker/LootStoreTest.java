@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LootStoreTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(LootStoreTest.class);
+
+	private static final Instant T = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAggregate() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", T, 1, new int[]{995, 10, 526, 1});
+			store.add(LootRecordType.NPC, "Goblin", T.plusSeconds(10), 1, new int[]{995, 5});
+			store.add(LootRecordType.EVENT, "Barrows", T.plusSeconds(20), 1, new int[]{4708, 1});
+
+			ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+			assertEquals(2, goblin.kills);
+			assertArrayEquals(new int[]{995, 15, 526, 1}, goblin.drops);
+			assertEquals(T, goblin.first);
+			assertEquals(T.plusSeconds(10), goblin.last);
+
+			assertNull(store.get(LootRecordType.EVENT, "Goblin"));
+
+			List<ConfigLoot> all = store.getAll();
+			assertEquals("Barrows", all.get(0).name);
+			assertEquals("Goblin", all.get(1).name);
+		}
+	}
+
+	@Test
+	public void testReopen() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", T, 1, new int[]{995, 10});
+			store.compact();
+			// not covered by the aggregates, so must be replayed from the log
+			store.add(LootRecordType.NPC, "Goblin", T.plusSeconds(1), 2, new int[]{995, 10});
+			store.add(LootRecordType.NPC, "Cow", T.plusSeconds(2), 1, new int[]{1739, 1});
+			store.remove(LootRecordType.NPC, "Cow");
+		}
+
+		// drop the aggregates written by close()
+		new File(dir, "loot.dat").delete();
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+			assertEquals(3, goblin.kills);
+			assertArrayEquals(new int[]{995, 20}, goblin.drops);
+			assertNull(store.get(LootRecordType.NPC, "Cow"));
+		}
+	}
+
+	@Test
+	public void testPartialRecord() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", T, 1, new int[]{995, 10});
+			store.add(LootRecordType.NPC, "Goblin", T.plusSeconds(1), 1, new int[]{995, 10});
+		}
+		new File(dir, "loot.dat").delete();
+
+		// simulate a crash while writing the second record
+		File log = new File(dir, "loot.log");
+		try (RandomAccessFile raf = new RandomAccessFile(log, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertEquals(1, store.get(LootRecordType.NPC, "Goblin").kills);
+			store.add(LootRecordType.NPC, "Goblin", T.plusSeconds(2), 1, new int[]{995, 1});
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertArrayEquals(new int[]{995, 11}, store.get(LootRecordType.NPC, "Goblin").drops);
+		}
+	}
+
+	@Test
+	public void testRemoveAll() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(LootRecordType.NPC, "Goblin", T, 1, new int[]{995, 10});
+			store.removeAll();
+			assertEquals(0, store.getAll().size());
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertEquals(0, store.getAll().size());
+		}
+	}
+
+	@Test
+	public void testEmptyRecord() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertFalse(store.isConfigMigrated());
+			store.add(LootRecordType.NPC, "Goblin", T, 0, new int[0]);
+			store.add(LootRecordType.NPC, "Goblin", T.plusSeconds(60), 5, new int[]{995, 10});
+			store.setConfigMigrated();
+
+			ConfigLoot loot = store.get(LootRecordType.NPC, "Goblin");
+			assertEquals(T, loot.first);
+			assertEquals(T.plusSeconds(60), loot.last);
+			assertEquals(5, loot.kills);
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertTrue(store.isConfigMigrated());
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final int kills = 1_000_000;
+		final int sources = 500;
+
+		Random r = new Random(42);
+		File dir = folder.newFolder();
+
+		long start = System.nanoTime();
+		try (LootStore store = LootStore.open(dir))
+		{
+			for (int i = 0; i < kills; ++i)
+			{
+				int source = r.nextInt(sources);
+				int[] drops = new int[2 + r.nextInt(4) * 2];
+				for (int j = 0; j < drops.length; j += 2)
+				{
+					drops[j] = source * 10 + r.nextInt(10);
+					drops[j + 1] = 1 + r.nextInt(100);
+				}
+				store.add(LootRecordType.NPC, "Monster " + source, T.plusSeconds(i), 1, drops);
+			}
+		}
+		long end = System.nanoTime();
+		logger.info("Wrote {} kills in {}ms, {} kills/s, log is {}KB", kills, (end - start) / 1_000_000,
+			kills * 1_000_000_000L / (end - start), new File(dir, "loot.log").length() / 1024);
+
+		start = System.nanoTime();
+		try (LootStore store = LootStore.open(dir))
+		{
+			end = System.nanoTime();
+			logger.info("Loaded {} sources from aggregates in {}ms", store.getAll().size(), (end - start) / 1_000_000);
+		}
+
+		new File(dir, "loot.dat").delete();
+		start = System.nanoTime();
+		try (LootStore store = LootStore.open(dir))
+		{
+			end = System.nanoTime();
+			logger.info("Loaded {} sources by replaying the log in {}ms", store.getAll().size(), (end - start) / 1_000_000);
+		}
+	}
+}
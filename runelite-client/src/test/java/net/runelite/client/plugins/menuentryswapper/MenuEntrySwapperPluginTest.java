@@ -28,7 +28,13 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nullable;
+import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.KeyCode;
 import net.runelite.api.Menu;
@@ -37,32 +43,48 @@ import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.NPCComposition;
 import net.runelite.api.ObjectComposition;
+import net.runelite.api.events.ClientTick;
 import net.runelite.api.events.PostMenuSort;
+import net.runelite.api.gameval.NpcID;
+import net.runelite.client.account.SessionManager;
 import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.ConfigClient;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.ConfigProfile;
+import net.runelite.client.config.ProfileManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.TestMenuEntry;
 import org.junit.After;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MenuEntrySwapperPluginTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(MenuEntrySwapperPluginTest.class);
+
 	@Mock
 	@Bind
 	Client client;
@@ -357,6 +379,50 @@ public class MenuEntrySwapperPluginTest
 		}, argumentCaptor.getValue());
 	}
 
+	@Test
+	public void testCustomNpcSwap()
+	{
+		when(npc.getTransformedComposition().getId()).thenReturn(NpcID.BANKER1);
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(MenuEntrySwapperConfig.GROUP);
+		configChanged.setKey("npc_shift_" + NpcID.BANKER1);
+		configChanged.setNewValue("2");
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+			menu("Collect", "Banker", MenuAction.NPC_FOURTH_OPTION),
+			menu("Bank", "Banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "Banker", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		// the swap only applies to shift click
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu, never()).setMenuEntries(any(MenuEntry[].class));
+
+		when(client.isKeyPressed(KeyCode.KC_SHIFT)).thenReturn(true);
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+			menu("Collect", "Banker", MenuAction.NPC_FOURTH_OPTION),
+			menu("Talk-to", "Banker", MenuAction.NPC_FIRST_OPTION),
+			menu("Bank", "Banker", MenuAction.NPC_THIRD_OPTION),
+		}, argumentCaptor.getValue());
+
+		// unsetting the swap removes it
+		configChanged.setNewValue(null);
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu).setMenuEntries(any(MenuEntry[].class));
+	}
+
 	@Test
 	public void testZanarisFairyRing()
 	{
@@ -385,4 +451,181 @@ public class MenuEntrySwapperPluginTest
 			menu("Last-destination (AIQ)", "Fairy ring", MenuAction.GAME_OBJECT_SECOND_OPTION),
 		}, argumentCaptor.getValue());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Ignore
+	public void benchmark() throws Exception
+	{
+		// a crowd of bankers and booths at the grand exchange, stubbed without mockito so that
+		// the swapper and config lookups dominate
+		final Map<Integer, ObjectComposition> objects = new HashMap<>();
+		final MenuEntry[] menuEntries = new MenuEntry[62];
+		menuEntries[0] = menu("Cancel", "", MenuAction.CANCEL);
+		menuEntries[1] = menu("Walk here", "", MenuAction.WALK);
+		for (int i = 0, idx = 2; idx < menuEntries.length; ++i)
+		{
+			final int id = 1600 + i;
+			if (i % 2 == 0)
+			{
+				final NPCComposition composition = stub(NPCComposition.class, (name, args) -> name.equals("getId") ? id : null);
+				final NPC npc = stub(NPC.class, (name, args) -> name.equals("getTransformedComposition") ? composition : null);
+				for (String option : new String[]{"Examine", "Collect", "Bank", "Talk-to"})
+				{
+					TestMenuEntry entry = new TestMenuEntry();
+					entry.setOption(option);
+					entry.setTarget("<col=ffff00>Banker");
+					entry.setType(option.equals("Examine") ? MenuAction.EXAMINE_NPC : MenuAction.NPC_FIRST_OPTION);
+					entry.setActor(npc);
+					menuEntries[idx++] = entry;
+				}
+			}
+			else
+			{
+				objects.put(id, stub(ObjectComposition.class, (name, args) -> name.equals("getId") ? id : null));
+				for (String option : new String[]{"Examine", "Collect", "Bank"})
+				{
+					TestMenuEntry entry = new TestMenuEntry();
+					entry.setOption(option);
+					entry.setTarget("<col=ffff>Grand Exchange booth");
+					entry.setType(option.equals("Examine") ? MenuAction.EXAMINE_OBJECT : MenuAction.GAME_OBJECT_FIRST_OPTION);
+					entry.setIdentifier(id);
+					menuEntries[idx++] = entry;
+				}
+			}
+		}
+
+		final Menu menu = stub(Menu.class, (name, args) -> name.equals("getMenuEntries") ? Arrays.copyOf(menuEntries, menuEntries.length) : null);
+		final Client client = stub(Client.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getMenu":
+					return menu;
+				case "getMenuEntries":
+					return menuEntries;
+				case "getObjectDefinition":
+					return objects.get((int) args[0]);
+				default:
+					return null;
+			}
+		});
+
+		final ConfigManagerBindings bindings = new ConfigManagerBindings();
+		bindings.client = client;
+		Guice.createInjector(BoundFieldModule.of(bindings)).injectMembers(bindings);
+		final ConfigManager configManager = bindings.configManager;
+		configManager.load();
+		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, "swapBank", true);
+		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, "swapTrade", true);
+		for (int i = 0; i < 8; ++i)
+		{
+			configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, "npc_" + (1600 + i * 4), 2);
+			configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, "object_shift_" + (1601 + i * 2), 1);
+		}
+
+		final MenuEntrySwapperPlugin plugin = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(ConfigManager.class).toInstance(configManager);
+			binder.bind(MenuEntrySwapperConfig.class).toInstance(configManager.getConfig(MenuEntrySwapperConfig.class));
+			binder.bind(ItemManager.class).toInstance(itemManager);
+			binder.bind(ChatMessageManager.class).toInstance(chatMessageManager);
+		}).getInstance(MenuEntrySwapperPlugin.class);
+		plugin.startUp();
+
+		final ClientTick clientTick = new ClientTick();
+		final PostMenuSort postMenuSort = new PostMenuSort();
+		for (int i = 0; i < 20_000; ++i)
+		{
+			plugin.onClientTick(clientTick);
+			plugin.onPostMenuSort(postMenuSort);
+		}
+
+		final int iterations = 50_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; ++i)
+		{
+			plugin.onClientTick(clientTick);
+			plugin.onPostMenuSort(postMenuSort);
+		}
+		long end = System.nanoTime();
+
+		logger.info("Processed {} menus of {} entries in {}ms, {}us/menu", iterations, menuEntries.length,
+			(end - start) / 1_000_000, (double) (end - start) / 1000 / iterations);
+		plugin.shutDown();
+	}
+
+	static class ConfigManagerBindings
+	{
+		@Bind
+		EventBus eventBus = mock(EventBus.class);
+
+		@Bind
+		ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+
+		@Bind
+		@Named("profile")
+		@Nullable
+		String profile = null;
+
+		@Bind
+		Client client;
+
+		@Bind
+		ConfigClient configClient = mock(ConfigClient.class);
+
+		@Bind
+		SessionManager sessionManager = mock(SessionManager.class);
+
+		@Bind
+		ProfileManager profileManager = mock(ProfileManager.class);
+
+		@Inject
+		ConfigManager configManager;
+
+		ConfigManagerBindings()
+		{
+			ProfileManager.Lock lock = mock(ProfileManager.Lock.class);
+			when(lock.createProfile(anyString())).thenAnswer(a -> profile(a.getArgument(0), System.nanoTime()));
+			when(lock.createProfile(anyString(), anyLong())).thenAnswer(a -> profile(a.getArgument(0), a.getArgument(1)));
+			when(profileManager.lock()).thenReturn(lock);
+		}
+
+		private static ConfigProfile profile(String name, long id)
+		{
+			ConfigProfile profile = mock(ConfigProfile.class);
+			when(profile.getName()).thenReturn(name);
+			when(profile.getId()).thenReturn(id);
+			return profile;
+		}
+	}
+
+	private interface Stub
+	{
+		Object answer(String name, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Stub stub)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) ->
+		{
+			Object ret = stub.answer(method.getName(), args);
+			if (ret != null)
+			{
+				return ret;
+			}
+
+			Class<?> rt = method.getReturnType();
+			if (rt == boolean.class)
+			{
+				return false;
+			}
+			else if (rt == int.class)
+			{
+				return 0;
+			}
+			return null;
+		});
+	}
+}
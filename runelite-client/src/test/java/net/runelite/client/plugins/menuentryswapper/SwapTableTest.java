@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class SwapTableTest
+{
+	@Test
+	public void testRandom()
+	{
+		final Random r = new Random(42);
+		final Map<Long, Integer> expected = new HashMap<>();
+		SwapTable table = SwapTable.EMPTY;
+
+		for (int i = 0; i < 20_000; ++i)
+		{
+			// small key space, so that removals hit probe chains
+			final long key = r.nextInt(512) * 4096L;
+			if (r.nextInt(3) == 0)
+			{
+				expected.remove(key);
+				table = table.without(key);
+			}
+			else
+			{
+				final int value = r.nextInt(10) - 1;
+				expected.put(key, value);
+				table = table.with(key, value);
+			}
+		}
+
+		assertEquals(expected.size(), table.size());
+		for (long key = 0; key < 512 * 4096L; key += 4096)
+		{
+			assertEquals((int) expected.getOrDefault(key, SwapTable.MISSING), table.get(key));
+		}
+		assertEquals(SwapTable.of(expected).size(), table.size());
+	}
+
+	@Test
+	public void testCopyOnWrite()
+	{
+		final SwapTable table = SwapTable.EMPTY.with(1, 2);
+		assertEquals(3, table.with(1, 3).get(1));
+		assertEquals(SwapTable.MISSING, table.without(1).get(1));
+		assertEquals(2, table.get(1));
+		assertEquals(SwapTable.MISSING, SwapTable.EMPTY.get(1));
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.http.api.worlds.World;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PingEngineTest
+{
+	private ServerSocket server;
+	private ScheduledExecutorService responder;
+	private final Map<Integer, Integer> latencies = new ConcurrentHashMap<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private PingEngine engine;
+
+	/**
+	 * A local server which answers each connection with the world id it is sent, after the
+	 * latency configured for that world
+	 */
+	@Before
+	public void before() throws IOException
+	{
+		server = new ServerSocket(0, 64, InetAddress.getLoopbackAddress());
+		responder = Executors.newScheduledThreadPool(4);
+		responder.execute(() ->
+		{
+			while (!server.isClosed())
+			{
+				try
+				{
+					final Socket socket = server.accept();
+					final int world = socket.getInputStream().read();
+					responder.schedule(() ->
+					{
+						try (Socket s = socket)
+						{
+							s.getOutputStream().write(world);
+						}
+						return null;
+					}, latencies.getOrDefault(world, 0), TimeUnit.MILLISECONDS);
+				}
+				catch (IOException ex)
+				{
+					// closed
+				}
+			}
+		});
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		if (engine != null)
+		{
+			engine.stop();
+		}
+		server.close();
+		responder.shutdownNow();
+	}
+
+	private int ping(World world)
+	{
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try (Socket socket = new Socket())
+		{
+			socket.setSoTimeout(2000);
+			final long start = System.nanoTime();
+			socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+			socket.getOutputStream().write(world.getId());
+			final InputStream in = socket.getInputStream();
+			if (in.read() != world.getId())
+			{
+				return -1;
+			}
+			return (int) ((System.nanoTime() - start) / 1_000_000);
+		}
+		catch (IOException ex)
+		{
+			return -1;
+		}
+		finally
+		{
+			inFlight.decrementAndGet();
+		}
+	}
+
+	private static List<World> worlds(int count)
+	{
+		final List<World> worlds = new ArrayList<>();
+		for (int i = 1; i <= count; ++i)
+		{
+			worlds.add(World.builder().id(i).address("127.0.0.1").build());
+		}
+		return worlds;
+	}
+
+	@Test
+	public void testConcurrentPings() throws InterruptedException
+	{
+		final int count = 32;
+		for (int i = 1; i <= count; ++i)
+		{
+			latencies.put(i, 100);
+		}
+
+		final CountDownLatch latch = new CountDownLatch(count);
+		engine = new PingEngine(this::ping, (world, ping) -> latch.countDown(), 8,
+			TimeUnit.MINUTES.toNanos(1), TimeUnit.MINUTES.toNanos(1));
+		engine.setWorlds(worlds(count));
+
+		final long start = System.nanoTime();
+		engine.start();
+		// serially this takes 3.2s
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue("took " + elapsed + "ms", elapsed < 1600);
+		assertTrue(maxInFlight.get() <= 8);
+		assertTrue(maxInFlight.get() > 1);
+		for (int i = 1; i <= count; ++i)
+		{
+			final int ping = engine.getPing(i).getPing();
+			assertTrue("ping " + ping, ping >= 100 && ping < 1000);
+		}
+	}
+
+	@Test
+	public void testPriority() throws InterruptedException
+	{
+		final Map<Integer, AtomicInteger> counts = new ConcurrentHashMap<>();
+		engine = new PingEngine(this::ping, (world, ping) -> counts.computeIfAbsent(world.getId(), k -> new AtomicInteger()).incrementAndGet(), 2,
+			TimeUnit.MILLISECONDS.toNanos(20), TimeUnit.MINUTES.toNanos(1));
+		engine.setWorlds(worlds(4));
+		engine.setPriority(Collections.singletonList(3));
+		engine.start();
+
+		Thread.sleep(500);
+		engine.stop();
+
+		assertEquals(1, counts.get(1).get());
+		assertEquals(1, counts.get(2).get());
+		assertEquals(1, counts.get(4).get());
+		assertTrue(counts.get(3).get() > 5);
+	}
+
+	@Test
+	public void testRecord()
+	{
+		engine = new PingEngine(this::ping, (world, ping) ->
+		{
+		});
+		final World world = worlds(1).get(0);
+
+		engine.record(world, -1);
+		assertEquals(-1, engine.getPing(1).getPing());
+		assertEquals(1, engine.getPing(1).getFailures());
+
+		engine.record(world, 100);
+		engine.record(world, 140);
+		final WorldPing ping = engine.getPing(1);
+		assertEquals(110, ping.getPing());
+		assertEquals(10, ping.getJitter(), 0.001);
+		assertEquals(2, ping.getSamples());
+		assertEquals(140, ping.getLast());
+	}
+}
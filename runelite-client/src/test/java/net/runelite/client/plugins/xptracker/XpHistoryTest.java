@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Skill;
+import net.runelite.client.plugins.xptracker.XpHistory.Resolution;
+import net.runelite.client.plugins.xptracker.XpHistory.XpSample;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class XpHistoryTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(XpHistoryTest.class);
+
+	private static final long T = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testDownsampling() throws IOException
+	{
+		try (XpHistory history = XpHistory.open(folder.newFile()))
+		{
+			int xp = 1000;
+			history.sync(Skill.MINING, xp);
+			// 35xp every 3 seconds for 2 hours
+			for (long t = T; t < T + 7_200_000L; t += 3000)
+			{
+				xp += 35;
+				history.record(Skill.MINING, xp, t);
+			}
+
+			Instant from = Instant.ofEpochMilli(T), to = Instant.ofEpochMilli(T + 7_200_000L);
+			List<XpSample> hours = history.query(Skill.MINING, Resolution.HOUR, from, to);
+			assertEquals(2, hours.size());
+			assertEquals(Instant.ofEpochMilli(T), hours.get(0).getTime());
+			assertEquals(1200 * 35, hours.get(0).getXp());
+
+			List<XpSample> minutes = history.query(Skill.MINING, Resolution.MINUTE, from, to);
+			assertEquals(120, minutes.size());
+			assertEquals(20 * 35, minutes.get(5).getXp());
+
+			List<XpSample> seconds = history.query(Skill.MINING, Resolution.SECOND, from, to);
+			assertEquals(2400, seconds.size());
+			assertEquals(Resolution.SECOND, history.resolutionFor(Skill.MINING, from));
+
+			// another two hours wraps the seconds ring, so the start is only available per minute
+			for (long t = T + 7_200_000L; t < T + 14_400_000L; t += 3000)
+			{
+				xp += 35;
+				history.record(Skill.MINING, xp, t);
+			}
+			assertEquals(Resolution.MINUTE, history.resolutionFor(Skill.MINING, from));
+			assertEquals(Resolution.SECOND.getCapacity(), history.query(Skill.MINING, Resolution.SECOND, from, Instant.ofEpochMilli(T + 14_400_000L)).size());
+
+			assertEquals(0, history.query(Skill.FISHING, Resolution.HOUR, from, to).size());
+		}
+	}
+
+	@Test
+	public void testXpPerHour() throws IOException
+	{
+		try (XpHistory history = XpHistory.open(folder.newFile()))
+		{
+			int xp = 50_000;
+			history.sync(Skill.WOODCUTTING, xp);
+			long t = T;
+			for (; t < T + 3 * 3_600_000L; t += 600)
+			{
+				// 100k xp/hr
+				if (t % 3600 == 0)
+				{
+					xp += 100;
+					history.record(Skill.WOODCUTTING, xp, t);
+				}
+				history.tick(t);
+			}
+
+			assertEquals(100_000, history.getXpPerHour(Skill.WOODCUTTING, t), 2000);
+			assertEquals(1800, history.getSecondsToXp(Skill.WOODCUTTING, 50_000, t), 60);
+
+			// stop training, the rate decays to zero once the window passes
+			t += 3_600_000L;
+			history.tick(t);
+			assertEquals(0, history.getXpPerHour(Skill.WOODCUTTING, t));
+			assertEquals(-1, history.getSecondsToXp(Skill.WOODCUTTING, 50_000, t));
+		}
+	}
+
+	@Test
+	public void testPartialWindow() throws IOException
+	{
+		try (XpHistory history = XpHistory.open(folder.newFile()))
+		{
+			history.sync(Skill.MINING, 1000);
+			// 35xp every 3 seconds for 10 minutes
+			long t = T;
+			for (int xp = 1035; t < T + 600_000L; t += 3000, xp += 35)
+			{
+				history.record(Skill.MINING, xp, t);
+				history.tick(t);
+			}
+
+			// the rate is measured over the 10 minutes trained, not the whole hour
+			assertEquals(42_000, history.getXpPerHour(Skill.MINING, t));
+		}
+	}
+
+	@Test
+	public void testIgnoresOfflineGains() throws IOException
+	{
+		try (XpHistory history = XpHistory.open(folder.newFile()))
+		{
+			// first observation is not a gain
+			history.record(Skill.ATTACK, 10_000, T);
+			history.sync(Skill.ATTACK, 20_000);
+			history.record(Skill.ATTACK, 20_100, T + 1000);
+
+			List<XpSample> samples = history.query(Skill.ATTACK, Resolution.DAY, Instant.ofEpochMilli(T), Instant.ofEpochMilli(T + 1000));
+			assertEquals(1, samples.size());
+			assertEquals(100, samples.get(0).getXp());
+		}
+	}
+
+	@Test
+	public void testReopen() throws IOException
+	{
+		File file = folder.newFile();
+		try (XpHistory history = XpHistory.open(file))
+		{
+			history.sync(Skill.SLAYER, 1000);
+			history.record(Skill.SLAYER, 1500, T);
+		}
+
+		try (XpHistory history = XpHistory.open(file))
+		{
+			// the last xp is persisted too
+			history.record(Skill.SLAYER, 1600, T + 60_000L);
+
+			List<XpSample> samples = history.query(Skill.SLAYER, Resolution.MINUTE, Instant.ofEpochMilli(T), Instant.ofEpochMilli(T + 120_000L));
+			assertEquals(2, samples.size());
+			assertEquals(500, samples.get(0).getXp());
+			assertEquals(100, samples.get(1).getXp());
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final Skill[] skills = Skill.values();
+		final Random r = new Random(42);
+		final int[] xp = new int[skills.length];
+
+		try (XpHistory history = XpHistory.open(folder.newFile()))
+		{
+			for (Skill skill : skills)
+			{
+				history.sync(skill, 1);
+			}
+
+			// a year of three hour sessions, gaining xp in a random skill every couple of ticks
+			int records = 0, ticks = 0;
+			long tickNanos = 0;
+			long start = System.nanoTime();
+			for (int day = 0; day < 365; ++day)
+			{
+				final long sessionStart = T + day * 86_400_000L + 18 * 3_600_000L;
+				for (long t = sessionStart; t < sessionStart + 3 * 3_600_000L; t += 600)
+				{
+					if (r.nextInt(3) == 0)
+					{
+						final int skill = r.nextInt(skills.length);
+						xp[skill] += 1 + r.nextInt(100);
+						history.record(skills[skill], 1 + xp[skill], t);
+						++records;
+					}
+
+					final long tickStart = System.nanoTime();
+					history.tick(t);
+					tickNanos += System.nanoTime() - tickStart;
+					++ticks;
+				}
+			}
+			long end = System.nanoTime();
+			logger.info("Recorded {} gains over {} ticks in {}ms, {}ns/tick", records, ticks,
+				(end - start) / 1_000_000, tickNanos / ticks);
+
+			// query the whole year from every tier, as a chart would, and the eta of every skill
+			final Instant yearStart = Instant.ofEpochMilli(T), yearEnd = yearStart.plus(Duration.ofDays(365));
+			final long now = yearEnd.toEpochMilli() - 3 * 3_600_000L; // end of the last session
+			start = System.nanoTime();
+			int samples = 0;
+			long eta = 0;
+			for (Skill skill : skills)
+			{
+				for (Resolution resolution : Resolution.values())
+				{
+					samples += history.query(skill, resolution, yearStart, yearEnd).size();
+				}
+				samples += history.query(skill, history.resolutionFor(skill, yearStart), yearStart, yearEnd).size();
+				eta += history.getSecondsToXp(skill, 1_000_000, now);
+			}
+			end = System.nanoTime();
+			logger.info("Queried {} samples in {}us ({})", samples, (end - start) / 1000, eta);
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OverlayRendererTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(OverlayRendererTest.class);
+
+	private static final OverlayPosition[] POSITIONS = {
+		OverlayPosition.TOP_LEFT, OverlayPosition.TOP_RIGHT, OverlayPosition.BOTTOM_LEFT, OverlayPosition.BOTTOM_RIGHT
+	};
+
+	private final BufferedImage canvas = new BufferedImage(1280, 800, BufferedImage.TYPE_INT_RGB);
+
+	@Inject
+	private OverlayRenderer overlayRenderer;
+
+	@Inject
+	private OverlayManager overlayManager;
+
+	@Bind
+	private final Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class}, this::client);
+
+	@Mock
+	@Bind
+	private RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	private ConfigManager configManager;
+
+	@Mock
+	@Bind
+	private MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	private KeyManager keyManager;
+
+	@Mock
+	@Bind
+	private ClientUI clientUI;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Mock
+	@Bind
+	private ChatMessageManager chatMessageManager;
+
+	@Before
+	public void before()
+	{
+		when(runeLiteConfig.fontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.tooltipFontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.interfaceFontType()).thenReturn(FontType.REGULAR);
+
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	// the client is stubbed by hand as mockito invocations are slow enough to skew the benchmark
+	private Object client(Object proxy, Method method, Object[] args)
+	{
+		switch (method.getName())
+		{
+			case "getGameState":
+				return GameState.LOGGED_IN;
+			case "getRealDimensions":
+				return new Dimension(canvas.getWidth(), canvas.getHeight());
+			case "getCanvasWidth":
+				return canvas.getWidth();
+			case "getCanvasHeight":
+				return canvas.getHeight();
+			case "isResized":
+				return true;
+		}
+
+		final Class<?> type = method.getReturnType();
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		else if (type == int.class)
+		{
+			return 0;
+		}
+		return null;
+	}
+
+	private static class TestPanel extends OverlayPanel
+	{
+		private final int lines;
+		private int renders;
+
+		TestPanel(int lines, OverlayPosition position, boolean cached)
+		{
+			this.lines = lines;
+			setPosition(position);
+			setCached(cached);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			for (int i = 0; i < lines; ++i)
+			{
+				panelComponent.getChildren().add(LineComponent.builder()
+					.left("Line " + i)
+					.right(Integer.toString(i * 1000))
+					.build());
+			}
+			return super.render(graphics);
+		}
+	}
+
+	private void renderFrame()
+	{
+		overlayRenderer.onBeforeRender(new BeforeRender());
+		final Graphics2D graphics = canvas.createGraphics();
+		try
+		{
+			overlayRenderer.renderOverlayLayer(graphics, OverlayLayer.UNDER_WIDGETS);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+
+	@Test
+	public void testCachedOverlay()
+	{
+		TestPanel cached = new TestPanel(4, OverlayPosition.TOP_LEFT, true);
+		TestPanel uncached = new TestPanel(4, OverlayPosition.TOP_RIGHT, false);
+		overlayManager.add(cached);
+		overlayManager.add(uncached);
+
+		renderFrame();
+		final int renders = cached.renders;
+		renderFrame();
+		renderFrame();
+
+		assertEquals(renders, cached.renders);
+		assertEquals(3, uncached.renders);
+		assertEquals(uncached.getBounds().getSize(), cached.getBounds().getSize());
+		assertEquals(2, cached.getRenderMetrics().getCacheHits());
+		assertEquals(3, cached.getRenderMetrics().getRenders());
+
+		cached.invalidate();
+		renderFrame();
+		assertEquals(renders + 1, cached.renders);
+
+		// resizing redraws the overlay
+		cached.setPreferredSize(new Dimension(200, 100));
+		uncached.setPreferredSize(new Dimension(200, 100));
+		renderFrame();
+		assertEquals(renders + 2, cached.renders);
+		assertEquals(uncached.getBounds().getSize(), cached.getBounds().getSize());
+
+		// so does changing the background color, but not setting the same one again
+		cached.setPreferredColor(Color.RED);
+		renderFrame();
+		assertEquals(renders + 3, cached.renders);
+		cached.setPreferredColor(Color.RED);
+		renderFrame();
+		assertEquals(renders + 3, cached.renders);
+	}
+
+	@Test
+	public void testDynamicNotCached()
+	{
+		TestPanel dynamic = new TestPanel(2, OverlayPosition.DYNAMIC, true);
+		overlayManager.add(dynamic);
+
+		renderFrame();
+		renderFrame();
+
+		assertEquals(2, dynamic.renders);
+		assertEquals(0, dynamic.getRenderMetrics().getCacheHits());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int overlays = 100;
+		final int frames = 2000;
+
+		for (boolean cached : new boolean[]{false, true})
+		{
+			overlayManager.clear();
+			List<TestPanel> panels = new ArrayList<>();
+			for (int i = 0; i < overlays; ++i)
+			{
+				TestPanel panel = new TestPanel(3 + i % 5, POSITIONS[i % POSITIONS.length], cached);
+				panels.add(panel);
+				overlayManager.add(panel);
+			}
+
+			for (int i = 0; i < 200; ++i)
+			{
+				renderFrame();
+			}
+
+			long start = System.nanoTime();
+			for (int i = 0; i < frames; ++i)
+			{
+				// a few overlays change every frame
+				panels.get(i % overlays).invalidate();
+				renderFrame();
+			}
+			long end = System.nanoTime();
+
+			double slowest = panels.stream()
+				.mapToDouble(p -> p.getRenderMetrics().getAverageRenderTime())
+				.max().orElse(0);
+			logger.info("{}: {} overlays, {}us/frame, slowest overlay {}us",
+				cached ? "cached" : "uncached", overlays, (end - start) / frames / 1000, slowest / 1000);
+		}
+	}
+}
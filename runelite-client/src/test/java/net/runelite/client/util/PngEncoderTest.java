@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PngEncoderTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(PngEncoderTest.class);
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		for (int type : new int[]{BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_3BYTE_BGR})
+		{
+			for (int[] size : new int[][]{{1, 1}, {37, 5}, {300, 257}, {765, 503}})
+			{
+				final BufferedImage image = frame(new Random(size[0] * 31 + size[1]), size[0], size[1], type);
+				for (int level : new int[]{0, 1, PngEncoder.DEFAULT_COMPRESSION_LEVEL, 9})
+				{
+					final ByteArrayOutputStream out = new ByteArrayOutputStream();
+					PngEncoder.write(image, level, out);
+
+					final BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+					assertNotNull(decoded);
+					assertPixelsEqual(image, decoded);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCombineAdler()
+	{
+		final byte[] data = new byte[100_000];
+		new Random(42).nextBytes(data);
+
+		final Adler32 whole = new Adler32();
+		whole.update(data);
+
+		for (int split : new int[]{0, 1, 65521, 70_000, data.length})
+		{
+			final Adler32 a = new Adler32();
+			a.update(data, 0, split);
+			final Adler32 b = new Adler32();
+			b.update(data, split, data.length - split);
+			assertEquals(whole.getValue(), PngEncoder.combineAdler(a.getValue(), b.getValue(), data.length - split));
+		}
+	}
+
+	@Test
+	public void testQoiRoundTrip() throws IOException
+	{
+		for (int type : new int[]{BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB})
+		{
+			final BufferedImage image = frame(new Random(7), 300, 200, type);
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			QoiEncoder.write(image, out);
+			assertPixelsEqual(image, decodeQoi(out.toByteArray()));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		final BufferedImage[] frames = new BufferedImage[8];
+		final Random random = new Random(42);
+		for (int i = 0; i < frames.length; ++i)
+		{
+			frames[i] = frame(random, 1920, 1080, BufferedImage.TYPE_INT_RGB);
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 23);
+		for (int round = 0; round < 3; ++round)
+		{
+			long start = System.nanoTime();
+			long bytes = 0;
+			for (BufferedImage frame : frames)
+			{
+				out.reset();
+				ImageIO.write(frame, "PNG", out);
+				bytes += out.size();
+			}
+			log("ImageIO", start, bytes, frames.length);
+
+			for (int level : new int[]{0, 1, PngEncoder.DEFAULT_COMPRESSION_LEVEL, 6})
+			{
+				start = System.nanoTime();
+				bytes = 0;
+				for (BufferedImage frame : frames)
+				{
+					out.reset();
+					PngEncoder.write(frame, level, out);
+					bytes += out.size();
+				}
+				log("PngEncoder level " + level, start, bytes, frames.length);
+			}
+
+			start = System.nanoTime();
+			bytes = 0;
+			for (BufferedImage frame : frames)
+			{
+				out.reset();
+				QoiEncoder.write(frame, out);
+				bytes += out.size();
+			}
+			log("QOI", start, bytes, frames.length);
+		}
+	}
+
+	private static void log(String name, long start, long bytes, int frames)
+	{
+		final long end = System.nanoTime();
+		logger.info("{}: {}ms/frame, {}KB/frame", name, (end - start) / 1_000_000 / frames, bytes / 1024 / frames);
+	}
+
+	/**
+	 * Build an image which resembles a game frame: large flat and gradient areas with some noise and text
+	 */
+	private static BufferedImage frame(Random random, int width, int height, int type)
+	{
+		final BufferedImage image = new BufferedImage(width, height, type);
+		final Graphics2D g = image.createGraphics();
+		for (int y = 0; y < height; y += 16)
+		{
+			for (int x = 0; x < width; x += 16)
+			{
+				g.setColor(new Color(
+					(x * 255 / width + random.nextInt(8)) & 0xff,
+					(y * 255 / height + random.nextInt(8)) & 0xff,
+					64 + random.nextInt(32),
+					type == BufferedImage.TYPE_INT_ARGB ? 128 + random.nextInt(128) : 255));
+				g.fillRect(x, y, 16, 16);
+			}
+		}
+		g.setColor(Color.YELLOW);
+		for (int i = 0; i < height / 20; ++i)
+		{
+			g.drawString("Lorem ipsum dolor sit amet " + i, random.nextInt(Math.max(1, width)), random.nextInt(Math.max(1, height)));
+		}
+		g.dispose();
+		for (int i = 0; i < width * height / 50; ++i)
+		{
+			image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt());
+		}
+		return image;
+	}
+
+	private static void assertPixelsEqual(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		final boolean alpha = expected.getColorModel().hasAlpha();
+		for (int y = 0; y < expected.getHeight(); ++y)
+		{
+			for (int x = 0; x < expected.getWidth(); ++x)
+			{
+				int e = expected.getRGB(x, y);
+				int a = actual.getRGB(x, y);
+				if (!alpha)
+				{
+					e |= 0xff000000;
+					a |= 0xff000000;
+				}
+				assertEquals("pixel " + x + "," + y, e, a);
+			}
+		}
+	}
+
+	private static BufferedImage decodeQoi(byte[] data)
+	{
+		final ByteBuffer buf = ByteBuffer.wrap(data);
+		assertEquals(0x716f6966, buf.getInt());
+		final int width = buf.getInt();
+		final int height = buf.getInt();
+		final int channels = buf.get();
+		buf.get();
+
+		final BufferedImage image = new BufferedImage(width, height, channels == 4 ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		final int[] index = new int[64];
+		int r = 0, g = 0, b = 0, a = 255;
+		int run = 0;
+		for (int i = 0; i < width * height; ++i)
+		{
+			if (run > 0)
+			{
+				--run;
+			}
+			else
+			{
+				final int op = buf.get() & 0xff;
+				if (op == 0xfe)
+				{
+					r = buf.get() & 0xff;
+					g = buf.get() & 0xff;
+					b = buf.get() & 0xff;
+				}
+				else if (op == 0xff)
+				{
+					r = buf.get() & 0xff;
+					g = buf.get() & 0xff;
+					b = buf.get() & 0xff;
+					a = buf.get() & 0xff;
+				}
+				else if ((op & 0xc0) == 0x00)
+				{
+					final int px = index[op];
+					r = (px >>> 16) & 0xff;
+					g = (px >>> 8) & 0xff;
+					b = px & 0xff;
+					a = px >>> 24;
+				}
+				else if ((op & 0xc0) == 0x40)
+				{
+					r = (r + ((op >> 4) & 3) - 2) & 0xff;
+					g = (g + ((op >> 2) & 3) - 2) & 0xff;
+					b = (b + (op & 3) - 2) & 0xff;
+				}
+				else if ((op & 0xc0) == 0x80)
+				{
+					final int next = buf.get() & 0xff;
+					final int vg = (op & 0x3f) - 32;
+					r = (r + vg - 8 + ((next >> 4) & 0xf)) & 0xff;
+					g = (g + vg) & 0xff;
+					b = (b + vg - 8 + (next & 0xf)) & 0xff;
+				}
+				else
+				{
+					run = op & 0x3f;
+				}
+				index[(r * 3 + g * 5 + b * 7 + a * 11) & 63] = a << 24 | r << 16 | g << 8 | b;
+			}
+			image.setRGB(i % width, i / width, a << 24 | r << 16 | g << 8 | b);
+		}
+		return image;
+	}
+}
@@ -50,6 +50,10 @@ gradlePlugin {
             id = "net.runelite.runelite-gradle-plugin.index"
             implementationClass = "net.runelite.gradle.index.IndexPlugin"
         }
+        create("rl-pluginindex") {
+            id = "net.runelite.runelite-gradle-plugin.pluginindex"
+            implementationClass = "net.runelite.gradle.pluginindex.PluginIndexPlugin"
+        }
         create("rl-jarsign") {
             id = "net.runelite.runelite-gradle-plugin.jarsign"
             implementationClass = "net.runelite.gradle.jarsign.JarsignPlugin"
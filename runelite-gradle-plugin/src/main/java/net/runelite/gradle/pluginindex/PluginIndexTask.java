@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Roflz <https://github.com/Roflz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.pluginindex;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.CompileClasspath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Writes the plugins in the compiled classes of a project to a resource, so that the plugin manager can
+ * load the plugins without scanning the classpath. A plugin is a top level class annotated with
+ * {@code @PluginDescriptor}.
+ * <p>
+ * Each line of the index is the class name of a plugin followed by the class names of the plugins named
+ * by its {@code @PluginDependency} annotations, separated by spaces.
+ */
+@CacheableTask
+public abstract class PluginIndexTask extends DefaultTask
+{
+	@Classpath
+	public abstract ConfigurableFileCollection getClassesDirectories();
+
+	@CompileClasspath
+	public abstract ConfigurableFileCollection getClasspath();
+
+	@Input
+	public abstract Property<String> getPluginPackage();
+
+	@OutputDirectory
+	public abstract DirectoryProperty getOutputDirectory();
+
+	@TaskAction
+	public void buildPluginIndex() throws IOException
+	{
+		String pluginPackage = getPluginPackage().get();
+
+		List<URL> urls = new ArrayList<>();
+		for (File file : getClassesDirectories())
+		{
+			urls.add(file.toURI().toURL());
+		}
+		for (File file : getClasspath())
+		{
+			urls.add(file.toURI().toURL());
+		}
+
+		List<String> plugins = new ArrayList<>();
+		try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader()))
+		{
+			// the annotations are loaded from the project, so they are read reflectively
+			Class<? extends Annotation> descriptor = loadClass(classLoader, pluginPackage + ".PluginDescriptor").asSubclass(Annotation.class);
+			Class<? extends Annotation> dependency = loadClass(classLoader, pluginPackage + ".PluginDependency").asSubclass(Annotation.class);
+			Method dependencyValue = dependency.getMethod("value");
+
+			for (String className : classNames(pluginPackage))
+			{
+				Class<?> clazz = loadClass(classLoader, className);
+				if (!clazz.isAnnotationPresent(descriptor))
+				{
+					continue;
+				}
+
+				StringBuilder line = new StringBuilder(className);
+				for (Annotation annotation : clazz.getAnnotationsByType(dependency))
+				{
+					line.append(' ').append(((Class<?>) dependencyValue.invoke(annotation)).getName());
+				}
+				plugins.add(line.toString());
+			}
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			throw new RuntimeException("unable to read plugin annotations", ex);
+		}
+
+		Path indexFile = getOutputDirectory().getAsFile().get().toPath()
+			.resolve(pluginPackage.replace('.', '/'))
+			.resolve("plugins.index");
+		Files.createDirectories(indexFile.getParent());
+		Files.write(indexFile, plugins, StandardCharsets.UTF_8);
+
+		getLogger().info("Indexed {} plugins", plugins.size());
+	}
+
+	/**
+	 * @return the names of the top level classes in {@code pluginPackage} and its subpackages, sorted
+	 */
+	private TreeSet<String> classNames(String pluginPackage) throws IOException
+	{
+		TreeSet<String> classNames = new TreeSet<>();
+		for (File classesDirectory : getClassesDirectories())
+		{
+			Path packageDirectory = classesDirectory.toPath().resolve(pluginPackage.replace('.', File.separatorChar));
+			if (!Files.isDirectory(packageDirectory))
+			{
+				continue;
+			}
+
+			try (Stream<Path> files = Files.walk(packageDirectory))
+			{
+				files
+					.map(f -> classesDirectory.toPath().relativize(f).toString())
+					.filter(f -> f.endsWith(".class") && f.indexOf('$') == -1 && !f.endsWith("package-info.class"))
+					.map(f -> f.substring(0, f.length() - ".class".length()).replace(File.separatorChar, '.'))
+					.forEach(classNames::add);
+			}
+		}
+		return classNames;
+	}
+
+	private static Class<?> loadClass(ClassLoader classLoader, String className)
+	{
+		try
+		{
+			return Class.forName(className, false, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex)
+		{
+			throw new RuntimeException("unable to load " + className, ex);
+		}
+	}
+}